@@ -22,14 +22,29 @@ public class QAlbum extends EntityPathBase<Album> {
 
     public static final QAlbum album = new QAlbum("album");
 
+    public final QChangeTracked _super = new QChangeTracked(this);
+
     public final StringPath albumName = createString("albumName");
 
+    //inherited
+    public final NumberPath<Long> changeSeq = _super.changeSeq;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
     public final QGroup group;
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final NumberPath<Long> plays = createNumber("plays", Long.class);
+
     public final NumberPath<Integer> releaseYear = createNumber("releaseYear", Integer.class);
 
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public final NumberPath<Long> views = createNumber("views", Long.class);
+
     public QAlbum(String variable) {
         this(Album.class, forVariable(variable), INITS);
     }
@@ -0,0 +1,39 @@
+package com.playdata.study.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QChangeSequenceRow is a Querydsl query type for ChangeSequenceRow
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QChangeSequenceRow extends EntityPathBase<ChangeSequenceRow> {
+
+    private static final long serialVersionUID = -1876426938L;
+
+    public static final QChangeSequenceRow changeSequenceRow = new QChangeSequenceRow("changeSequenceRow");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Long> seq = createNumber("seq", Long.class);
+
+    public QChangeSequenceRow(String variable) {
+        super(ChangeSequenceRow.class, forVariable(variable));
+    }
+
+    public QChangeSequenceRow(Path<? extends ChangeSequenceRow> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QChangeSequenceRow(PathMetadata metadata) {
+        super(ChangeSequenceRow.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,45 @@
+package com.playdata.study.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QChangeTombstone is a Querydsl query type for ChangeTombstone
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QChangeTombstone extends EntityPathBase<ChangeTombstone> {
+
+    private static final long serialVersionUID = 1633947970L;
+
+    public static final QChangeTombstone changeTombstone = new QChangeTombstone("changeTombstone");
+
+    public final NumberPath<Long> changeSeq = createNumber("changeSeq", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = createDateTime("deletedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> entityId = createNumber("entityId", Long.class);
+
+    public final EnumPath<ChangeEntityType> entityType = createEnum("entityType", ChangeEntityType.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public QChangeTombstone(String variable) {
+        super(ChangeTombstone.class, forVariable(variable));
+    }
+
+    public QChangeTombstone(Path<? extends ChangeTombstone> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QChangeTombstone(PathMetadata metadata) {
+        super(ChangeTombstone.class, metadata);
+    }
+
+}
+
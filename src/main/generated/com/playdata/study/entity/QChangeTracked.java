@@ -0,0 +1,41 @@
+package com.playdata.study.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QChangeTracked is a Querydsl query type for ChangeTracked
+ */
+@Generated("com.querydsl.codegen.DefaultSupertypeSerializer")
+public class QChangeTracked extends EntityPathBase<ChangeTracked> {
+
+    private static final long serialVersionUID = 1435184791L;
+
+    public static final QChangeTracked changeTracked = new QChangeTracked("changeTracked");
+
+    public final NumberPath<Long> changeSeq = createNumber("changeSeq", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QChangeTracked(String variable) {
+        super(ChangeTracked.class, forVariable(variable));
+    }
+
+    public QChangeTracked(Path<? extends ChangeTracked> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QChangeTracked(PathMetadata metadata) {
+        super(ChangeTracked.class, metadata);
+    }
+
+}
+
@@ -20,14 +20,25 @@ public class QGroup extends EntityPathBase<Group> {
 
     public static final QGroup group = new QGroup("group1");
 
+    public final QChangeTracked _super = new QChangeTracked(this);
+
     public final ListPath<Album, QAlbum> albums = this.<Album, QAlbum>createList("albums", Album.class, QAlbum.class, PathInits.DIRECT2);
 
+    //inherited
+    public final NumberPath<Long> changeSeq = _super.changeSeq;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
     public final StringPath groupName = createString("groupName");
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     public final ListPath<Idol, QIdol> idols = this.<Idol, QIdol>createList("idols", Idol.class, QIdol.class, PathInits.DIRECT2);
 
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
     public QGroup(String variable) {
         super(Group.class, forVariable(variable));
     }
@@ -22,9 +22,17 @@ public class QIdol extends EntityPathBase<Idol> {
 
     public static final QIdol idol = new QIdol("idol");
 
+    public final QChangeTracked _super = new QChangeTracked(this);
+
     public final NumberPath<Integer> age = createNumber("age", Integer.class);
 
-    public final StringPath gender = createString("gender");
+    //inherited
+    public final NumberPath<Long> changeSeq = _super.changeSeq;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final EnumPath<Gender> gender = createEnum("gender", Gender.class);
 
     public final QGroup group;
 
@@ -32,6 +40,9 @@ public class QIdol extends EntityPathBase<Idol> {
 
     public final StringPath idolName = createString("idolName");
 
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
     public QIdol(String variable) {
         this(Idol.class, forVariable(variable), INITS);
     }
@@ -22,12 +22,23 @@ public class QMember extends EntityPathBase<Member> {
 
     public static final QMember member = new QMember("member1");
 
+    public final QChangeTracked _super = new QChangeTracked(this);
+
     public final NumberPath<Integer> age = createNumber("age", Integer.class);
 
+    //inherited
+    public final NumberPath<Long> changeSeq = _super.changeSeq;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     public final QTeam team;
 
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
     public final StringPath userName = createString("userName");
 
     public QMember(String variable) {
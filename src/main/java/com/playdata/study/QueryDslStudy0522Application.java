@@ -2,8 +2,11 @@ package com.playdata.study;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC는 읽기 전용 조회에만 사용하므로 리액티브 트랜잭션 매니저를 만들지 않음
+// (만들면 @Transactional 이 사용할 TransactionManager가 JPA용과 두 개가 되어 선택하지 못함)
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class QueryDslStudy0522Application {
 
     public static void main(String[] args) {
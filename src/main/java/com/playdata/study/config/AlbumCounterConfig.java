@@ -0,0 +1,22 @@
+package com.playdata.study.config;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.repository.AlbumCounterWriter;
+import com.playdata.study.support.counter.StripedCounters;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 앨범 재생/조회 수 카운터
+// 종료 시(close) 남은 증가분을 모두 반영한 뒤 DataSource가 닫힘
+@Configuration
+@EnableConfigurationProperties(AlbumCounterProperties.class)
+public class AlbumCounterConfig {
+
+    @Bean(destroyMethod = "close")
+    public StripedCounters albumCounters(AlbumCounterProperties properties, AlbumCounterWriter writer) {
+        int batchSize = properties.getBatchSize();
+        return new StripedCounters("album-counters", AlbumCounter.values().length, properties.getFlushInterval(),
+                deltas -> writer.write(deltas, batchSize));
+    }
+}
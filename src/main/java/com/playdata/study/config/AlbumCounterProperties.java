@@ -0,0 +1,17 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 album-counters.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("album-counters")
+public class AlbumCounterProperties {
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private int batchSize = 500;
+}
@@ -0,0 +1,33 @@
+package com.playdata.study.config;
+
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.repository.AlbumJdbcWriter;
+import com.playdata.study.support.ingest.AppendOnlyLog;
+import com.playdata.study.support.ingest.WriteBehindBuffer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 앨범 등록 write-behind 버퍼
+// 종료 시(close) 남은 앨범을 모두 저장한 뒤 DataSource가 닫힘
+@Configuration
+@EnableConfigurationProperties(AlbumIngestProperties.class)
+public class AlbumIngestConfig {
+
+    @Bean(destroyMethod = "close")
+    public WriteBehindBuffer<AlbumWrite> albumWriteBuffer(AlbumIngestProperties properties, AlbumJdbcWriter writer) {
+        AlbumIngestProperties.Log log = properties.getLog();
+        AppendOnlyLog<AlbumWrite> journal = log.isEnabled()
+                ? new AppendOnlyLog<>(log.getPath(), AlbumWrite::encode, AlbumWrite::decode, log.isFsync())
+                : null;
+        return new WriteBehindBuffer<>("album-ingest",
+                new WriteBehindBuffer.Options(
+                        properties.getCapacity(),
+                        properties.getBatchSize(),
+                        properties.getMaxDelay(),
+                        properties.getOfferTimeout(),
+                        properties.getRetryBackoff()),
+                writer::write,
+                journal);
+    }
+}
@@ -0,0 +1,30 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// application.yml 의 album-ingest.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("album-ingest")
+public class AlbumIngestProperties {
+
+    private int capacity = 10_000;
+    private int batchSize = 500;
+    private Duration maxDelay = Duration.ofMillis(200);
+    private Duration offerTimeout = Duration.ofSeconds(1);
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private Log log = new Log();
+
+    @Getter
+    @Setter
+    public static class Log {
+        private boolean enabled;
+        private Path path = Path.of("data/album-ingest.log");
+        private boolean fsync;
+    }
+}
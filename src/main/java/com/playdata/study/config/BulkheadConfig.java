@@ -0,0 +1,39 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.bulkhead.BulkheadInterceptor;
+import com.playdata.study.support.bulkhead.Bulkheads;
+import com.playdata.study.support.bulkhead.QueryClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+// 조회 종류(집계/검색/id 조회)별 동시 실행 제한
+// 컨트롤러는 @QueryBulkhead, 컨트롤러를 거치지 않는 조회(캐시 로더 등)는 Bulkheads.execute 로 적용
+// bulkhead.enabled 는 AOT 빌드에서도 바꿀 수 있도록 실행 시점에 Bulkheads 가 확인
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final Bulkheads bulkheads;
+
+    public BulkheadConfig(BulkheadProperties properties) {
+        this.bulkheads = new Bulkheads(properties.isEnabled(), properties.getRttTolerance(), Map.of(
+                QueryClass.AGGREGATE, properties.getAggregate().toLimits(),
+                QueryClass.SEARCH, properties.getSearch().toLimits(),
+                QueryClass.POINT_LOOKUP, properties.getPointLookup().toLimits()));
+    }
+
+    @Bean
+    public Bulkheads bulkheads() {
+        return bulkheads;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(bulkheads)).addPathPatterns("/api/**");
+    }
+}
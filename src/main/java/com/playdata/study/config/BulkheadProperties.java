@@ -0,0 +1,41 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.bulkhead.Bulkheads;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 bulkhead.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    // 응답 시간이 평소의 몇 배까지 느려지는 것을 허용할지 (넘으면 동시 실행 제한을 줄임)
+    private double rttTolerance = 2.0;
+    private ClassLimits aggregate = new ClassLimits(3, 1, 4, 10, Duration.ofMillis(200));
+    private ClassLimits search = new ClassLimits(4, 2, 4, 20, Duration.ofMillis(500));
+    private ClassLimits pointLookup = new ClassLimits(8, 2, 16, 50, Duration.ofSeconds(1));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClassLimits {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private int maxQueue;
+        private Duration maxWait;
+
+        public Bulkheads.Limits toLimits() {
+            return new Bulkheads.Limits(initialLimit, minLimit, maxLimit, maxQueue, maxWait);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.playdata.study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// JPA(쓰기 + 기존 조회)용 JDBC DataSource 등록
+// R2DBC ConnectionFactory가 있으면 스프링 부트가 DataSource 자동 설정을 하지 않기 때문에
+// spring.datasource.* 설정으로 자동 설정과 같은 HikariDataSource를 직접 만듦
+// (sharding.enabled=true 이면 ShardingConfig의 샤드 라우팅 DataSource를 대신 사용)
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.bloom.MemberNameFilter;
+import com.playdata.study.support.changes.ChangeLog;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 회원 이름 Bloom 필터 (없는 이름은 DB 조회 없이 빈 결과)
+@Configuration
+@EnableConfigurationProperties(MemberNameFilterProperties.class)
+public class MemberNameFilterConfig {
+
+    @Bean(destroyMethod = "stop")
+    public MemberNameFilter memberNameFilter(MemberNameFilterProperties properties, JPAQueryFactory factory,
+                                             ChangeLog changeLog,
+                                             PlatformTransactionManager transactionManager,
+                                             @Value("${query.stream-fetch-size}") int fetchSize) {
+        return new MemberNameFilter(properties, factory, changeLog, transactionManager, fetchSize);
+    }
+}
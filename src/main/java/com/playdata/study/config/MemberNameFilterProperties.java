@@ -0,0 +1,21 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 member-name-filter.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("member-name-filter")
+public class MemberNameFilterProperties {
+
+    private boolean enabled = true;
+    private double falsePositiveRate = 0.01;
+    private long minCapacity = 10_000;
+    private double headroom = 2.0;
+    private Duration refreshInterval = Duration.ofSeconds(1);
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,68 @@
+package com.playdata.study.config;
+
+import com.playdata.study.dto.*;
+import com.playdata.study.entity.*;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+// GraalVM native-image는 빌드 시점에 도달 가능한 코드만 포함하기 때문에
+// 실행 중에 리플렉션으로 접근하는 클래스들은 미리 알려줘야 합니다.
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // QueryDSL이 생성한 Q클래스 (static 필드로 경로 객체를 꺼내 씀)
+    static final Class<?>[] Q_CLASSES = {
+            QAlbum.class, QGroup.class, QIdol.class, QMember.class, QTeam.class,
+            QChangeTracked.class, QChangeTombstone.class
+    };
+
+    // Hibernate가 기본 생성자 + 필드 리플렉션으로 생성/값 주입하고, 프록시를 만들기 위해 메서드를 조회하는 엔터티
+    static final Class<?>[] ENTITIES = {
+            Album.class, Group.class, Idol.class, Member.class, Team.class,
+            ChangeTracked.class, ChangeTombstone.class, ChangeSequenceRow.class
+    };
+
+    // Hibernate가 생성하는 AttributeConverter, Jackson이 @JsonValue/@JsonCreator 로 변환하는 enum
+    static final Class<?>[] CONVERTED_TYPES = {
+            GenderConverter.class, Gender.class
+    };
+
+    // Projections.constructor(...) 로 생성자 호출, 요청 파라미터 바인딩(setter), Jackson 직렬화(getter)
+    static final Class<?>[] DTOS = {
+            GroupAverageResponse.class,
+            IdolSearchCondition.class, GroupSearchCondition.class, MemberSearchCondition.class,
+            AlbumSearchCondition.class, AlbumWrite.class, IdolWithGroup.class,
+            ChangeFeedPage.class, IdolChange.class, GroupChange.class, AlbumChange.class, MemberChange.class,
+            AutocompleteSuggestion.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> qClass : Q_CLASSES) {
+            hints.reflection().registerType(qClass,
+                    MemberCategory.PUBLIC_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (Class<?> type : CONVERTED_TYPES) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        for (Class<?> dto : DTOS) {
+            hints.reflection().registerType(dto,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
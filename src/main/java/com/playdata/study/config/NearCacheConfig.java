@@ -0,0 +1,30 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.cache.InvalidationTransport;
+import com.playdata.study.support.cache.LoopbackInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 노드별 조회 캐시(NearCache)와 노드 간 무효화 전파(InvalidationBus) 설정
+// 여러 대로 실행할 때는 InvalidationTransport 구현체(Redis pub/sub 등)를 Bean으로 등록하면 기본값 대신 사용됨
+@Configuration
+public class NearCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InvalidationTransport invalidationTransport() {
+        return new LoopbackInvalidationTransport();
+    }
+
+    @Bean
+    public InvalidationBus invalidationBus(InvalidationTransport transport,
+                                           @Value("${near-cache.max-size:10000}") int maxSize,
+                                           @Value("${near-cache.ttl:10m}") Duration ttl) {
+        return new InvalidationBus(transport, maxSize, ttl);
+    }
+}
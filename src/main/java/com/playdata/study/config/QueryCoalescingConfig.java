@@ -0,0 +1,24 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.coalesce.QueryCoalescer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 동시에 들어온 같은 조회를 한 번만 실행 (QueryCoalescer)
+// 캐시 무효화(변경 커밋 / 다른 노드의 무효화 메시지)가 일어나면 그 뒤의 요청은 이전에 시작된 조회에 합치지 않음
+@Configuration
+public class QueryCoalescingConfig {
+
+    @Bean
+    public QueryCoalescer queryCoalescer(InvalidationBus invalidationBus,
+                                         @Value("${query-coalescing.enabled:true}") boolean enabled,
+                                         @Value("${query-coalescing.max-wait:10s}") Duration maxWait) {
+        QueryCoalescer coalescer = new QueryCoalescer(enabled, maxWait);
+        invalidationBus.addEvictionListener(coalescer::advance);
+        return coalescer;
+    }
+}
@@ -1,22 +1,30 @@
 package com.playdata.study.config;
 
+import com.playdata.study.support.DeadlineJPAQueryFactory;
+import com.querydsl.jpa.HQLTemplates;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 // QueryDSL 문법을 사용하기 위한 필수 객체인 JPAQueryFactory의 Bean 등록을 위한 클래스
 // 나중에 여러 개의 Repository에서 QueryDSL 문법을 사용하기 위한 설정.
 @Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class) // native-image 빌드 시 Q클래스, 엔터티, DTO 리플렉션 정보 등록
 public class QuerydslConfig {
 
     @PersistenceContext // JPA 라이브러리를 사용한다면 자동 객체 주입 가능
     private  EntityManager em;
 
+    // 템플릿을 직접 지정하면 EntityManager를 열어서 JPA 구현체를 확인하는 과정이 없어서
+    // EntityManagerFactory가 백그라운드에서 만들어지는 동안에도 바로 Bean을 만들 수 있음
+    // (Hibernate가 자동으로 선택하는 템플릿과 같은 HQLTemplates 사용)
+    // 요청별 쿼리 마감 시간(QueryDeadline)이 모든 쿼리에 적용되도록 DeadlineJPAQueryFactory 사용
     @Bean
     public JPAQueryFactory getQueryFactory() {
-        return new JPAQueryFactory(em);
+        return new DeadlineJPAQueryFactory(HQLTemplates.DEFAULT, em);
     }
 
 
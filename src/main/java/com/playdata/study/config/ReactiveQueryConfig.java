@@ -0,0 +1,35 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.ReactiveQueryFactory;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.MySQLTemplates;
+import com.querydsl.sql.SQLTemplates;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// 리액티브 조회(R2DBC)용 ReactiveQueryFactory Bean 등록
+// 쓰기와 기존 조회는 그대로 JPA(JPAQueryFactory)를 사용하고, 이 팩토리는 읽기 전용 API에서만 사용합니다.
+@Configuration
+public class ReactiveQueryConfig {
+
+    @Bean
+    public ReactiveQueryFactory reactiveQueryFactory(ConnectionFactory connectionFactory,
+                                                     DatabaseClient databaseClient,
+                                                     @Value("${query.reactive-fetch-size}") int fetchSize) {
+        com.querydsl.sql.Configuration configuration =
+                new com.querydsl.sql.Configuration(templates(connectionFactory));
+        return new ReactiveQueryFactory(databaseClient, configuration, fetchSize);
+    }
+
+    // 연결된 DB 종류에 맞는 SQL 문법 (테스트는 H2, 운영은 MySQL)
+    private SQLTemplates templates(ConnectionFactory connectionFactory) {
+        String name = connectionFactory.getMetadata().getName();
+        if (name.contains("H2")) {
+            return H2Templates.builder().build();
+        }
+        return MySQLTemplates.builder().build();
+    }
+}
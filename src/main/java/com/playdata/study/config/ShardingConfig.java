@@ -0,0 +1,65 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.sharding.ShardIdRanges;
+import com.playdata.study.support.sharding.ShardRoutingDataSource;
+import com.playdata.study.support.sharding.ShardSchemaInitializer;
+import com.playdata.study.support.sharding.ShardTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// sharding.enabled=true 이면 JPA가 사용하는 DataSource를 샤드 라우팅 DataSource로 교체
+// tbl_idol, tbl_album 은 group_id 해시로 정해진 샤드에 저장하고 (ShardedIdolService)
+// tbl_group 은 모든 샤드에 복제, 나머지 테이블은 0번 샤드에만 둡니다.
+// 아이돌/앨범 id는 샤드마다 겹치지 않는 범위에서 발급 (ShardIdRanges)
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("sharding.shards 에 샤드를 하나 이상 설정해야 합니다.");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName("shard-" + i);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardTemplate shardTemplate(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        return new ShardTemplate(properties.getShards().size(), transactionManager);
+    }
+
+    @Bean
+    public ShardIdRanges shardIdRanges(JdbcTemplate jdbcTemplate, ShardTemplate shardTemplate) {
+        return new ShardIdRanges(jdbcTemplate, shardTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sharding", name = "initialize-schema", havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory emf, ShardTemplate shardTemplate) {
+        return new ShardSchemaInitializer(emf, shardTemplate);
+    }
+}
@@ -0,0 +1,34 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml 의 sharding.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    // 0번을 제외한 샤드에도 엔터티 매핑대로 테이블 생성 (테스트/로컬용)
+    private boolean initializeSchema;
+
+    // 전체 정렬 조회(k-way 병합)에서 샤드마다 한 번에 읽는 행 수
+    private int mergeFetchSize = 200;
+
+    // 목록 순서가 곧 샤드 번호 (순서를 바꾸면 데이터 위치가 달라짐)
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,40 @@
+package com.playdata.study.config;
+
+import com.playdata.study.service.CachedLookupService;
+import com.playdata.study.service.ChangeFeedService;
+import com.playdata.study.support.cache.CacheNames;
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.changes.ChangeLog;
+import com.playdata.study.support.warmstart.CacheWarmStart;
+import com.playdata.study.support.warmstart.RosterCodecs;
+import com.playdata.study.support.warmstart.RosterReplays;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// 그룹/팀 명단 캐시 웜 스타트 (재시작 직후에도 /api/groups/{id}/roster, /api/teams/{id}/roster 가 캐시 적중)
+// 이름으로 회원 찾기 캐시는 변경 피드로 어떤 이름이 바뀌었는지 알 수 없어서(이전 이름이 없음) 저장하지 않음
+// 파일은 노드마다 따로 (재시작해도 남는 디스크 경로로 지정)
+@Configuration
+@EnableConfigurationProperties(WarmStartProperties.class)
+@ConditionalOnProperty(prefix = "warm-start", name = "enabled", havingValue = "true")
+public class WarmStartConfig {
+
+    @Bean(initMethod = "load", destroyMethod = "stop")
+    public CacheWarmStart cacheWarmStart(WarmStartProperties properties, InvalidationBus invalidationBus,
+                                         CachedLookupService cachedLookupService, ChangeFeedService changeFeedService,
+                                         ChangeLog changeLog, JdbcTemplate jdbcTemplate) {
+        return new CacheWarmStart(properties.getFile(), properties.getMaxAge(), properties.getWriteInterval(),
+                properties.getReconcileDelay(), changeLog::current, List.of(
+                new CacheWarmStart.Cache<>(CacheNames.GROUP_ROSTER, invalidationBus.cache(CacheNames.GROUP_ROSTER),
+                        RosterCodecs.GROUP_ROSTER, cachedLookupService::findGroupRoster,
+                        RosterReplays.groupRosters(changeFeedService)),
+                new CacheWarmStart.Cache<>(CacheNames.TEAM_ROSTER, invalidationBus.cache(CacheNames.TEAM_ROSTER),
+                        RosterCodecs.TEAM_ROSTER, cachedLookupService::findTeamRoster,
+                        RosterReplays.teamRosters(changeFeedService, jdbcTemplate))));
+    }
+}
@@ -0,0 +1,21 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// application.yml 의 warm-start.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("warm-start")
+public class WarmStartProperties {
+
+    private boolean enabled = false;
+    private Path file = Path.of("cache-snapshot/near-cache.bin");
+    private Duration writeInterval = Duration.ofMinutes(1);
+    private Duration maxAge = Duration.ofHours(1);
+    private Duration reconcileDelay = Duration.ZERO;
+}
@@ -0,0 +1,43 @@
+package com.playdata.study.config;
+
+import com.playdata.study.support.warmup.WarmUpRunner;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// 시작 시 캐시 워밍업 (WarmUpService)
+// 워밍업 스레드 수는 커넥션 풀 크기 - reserved-connections 를 넘지 않도록 줄임
+// (p6spy 로 감싼 DataSource 도 unwrap 으로 Hikari 풀을 찾음, 샤딩처럼 풀을 찾을 수 없으면 parallelism 그대로)
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties, DataSource dataSource) {
+        int parallelism = properties.getParallelism();
+        Integer poolSize = maximumPoolSize(dataSource);
+        if (poolSize != null) {
+            parallelism = Math.min(parallelism, poolSize - properties.getReservedConnections());
+        }
+        parallelism = Math.max(1, parallelism);
+        log.debug("워밍업 스레드 수: {} (커넥션 풀: {})", parallelism, poolSize);
+        return new WarmUpRunner(parallelism, properties.getBudget());
+    }
+
+    private static Integer maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 크기를 확인할 수 없습니다.", e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.playdata.study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+// application.yml 의 warm-up.* 설정
+@Getter
+@Setter
+@ConfigurationProperties("warm-up")
+public class WarmUpProperties {
+
+    public enum Query {
+        GROUP_ROSTERS, TEAM_ROSTERS, GROUP_AVERAGES, MEMBER_NAMES
+    }
+
+    private boolean enabled = true;
+    private Set<Query> queries = EnumSet.allOf(Query.class);
+    private Duration budget = Duration.ofSeconds(30);
+    private int parallelism = 4;
+    // 워밍업 중에도 다른 시작 작업/요청이 쓸 수 있도록 남겨둘 커넥션 수
+    private int reservedConnections = 2;
+    private int topGroups = 100;
+    private int topTeams = 100;
+    private int topMemberNames = 100;
+}
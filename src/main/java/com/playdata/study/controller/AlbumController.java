@@ -0,0 +1,72 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.dto.AlbumCounts;
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.service.AlbumCounterService;
+import com.playdata.study.service.AlbumIngestService;
+import com.playdata.study.support.bulkhead.QueryBulkhead;
+import com.playdata.study.support.bulkhead.QueryClass;
+import com.playdata.study.support.counter.CounterStats;
+import com.playdata.study.support.ingest.IngestStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/albums")
+@RequiredArgsConstructor
+public class AlbumController {
+
+    private final AlbumIngestService albumIngestService;
+    private final AlbumCounterService albumCounterService;
+
+    // ex) POST /api/albums/ingest {"albumName":"I've IVE","releaseYear":2023,"groupId":1}
+    // 큐에 들어가면 바로 202, 큐가 가득 차면 503
+    @PostMapping("/ingest")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void ingest(@RequestBody AlbumWrite album) {
+        albumIngestService.submit(album);
+    }
+
+    // 큐 깊이, 반영 건수, 배치 저장 시간
+    @GetMapping("/ingest/stats")
+    public IngestStats stats() {
+        return albumIngestService.stats();
+    }
+
+    // ex) POST /api/albums/1/plays?count=3
+    // 메모리 카운터에만 더하고 바로 202, album-counters.flush-interval 안에 DB에 반영
+    @PostMapping("/{albumId}/plays")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void play(@PathVariable Long albumId, @RequestParam(defaultValue = "1") long count) {
+        albumCounterService.increment(albumId, AlbumCounter.PLAYS, count);
+    }
+
+    @PostMapping("/{albumId}/views")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void view(@PathVariable Long albumId, @RequestParam(defaultValue = "1") long count) {
+        albumCounterService.increment(albumId, AlbumCounter.VIEWS, count);
+    }
+
+    // 저장된 값 + 아직 반영되지 않은 증가분, 없는 앨범이면 404
+    @QueryBulkhead(QueryClass.POINT_LOOKUP)
+    @GetMapping("/{albumId}/counts")
+    public ResponseEntity<AlbumCounts> counts(@PathVariable Long albumId) {
+        return ResponseEntity.of(albumCounterService.counts(albumId));
+    }
+
+    // 메모리에 남은 키 수, 반영 횟수와 시간
+    @GetMapping("/counters/stats")
+    public CounterStats counterStats() {
+        return albumCounterService.stats();
+    }
+}
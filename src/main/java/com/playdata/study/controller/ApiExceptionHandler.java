@@ -0,0 +1,53 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.support.QueryDeadlineExceededException;
+import com.playdata.study.support.bulkhead.BulkheadRejectedException;
+import com.playdata.study.support.ingest.IngestQueueFullException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// 컨트롤러에서 발생한 예외를 JSON 에러 응답으로 변환
+// Content-Type을 직접 지정해서 NDJSON만 Accept 하는 요청(/api/reactive)에도 에러 본문을 JSON으로 응답
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // 잘못된 요청 파라미터 (ex: 존재하지 않는 fields)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // 요청의 쿼리 마감 시간 초과 -> 커넥션을 오래 잡고 있지 않고 바로 실패 응답
+    @ExceptionHandler(QueryDeadlineExceededException.class)
+    public ResponseEntity<Map<String, String>> handleQueryTimeout(QueryDeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // write-behind 큐가 가득 참 -> 클라이언트가 잠시 후 다시 보내도록 Retry-After
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleQueueFull(IngestQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // 같은 종류의 조회가 몰려서 bulkhead 가 거절 -> 기다리지 않고 바로 실패, 다른 종류의 조회는 영향 없음
+    @ExceptionHandler(BulkheadRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleBulkheadRejected(BulkheadRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("message", e.getMessage(), "queryClass", e.getQueryClass().name()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.AutocompleteSuggestion;
+import com.playdata.study.dto.SuggestionType;
+import com.playdata.study.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    // ex) GET /api/autocomplete?q=ㄱㅊㅇ&type=IDOL&limit=5
+    @GetMapping
+    public List<AutocompleteSuggestion> suggest(@RequestParam String q,
+                                                @RequestParam(required = false) SuggestionType type,
+                                                @RequestParam(defaultValue = "10") int limit) {
+        return autocompleteService.suggest(q, type, limit);
+    }
+
+    // ex) POST /api/autocomplete/selections?type=IDOL&id=3
+    @PostMapping("/selections")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void select(@RequestParam SuggestionType type, @RequestParam long id) {
+        autocompleteService.recordSelection(type, id);
+    }
+}
@@ -0,0 +1,52 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.AlbumChange;
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.dto.MemberChange;
+import com.playdata.study.service.ChangeFeedService;
+import com.playdata.study.support.bulkhead.QueryBulkhead;
+import com.playdata.study.support.bulkhead.QueryClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    // ex) GET /api/changes/idols?after=1520&limit=500
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping("/idols")
+    public ChangeFeedPage<IdolChange> idols(@RequestParam(defaultValue = "0") long after,
+                                            @RequestParam(defaultValue = "500") int limit) {
+        return changeFeedService.idolChanges(after, limit);
+    }
+
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping("/groups")
+    public ChangeFeedPage<GroupChange> groups(@RequestParam(defaultValue = "0") long after,
+                                              @RequestParam(defaultValue = "500") int limit) {
+        return changeFeedService.groupChanges(after, limit);
+    }
+
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping("/albums")
+    public ChangeFeedPage<AlbumChange> albums(@RequestParam(defaultValue = "0") long after,
+                                              @RequestParam(defaultValue = "500") int limit) {
+        return changeFeedService.albumChanges(after, limit);
+    }
+
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping("/members")
+    public ChangeFeedPage<MemberChange> members(@RequestParam(defaultValue = "0") long after,
+                                                @RequestParam(defaultValue = "500") int limit) {
+        return changeFeedService.memberChanges(after, limit);
+    }
+}
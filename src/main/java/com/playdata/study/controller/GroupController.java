@@ -0,0 +1,65 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.GroupSearchCondition;
+import com.playdata.study.service.CachedLookupService;
+import com.playdata.study.service.GroupQueryService;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.StreamFormat;
+import com.playdata.study.support.bulkhead.QueryBulkhead;
+import com.playdata.study.support.bulkhead.QueryClass;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/groups")
+@RequiredArgsConstructor
+public class GroupController {
+
+    private final GroupQueryService groupQueryService;
+    private final CachedLookupService cachedLookupService;
+
+    // ex) GET /api/groups?groupName=르세&fields=id,groupName
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping
+    public void search(GroupSearchCondition condition,
+                       @RequestParam(required = false) String fields,
+                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                       HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        List<FieldSelection.SelectedField> selected = GroupQueryService.FIELDS.resolve(fields);
+
+        StreamFormat format = StreamFormat.negotiate(accept);
+        format.prepare(response);
+        groupQueryService.streamGroups(condition, selected, format, response.getOutputStream());
+    }
+
+    // ex) GET /api/groups/average-ages?minAverage=20 (Accept: application/cbor)
+    @QueryBulkhead(QueryClass.AGGREGATE)
+    @GetMapping("/average-ages")
+    public void averageAges(@RequestParam(required = false) Double minAverage,
+                            @RequestParam(required = false) Double maxAverage,
+                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                            HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        StreamFormat format = StreamFormat.negotiate(accept);
+        format.prepare(response);
+        groupQueryService.streamAverageAges(minAverage, maxAverage, format, response.getOutputStream());
+    }
+
+    // ex) GET /api/groups/1/roster -> 그룹 + 소속 아이돌 (노드 캐시에서, 없는 그룹이면 404)
+    @GetMapping("/{groupId}/roster")
+    public ResponseEntity<GroupRoster> roster(@PathVariable Long groupId) {
+        return ResponseEntity.of(cachedLookupService.findGroupRoster(groupId));
+    }
+}
@@ -0,0 +1,43 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.ReadinessResponse;
+import com.playdata.study.service.WarmUpService;
+import com.playdata.study.support.bulkhead.BulkheadStats;
+import com.playdata.study.support.bulkhead.Bulkheads;
+import com.playdata.study.support.bulkhead.QueryClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// 로드밸런서/쿠버네티스 readiness 프로브용 (actuator 없이 스프링의 ReadinessState 를 그대로 노출)
+// 워밍업이 끝나기 전(ACCEPTING_TRAFFIC 발행 전)에는 503
+@RestController
+@RequestMapping("/api/health")
+@RequiredArgsConstructor
+public class HealthController {
+
+    private final ApplicationAvailability availability;
+    private final WarmUpService warmUpService;
+    private final Bulkheads bulkheads;
+
+    // ex) GET /api/health/readiness
+    @GetMapping("/readiness")
+    public ResponseEntity<ReadinessResponse> readiness() {
+        boolean ready = availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ReadinessResponse(ready ? "UP" : "OUT_OF_SERVICE", warmUpService.report().orElse(null)));
+    }
+
+    // 조회 종류별 동시 실행 제한(응답 시간에 따라 바뀜), 실행/대기 중인 수, 거절 수
+    @GetMapping("/bulkheads")
+    public Map<QueryClass, BulkheadStats> bulkheads() {
+        return bulkheads.stats();
+    }
+}
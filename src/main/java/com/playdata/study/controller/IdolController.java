@@ -0,0 +1,60 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.IdolSearchCondition;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.service.IdolQueryService;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.StreamFormat;
+import com.playdata.study.support.bulkhead.QueryBulkhead;
+import com.playdata.study.support.bulkhead.QueryClass;
+import com.playdata.study.support.inmemory.SnapshotQueryStats;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/idols")
+@RequiredArgsConstructor
+public class IdolController {
+
+    private final IdolQueryService idolQueryService;
+
+    // ex) GET /api/idols?groupName=아이브&minAge=20&fields=idolName,age
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping
+    public void search(IdolSearchCondition condition,
+                       @RequestParam(required = false) String fields,
+                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                       HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        // 응답을 쓰기 시작하기 전에 필드 검증 (잘못된 필드면 400)
+        List<FieldSelection.SelectedField> selected = IdolQueryService.FIELDS.resolve(fields);
+
+        StreamFormat format = StreamFormat.negotiate(accept);
+        format.prepare(response);
+        idolQueryService.streamIdols(condition, selected, format, response.getOutputStream());
+    }
+
+    // ex) GET /api/idols/page?page=500&size=20&gender=여
+    // DB로 가는 경우만 IdolSnapshotService 에서 검색 bulkhead 적용 (메모리 스냅샷 조회는 제한하지 않음)
+    @GetMapping("/page")
+    public List<IdolWithGroup> page(IdolSearchCondition condition,
+                                    @RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "20") int size) {
+        return idolQueryService.findPage(condition, page, size);
+    }
+
+    // 스냅샷 조회/DB 대체 조회 횟수
+    @GetMapping("/snapshot/stats")
+    public SnapshotQueryStats snapshotStats() {
+        return idolQueryService.snapshotStats();
+    }
+}
@@ -0,0 +1,54 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.MemberSearchCondition;
+import com.playdata.study.service.MemberQueryService;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.StreamFormat;
+import com.playdata.study.support.bloom.NameFilterStats;
+import com.playdata.study.support.bulkhead.QueryBulkhead;
+import com.playdata.study.support.bulkhead.QueryClass;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/members")
+@RequiredArgsConstructor
+public class MemberController {
+
+    private final MemberQueryService memberQueryService;
+
+    // ex) GET /api/members?teamName=teamB&fields=userName,teamName
+    // 이름 조건만 있으면 (ex: ?userName=member1) 노드 캐시에서 응답
+    @QueryBulkhead(QueryClass.SEARCH)
+    @GetMapping
+    public void search(MemberSearchCondition condition,
+                       @RequestParam(required = false) String fields,
+                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                       HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        List<FieldSelection.SelectedField> selected = MemberQueryService.FIELDS.resolve(fields);
+
+        StreamFormat format = StreamFormat.negotiate(accept);
+        format.prepare(response);
+        if (condition.isUserNameOnly()) {
+            memberQueryService.streamMembersByName(condition.getUserName(), selected, format, response.getOutputStream());
+        } else {
+            memberQueryService.streamMembers(condition, selected, format, response.getOutputStream());
+        }
+    }
+
+    // 이름 필터 채움 비율, 조회 없이 빈 결과를 돌려준 비율
+    @GetMapping("/name-filter/stats")
+    public NameFilterStats nameFilterStats() {
+        return memberQueryService.nameFilterStats();
+    }
+}
@@ -0,0 +1,51 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.AlbumSearchCondition;
+import com.playdata.study.dto.GroupSearchCondition;
+import com.playdata.study.dto.IdolSearchCondition;
+import com.playdata.study.service.ReactiveQueryService;
+import com.playdata.study.support.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+// 리액티브 조회 API
+// NDJSON(한 줄에 JSON 하나)으로 응답하면 스프링 MVC가 Flux를 한 건씩 요청해서 쓰기 때문에
+// 응답을 다 쓸 때까지 요청 스레드를 잡지 않고, 클라이언트가 느리면 DB에서도 그만큼 천천히 읽습니다.
+@RestController
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+public class ReactiveQueryController {
+
+    private final ReactiveQueryService reactiveQueryService;
+
+    // ex) GET /api/reactive/idols?groupName=아이브&fields=idolName,age
+    @GetMapping(value = "/idols", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> idols(IdolSearchCondition condition,
+                                           @RequestParam(required = false) String fields) {
+        // 구독 전에 필드 검증 (잘못된 필드면 400)
+        List<FieldSelection.SelectedField> selected = ReactiveQueryService.IDOL_FIELDS.resolve(fields);
+        return reactiveQueryService.findIdols(condition, selected);
+    }
+
+    @GetMapping(value = "/groups", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> groups(GroupSearchCondition condition,
+                                            @RequestParam(required = false) String fields) {
+        List<FieldSelection.SelectedField> selected = ReactiveQueryService.GROUP_FIELDS.resolve(fields);
+        return reactiveQueryService.findGroups(condition, selected);
+    }
+
+    @GetMapping(value = "/albums", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> albums(AlbumSearchCondition condition,
+                                            @RequestParam(required = false) String fields) {
+        List<FieldSelection.SelectedField> selected = ReactiveQueryService.ALBUM_FIELDS.resolve(fields);
+        return reactiveQueryService.findAlbums(condition, selected);
+    }
+}
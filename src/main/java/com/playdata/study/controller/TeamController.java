@@ -0,0 +1,24 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.service.CachedLookupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/teams")
+@RequiredArgsConstructor
+public class TeamController {
+
+    private final CachedLookupService cachedLookupService;
+
+    // ex) GET /api/teams/1/roster -> 팀 + 소속 회원 (노드 캐시에서, 없는 팀이면 404)
+    @GetMapping("/{teamId}/roster")
+    public ResponseEntity<TeamRoster> roster(@PathVariable Long teamId) {
+        return ResponseEntity.of(cachedLookupService.findTeamRoster(teamId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import java.time.LocalDateTime;
+
+public record AlbumChange(Long id, String albumName, int releaseYear, Long groupId,
+                          long changeSeq, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+// 앨범 카운터 종류 (순서 = StripedCounters 의 slot 번호)
+public enum AlbumCounter {
+    PLAYS,
+    VIEWS
+}
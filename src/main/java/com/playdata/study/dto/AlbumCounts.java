@@ -0,0 +1,5 @@
+package com.playdata.study.dto;
+
+// 저장된 값 + 아직 반영되지 않은 증가분
+public record AlbumCounts(Long albumId, long plays, long views) {
+}
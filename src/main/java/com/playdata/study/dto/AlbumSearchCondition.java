@@ -0,0 +1,17 @@
+package com.playdata.study.dto;
+
+import lombok.*;
+
+// 앨범 검색 조건 (값이 없는 조건은 무시)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AlbumSearchCondition {
+
+    private String albumName; // 앨범명 포함 검색
+    private Integer releaseYear;
+    private String groupName;
+
+}
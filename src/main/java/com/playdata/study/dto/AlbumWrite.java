@@ -0,0 +1,23 @@
+package com.playdata.study.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 앨범 등록 요청 (write-behind 버퍼에 쌓였다가 배치로 저장됨)
+public record AlbumWrite(String albumName, int releaseYear, Long groupId) {
+
+    // 추가 전용 로그의 한 줄 형식: groupId \t releaseYear \t base64(albumName)
+    // 앨범명에 탭/줄바꿈이 있어도 한 줄로 기록되도록 인코딩
+    public String encode() {
+        return (groupId == null ? "" : groupId) + "\t" + releaseYear + "\t"
+                + Base64.getEncoder().encodeToString(albumName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AlbumWrite decode(String line) {
+        String[] parts = line.split("\t", -1);
+        return new AlbumWrite(
+                new String(Base64.getDecoder().decode(parts[2]), StandardCharsets.UTF_8),
+                Integer.parseInt(parts[1]),
+                parts[0].isEmpty() ? null : Long.valueOf(parts[0]));
+    }
+}
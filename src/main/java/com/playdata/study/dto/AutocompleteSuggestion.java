@@ -0,0 +1,4 @@
+package com.playdata.study.dto;
+
+public record AutocompleteSuggestion(SuggestionType type, long id, String name, long popularity) {
+}
@@ -0,0 +1,9 @@
+package com.playdata.study.dto;
+
+import java.util.List;
+
+// 변경 피드 한 페이지
+// changed: after 이후 저장/수정된 행 (현재 값), deleted: after 이후 삭제된 id
+// 다음 요청은 after=nextSeq, hasMore=false 이면 지금까지의 변경을 모두 받은 것
+public record ChangeFeedPage<T>(List<T> changed, List<Long> deleted, long nextSeq, boolean hasMore) {
+}
@@ -0,0 +1,6 @@
+package com.playdata.study.dto;
+
+import java.time.LocalDateTime;
+
+public record GroupChange(Long id, String groupName, long changeSeq, LocalDateTime updatedAt) {
+}
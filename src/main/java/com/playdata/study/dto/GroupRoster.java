@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import java.util.List;
+
+// 그룹 + 소속 아이돌 명단 (NearCache 저장용)
+public record GroupRoster(Long id, String groupName, List<IdolSummary> idols) {
+}
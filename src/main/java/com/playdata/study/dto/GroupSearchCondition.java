@@ -0,0 +1,15 @@
+package com.playdata.study.dto;
+
+import lombok.*;
+
+// 그룹 검색 조건 (값이 없는 조건은 무시)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class GroupSearchCondition {
+
+    private String groupName; // 그룹명 포함 검색
+
+}
@@ -0,0 +1,9 @@
+package com.playdata.study.dto;
+
+import com.playdata.study.entity.Gender;
+
+import java.time.LocalDateTime;
+
+public record IdolChange(Long id, String idolName, int age, Gender gender, Long groupId,
+                         long changeSeq, LocalDateTime updatedAt) {
+}
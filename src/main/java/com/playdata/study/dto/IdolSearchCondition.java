@@ -0,0 +1,20 @@
+package com.playdata.study.dto;
+
+import com.playdata.study.entity.Gender;
+import lombok.*;
+
+// 아이돌 검색 조건 (값이 없는 조건은 무시)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class IdolSearchCondition {
+
+    private String idolName; // 이름 포함 검색
+    private Integer minAge;
+    private Integer maxAge;
+    private Gender gender; // "여"/"남"
+    private String groupName;
+
+}
@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import com.playdata.study.entity.Gender;
+
+// 그룹 명단에 들어가는 아이돌 정보 (캐시에 저장되므로 엔터티 대신 변경 불가능한 값)
+public record IdolSummary(Long id, String idolName, int age, Gender gender) {
+}
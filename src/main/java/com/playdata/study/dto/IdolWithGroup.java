@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import com.playdata.study.entity.Gender;
+
+// 아이돌 + 소속 그룹 (페이지 조회 응답)
+public record IdolWithGroup(Long id, String idolName, int age, Gender gender, Long groupId, String groupName) {
+}
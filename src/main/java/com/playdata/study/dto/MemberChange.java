@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import java.time.LocalDateTime;
+
+public record MemberChange(Long id, String userName, int age, Long teamId,
+                           long changeSeq, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,23 @@
+package com.playdata.study.dto;
+
+import lombok.*;
+
+// 회원 검색 조건 (값이 없는 조건은 무시)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberSearchCondition {
+
+    private String userName;
+    private Integer minAge;
+    private Integer maxAge;
+    private String teamName;
+
+    // 이름 조건만 있는 검색 (CachedLookupService 의 회원 캐시로 응답 가능)
+    public boolean isUserNameOnly() {
+        return userName != null && minAge == null && maxAge == null && teamName == null;
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.playdata.study.dto;
+
+// 회원 정보 + 소속 팀 (NearCache 저장용)
+public record MemberSummary(Long id, String userName, int age, Long teamId, String teamName) {
+}
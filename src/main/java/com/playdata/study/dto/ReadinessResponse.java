@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import com.playdata.study.support.warmup.WarmUpReport;
+
+// readiness 프로브 응답 (warmUp 은 워밍업을 아직 안 했거나 꺼져 있으면 null)
+public record ReadinessResponse(String status, WarmUpReport warmUp) {
+}
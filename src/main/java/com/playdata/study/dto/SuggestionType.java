@@ -0,0 +1,6 @@
+package com.playdata.study.dto;
+
+// 자동완성 대상
+public enum SuggestionType {
+    IDOL, GROUP
+}
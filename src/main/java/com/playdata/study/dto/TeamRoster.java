@@ -0,0 +1,7 @@
+package com.playdata.study.dto;
+
+import java.util.List;
+
+// 팀 + 소속 회원 명단 (NearCache 저장용)
+public record TeamRoster(Long id, String name, List<MemberSummary> members) {
+}
@@ -2,16 +2,16 @@ package com.playdata.study.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "tbl_album")
+@Table(name = "tbl_album", indexes = @Index(name = "idx_album_change_seq", columnList = "change_seq"))
 @Setter
 @Getter
 @ToString(exclude = "group")
-@EqualsAndHashCode(of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-public class Album {
+public class Album extends ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +21,18 @@ public class Album {
     private String albumName; // 앨범명
     private int releaseYear; // 발매연도
 
+    // 재생/조회 수는 AlbumCounterService 가 모아서 UPDATE plays = plays + ? 로만 증가시킴
+    // 엔터티를 수정해서 저장할 때 읽어온 값으로 덮어쓰지 않도록 INSERT/UPDATE 에서 제외 (처음 값은 DB 기본값 0)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long plays;
+
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long views;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_id")
     private Group group;
@@ -30,4 +42,17 @@ public class Album {
         this.releaseYear = releaseYear;
         this.group = group;
     }
+
+    // Group.albums 컬렉션 안에서 저장 전 앨범끼리 같다고 판단되지 않도록 id가 있을 때만 id로 비교
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Album other)) return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Album.class.hashCode();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.playdata.study.entity;
+
+// 변경 피드 대상 엔터티 (삭제 기록의 entity_type 컬럼 값)
+public enum ChangeEntityType {
+
+    GROUP, IDOL, ALBUM, MEMBER;
+
+    public static ChangeEntityType of(Object entity) {
+        if (entity instanceof Group) return GROUP;
+        if (entity instanceof Idol) return IDOL;
+        if (entity instanceof Album) return ALBUM;
+        if (entity instanceof Member) return MEMBER;
+        throw new IllegalArgumentException("변경 피드 대상이 아닙니다: " + entity.getClass().getName());
+    }
+}
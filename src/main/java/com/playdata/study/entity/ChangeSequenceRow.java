@@ -0,0 +1,25 @@
+package com.playdata.study.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 변경 순번 카운터 (sequence_id = 1 인 행 하나만 사용)
+// ChangeLog 가 JDBC 로 증가시키고, 이 매핑은 테이블 생성용
+@Entity
+@Table(name = "tbl_change_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeSequenceRow {
+
+    @Id
+    @Column(name = "sequence_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private long seq;
+}
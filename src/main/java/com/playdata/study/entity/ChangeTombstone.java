@@ -0,0 +1,36 @@
+package com.playdata.study.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제된 행 기록 -> 변경 피드를 받는 쪽이 캐시에서 지울 수 있도록 삭제도 순번을 받음
+// (ChangeLog 가 JDBC 로 직접 INSERT 하고, 이 매핑은 조회와 테이블 생성용)
+@Entity
+@Table(name = "tbl_change_tombstone", indexes = {
+        @Index(name = "idx_tombstone_type_seq", columnList = "entity_type, change_seq")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long changeSeq;
+
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,36 @@
+package com.playdata.study.entity;
+
+import com.playdata.study.support.changes.ChangeTrackingListener;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 생성/수정 시각 + 변경 순번 (변경 피드 /api/changes 용)
+// 값은 ChangeTrackingListener 가 저장/수정 직전에 채움
+// JPQL 벌크 수정이나 JdbcTemplate 으로 직접 쓰는 경우는 리스너를 거치지 않으므로 직접 채워야 함 (AlbumJdbcWriter 참고)
+@Getter
+@MappedSuperclass
+@EntityListeners(ChangeTrackingListener.class)
+public abstract class ChangeTracked {
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // 모든 테이블이 같이 쓰는 순번 (tbl_change_sequence), 커밋 순서와 같은 순서로 증가
+    private Long changeSeq;
+
+    public void markCreated(long changeSeq, LocalDateTime now) {
+        this.createdAt = now;
+        markUpdated(changeSeq, now);
+    }
+
+    public void markUpdated(long changeSeq, LocalDateTime now) {
+        this.updatedAt = now;
+        this.changeSeq = changeSeq;
+    }
+}
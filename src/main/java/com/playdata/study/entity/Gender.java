@@ -0,0 +1,42 @@
+package com.playdata.study.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 아이돌 성별
+// DB에는 1바이트 코드(TINYINT)로 저장하고 (GenderConverter), API 요청/응답은 기존처럼 "여"/"남"
+// 코드는 저장된 데이터와 맞아야 하므로 순서(ordinal)가 아닌 고정 값 사용
+@Getter
+@RequiredArgsConstructor
+public enum Gender {
+
+    FEMALE((byte) 1, "여"),
+    MALE((byte) 2, "남");
+
+    private final byte code;
+
+    @JsonValue
+    private final String label;
+
+    public static Gender fromCode(byte code) {
+        for (Gender gender : values()) {
+            if (gender.code == code) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 성별 코드입니다: " + code);
+    }
+
+    // "여"/"남" 또는 FEMALE/MALE
+    @JsonCreator
+    public static Gender fromLabel(String label) {
+        for (Gender gender : values()) {
+            if (gender.label.equals(label) || gender.name().equalsIgnoreCase(label)) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 성별입니다: " + label);
+    }
+}
@@ -0,0 +1,20 @@
+package com.playdata.study.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Gender <-> TINYINT 코드
+// VARCHAR("여") 대신 1바이트라 인덱스 키가 작아지고 비교도 정수 비교
+@Converter(autoApply = true)
+public class GenderConverter implements AttributeConverter<Gender, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Gender gender) {
+        return gender == null ? null : gender.getCode();
+    }
+
+    @Override
+    public Gender convertToEntityAttribute(Byte code) {
+        return code == null ? null : Gender.fromCode(code);
+    }
+}
@@ -1,5 +1,8 @@
 package com.playdata.study.entity;
 
+import com.playdata.study.support.autocomplete.AutocompleteListener;
+import com.playdata.study.support.cache.CacheInvalidationListener;
+import com.playdata.study.support.inmemory.IdolSnapshotListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,14 +10,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tbl_group")
+// 커밋 후 그룹 명단 캐시를 모든 노드에서 무효화 + 이 노드의 자동완성 인덱스 갱신
+@EntityListeners({CacheInvalidationListener.class, AutocompleteListener.class, IdolSnapshotListener.class})
+@Table(name = "tbl_group", indexes = @Index(name = "idx_group_change_seq", columnList = "change_seq"))
 
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"idols", "albums"})
-@EqualsAndHashCode(of = "id")
-public class Group {
+public class Group extends ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,4 +46,17 @@ public class Group {
         idols.remove(idol);
         idol.setGroup(null);
     }
+
+    // Idol/Album 과 같은 방식: 저장 전(id == null)에는 자기 자신과만 같고, 프록시와도 비교되도록 getId() 사용
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Group other)) return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Group.class.hashCode();
+    }
 }
@@ -1,17 +1,27 @@
 package com.playdata.study.entity;
 
+import com.playdata.study.support.autocomplete.AutocompleteListener;
+import com.playdata.study.support.cache.CacheInvalidationListener;
+import com.playdata.study.support.inmemory.IdolSnapshotListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "tbl_idol")
+@EntityListeners({CacheInvalidationListener.class, AutocompleteListener.class, IdolSnapshotListener.class})
+// idx_idol_age_name: 나이 내림차순, 이름 오름차순 페이지 조회용 (InnoDB 보조 인덱스에는 PK가 포함되므로 id 까지 인덱스만으로 읽음)
+// idx_idol_group_gender_age: 그룹/성별별 인원수, 나이 집계를 테이블을 읽지 않고 인덱스만으로 처리
+// idx_idol_change_seq: 변경 피드 (change_seq > ? 범위 조회)
+@Table(name = "tbl_idol", indexes = {
+        @Index(name = "idx_idol_age_name", columnList = "age desc, idol_name"),
+        @Index(name = "idx_idol_group_gender_age", columnList = "group_id, gender, age"),
+        @Index(name = "idx_idol_change_seq", columnList = "change_seq")
+})
 @Setter
 @Getter
 @ToString(exclude = "group")
-@EqualsAndHashCode(of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-public class Idol {
+public class Idol extends ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,14 +32,16 @@ public class Idol {
 
     private int age;
 
-    private String gender;
+    // TINYINT 코드 (GenderConverter)
+    // 기존 VARCHAR 컬럼은 ddl-auto(update)로 타입이 바뀌지 않으므로 db/migration/idol_gender_tinyint.sql 먼저 실행
+    private Gender gender;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_id")
     private Group group;
 
 
-    public Idol(String idolName, int age, Group group, String gender) {
+    public Idol(String idolName, int age, Group group, Gender gender) {
         this.idolName = idolName;
         this.age = age;
         this.gender = gender;
@@ -40,6 +52,24 @@ public class Idol {
 
     public void changeGroup(Group group) {
         this.group = group;
-        group.getIdols().add(this);
+        // 바이트코드 향상(연관관계 관리)이 켜져 있으면 위 대입만으로 컬렉션에 추가되므로 중복 추가 방지
+        if (!group.getIdols().contains(this)) {
+            group.getIdols().add(this);
+        }
+    }
+
+    // id로만 비교하면 저장 전(id == null) 엔터티끼리 모두 같은 객체로 취급되어
+    // Group.idols 컬렉션의 contains/remove(바이트코드 향상의 연관관계 관리 포함)가 엉뚱한 아이돌을 지움
+    // -> id가 없으면 자기 자신과만 같고, 프록시와도 비교되도록 instanceof + getId() 사용
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Idol other)) return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Idol.class.hashCode();
     }
 }
\ No newline at end of file
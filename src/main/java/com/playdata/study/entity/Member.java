@@ -1,16 +1,19 @@
 package com.playdata.study.entity;
 
+import com.playdata.study.support.bloom.MemberNameFilterListener;
+import com.playdata.study.support.cache.CacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Getter @Setter
-@ToString(exclude = "team") @EqualsAndHashCode(of = "id")
+@ToString(exclude = "team")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_member")
-public class Member {
+@EntityListeners({CacheInvalidationListener.class, MemberNameFilterListener.class})
+@Table(name = "tbl_member", indexes = @Index(name = "idx_member_change_seq", columnList = "change_seq"))
+public class Member extends ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,4 +28,16 @@ public class Member {
     @JoinColumn(name = "team_id")
     private Team team;
 
+    // Team.members 컬렉션 안에서 저장 전 회원끼리 같다고 판단되지 않도록 id가 있을 때만 id로 비교
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Member other)) return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Member.class.hashCode();
+    }
 }
\ No newline at end of file
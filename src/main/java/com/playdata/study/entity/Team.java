@@ -1,5 +1,6 @@
 package com.playdata.study.entity;
 
+import com.playdata.study.support.cache.CacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,11 +8,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Getter @Setter
-@ToString(exclude = "members") @EqualsAndHashCode(of = "id")
+@ToString(exclude = "members")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CacheInvalidationListener.class)
 @Table(name = "tbl_team")
 public class Team {
 
@@ -26,5 +28,16 @@ public class Team {
     @Builder.Default
     private List<Member> members = new ArrayList<>();
 
-
+    // Idol/Album 과 같은 방식 (저장 전 팀끼리 같다고 판단되지 않고, 프록시와도 id로 비교)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Team other)) return false;
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Team.class.hashCode();
+    }
 }
@@ -0,0 +1,160 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.support.counter.PartialFlushException;
+import com.playdata.study.support.sharding.ShardIdRanges;
+import com.playdata.study.support.sharding.ShardTemplate;
+import com.querydsl.core.types.dsl.CaseForEqBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.playdata.study.entity.QAlbum.album;
+
+// 앨범 재생/조회 수 증가분을 한 트랜잭션으로 반영
+// 앨범마다 UPDATE 를 보내지 않고 batchSize 개씩 묶어서
+// UPDATE tbl_album SET plays = plays + CASE album_id WHEN ? THEN ? ... END WHERE album_id IN (...) 한 번으로 보냄
+// 현재 값을 읽지 않고 DB에서 더하므로 다른 노드의 반영과 겹쳐도 증가분이 사라지지 않음
+// change_seq / updated_at 은 바꾸지 않음 (카운터는 변경 피드 대상이 아님)
+// 샤딩 중이면 앨범 id 범위(ShardIdRanges)로 앨범이 저장된 샤드를 찾아 샤드마다 트랜잭션 하나씩
+@Slf4j
+@Repository
+public class AlbumCounterWriter {
+
+    private final JPAQueryFactory factory;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardTemplate> shardTemplate;
+
+    public AlbumCounterWriter(JPAQueryFactory factory, PlatformTransactionManager transactionManager,
+                              ObjectProvider<ShardTemplate> shardTemplate) {
+        this.factory = factory;
+        this.shardTemplate = shardTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // deltas: 앨범 id -> AlbumCounter 순서의 증가분 (id 오름차순이면 잠금 순서도 같음)
+    // 갱신된 행 수가 모자라면 없는 앨범인지 확인해서, 삭제된 앨범의 증가분만 버리고 그 외에는 예외 (롤백 후 다음 주기에 다시 반영)
+    public long write(Map<Long, long[]> deltas, int batchSize) {
+        ShardTemplate shards = shardTemplate.getIfAvailable();
+        if (shards == null) {
+            Long updated = transactionTemplate.execute(status -> writeAll(deltas, batchSize));
+            return updated == null ? 0 : updated;
+        }
+        Map<Integer, Map<Long, long[]>> byShard = new TreeMap<>();
+        deltas.forEach((albumId, values) -> byShard
+                .computeIfAbsent(ShardIdRanges.shardOfId(albumId), shard -> new TreeMap<>())
+                .put(albumId, values));
+
+        // 한 샤드가 실패해도 나머지 샤드는 반영하고, 실패한 샤드의 증가분만 다시 더해두도록 넘김
+        long updated = 0;
+        Map<Long, long[]> unwritten = new TreeMap<>();
+        RuntimeException failure = null;
+        for (Map.Entry<Integer, Map<Long, long[]>> part : byShard.entrySet()) {
+            int shard = part.getKey();
+            if (shard >= shards.shardCount()) {
+                // 어느 샤드의 id 범위에도 속하지 않으면 저장된 적 없는 앨범
+                log.warn("없는 앨범의 카운터 증가분을 버립니다: {}", part.getValue().keySet());
+                continue;
+            }
+            try {
+                updated += shards.execute(shard, false, () -> writeAll(part.getValue(), batchSize));
+            } catch (RuntimeException e) {
+                unwritten.putAll(part.getValue());
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw unwritten.size() == deltas.size() ? failure : new PartialFlushException(unwritten, failure);
+        }
+        return updated;
+    }
+
+    private long writeAll(Map<Long, long[]> deltas, int batchSize) {
+        List<Map.Entry<Long, long[]>> rows = new ArrayList<>(deltas.entrySet());
+        long count = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            count += update(rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+        return count;
+    }
+
+    private long update(List<Map.Entry<Long, long[]>> rows) {
+        JPAUpdateClause clause = factory.update(album);
+        for (AlbumCounter counter : AlbumCounter.values()) {
+            NumberExpression<Long> delta = caseOf(rows, counter.ordinal());
+            if (delta != null) {
+                NumberPath<Long> path = pathOf(counter);
+                clause.set(path, path.add(delta));
+            }
+        }
+        List<Long> albumIds = rows.stream().map(Map.Entry::getKey).toList();
+        long updated = clause
+                .where(album.id.in(albumIds))
+                .execute();
+        if (updated != albumIds.size()) {
+            checkMissing(albumIds, updated);
+        }
+        return updated;
+    }
+
+    // 같은 트랜잭션에서 남아있는 앨범 수를 세어 갱신 수와 비교
+    // 같으면 갱신되지 않은 앨범은 삭제(또는 없는 id)된 것 -> 그 증가분만 버림, 다르면 잘못 반영된 것이므로 롤백
+    private void checkMissing(List<Long> albumIds, long updated) {
+        Set<Long> existing = new HashSet<>(factory.select(album.id)
+                .from(album)
+                .where(album.id.in(albumIds))
+                .fetch());
+        if (existing.size() != updated) {
+            throw new IllegalStateException("앨범 카운터 반영 행 수가 맞지 않습니다: 대상 %d건, 존재 %d건, 갱신 %d건"
+                    .formatted(albumIds.size(), existing.size(), updated));
+        }
+        log.warn("없는 앨범의 카운터 증가분을 버립니다: {}",
+                albumIds.stream().filter(id -> !existing.contains(id)).toList());
+    }
+
+    private static NumberPath<Long> pathOf(AlbumCounter counter) {
+        return switch (counter) {
+            case PLAYS -> album.plays;
+            case VIEWS -> album.views;
+        };
+    }
+
+    // ELSE 를 그냥 0 으로 두면 QueryDSL 이 정수 리터럴로 써서 Hibernate 가 CASE 전체를 int 로 보고
+    // 증가분을 cast(? as integer) 로 보냄 -> long 리터럴(0L)로 CASE 타입을 long 으로 맞춤
+    private static final NumberExpression<Long> ZERO = Expressions.numberTemplate(Long.class, "0L");
+
+    // 해당 카운터의 증가분이 하나도 없으면 null (SET 에서 제외)
+    private NumberExpression<Long> caseOf(List<Map.Entry<Long, long[]>> rows, int slot) {
+        CaseForEqBuilder<Long>.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, long[]> row : rows) {
+            long delta = row.getValue()[slot];
+            if (delta == 0) {
+                continue;
+            }
+            cases = cases == null
+                    ? album.id.when(row.getKey()).then(delta)
+                    : cases.when(row.getKey()).then(delta);
+        }
+        return cases == null ? null : cases.otherwise(ZERO);
+    }
+}
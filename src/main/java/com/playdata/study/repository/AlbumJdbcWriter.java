@@ -0,0 +1,96 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.support.changes.ChangeLog;
+import com.playdata.study.support.sharding.ShardTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// write-behind 버퍼에 모인 앨범을 JDBC 배치 INSERT 로 저장
+// Album 은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못해서 JdbcTemplate.batchUpdate 사용
+// (MySQL 은 rewriteBatchedStatements=true 로 여러 행 INSERT 한 번으로 전송)
+@Slf4j
+@Repository
+public class AlbumJdbcWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_album (album_name, release_year, group_id, change_seq, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardTemplate> shardTemplate;
+    private final ChangeLog changeLog;
+
+    public AlbumJdbcWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ObjectProvider<ShardTemplate> shardTemplate,
+                           ChangeLog changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLog = changeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTemplate = shardTemplate;
+    }
+
+    public void write(List<AlbumWrite> albums) {
+        try {
+            writeBatch(albums);
+        } catch (DataIntegrityViolationException e) {
+            // 없는 그룹 id 같은 한 건 때문에 배치 전체가 계속 재시도되지 않도록
+            // 한 건씩 다시 저장하고 저장할 수 없는 건은 로그만 남기고 건너뜀
+            log.warn("앨범 배치 저장 실패, 한 건씩 다시 저장합니다. ({}건)", albums.size(), e);
+            for (AlbumWrite album : albums) {
+                try {
+                    writeBatch(List.of(album));
+                } catch (DataIntegrityViolationException rejected) {
+                    log.error("저장할 수 없는 앨범을 건너뜁니다: {}", album, rejected);
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<AlbumWrite> albums) {
+        ShardTemplate shards = shardTemplate.getIfAvailable();
+        if (shards == null) {
+            transactionTemplate.executeWithoutResult(status -> insert(albums));
+            return;
+        }
+        // 샤딩 중이면 group_id 샤드별로 나눠서 샤드마다 트랜잭션 하나씩
+        // 일부 샤드만 커밋된 뒤 실패하면 배치 전체를 다시 쓰므로 먼저 커밋된 샤드에는 중복이 생길 수 있음
+        Map<Integer, List<AlbumWrite>> byShard = albums.stream()
+                .collect(Collectors.groupingBy(album -> shards.shardOf(album.groupId()),
+                        TreeMap::new, Collectors.toList()));
+        byShard.forEach((shard, part) -> shards.execute(shard, false, () -> {
+            insert(part);
+            return null;
+        }));
+    }
+
+    // 엔터티 리스너를 거치지 않으므로 변경 순번은 배치 크기만큼 한 번에 받아서 채움
+    private void insert(List<AlbumWrite> albums) {
+        AtomicLong seq = new AtomicLong(changeLog.allocate(albums.size()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, albums, albums.size(), (ps, album) -> {
+            ps.setString(1, album.albumName());
+            ps.setInt(2, album.releaseYear());
+            ps.setObject(3, album.groupId(), Types.BIGINT);
+            ps.setLong(4, seq.getAndIncrement());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.playdata.study.repository;
+
+import com.querydsl.core.types.Predicate;
+
+// QueryDSL 사용 용도
+public interface AlbumRepositoryCustom {
+
+    // 조건에 맞는 앨범이 하나라도 있는지 (엔터티를 조회하지 않고 SELECT 1 ... LIMIT 1)
+    boolean exists(Predicate predicate);
+
+}
@@ -0,0 +1,22 @@
+package com.playdata.study.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import static com.playdata.study.entity.QAlbum.album;
+
+@RequiredArgsConstructor
+public class AlbumRepositoryImpl implements AlbumRepositoryCustom {
+
+    private final JPAQueryFactory factory;
+
+    @Override
+    public boolean exists(Predicate predicate) {
+        return factory.selectOne()
+                .from(album)
+                .where(predicate)
+                .fetchFirst() != null;
+    }
+
+}
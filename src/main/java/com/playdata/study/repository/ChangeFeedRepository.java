@@ -0,0 +1,118 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.AlbumChange;
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.dto.MemberChange;
+import com.playdata.study.entity.ChangeEntityType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static com.playdata.study.entity.QAlbum.album;
+import static com.playdata.study.entity.QChangeTombstone.changeTombstone;
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.entity.QMember.member;
+
+// change_seq > after 인 행과 삭제 기록을 순번 순서로 limit 개까지
+// 두 조회 모두 (entity_type,) change_seq 인덱스 범위 조회라서 테이블 크기가 아니라 변경 건수만큼만 읽음
+// 같은 트랜잭션(스냅샷)에서 두 번 조회해야 순번이 어긋나지 않음 -> 읽기 트랜잭션 안에서 호출
+@Repository
+@RequiredArgsConstructor
+public class ChangeFeedRepository {
+
+    private final JPAQueryFactory factory;
+
+    public ChangeFeedPage<IdolChange> idolChanges(long after, int limit) {
+        List<IdolChange> changed = factory
+                .select(Projections.constructor(IdolChange.class,
+                        idol.id, idol.idolName, idol.age, idol.gender, idol.group.id,
+                        idol.changeSeq, idol.updatedAt))
+                .from(idol)
+                .where(idol.changeSeq.gt(after))
+                .orderBy(idol.changeSeq.asc())
+                .limit(limit + 1)
+                .fetch();
+        return page(changed, IdolChange::changeSeq, ChangeEntityType.IDOL, after, limit);
+    }
+
+    public ChangeFeedPage<GroupChange> groupChanges(long after, int limit) {
+        List<GroupChange> changed = factory
+                .select(Projections.constructor(GroupChange.class,
+                        group.id, group.groupName, group.changeSeq, group.updatedAt))
+                .from(group)
+                .where(group.changeSeq.gt(after))
+                .orderBy(group.changeSeq.asc())
+                .limit(limit + 1)
+                .fetch();
+        return page(changed, GroupChange::changeSeq, ChangeEntityType.GROUP, after, limit);
+    }
+
+    public ChangeFeedPage<AlbumChange> albumChanges(long after, int limit) {
+        List<AlbumChange> changed = factory
+                .select(Projections.constructor(AlbumChange.class,
+                        album.id, album.albumName, album.releaseYear, album.group.id,
+                        album.changeSeq, album.updatedAt))
+                .from(album)
+                .where(album.changeSeq.gt(after))
+                .orderBy(album.changeSeq.asc())
+                .limit(limit + 1)
+                .fetch();
+        return page(changed, AlbumChange::changeSeq, ChangeEntityType.ALBUM, after, limit);
+    }
+
+    public ChangeFeedPage<MemberChange> memberChanges(long after, int limit) {
+        List<MemberChange> changed = factory
+                .select(Projections.constructor(MemberChange.class,
+                        member.id, member.userName, member.age, member.team.id,
+                        member.changeSeq, member.updatedAt))
+                .from(member)
+                .where(member.changeSeq.gt(after))
+                .orderBy(member.changeSeq.asc())
+                .limit(limit + 1)
+                .fetch();
+        return page(changed, MemberChange::changeSeq, ChangeEntityType.MEMBER, after, limit);
+    }
+
+    // 변경 행과 삭제 기록을 순번으로 병합해서 앞에서부터 limit 개
+    // 각각 limit + 1 개씩 읽었으므로 병합 결과가 limit 개 이하면 둘 다 끝까지 읽은 것
+    private <T> ChangeFeedPage<T> page(List<T> changed, ToLongFunction<T> seqOf,
+                                       ChangeEntityType type, long after, int limit) {
+        List<Tuple> tombstones = factory
+                .select(changeTombstone.entityId, changeTombstone.changeSeq)
+                .from(changeTombstone)
+                .where(changeTombstone.entityType.eq(type),
+                        changeTombstone.changeSeq.gt(after))
+                .orderBy(changeTombstone.changeSeq.asc())
+                .limit(limit + 1)
+                .fetch();
+
+        List<T> pageChanged = new ArrayList<>();
+        List<Long> pageDeleted = new ArrayList<>();
+        long nextSeq = after;
+        int c = 0;
+        int d = 0;
+        while (pageChanged.size() + pageDeleted.size() < limit
+                && (c < changed.size() || d < tombstones.size())) {
+            long changedSeq = c < changed.size() ? seqOf.applyAsLong(changed.get(c)) : Long.MAX_VALUE;
+            long deletedSeq = d < tombstones.size() ? tombstones.get(d).get(changeTombstone.changeSeq) : Long.MAX_VALUE;
+            if (changedSeq < deletedSeq) {
+                pageChanged.add(changed.get(c++));
+                nextSeq = changedSeq;
+            } else {
+                pageDeleted.add(tombstones.get(d++).get(changeTombstone.entityId));
+                nextSeq = deletedSeq;
+            }
+        }
+        boolean hasMore = c < changed.size() || d < tombstones.size();
+        return new ChangeFeedPage<>(pageChanged, pageDeleted, nextSeq, hasMore);
+    }
+}
@@ -3,7 +3,8 @@ package com.playdata.study.repository;
 import com.playdata.study.entity.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface GroupRepository extends JpaRepository<Group, Long> {
+public interface GroupRepository extends JpaRepository<Group, Long>
+        , GroupRepositoryCustom {
 
 
 
@@ -0,0 +1,32 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Idol;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+
+import java.util.List;
+
+// QueryDSL 사용 용도
+public interface IdolRepositoryCustom {
+
+    // 조건에 맞는 아이돌이 하나라도 있는지 (엔터티를 조회하지 않고 SELECT 1 ... LIMIT 1)
+    boolean exists(Predicate predicate);
+
+    // offset 페이징 (그룹 fetch join), 정렬이 같은 행은 id 순
+    // 조건/정렬에 QGroup.group 별칭을 쓸 수 있음
+    List<Idol> findPage(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy);
+
+    // findPage 와 같은 결과를 지연 조인으로 조회 (깊은 페이지용)
+    List<Idol> findPageDeferred(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy);
+
+    // 지연 조인 + DTO (영속성 컨텍스트에 올리지 않음)
+    List<IdolWithGroup> findRowPageDeferred(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy);
+
+    // 그룹별 평균 나이 (평균이 minAverage ~ maxAverage 인 그룹만, null 이면 제한 없음), 그룹명 순
+    // group_id 로만 집계한 뒤 그룹명을 붙임 (KeyedAggregate), 그룹 없는 아이돌은 제외
+    // 조건에 QGroup.group 별칭을 쓸 수 있음 (이때만 집계 전에 조인)
+    List<GroupAverageResponse> findGroupAverageAges(Predicate predicate, Double minAverage, Double maxAverage);
+
+}
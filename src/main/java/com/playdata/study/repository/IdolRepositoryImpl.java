@@ -0,0 +1,137 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.support.DeferredJoin;
+import com.playdata.study.support.KeyedAggregate;
+import com.playdata.study.support.coalesce.CoalesceKey;
+import com.playdata.study.support.coalesce.QueryCoalescer;
+import com.playdata.study.support.sharding.ShardContext;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+
+@RequiredArgsConstructor
+public class IdolRepositoryImpl implements IdolRepositoryCustom {
+
+    private final JPAQueryFactory factory;
+    private final QueryCoalescer coalescer;
+
+    @Override
+    public boolean exists(Predicate predicate) {
+        return factory.selectOne()
+                .from(idol)
+                .where(predicate)
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public List<Idol> findPage(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy) {
+        return factory.selectFrom(idol)
+                .leftJoin(idol.group, group).fetchJoin()
+                .where(predicate)
+                .orderBy(withIdOrder(orderBy))
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Idol> findPageDeferred(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy) {
+        List<Long> ids = findPageIds(predicate, offset, limit, orderBy);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Idol> rows = factory.selectFrom(idol)
+                .leftJoin(idol.group, group).fetchJoin()
+                .where(idol.id.in(ids))
+                .fetch();
+        return DeferredJoin.inIdOrder(ids, rows, Idol::getId);
+    }
+
+    @Override
+    public List<IdolWithGroup> findRowPageDeferred(Predicate predicate, long offset, int limit,
+                                                   OrderSpecifier<?>... orderBy) {
+        List<Long> ids = findPageIds(predicate, offset, limit, orderBy);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<IdolWithGroup> rows = factory
+                .select(Projections.constructor(IdolWithGroup.class,
+                        idol.id, idol.idolName, idol.age, idol.gender, group.id, group.groupName))
+                .from(idol)
+                .leftJoin(idol.group, group)
+                .where(idol.id.in(ids))
+                .fetch();
+        return DeferredJoin.inIdOrder(ids, rows, IdolWithGroup::id);
+    }
+
+    @Override
+    public List<GroupAverageResponse> findGroupAverageAges(Predicate predicate, Double minAverage, Double maxAverage) {
+        // 같은 조건의 동시 요청은 한 번만 실행 (샤드마다 결과가 다르므로 샤드도 키에 포함)
+        // GroupAverageResponse 는 setter 가 있으므로 요청마다 복사본
+        return coalescer.execute(
+                CoalesceKey.of("IdolRepository.findGroupAverageAges",
+                        ShardContext.current().orElse(null), predicate, minAverage, maxAverage),
+                () -> queryGroupAverageAges(predicate, minAverage, maxAverage),
+                averages -> averages.stream()
+                        .map(average -> new GroupAverageResponse(average.getGroupName(), average.getAverageAge()))
+                        .toList());
+    }
+
+    private List<GroupAverageResponse> queryGroupAverageAges(Predicate predicate, Double minAverage, Double maxAverage) {
+        NumberExpression<Double> averageAge = idol.age.avg();
+        // idol.group.id 는 FK 컬럼 그대로 -> 조건에 그룹 별칭이 없으면 tbl_group 조인 없이 idx_idol_group_gender_age 만 읽음
+        JPAQuery<Tuple> query = factory.select(idol.group.id, averageAge).from(idol);
+        if (DeferredJoin.references(group, predicate)) {
+            query.join(idol.group, group);
+        }
+        List<Tuple> aggregated = query
+                .where(idol.group.id.isNotNull(), predicate)
+                .groupBy(idol.group.id)
+                .having(
+                        minAverage == null ? null : averageAge.goe(minAverage),
+                        maxAverage == null ? null : averageAge.loe(maxAverage)
+                )
+                .fetch();
+
+        Map<Long, String> groupNames = KeyedAggregate.lookup(factory, group, group.id, group.groupName,
+                KeyedAggregate.keys(aggregated, idol.group.id), group.groupName.asc(), group.id.asc());
+        return KeyedAggregate.join(aggregated, idol.group.id, groupNames,
+                (row, groupName) -> new GroupAverageResponse(groupName, row.get(averageAge)));
+    }
+
+    // 1단계: id만 조회 (정렬 컬럼 + id 가 인덱스에 모두 있으면 테이블을 읽지 않음)
+    private List<Long> findPageIds(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy) {
+        JPAQuery<Long> query = factory.select(idol.id).from(idol);
+        if (DeferredJoin.references(group, predicate, orderBy)) {
+            query.leftJoin(idol.group, group);
+        }
+        return query.where(predicate)
+                .orderBy(withIdOrder(orderBy))
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 정렬 값이 같은 행의 순서가 매번 같도록 마지막에 id 추가 (1단계와 findPage 결과가 같아야 함)
+    private static OrderSpecifier<?>[] withIdOrder(OrderSpecifier<?>... orderBy) {
+        return Stream.concat(Arrays.stream(orderBy), Stream.of(idol.id.asc()))
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+}
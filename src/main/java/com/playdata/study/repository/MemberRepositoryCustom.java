@@ -1,6 +1,7 @@
 package com.playdata.study.repository;
 
 import com.playdata.study.entity.Member;
+import com.querydsl.core.types.Predicate;
 
 import java.util.List;
 
@@ -10,4 +11,7 @@ public interface MemberRepositoryCustom {
 
     List<Member> findByName(String name);
 
+    // 조건에 맞는 회원이 하나라도 있는지 (엔터티를 조회하지 않고 SELECT 1 ... LIMIT 1)
+    boolean exists(Predicate predicate);
+
 }
@@ -2,6 +2,8 @@ package com.playdata.study.repository;
 
 import com.playdata.study.entity.Member;
 import com.playdata.study.entity.QMember;
+import com.playdata.study.support.bloom.MemberNameFilter;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
@@ -15,12 +17,27 @@ import static com.playdata.study.entity.QMember.*;
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
     private final JPAQueryFactory factory;
+    private final MemberNameFilter memberNameFilter;
 
     @Override
     public List<Member> findByName(String name) {
+        // 필터에 없는 이름이면 쿼리 없이 빈 결과
+        if (!memberNameFilter.mightExist(name)) {
+            return List.of();
+        }
         return factory.selectFrom(member)
                 .where(member.userName.eq(name))
                 .fetch();
     }
 
+    @Override
+    public boolean exists(Predicate predicate) {
+        // 존재 여부만 필요할 때 fetch() 후 isEmpty()로 확인하면 전체 목록을 엔터티로 만들어야 함
+        // -> 상수 1만 선택하고 첫 행만 가져오기
+        return factory.selectOne()
+                .from(member)
+                .where(predicate)
+                .fetchFirst() != null;
+    }
+
 }
@@ -0,0 +1,36 @@
+package com.playdata.study.repository.reactive;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.sql.ColumnMetadata;
+import com.querydsl.sql.RelationalPathBase;
+
+import java.sql.Types;
+
+import static com.querydsl.core.types.PathMetadataFactory.forVariable;
+
+// tbl_album 테이블 경로 클래스 (리액티브 조회 전용)
+public class SAlbum extends RelationalPathBase<SAlbum> {
+
+    public static final SAlbum album = new SAlbum("a");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath albumName = createString("albumName");
+
+    public final NumberPath<Integer> releaseYear = createNumber("releaseYear", Integer.class);
+
+    public final NumberPath<Long> groupId = createNumber("groupId", Long.class);
+
+    public SAlbum(String variable) {
+        super(SAlbum.class, forVariable(variable), null, "tbl_album");
+        addMetadata();
+    }
+
+    private void addMetadata() {
+        addMetadata(id, ColumnMetadata.named("album_id").withIndex(1).ofType(Types.BIGINT).notNull());
+        addMetadata(albumName, ColumnMetadata.named("album_name").withIndex(2).ofType(Types.VARCHAR));
+        addMetadata(releaseYear, ColumnMetadata.named("release_year").withIndex(3).ofType(Types.INTEGER).notNull());
+        addMetadata(groupId, ColumnMetadata.named("group_id").withIndex(4).ofType(Types.BIGINT));
+    }
+}
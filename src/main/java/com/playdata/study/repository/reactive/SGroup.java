@@ -0,0 +1,31 @@
+package com.playdata.study.repository.reactive;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.sql.ColumnMetadata;
+import com.querydsl.sql.RelationalPathBase;
+
+import java.sql.Types;
+
+import static com.querydsl.core.types.PathMetadataFactory.forVariable;
+
+// tbl_group 테이블을 querydsl-sql 로 조회하기 위한 경로 클래스 (리액티브 조회 전용)
+// JPA Q클래스(QGroup)는 엔터티 기준이라 SQL로 바로 쓸 수 없어서 테이블/컬럼 기준으로 따로 정의
+public class SGroup extends RelationalPathBase<SGroup> {
+
+    public static final SGroup group = new SGroup("g");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath groupName = createString("groupName");
+
+    public SGroup(String variable) {
+        super(SGroup.class, forVariable(variable), null, "tbl_group");
+        addMetadata();
+    }
+
+    private void addMetadata() {
+        addMetadata(id, ColumnMetadata.named("group_id").withIndex(1).ofType(Types.BIGINT).notNull());
+        addMetadata(groupName, ColumnMetadata.named("group_name").withIndex(2).ofType(Types.VARCHAR));
+    }
+}
@@ -0,0 +1,41 @@
+package com.playdata.study.repository.reactive;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.sql.ColumnMetadata;
+import com.querydsl.sql.RelationalPathBase;
+
+import java.sql.Types;
+
+import static com.querydsl.core.types.PathMetadataFactory.forVariable;
+
+// tbl_idol 테이블 경로 클래스 (리액티브 조회 전용)
+public class SIdol extends RelationalPathBase<SIdol> {
+
+    public static final SIdol idol = new SIdol("i");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath idolName = createString("idolName");
+
+    public final NumberPath<Integer> age = createNumber("age", Integer.class);
+
+    // Gender 코드 (1=여, 2=남)
+    public final NumberPath<Byte> gender = createNumber("gender", Byte.class);
+
+    // 연관관계 대신 FK 컬럼 그대로 -> 조인은 on 절로 직접 지정
+    public final NumberPath<Long> groupId = createNumber("groupId", Long.class);
+
+    public SIdol(String variable) {
+        super(SIdol.class, forVariable(variable), null, "tbl_idol");
+        addMetadata();
+    }
+
+    private void addMetadata() {
+        addMetadata(id, ColumnMetadata.named("idol_id").withIndex(1).ofType(Types.BIGINT).notNull());
+        addMetadata(idolName, ColumnMetadata.named("idol_name").withIndex(2).ofType(Types.VARCHAR));
+        addMetadata(age, ColumnMetadata.named("age").withIndex(3).ofType(Types.INTEGER).notNull());
+        addMetadata(gender, ColumnMetadata.named("gender").withIndex(4).ofType(Types.TINYINT));
+        addMetadata(groupId, ColumnMetadata.named("group_id").withIndex(5).ofType(Types.BIGINT));
+    }
+}
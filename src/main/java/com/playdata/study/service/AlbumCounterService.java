@@ -0,0 +1,88 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.dto.AlbumCounts;
+import com.playdata.study.support.counter.CounterStats;
+import com.playdata.study.support.counter.StripedCounters;
+import com.playdata.study.support.sharding.ShardIdRanges;
+import com.playdata.study.support.sharding.ShardTemplate;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static com.playdata.study.entity.QAlbum.album;
+
+// 앨범 재생/조회 수
+// 증가는 메모리 카운터에만 더하고 (DB 조회/잠금 없음) album-counters.flush-interval 마다 모아서 반영
+// 조회는 DB 값 + 이 노드에 남은 증가분 (다른 노드에 남은 증가분은 그 노드가 반영한 뒤에 보임)
+// 없는 앨범 id 로 증가시키면 반영할 때 갱신되는 행이 없어서 버려짐
+// 샤딩 중이면 반영과 조회 모두 앨범 id 범위로 찾은 샤드에서 실행 (AlbumCounterWriter)
+@Service
+public class AlbumCounterService {
+
+    private final StripedCounters albumCounters;
+    private final JPAQueryFactory factory;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectProvider<ShardTemplate> shardTemplate;
+
+    public AlbumCounterService(StripedCounters albumCounters, JPAQueryFactory factory,
+                               PlatformTransactionManager transactionManager,
+                               ObjectProvider<ShardTemplate> shardTemplate) {
+        this.albumCounters = albumCounters;
+        this.factory = factory;
+        this.shardTemplate = shardTemplate;
+        // 바깥 트랜잭션의 예전 스냅샷이 아니라 지금 커밋된 값을 읽어야 남은 증가분과 맞음
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increment(Long albumId, AlbumCounter counter, long delta) {
+        if (albumId == null) {
+            throw new IllegalArgumentException("앨범 id는 필수입니다.");
+        }
+        if (delta < 1) {
+            throw new IllegalArgumentException("증가분은 1 이상이어야 합니다: " + delta);
+        }
+        albumCounters.add(albumId, counter.ordinal(), delta);
+    }
+
+    public Optional<AlbumCounts> counts(Long albumId) {
+        long[] values = albumCounters.read(albumId, () -> loadPersisted(albumId));
+        return Optional.ofNullable(values)
+                .map(v -> new AlbumCounts(albumId, v[AlbumCounter.PLAYS.ordinal()], v[AlbumCounter.VIEWS.ordinal()]));
+    }
+
+    private long[] loadPersisted(Long albumId) {
+        ShardTemplate shards = shardTemplate.getIfAvailable();
+        if (shards == null) {
+            return readOnlyTx.execute(status -> selectCounts(albumId));
+        }
+        int shard = ShardIdRanges.shardOfId(albumId);
+        // 어느 샤드의 id 범위에도 속하지 않으면 없는 앨범 (execute 는 새 트랜잭션이라 지금 커밋된 값을 읽음)
+        return shard < shards.shardCount() ? shards.execute(shard, true, () -> selectCounts(albumId)) : null;
+    }
+
+    private long[] selectCounts(Long albumId) {
+        Tuple row = factory.select(album.plays, album.views)
+                .from(album)
+                .where(album.id.eq(albumId))
+                .fetchOne();
+        return row == null ? null : new long[]{row.get(album.plays), row.get(album.views)};
+    }
+
+    // 남은 증가분을 지금 반영 (테스트, 운영 중 수동 반영)
+    public void flush() {
+        albumCounters.flush();
+    }
+
+    public CounterStats stats() {
+        return albumCounters.stats();
+    }
+}
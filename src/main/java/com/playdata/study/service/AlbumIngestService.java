@@ -0,0 +1,28 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.support.ingest.IngestStats;
+import com.playdata.study.support.ingest.WriteBehindBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 앨범 등록을 바로 저장하지 않고 write-behind 버퍼에 넣어서 배치로 저장
+// 등록 직후에는 아직 조회되지 않을 수 있음 (최대 album-ingest.max-delay + 저장 시간)
+@Service
+@RequiredArgsConstructor
+public class AlbumIngestService {
+
+    private final WriteBehindBuffer<AlbumWrite> albumWriteBuffer;
+
+    public void submit(AlbumWrite album) {
+        // 잘못된 요청이 큐에 들어가서 배치 저장을 실패시키지 않도록 미리 검증
+        if (album.albumName() == null || album.albumName().isBlank()) {
+            throw new IllegalArgumentException("앨범명은 필수입니다.");
+        }
+        albumWriteBuffer.submit(album);
+    }
+
+    public IngestStats stats() {
+        return albumWriteBuffer.stats();
+    }
+}
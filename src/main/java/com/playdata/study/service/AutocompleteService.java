@@ -0,0 +1,169 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AutocompleteSuggestion;
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.dto.SuggestionType;
+import com.playdata.study.support.autocomplete.AutocompleteIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 아이돌 이름 / 그룹명 자동완성 (DB를 거치지 않고 노드 메모리의 인덱스에서 응답)
+// - 시작할 때 변경 피드를 처음부터 읽어서 인덱스를 만들고, 이후 refresh-interval 마다 이어서 읽음
+//   (다른 노드에서의 변경, 엔터티 리스너를 거치지 않는 변경 반영)
+// - 이 노드에서 커밋된 변경은 AutocompleteListener 가 커밋 직후 바로 반영
+// 피드 조회와 커밋 직후 반영이 겹치면 잠깐 이전 이름이 보일 수 있지만 다음 피드 조회에서 맞춰짐
+// 인기도(선택 횟수)는 노드 메모리에만 있으므로 재시작하면 0부터 다시 셈
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private static final int FEED_PAGE_SIZE = 1000;
+
+    // 인덱스끼리 합칠 때도 인덱스 안과 같은 순서
+    private static final Comparator<AutocompleteSuggestion> RANKING = Comparator
+            .comparingLong((AutocompleteSuggestion s) -> -s.popularity())
+            .thenComparingInt(s -> s.name().length())
+            .thenComparing(AutocompleteSuggestion::name);
+
+    private final ChangeFeedService changeFeedService;
+    private final int maxResults;
+    private final Duration refreshInterval;
+    private final Map<SuggestionType, AutocompleteIndex> indexes = new EnumMap<>(SuggestionType.class);
+
+    private long idolSeq;
+    private long groupSeq;
+    private ScheduledExecutorService refresher;
+
+    public AutocompleteService(ChangeFeedService changeFeedService,
+                               @Value("${autocomplete.max-results:10}") int maxResults,
+                               @Value("${autocomplete.refresh-interval:5s}") Duration refreshInterval) {
+        this.changeFeedService = changeFeedService;
+        this.maxResults = maxResults;
+        this.refreshInterval = refreshInterval;
+        for (SuggestionType type : SuggestionType.values()) {
+            indexes.put(type, new AutocompleteIndex(maxResults));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        catchUp();
+        log.info("자동완성 인덱스 준비 완료 (아이돌 {}건, 그룹 {}건)",
+                indexes.get(SuggestionType.IDOL).size(), indexes.get(SuggestionType.GROUP).size());
+
+        if (!refreshInterval.isZero()) {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "autocomplete-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    // type 이 null 이면 아이돌과 그룹을 함께
+    public List<AutocompleteSuggestion> suggest(String query, SuggestionType type, int limit) {
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("limit는 1~" + maxResults + " 이어야 합니다.");
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (type != null) {
+            return search(type, query, limit);
+        }
+        List<AutocompleteSuggestion> merged = new ArrayList<>();
+        for (SuggestionType each : SuggestionType.values()) {
+            merged.addAll(search(each, query, limit));
+        }
+        merged.sort(RANKING);
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
+
+    // 사용자가 자동완성 결과를 선택함 -> 다음부터 더 앞에 나옴
+    public void recordSelection(SuggestionType type, long id) {
+        indexes.get(type).increasePopularity(id, 1);
+    }
+
+    // 커밋된 저장/수정(name != null) 또는 삭제(name == null)
+    public void apply(SuggestionType type, long id, String name) {
+        if (name == null) {
+            indexes.get(type).remove(id);
+        } else {
+            indexes.get(type).upsert(id, name);
+        }
+    }
+
+    // 마지막으로 읽은 순번 이후의 변경을 모두 반영
+    public synchronized void catchUp() {
+        idolSeq = drain(idolSeq, changeFeedService::idolChanges, IdolChange::id, IdolChange::idolName,
+                indexes.get(SuggestionType.IDOL));
+        groupSeq = drain(groupSeq, changeFeedService::groupChanges, GroupChange::id, GroupChange::groupName,
+                indexes.get(SuggestionType.GROUP));
+    }
+
+    private void refresh() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            // DB 장애 중에도 기존 인덱스로 계속 응답하고 다음 주기에 다시 시도
+            log.warn("자동완성 인덱스 갱신 실패", e);
+        }
+    }
+
+    private <T> long drain(long after, FeedReader<T> feed, ToLongFunction<T> idOf, Function<T, String> nameOf,
+                           AutocompleteIndex index) {
+        ChangeFeedPage<T> page;
+        do {
+            page = feed.read(after, FEED_PAGE_SIZE);
+            for (T changed : page.changed()) {
+                String name = nameOf.apply(changed);
+                if (name == null) {
+                    index.remove(idOf.applyAsLong(changed));
+                } else {
+                    index.upsert(idOf.applyAsLong(changed), name);
+                }
+            }
+            page.deleted().forEach(index::remove);
+            after = page.nextSeq();
+        } while (page.hasMore());
+        return after;
+    }
+
+    private List<AutocompleteSuggestion> search(SuggestionType type, String query, int limit) {
+        return indexes.get(type).search(query, limit).stream()
+                .map(hit -> new AutocompleteSuggestion(type, hit.id(), hit.name(), hit.popularity()))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface FeedReader<T> {
+        ChangeFeedPage<T> read(long after, int limit);
+    }
+}
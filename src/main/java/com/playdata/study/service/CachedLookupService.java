@@ -0,0 +1,135 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import com.playdata.study.support.bloom.MemberNameFilter;
+import com.playdata.study.support.bulkhead.Bulkheads;
+import com.playdata.study.support.bulkhead.QueryClass;
+import com.playdata.study.support.cache.CacheNames;
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.cache.NearCache;
+import com.playdata.study.support.coalesce.CoalesceKey;
+import com.playdata.study.support.coalesce.QueryCoalescer;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.entity.QMember.member;
+import static com.playdata.study.entity.QTeam.team;
+
+// 그룹/팀 명단과 이름으로 회원 찾기를 노드 로컬 캐시(NearCache)에서 조회
+// 값이 바뀌면 CacheInvalidationListener가 커밋 후 모든 노드의 해당 키를 지우므로 다음 조회 때 다시 읽음
+// 캐시 적중 시에는 트랜잭션(커넥션)도 열지 않도록 DB 조회 부분만 트랜잭션으로 실행
+// 무효화 직후 같은 키로 몰린 요청들은 DB 조회 한 번의 결과를 같이 씀 (결과는 불변 record 목록이라 복사하지 않음)
+@Service
+public class CachedLookupService {
+
+    private final JPAQueryFactory factory;
+    private final TransactionTemplate readOnlyTx;
+    private final QueryCoalescer coalescer;
+    private final Bulkheads bulkheads;
+    private final MemberNameFilter memberNameFilter;
+    private final NearCache<Long, GroupRoster> groupRosters;
+    private final NearCache<Long, TeamRoster> teamRosters;
+    private final NearCache<String, List<MemberSummary>> membersByName;
+
+    public CachedLookupService(JPAQueryFactory factory, PlatformTransactionManager transactionManager,
+                               InvalidationBus invalidationBus, MemberNameFilter memberNameFilter,
+                               QueryCoalescer coalescer, Bulkheads bulkheads) {
+        this.factory = factory;
+        this.coalescer = coalescer;
+        this.bulkheads = bulkheads;
+        this.memberNameFilter = memberNameFilter;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.groupRosters = invalidationBus.cache(CacheNames.GROUP_ROSTER);
+        this.teamRosters = invalidationBus.cache(CacheNames.TEAM_ROSTER);
+        this.membersByName = invalidationBus.cache(CacheNames.MEMBERS_BY_NAME);
+    }
+
+    public Optional<GroupRoster> findGroupRoster(Long groupId) {
+        return Optional.ofNullable(groupRosters.get(groupId, id -> coalescer.execute(
+                CoalesceKey.of("CachedLookupService.loadGroupRoster", id),
+                () -> pointLookup(status -> loadGroupRoster(id)))));
+    }
+
+    public Optional<TeamRoster> findTeamRoster(Long teamId) {
+        return Optional.ofNullable(teamRosters.get(teamId, id -> coalescer.execute(
+                CoalesceKey.of("CachedLookupService.loadTeamRoster", id),
+                () -> pointLookup(status -> loadTeamRoster(id)))));
+    }
+
+    // 없는 이름은 캐시에도 넣지 않음 (없는 이름으로 반복 조회해도 캐시가 채워지지 않도록)
+    public List<MemberSummary> findMembersByName(String userName) {
+        if (!memberNameFilter.mightExist(userName)) {
+            return List.of();
+        }
+        return membersByName.get(userName, name -> coalescer.execute(
+                CoalesceKey.of("CachedLookupService.loadMembersByName", name),
+                () -> pointLookup(status -> loadMembersByName(name))));
+    }
+
+    // 캐시에 없어서 DB로 가는 경우만 id 조회 bulkhead 안에서 실행 (합쳐진 요청은 실행하는 한 번만 자리를 씀)
+    private <T> T pointLookup(TransactionCallback<T> action) {
+        return bulkheads.execute(QueryClass.POINT_LOOKUP, () -> readOnlyTx.execute(action));
+    }
+
+    private GroupRoster loadGroupRoster(Long groupId) {
+        Group found = factory.selectFrom(group)
+                .leftJoin(group.idols, idol).fetchJoin()
+                .where(group.id.eq(groupId))
+                .fetchOne();
+        if (found == null) {
+            return null;
+        }
+        List<IdolSummary> idols = found.getIdols().stream()
+                .sorted(Comparator.comparing(i -> i.getId()))
+                .map(i -> new IdolSummary(i.getId(), i.getIdolName(), i.getAge(), i.getGender()))
+                .toList();
+        return new GroupRoster(found.getId(), found.getGroupName(), idols);
+    }
+
+    private TeamRoster loadTeamRoster(Long teamId) {
+        Team found = factory.selectFrom(team)
+                .leftJoin(team.members, member).fetchJoin()
+                .where(team.id.eq(teamId))
+                .fetchOne();
+        if (found == null) {
+            return null;
+        }
+        List<MemberSummary> members = found.getMembers().stream()
+                .sorted(Comparator.comparing(m -> m.getId()))
+                .map(m -> toSummary(m, found))
+                .toList();
+        return new TeamRoster(found.getId(), found.getName(), members);
+    }
+
+    private List<MemberSummary> loadMembersByName(String userName) {
+        return factory.selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin()
+                .where(member.userName.eq(userName))
+                .orderBy(member.id.asc())
+                .fetch()
+                .stream()
+                .map(m -> toSummary(m, m.getTeam()))
+                .toList();
+    }
+
+    private MemberSummary toSummary(Member m, Team t) {
+        return new MemberSummary(m.getId(), m.getUserName(), m.getAge(),
+                t == null ? null : t.getId(), t == null ? null : t.getName());
+    }
+}
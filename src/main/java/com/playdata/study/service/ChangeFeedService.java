@@ -0,0 +1,49 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumChange;
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.dto.MemberChange;
+import com.playdata.study.repository.ChangeFeedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 변경 피드: 처음에는 after=0 으로 전체를 받고, 이후에는 마지막으로 받은 nextSeq 이후 변경만 받음
+// 샤딩 중이면 순번이 샤드마다 따로 증가하므로 기본(0번) 샤드의 변경만 조회됨
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChangeFeedService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeFeedRepository changeFeedRepository;
+
+    public ChangeFeedPage<IdolChange> idolChanges(long after, int limit) {
+        validate(after, limit);
+        return changeFeedRepository.idolChanges(after, limit);
+    }
+
+    public ChangeFeedPage<GroupChange> groupChanges(long after, int limit) {
+        validate(after, limit);
+        return changeFeedRepository.groupChanges(after, limit);
+    }
+
+    public ChangeFeedPage<AlbumChange> albumChanges(long after, int limit) {
+        validate(after, limit);
+        return changeFeedRepository.albumChanges(after, limit);
+    }
+
+    public ChangeFeedPage<MemberChange> memberChanges(long after, int limit) {
+        validate(after, limit);
+        return changeFeedRepository.memberChanges(after, limit);
+    }
+
+    private void validate(long after, int limit) {
+        if (after < 0 || limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("after는 0 이상, limit는 1~" + MAX_LIMIT + " 이어야 합니다.");
+        }
+    }
+}
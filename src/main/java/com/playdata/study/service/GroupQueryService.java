@@ -0,0 +1,63 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.dto.GroupSearchCondition;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.JsonStreamWriter;
+import com.playdata.study.support.StreamFormat;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static com.playdata.study.entity.QGroup.group;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GroupQueryService {
+
+    public static final FieldSelection FIELDS = new FieldSelection()
+            .add("id", group.id)
+            .add("groupName", group.groupName);
+
+    private final JPAQueryFactory factory;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final IdolRepository idolRepository;
+
+    @Value("${query.stream-fetch-size}")
+    private int fetchSize;
+
+    public long streamGroups(GroupSearchCondition condition, List<FieldSelection.SelectedField> fields,
+                             StreamFormat format, OutputStream out) throws IOException {
+        JPAQuery<Tuple> query = factory.select(FieldSelection.expressions(fields))
+                .from(group)
+                .where(groupNameContains(condition.getGroupName()))
+                .orderBy(group.id.asc());
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        return jsonStreamWriter.writeArray(out, format, query.stream(), fields);
+    }
+
+    // 그룹별 평균 나이 (평균이 minAverage ~ maxAverage 인 그룹만, 그룹명 순)
+    // 결과는 그룹 수 만큼이라 목록으로 받아서 씀
+    public long streamAverageAges(Double minAverage, Double maxAverage, StreamFormat format,
+                                  OutputStream out) throws IOException {
+        List<GroupAverageResponse> averages = idolRepository.findGroupAverageAges(null, minAverage, maxAverage);
+        return jsonStreamWriter.writeValues(out, format, averages.stream());
+    }
+
+    private BooleanExpression groupNameContains(String groupName) {
+        return groupName == null ? null : group.groupName.contains(groupName);
+    }
+}
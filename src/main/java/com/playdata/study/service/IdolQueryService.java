@@ -0,0 +1,116 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.IdolSearchCondition;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.JsonStreamWriter;
+import com.playdata.study.support.StreamFormat;
+import com.playdata.study.support.inmemory.SnapshotQueryStats;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IdolQueryService {
+
+    // 응답 필드명 -> 컬럼
+    public static final FieldSelection FIELDS = new FieldSelection()
+            .add("id", idol.id)
+            .add("idolName", idol.idolName)
+            .add("age", idol.age)
+            .add("gender", idol.gender)
+            .add("groupId", group.id)
+            .add("groupName", group.groupName);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final JPAQueryFactory factory;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final IdolSnapshotService idolSnapshotService;
+
+    @Value("${query.stream-fetch-size}")
+    private int fetchSize;
+
+    // 트랜잭션(= DB 커서)이 열려있는 동안 한 행씩 읽어서 바로 응답에 씀
+    public long streamIdols(IdolSearchCondition condition, List<FieldSelection.SelectedField> fields,
+                            StreamFormat format, OutputStream out) throws IOException {
+        JPAQuery<Tuple> query = factory.select(FieldSelection.expressions(fields))
+                .from(idol)
+                .leftJoin(idol.group, group)
+                .where(
+                        idolNameContains(condition.getIdolName()),
+                        ageGoe(condition.getMinAge()),
+                        ageLoe(condition.getMaxAge()),
+                        genderEq(condition.getGender()),
+                        groupNameEq(condition.getGroupName())
+                )
+                .orderBy(idol.id.asc());
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        return jsonStreamWriter.writeArray(out, format, query.stream(), fields);
+    }
+
+    // 나이 내림차순, 이름 오름차순 페이지
+    // 스냅샷이 최신이면 메모리에서, 아니면 지연 조인으로 조회 (뒤쪽 페이지도 건너뛰는 행을 테이블에서 읽지 않음)
+    // 트랜잭션을 열지 않아야 스냅샷을 사용할 수 있음 (DB 조회 시에는 스냅샷 서비스가 트랜잭션을 염)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<IdolWithGroup> findPage(IdolSearchCondition condition, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        return idolSnapshotService.findRows(
+                ExpressionUtils.allOf(
+                        idolNameContains(condition.getIdolName()),
+                        ageGoe(condition.getMinAge()),
+                        ageLoe(condition.getMaxAge()),
+                        genderEq(condition.getGender()),
+                        groupNameEq(condition.getGroupName())
+                ),
+                (long) page * size,
+                size,
+                idol.age.desc(), idol.idolName.asc());
+    }
+
+    public SnapshotQueryStats snapshotStats() {
+        return idolSnapshotService.stats();
+    }
+
+    // 조건 값이 없으면 null을 리턴 -> where 절에서 무시됨
+    private BooleanExpression idolNameContains(String idolName) {
+        return idolName == null ? null : idol.idolName.contains(idolName);
+    }
+
+    private BooleanExpression ageGoe(Integer minAge) {
+        return minAge == null ? null : idol.age.goe(minAge);
+    }
+
+    private BooleanExpression ageLoe(Integer maxAge) {
+        return maxAge == null ? null : idol.age.loe(maxAge);
+    }
+
+    private BooleanExpression genderEq(Gender gender) {
+        return gender == null ? null : idol.gender.eq(gender);
+    }
+
+    private BooleanExpression groupNameEq(String groupName) {
+        return groupName == null ? null : group.groupName.eq(groupName);
+    }
+}
@@ -0,0 +1,428 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.bulkhead.Bulkheads;
+import com.playdata.study.support.bulkhead.QueryClass;
+import com.playdata.study.support.inmemory.ExpressionCompiler;
+import com.playdata.study.support.inmemory.PathBindings;
+import com.playdata.study.support.inmemory.SnapshotPager;
+import com.playdata.study.support.inmemory.SnapshotQueryStats;
+import com.playdata.study.support.inmemory.UnsupportedExpressionException;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.support.CollationKeyFunctionContributor.collationKey;
+
+// 아이돌 + 소속 그룹 스냅샷에서 QueryDSL 조건/정렬을 그대로 실행 (DB 조회 없음)
+// 다음 경우에는 같은 조건으로 DB(findRowPageDeferred)를 조회
+// - 스냅샷이 없거나 max-staleness 보다 오래됨 (다른 노드의 변경은 refresh-interval 마다 변경 피드로 따라옴)
+// - 이 노드에서 아이돌/그룹 쓰기 트랜잭션이 진행 중이거나, 커밋된 뒤 아직 스냅샷에 반영하지 않음
+// - 조건/정렬에 스냅샷에 없는 경로나 지원하지 않는 식이 있음 (ExpressionCompiler)
+// - 호출한 쪽이 트랜잭션 안 (같은 트랜잭션의 다른 조회/쓰기와 같은 시점의 DB 값을 봐야 함)
+// JPQL 벌크 수정/삭제는 변경 피드에 남지 않으므로 full-reload-interval 마다 전체를 다시 읽어서 맞춤
+// 이름 collation 이 바이너리가 아니면(MySQL 기본 utf8mb4_0900_ai_ci 등) 이름 조건은 DB로 조회하고,
+// 이름 정렬은 DB 가 계산한 정렬 가중치(collation_key)를 스냅샷에 함께 두고 그 순서로 정렬
+// 샤딩 중에는 변경 피드가 0번 샤드만 읽으므로 사용하지 않음
+@Slf4j
+@Service
+public class IdolSnapshotService {
+
+    private static final int FEED_PAGE_SIZE = 1000;
+
+    // idol.group.groupName 은 JPQL 에서 내부 조인이 되어 그룹 없는 아이돌이 빠지므로 등록하지 않음 (group 별칭만)
+    private static final PathBindings<IdolWithGroup> BINDINGS = new PathBindings<IdolWithGroup>()
+            .bind(idol.id, IdolWithGroup::id)
+            .bind(idol.idolName, IdolWithGroup::idolName)
+            .bind(idol.age, IdolWithGroup::age)
+            .bind(idol.gender, IdolWithGroup::gender, Gender::getCode, Byte.class)
+            .bind(idol.group.id, IdolWithGroup::groupId)
+            .bind(group.id, IdolWithGroup::groupId)
+            .bind(group.groupName, IdolWithGroup::groupName);
+
+    // complete: 변경 피드로 만든 행 수가 DB 와 같음 (reload 에서 확인, refresh 는 이전 값을 이어받음)
+    // compiler: 이 스냅샷의 이름 정렬 가중치로 만든 것 (바이너리 collation 이면 공용)
+    private record Snapshot(List<IdolWithGroup> rows, long writeEpoch, long syncedAt, boolean complete,
+                            ExpressionCompiler<IdolWithGroup> compiler) {
+
+        Snapshot withComplete(boolean complete) {
+            return new Snapshot(rows, writeEpoch, syncedAt, complete, compiler);
+        }
+    }
+
+    private final ChangeFeedService changeFeedService;
+    private final IdolRepository idolRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory factory;
+    private final Bulkheads bulkheads;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final long maxStalenessNanos;
+    private final Duration fullReloadInterval;
+
+    // catchUp 에서만 사용 (synchronized)
+    private final Map<Long, IdolChange> idols = new HashMap<>();
+    private final Map<Long, String> groupNames = new HashMap<>();
+    private long idolSeq;
+    private long groupSeq;
+    // 이름 -> DB 정렬 가중치 (바이너리가 아닌 collation 일 때만, 같은 이름이면 같은 키)
+    private final Map<String, byte[]> idolNameKeys = new HashMap<>();
+    private final Map<String, byte[]> groupNameKeys = new HashMap<>();
+
+    // 조회는 snapshot 만 읽음 (잠금 없음), 갱신은 새 Snapshot 으로 교체
+    private volatile Snapshot snapshot;
+    private volatile ExpressionCompiler<IdolWithGroup> compiler;
+    private volatile boolean binaryStrings;
+    // 이 노드의 쓰기 트랜잭션: 진행 중인 수, 끝날 때마다 증가하는 번호
+    private final AtomicInteger writesInFlight = new AtomicInteger();
+    private final AtomicLong writeEpoch = new AtomicLong();
+    private ScheduledExecutorService refresher;
+
+    private final LongAdder inMemory = new LongAdder();
+    private final LongAdder fallbackStale = new LongAdder();
+    private final LongAdder fallbackUnsupported = new LongAdder();
+    private final LongAdder fallbackInTransaction = new LongAdder();
+
+    public IdolSnapshotService(ChangeFeedService changeFeedService, IdolRepository idolRepository,
+                               JdbcTemplate jdbcTemplate, JPAQueryFactory factory,
+                               PlatformTransactionManager transactionManager,
+                               Bulkheads bulkheads,
+                               @Value("${idol-snapshot.enabled:true}") boolean enabled,
+                               @Value("${sharding.enabled:false}") boolean sharding,
+                               @Value("${idol-snapshot.refresh-interval:1s}") Duration refreshInterval,
+                               @Value("${idol-snapshot.max-staleness:5s}") Duration maxStaleness,
+                               @Value("${idol-snapshot.full-reload-interval:10m}") Duration fullReloadInterval) {
+        this.changeFeedService = changeFeedService;
+        this.idolRepository = idolRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.factory = factory;
+        this.bulkheads = bulkheads;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled && !sharding;
+        this.refreshInterval = refreshInterval;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.fullReloadInterval = fullReloadInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        binaryStrings = probeBinaryStrings();
+        compiler = new ExpressionCompiler<>(BINDINGS, binaryStrings);
+        if (!binaryStrings) {
+            log.info("아이돌/그룹 이름 collation 이 바이너리가 아니라서 이름 조건은 DB로 조회하고, 이름 정렬은 DB 정렬 가중치로 합니다.");
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("아이돌 스냅샷 생성 실패, 모든 조회를 DB로 합니다.", e);
+        }
+
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idol-snapshot-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!refreshInterval.isZero()) {
+            refresher.scheduleWithFixedDelay(this::refreshQuietly,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (!fullReloadInterval.isZero()) {
+            refresher.scheduleWithFixedDelay(this::reloadQuietly,
+                    fullReloadInterval.toMillis(), fullReloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    // IdolRepositoryCustom.findRowPageDeferred 와 같은 결과 (정렬이 같은 행은 id 순)
+    public List<IdolWithGroup> findRows(Predicate predicate, long offset, int limit, OrderSpecifier<?>... orderBy) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            fallbackInTransaction.increment();
+            return fromDatabase(predicate, offset, limit, orderBy);
+        }
+        Snapshot current = freshSnapshot();
+        if (current == null) {
+            fallbackStale.increment();
+            return fromDatabase(predicate, offset, limit, orderBy);
+        }
+        List<IdolWithGroup> rows;
+        try {
+            List<OrderSpecifier<?>> orders = Stream.concat(Arrays.stream(orderBy), Stream.of(idol.id.asc())).toList();
+            ExpressionCompiler<IdolWithGroup> compiled = current.compiler();
+            rows = SnapshotPager.page(current.rows(), compiled.where(predicate), compiled.orderBy(orders),
+                    offset, limit);
+        } catch (UnsupportedExpressionException e) {
+            log.debug("스냅샷에서 실행할 수 없는 조회: {}", e.getMessage());
+            fallbackUnsupported.increment();
+            return fromDatabase(predicate, offset, limit, orderBy);
+        }
+        inMemory.increment();
+        return rows;
+    }
+
+    private List<IdolWithGroup> fromDatabase(Predicate predicate, long offset, int limit,
+                                             OrderSpecifier<?>... orderBy) {
+        // 메모리에서 답하는 조회는 제한하지 않고 DB로 가는 경우만 검색 bulkhead 안에서 실행
+        return bulkheads.execute(QueryClass.SEARCH, () -> readOnlyTx.execute(status ->
+                idolRepository.findRowPageDeferred(predicate, offset, limit, orderBy)));
+    }
+
+    // 진행 중인 쓰기를 먼저 확인 -> 쓰기가 끝나면 번호를 올린 뒤 진행 중 수를 줄이므로 둘 다 지나면 번호가 최신
+    private Snapshot freshSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || !current.complete() || writesInFlight.get() > 0) {
+            return null;
+        }
+        if (current.writeEpoch() != writeEpoch.get()
+                || System.nanoTime() - current.syncedAt() > maxStalenessNanos) {
+            return null;
+        }
+        return current;
+    }
+
+    // IdolSnapshotListener: 아이돌/그룹을 쓰는 트랜잭션의 시작과 끝 (커밋/롤백)
+    public void writeStarted() {
+        writesInFlight.incrementAndGet();
+    }
+
+    public void writeFinished() {
+        writeEpoch.incrementAndGet();
+        writesInFlight.decrementAndGet();
+        // 다음 주기를 기다리지 않고 바로 반영해서 스냅샷을 다시 쓸 수 있게 함 (refresh-interval=0s 이면 직접 refresh 할 때만)
+        ScheduledExecutorService executor = refresher;
+        if (executor != null && !executor.isShutdown() && !refreshInterval.isZero()) {
+            executor.execute(this::refreshQuietly);
+        }
+    }
+
+    // 마지막으로 읽은 변경 순번 이후를 반영
+    public synchronized void refresh() {
+        if (compiler == null) {
+            return;
+        }
+        long epoch = writeEpoch.get();
+        long syncedAt = System.nanoTime();
+        boolean changed = drainGroups() | drainIdols();
+        Snapshot previous = snapshot;
+        boolean complete = previous != null && previous.complete();
+        if (!changed && previous != null) {
+            snapshot = new Snapshot(previous.rows(), epoch, syncedAt, complete, previous.compiler());
+            return;
+        }
+        List<IdolWithGroup> rows = materialize();
+        snapshot = new Snapshot(rows, epoch, syncedAt, complete, compilerFor(rows));
+    }
+
+    // 변경 피드를 처음부터 다시 읽음 + DB 행 수와 맞는지 확인
+    public synchronized void reload() {
+        idols.clear();
+        groupNames.clear();
+        idolNameKeys.clear();
+        groupNameKeys.clear();
+        idolSeq = 0;
+        groupSeq = 0;
+        snapshot = null;
+        refresh();
+        if (snapshot == null) {
+            return;
+        }
+        Long count = readOnlyTx.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_idol", Long.class));
+        boolean complete = count != null && count == idols.size();
+        snapshot = snapshot.withComplete(complete);
+        if (!complete) {
+            log.warn("아이돌 스냅샷 {}건이 DB {}건과 달라서 사용하지 않습니다. (change_seq 가 없는 행은 change_feed.sql 로 채워야 함)",
+                    idols.size(), count);
+        } else {
+            log.info("아이돌 스냅샷 준비 완료 ({}건, 이름 조건 {})", idols.size(), binaryStrings ? "메모리" : "DB");
+        }
+    }
+
+    public SnapshotQueryStats stats() {
+        Snapshot current = snapshot;
+        return new SnapshotQueryStats(
+                current != null && current.complete(),
+                current == null ? 0 : current.rows().size(),
+                current == null ? 0 : (System.nanoTime() - current.syncedAt()) / 1_000_000.0,
+                binaryStrings,
+                inMemory.sum(),
+                fallbackStale.sum(),
+                fallbackUnsupported.sum(),
+                fallbackInTransaction.sum());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 갱신이 계속 실패하면 max-staleness 가 지난 뒤부터 DB로 조회
+            log.warn("아이돌 스냅샷 갱신 실패", e);
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("아이돌 스냅샷 다시 읽기 실패", e);
+        }
+    }
+
+    private boolean drainGroups() {
+        boolean changed = false;
+        ChangeFeedPage<GroupChange> page;
+        do {
+            page = changeFeedService.groupChanges(groupSeq, FEED_PAGE_SIZE);
+            for (GroupChange change : page.changed()) {
+                groupNames.put(change.id(), change.groupName());
+            }
+            page.deleted().forEach(groupNames::remove);
+            changed |= !page.changed().isEmpty() || !page.deleted().isEmpty();
+            groupSeq = page.nextSeq();
+        } while (page.hasMore());
+        return changed;
+    }
+
+    private boolean drainIdols() {
+        boolean changed = false;
+        ChangeFeedPage<IdolChange> page;
+        do {
+            page = changeFeedService.idolChanges(idolSeq, FEED_PAGE_SIZE);
+            for (IdolChange change : page.changed()) {
+                idols.put(change.id(), change);
+            }
+            page.deleted().forEach(idols::remove);
+            changed |= !page.changed().isEmpty() || !page.deleted().isEmpty();
+            idolSeq = page.nextSeq();
+        } while (page.hasMore());
+        return changed;
+    }
+
+    private List<IdolWithGroup> materialize() {
+        List<IdolWithGroup> rows = new ArrayList<>(idols.size());
+        for (IdolChange change : idols.values()) {
+            Long groupId = change.groupId();
+            rows.add(new IdolWithGroup(change.id(), change.idolName(), change.age(), change.gender(),
+                    groupId, groupId == null ? null : groupNames.get(groupId)));
+        }
+        rows.sort(Comparator.comparing(IdolWithGroup::id));
+        return List.copyOf(rows);
+    }
+
+    // 바이너리가 아닌 collation 이면 스냅샷 행의 이름마다 DB 정렬 가중치를 붙인 compiler
+    // 가중치를 못 구한 이름이 있으면(읽는 사이 이름이 바뀜) 이름 정렬은 DB로 -> 바뀐 이름이 다음 갱신에 들어오면서 다시 구함
+    private ExpressionCompiler<IdolWithGroup> compilerFor(List<IdolWithGroup> rows) {
+        if (binaryStrings) {
+            return compiler;
+        }
+        Map<String, byte[]> idolKeys = sortKeys(idolNameKeys, rows, IdolWithGroup::idolName, idol, idol.idolName);
+        Map<String, byte[]> groupKeys = sortKeys(groupNameKeys, rows, IdolWithGroup::groupName, group, group.groupName);
+        if (idolKeys == null || groupKeys == null) {
+            return compiler;
+        }
+        return new ExpressionCompiler<>(BINDINGS.copy()
+                .sortKey(idol.idolName, row -> row.idolName() == null ? null : idolKeys.get(row.idolName()))
+                .sortKey(group.groupName, row -> row.groupName() == null ? null : groupKeys.get(row.groupName())),
+                false);
+    }
+
+    // 처음 보는 이름만 DB에서 가중치를 읽고, 지금 행에서 쓰는 이름만 남김 (하나라도 없으면 null)
+    private Map<String, byte[]> sortKeys(Map<String, byte[]> cache, List<IdolWithGroup> rows,
+                                         Function<IdolWithGroup, String> name,
+                                         EntityPathBase<?> entity, StringPath column) {
+        List<String> missing = rows.stream()
+                .map(name)
+                .filter(value -> value != null && !cache.containsKey(value))
+                .distinct()
+                .toList();
+        for (int from = 0; from < missing.size(); from += FEED_PAGE_SIZE) {
+            List<String> batch = missing.subList(from, Math.min(from + FEED_PAGE_SIZE, missing.size()));
+            SimpleExpression<byte[]> key = collationKey(column);
+            List<Tuple> found = readOnlyTx.execute(status -> factory.select(column, key)
+                    .distinct()
+                    .from(entity)
+                    .where(column.in(batch))
+                    .fetch());
+            found.forEach(tuple -> cache.put(tuple.get(column), tuple.get(key)));
+        }
+        Map<String, byte[]> used = new HashMap<>();
+        for (IdolWithGroup row : rows) {
+            String value = name.apply(row);
+            if (value == null || used.containsKey(value)) {
+                continue;
+            }
+            byte[] key = cache.get(value);
+            if (key == null) {
+                return null;
+            }
+            used.put(value, key);
+        }
+        cache.keySet().retainAll(used.keySet());
+        return used;
+    }
+
+    // idol_name / group_name 비교가 바이트(코드 포인트) 비교이고 끝 공백도 구분하는지
+    // (H2 기본값 OFF, MySQL 은 utf8mb4_0900_bin 만 해당. utf8mb4_bin 은 PAD SPACE 라서 제외)
+    private boolean probeBinaryStrings() {
+        try {
+            List<String> collations = jdbcTemplate.queryForList(
+                    "SELECT COLLATION_NAME FROM INFORMATION_SCHEMA.COLUMNS"
+                            + " WHERE LOWER(TABLE_NAME) IN ('tbl_idol', 'tbl_group')"
+                            + " AND LOWER(COLUMN_NAME) IN ('idol_name', 'group_name')",
+                    String.class);
+            return !collations.isEmpty() && collations.stream().allMatch(collation -> collation != null
+                    && List.of("off", "utf8mb4_0900_bin", "binary").contains(collation.toLowerCase(Locale.ROOT)));
+        } catch (DataAccessException e) {
+            log.warn("문자열 collation 확인 실패, 문자열 조건은 DB로 조회합니다.", e);
+            return false;
+        }
+    }
+}
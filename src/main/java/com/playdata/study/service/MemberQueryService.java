@@ -0,0 +1,113 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.MemberSearchCondition;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.JsonStreamWriter;
+import com.playdata.study.support.StreamFormat;
+import com.playdata.study.support.bloom.MemberNameFilter;
+import com.playdata.study.support.bloom.NameFilterStats;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QMember.member;
+import static com.playdata.study.entity.QTeam.team;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberQueryService {
+
+    public static final FieldSelection FIELDS = new FieldSelection()
+            .add("id", member.id)
+            .add("userName", member.userName)
+            .add("age", member.age)
+            .add("teamId", team.id)
+            .add("teamName", team.name);
+
+    private final JPAQueryFactory factory;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final MemberNameFilter memberNameFilter;
+    private final CachedLookupService cachedLookupService;
+
+    @Value("${query.stream-fetch-size}")
+    private int fetchSize;
+
+    public long streamMembers(MemberSearchCondition condition, List<FieldSelection.SelectedField> fields,
+                              StreamFormat format, OutputStream out) throws IOException {
+        // 이름 조건이 있고 필터에 없는 이름이면 쿼리 없이 빈 배열
+        if (!memberNameFilter.mightExist(condition.getUserName())) {
+            return jsonStreamWriter.writeArray(out, format, Stream.empty(), fields);
+        }
+        JPAQuery<Tuple> query = factory.select(FieldSelection.expressions(fields))
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(
+                        userNameEq(condition.getUserName()),
+                        ageGoe(condition.getMinAge()),
+                        ageLoe(condition.getMaxAge()),
+                        teamNameEq(condition.getTeamName())
+                )
+                .orderBy(member.id.asc());
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        return jsonStreamWriter.writeArray(out, format, query.stream(), fields);
+    }
+
+    // 이름만으로 찾는 검색은 회원 캐시에서 응답 (캐시 적중 시 커넥션도 쓰지 않도록 트랜잭션을 열지 않음)
+    // 캐시 값은 전체 필드를 가진 요약이라 요청한 필드만 골라서 같은 형식으로 씀
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long streamMembersByName(String userName, List<FieldSelection.SelectedField> fields,
+                                    StreamFormat format, OutputStream out) throws IOException {
+        QTuple row = Projections.tuple(FieldSelection.expressions(fields));
+        Stream<Tuple> rows = cachedLookupService.findMembersByName(userName).stream()
+                .map(summary -> row.newInstance(fields.stream().map(field -> valueOf(summary, field.name())).toArray()));
+        return jsonStreamWriter.writeArray(out, format, rows, fields);
+    }
+
+    public NameFilterStats nameFilterStats() {
+        return memberNameFilter.stats();
+    }
+
+    private static Object valueOf(MemberSummary summary, String field) {
+        return switch (field) {
+            case "id" -> summary.id();
+            case "userName" -> summary.userName();
+            case "age" -> summary.age();
+            case "teamId" -> summary.teamId();
+            case "teamName" -> summary.teamName();
+            default -> throw new IllegalArgumentException("지원하지 않는 필드입니다: " + field);
+        };
+    }
+
+    private BooleanExpression userNameEq(String userName) {
+        return userName == null ? null : member.userName.eq(userName);
+    }
+
+    private BooleanExpression ageGoe(Integer minAge) {
+        return minAge == null ? null : member.age.goe(minAge);
+    }
+
+    private BooleanExpression ageLoe(Integer maxAge) {
+        return maxAge == null ? null : member.age.loe(maxAge);
+    }
+
+    private BooleanExpression teamNameEq(String teamName) {
+        return teamName == null ? null : team.name.eq(teamName);
+    }
+}
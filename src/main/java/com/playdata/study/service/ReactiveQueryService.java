@@ -0,0 +1,147 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumSearchCondition;
+import com.playdata.study.dto.GroupSearchCondition;
+import com.playdata.study.dto.IdolSearchCondition;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.support.FieldSelection;
+import com.playdata.study.support.ReactiveQueryFactory;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.playdata.study.repository.reactive.SAlbum.album;
+import static com.playdata.study.repository.reactive.SGroup.group;
+import static com.playdata.study.repository.reactive.SIdol.idol;
+
+// 아이돌/그룹/앨범 읽기 전용 조회를 R2DBC로 실행하는 서비스
+// IdolQueryService 등과 같은 조건/필드를 지원하지만 스레드를 잡고 있지 않고 Flux 로 결과를 흘려보냅니다.
+// (JPA 영속성 컨텍스트를 거치지 않으므로 트랜잭션 없이 각 쿼리가 단독으로 실행됨)
+@Service
+@RequiredArgsConstructor
+public class ReactiveQueryService {
+
+    // 응답 필드명 -> 컬럼 (JPA 조회 API와 같은 필드명)
+    public static final FieldSelection IDOL_FIELDS = new FieldSelection()
+            .add("id", idol.id)
+            .add("idolName", idol.idolName)
+            .add("age", idol.age)
+            .add("gender", genderLabel())
+            .add("groupId", group.id)
+            .add("groupName", group.groupName);
+
+    public static final FieldSelection GROUP_FIELDS = new FieldSelection()
+            .add("id", group.id)
+            .add("groupName", group.groupName);
+
+    public static final FieldSelection ALBUM_FIELDS = new FieldSelection()
+            .add("id", album.id)
+            .add("albumName", album.albumName)
+            .add("releaseYear", album.releaseYear)
+            .add("groupId", group.id)
+            .add("groupName", group.groupName);
+
+    private final ReactiveQueryFactory factory;
+
+    public Flux<Map<String, Object>> findIdols(IdolSearchCondition condition,
+                                               List<FieldSelection.SelectedField> fields) {
+        return factory.fetch(
+                factory.select(FieldSelection.expressions(fields))
+                        .from(idol)
+                        .leftJoin(group).on(idol.groupId.eq(group.id))
+                        .where(
+                                idolNameContains(condition.getIdolName()),
+                                ageGoe(condition.getMinAge()),
+                                ageLoe(condition.getMaxAge()),
+                                genderEq(condition.getGender()),
+                                groupNameEq(condition.getGroupName())
+                        )
+                        .orderBy(idol.id.asc())
+        ).map(tuple -> toMap(tuple, fields));
+    }
+
+    public Flux<Map<String, Object>> findGroups(GroupSearchCondition condition,
+                                                List<FieldSelection.SelectedField> fields) {
+        return factory.fetch(
+                factory.select(FieldSelection.expressions(fields))
+                        .from(group)
+                        .where(groupNameContains(condition.getGroupName()))
+                        .orderBy(group.id.asc())
+        ).map(tuple -> toMap(tuple, fields));
+    }
+
+    public Flux<Map<String, Object>> findAlbums(AlbumSearchCondition condition,
+                                                List<FieldSelection.SelectedField> fields) {
+        return factory.fetch(
+                factory.select(FieldSelection.expressions(fields))
+                        .from(album)
+                        .leftJoin(group).on(album.groupId.eq(group.id))
+                        .where(
+                                albumNameContains(condition.getAlbumName()),
+                                releaseYearEq(condition.getReleaseYear()),
+                                groupNameEq(condition.getGroupName())
+                        )
+                        .orderBy(album.id.asc())
+        ).map(tuple -> toMap(tuple, fields));
+    }
+
+    // TINYINT 코드 -> JPA 조회 API 응답과 같은 "여"/"남"
+    // 값을 바인딩 파라미터로 넘기면 CASE 결과 타입을 DB가 추론하지 못할 수 있어서 리터럴로 작성
+    private static StringExpression genderLabel() {
+        StringBuilder template = new StringBuilder("case {0}");
+        for (Gender gender : Gender.values()) {
+            template.append(" when ").append(gender.getCode()).append(" then '").append(gender.getLabel()).append("'");
+        }
+        return Expressions.stringTemplate(template.append(" end").toString(), idol.gender);
+    }
+
+    // 요청한 필드 순서를 유지 (값이 null 이어도 키는 포함)
+    private Map<String, Object> toMap(Tuple tuple, List<FieldSelection.SelectedField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            row.put(fields.get(i).name(), tuple.get(i, Object.class));
+        }
+        return row;
+    }
+
+    // 조건 값이 없으면 null을 리턴 -> where 절에서 무시됨
+    private BooleanExpression idolNameContains(String idolName) {
+        return idolName == null ? null : idol.idolName.contains(idolName);
+    }
+
+    private BooleanExpression ageGoe(Integer minAge) {
+        return minAge == null ? null : idol.age.goe(minAge);
+    }
+
+    private BooleanExpression ageLoe(Integer maxAge) {
+        return maxAge == null ? null : idol.age.loe(maxAge);
+    }
+
+    private BooleanExpression genderEq(Gender gender) {
+        return gender == null ? null : idol.gender.eq(gender.getCode());
+    }
+
+    private BooleanExpression groupNameEq(String groupName) {
+        return groupName == null ? null : group.groupName.eq(groupName);
+    }
+
+    private BooleanExpression groupNameContains(String groupName) {
+        return groupName == null ? null : group.groupName.contains(groupName);
+    }
+
+    private BooleanExpression albumNameContains(String albumName) {
+        return albumName == null ? null : album.albumName.contains(albumName);
+    }
+
+    private BooleanExpression releaseYearEq(Integer releaseYear) {
+        return releaseYear == null ? null : album.releaseYear.eq(releaseYear);
+    }
+}
@@ -0,0 +1,277 @@
+package com.playdata.study.service;
+
+import com.playdata.study.config.ShardingProperties;
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Album;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.AlbumRepository;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.sharding.PartialAggregate;
+import com.playdata.study.support.sharding.ShardIdRanges;
+import com.playdata.study.support.sharding.ShardMerge;
+import com.playdata.study.support.sharding.ShardTemplate;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static com.playdata.study.entity.QAlbum.album;
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.support.CollationKeyFunctionContributor.collationKey;
+
+// 샤딩된 tbl_idol / tbl_album 읽기/쓰기
+// - 그룹 단위 작업은 group_id 로 정해진 샤드 하나에서만 실행
+// - 전체 대상 조회는 모든 샤드에 병렬로 실행한 뒤 병합 (정렬: k-way 병합, 집계: COUNT/SUM 합산 후 계산)
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardedIdolService {
+
+    // sortingTest 와 같은 정렬 + 샤드가 달라도 순서가 정해지도록 id (샤드별 id 범위가 달라서 샤드 간에도 겹치지 않음)
+    // 이름은 자바 문자열 순서가 아니라 DB collation 가중치(collation_key)로 비교해야 샤드 안의 ORDER BY 와 순서가 같음
+    private static final Comparator<SortRow> AGE_DESC_NAME_ASC = Comparator
+            .comparingInt(SortRow::age).reversed()
+            .thenComparing(SortRow::nameKey, Comparator.nullsFirst(Arrays::compareUnsigned))
+            .thenComparing(SortRow::id);
+
+    // 병합에 필요한 컬럼만 읽은 행 (엔터티는 최종 페이지의 id로만 다시 읽음)
+    private record SortRow(Long id, int age, String idolName, byte[] nameKey) {
+    }
+
+    private final ShardTemplate shardTemplate;
+    private final JPAQueryFactory factory;
+    private final GroupRepository groupRepository;
+    private final IdolRepository idolRepository;
+    private final AlbumRepository albumRepository;
+    private final ShardingProperties properties;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // 그룹은 0번 샤드에서 id를 발급받고, 같은 id로 나머지 샤드에도 복제
+    // (모든 샤드에서 아이돌/앨범의 FK와 그룹명 조인이 샤드 안에서 끝나도록)
+    // 샤드 간 트랜잭션은 아니므로 중간에 실패하면 일부 샤드에만 그룹이 남을 수 있음
+    // -> 복제는 upsert 라서 같은 그룹으로 다시 실행(renameGroup 포함)하면 빠진 샤드가 채워짐
+    public Long saveGroup(String groupName) {
+        Long groupId = shardTemplate.execute(0, false,
+                () -> groupRepository.save(new Group(groupName)).getId());
+        replicateGroup(groupId, groupName);
+        return groupId;
+    }
+
+    // 0번 샤드(원본)는 엔터티로 수정해서 변경 순번/캐시 무효화 리스너를 거치고, 나머지 샤드는 복제본을 덮어씀
+    public void renameGroup(Long groupId, String groupName) {
+        shardTemplate.execute(0, false, () -> {
+            groupRepository.findById(groupId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다: " + groupId))
+                    .setGroupName(groupName);
+            return null;
+        });
+        replicateGroup(groupId, groupName);
+    }
+
+    // 아이돌/앨범이 있는 샤드에서는 엔터티로 삭제(소속 아이돌/앨범도 같이 삭제)하고, 나머지 샤드의 복제본을 지움
+    // 이미 지워진 샤드는 건너뛰므로 실패 후 다시 실행해도 됨
+    public void deleteGroup(Long groupId) {
+        int home = shardTemplate.shardOf(groupId);
+        shardTemplate.execute(home, false, () -> {
+            groupRepository.findById(groupId).ifPresent(groupRepository::delete);
+            return null;
+        });
+        for (int shard = 0; shard < shardTemplate.shardCount(); shard++) {
+            if (shard != home) {
+                shardTemplate.execute(shard, false, () -> em.createNativeQuery(
+                                "DELETE FROM tbl_group WHERE group_id = ?")
+                        .setParameter(1, groupId)
+                        .executeUpdate());
+            }
+        }
+    }
+
+    private void replicateGroup(Long groupId, String groupName) {
+        for (int shard = 1; shard < shardTemplate.shardCount(); shard++) {
+            shardTemplate.execute(shard, false, () -> em.createNativeQuery(
+                            "INSERT INTO tbl_group (group_id, group_name) VALUES (?, ?)"
+                                    + " ON DUPLICATE KEY UPDATE group_name = VALUES(group_name)")
+                    .setParameter(1, groupId)
+                    .setParameter(2, groupName)
+                    .executeUpdate());
+        }
+    }
+
+    public Long saveIdol(String idolName, int age, Gender gender, Long groupId) {
+        return shardTemplate.executeOnGroup(groupId, false, () -> {
+            Idol newIdol = new Idol(idolName, age, null, gender);
+            if (groupId != null) {
+                // 프록시만 연결 -> 그룹의 아이돌 목록을 읽어오지 않음
+                newIdol.setGroup(groupRepository.getReferenceById(groupId));
+            }
+            return idolRepository.save(newIdol).getId();
+        });
+    }
+
+    public Long saveAlbum(String albumName, int releaseYear, Long groupId) {
+        return shardTemplate.executeOnGroup(groupId, false, () -> albumRepository.save(
+                new Album(albumName, releaseYear, groupRepository.getReferenceById(groupId))).getId());
+    }
+
+    public List<Idol> findIdolsByGroup(Long groupId) {
+        return shardTemplate.executeOnGroup(groupId, true, () -> factory.selectFrom(idol)
+                .where(idol.group.id.eq(groupId))
+                .orderBy(idol.id.asc())
+                .fetch());
+    }
+
+    public List<Album> findAlbumsByGroup(Long groupId) {
+        return shardTemplate.executeOnGroup(groupId, true, () -> factory.selectFrom(album)
+                .where(album.group.id.eq(groupId))
+                .orderBy(album.releaseYear.asc(), album.id.asc())
+                .fetch());
+    }
+
+    // 나이 내림차순, 이름 오름차순 전체 정렬 + 페이징
+    // 어느 샤드에서 몇 개가 나올지 모르므로 샤드마다 정렬 키만 merge-fetch-size 개씩 읽어서 병합하고,
+    // 모자라는 샤드만 마지막 행 다음부터(keyset) 이어서 읽음 -> offset 이 커도 샤드마다 한 번에 읽는 양은 일정
+    public List<Idol> findIdolsOrderByAge(long offset, long limit) {
+        int fetchSize = (int) Math.max(1, Math.min(offset + limit, properties.getMergeFetchSize()));
+        List<List<SortRow>> firstPages = shardTemplate.scatter(shard -> fetchSortRows(null, fetchSize));
+
+        List<ShardCursor> cursors = new ArrayList<>(firstPages.size());
+        for (int shard = 0; shard < firstPages.size(); shard++) {
+            cursors.add(new ShardCursor(shard, fetchSize, firstPages.get(shard)));
+        }
+        List<Long> ids = ShardMerge.mergeSorted(cursors, AGE_DESC_NAME_ASC)
+                .skip(offset)
+                .limit(limit)
+                .map(SortRow::id)
+                .toList();
+        return loadInOrder(ids);
+    }
+
+    private List<SortRow> fetchSortRows(SortRow after, int fetchSize) {
+        return factory.select(idol.id, idol.age, idol.idolName, collationKey(idol.idolName))
+                .from(idol)
+                .where(after == null ? null : after(after))
+                .orderBy(idol.age.desc(), idol.idolName.asc(), idol.id.asc())
+                .limit(fetchSize)
+                .fetch().stream()
+                .map(tuple -> new SortRow(tuple.get(idol.id), tuple.get(idol.age), tuple.get(idol.idolName),
+                        tuple.get(3, byte[].class)))
+                .toList();
+    }
+
+    // (age desc, idol_name asc, id asc) 순서에서 row 다음 행들
+    // 이름 비교도 DB 에서 하므로 collation 이 같고, NULL 이름은 ORDER BY 에서처럼 가장 앞
+    private BooleanExpression after(SortRow row) {
+        BooleanExpression sameName = row.idolName() == null ? idol.idolName.isNull() : idol.idolName.eq(row.idolName());
+        BooleanExpression laterName = row.idolName() == null ? idol.idolName.isNotNull() : idol.idolName.gt(row.idolName());
+        return idol.age.lt(row.age())
+                .or(idol.age.eq(row.age()).and(laterName.or(sameName.and(idol.id.gt(row.id())))));
+    }
+
+    // id 상위 비트가 샤드 번호이므로 샤드마다 IN 조회 한 번
+    private List<Idol> loadInOrder(List<Long> ids) {
+        Map<Integer, List<Long>> byShard = ids.stream()
+                .collect(Collectors.groupingBy(ShardIdRanges::shardOfId, TreeMap::new, Collectors.toList()));
+        Map<Long, Idol> loaded = new HashMap<>();
+        byShard.forEach((shard, part) -> shardTemplate.execute(shard, true,
+                () -> factory.selectFrom(idol).where(idol.id.in(part)).fetch())
+                .forEach(found -> loaded.put(found.getId(), found)));
+        return ids.stream().map(loaded::get).filter(Objects::nonNull).toList();
+    }
+
+    // 한 샤드의 정렬된 결과를 fetchSize 개씩 이어서 읽는 커서 (병합하면서 필요할 때만 다음 묶음을 읽음)
+    private final class ShardCursor implements Iterable<SortRow>, Iterator<SortRow> {
+
+        private final int shard;
+        private final int fetchSize;
+        private Iterator<SortRow> buffer;
+        private SortRow last;
+        private boolean exhausted;
+
+        ShardCursor(int shard, int fetchSize, List<SortRow> firstPage) {
+            this.shard = shard;
+            this.fetchSize = fetchSize;
+            accept(firstPage);
+        }
+
+        private void accept(List<SortRow> page) {
+            buffer = page.iterator();
+            exhausted = page.size() < fetchSize;
+            if (!page.isEmpty()) {
+                last = page.get(page.size() - 1);
+            }
+        }
+
+        @Override
+        public Iterator<SortRow> iterator() {
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!buffer.hasNext() && !exhausted) {
+                accept(shardTemplate.execute(shard, true, () -> fetchSortRows(last, fetchSize)));
+            }
+            return buffer.hasNext();
+        }
+
+        @Override
+        public SortRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer.next();
+        }
+    }
+
+    // 성별별 인원수(COUNT)와 평균 나이(SUM / COUNT)
+    public Map<Gender, PartialAggregate> statsByGender() {
+        List<Map<Gender, PartialAggregate>> partials = shardTemplate.scatter(shard -> {
+            Map<Gender, PartialAggregate> result = new LinkedHashMap<>();
+            for (Tuple tuple : factory.select(idol.gender, idol.count(), idol.age.sum())
+                    .from(idol)
+                    .groupBy(idol.gender)
+                    .fetch()) {
+                // SUM 결과 타입은 DB/Hibernate 마다 달라서(Integer/Long) Number로 받음
+                Number sum = tuple.get(2, Number.class);
+                result.put(tuple.get(idol.gender),
+                        new PartialAggregate(tuple.get(idol.count()), sum == null ? 0 : sum.doubleValue()));
+            }
+            return result;
+        });
+        return ShardMerge.combineGrouped(partials, PartialAggregate::combine);
+    }
+
+    // 그룹의 아이돌은 모두 같은 샤드에 있으므로 그룹별 집계는 샤드 안에서 이미 완성된 값
+    // -> 합치기만 하면 됨 (having 조건도 샤드에서 바로 적용 가능, 그룹명은 샤드마다 복제되어 있음)
+    public List<GroupAverageResponse> groupAverageAges(double minAverage, double maxAverage) {
+        List<List<GroupAverageResponse>> partials = shardTemplate.scatter(shard ->
+                idolRepository.findGroupAverageAges(null, minAverage, maxAverage));
+
+        return partials.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(GroupAverageResponse::getGroupName))
+                .toList();
+    }
+}
@@ -0,0 +1,141 @@
+package com.playdata.study.service;
+
+import com.playdata.study.config.WarmUpProperties;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.support.warmup.WarmUpReport;
+import com.playdata.study.support.warmup.WarmUpRunner;
+import com.playdata.study.support.warmup.WarmUpTask;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.entity.QMember.member;
+
+// 준비 완료(readiness) 전에 자주 쓰는 조회를 병렬로 미리 실행해서 캐시/쿼리 플랜/DB 버퍼를 채움
+// ApplicationReadyEvent 리스너가 모두 끝나야 스프링이 ReadinessState.ACCEPTING_TRAFFIC 을 발행하므로
+// 여기서 기다리는 동안에는 readiness 가 REFUSING_TRAFFIC 으로 남아 트래픽이 들어오지 않음 (최대 warm-up.budget)
+// 각 작업은 API 가 실제로 거치는 메서드를 그대로 호출
+// - group-rosters: 아이돌 수 상위 top-groups 개 그룹의 명단 캐시 (GET /api/groups/{id}/roster)
+// - team-rosters: 회원 수 상위 top-teams 개 팀의 명단 캐시 (GET /api/teams/{id}/roster)
+// - group-averages: 그룹별 평균 나이 집계 (GET /api/groups/average-ages 의 조건 없는 조회)
+// - member-names: 가장 많은 이름 상위 top-member-names 개의 이름으로
+//   회원 찾기 캐시(GET /api/members?userName=) + MemberRepository.findByName 의 엔터티 조회
+//   (요청 빈도는 노드마다 모르므로 같은 이름의 회원이 많은 = 캐시 효과가 큰 이름부터)
+@Slf4j
+@Service
+public class WarmUpService {
+
+    private final WarmUpProperties properties;
+    private final WarmUpRunner runner;
+    private final JPAQueryFactory factory;
+    private final TransactionTemplate readOnlyTx;
+    private final CachedLookupService cachedLookupService;
+    private final IdolRepository idolRepository;
+    private final MemberRepository memberRepository;
+
+    private volatile WarmUpReport report;
+
+    public WarmUpService(WarmUpProperties properties, WarmUpRunner runner, JPAQueryFactory factory,
+                         PlatformTransactionManager transactionManager, CachedLookupService cachedLookupService,
+                         IdolRepository idolRepository, MemberRepository memberRepository) {
+        this.properties = properties;
+        this.runner = runner;
+        this.factory = factory;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.cachedLookupService = cachedLookupService;
+        this.idolRepository = idolRepository;
+        this.memberRepository = memberRepository;
+    }
+
+    // 스냅샷/이름 필터 등 다른 시작 작업이 끝난 뒤에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled() || properties.getQueries().isEmpty()) {
+            return;
+        }
+        WarmUpReport result = runner.run(tasks());
+        report = result;
+        log.info("워밍업 {} ({}ms / budget {}ms, 스레드 {})", result.completed() ? "완료" : "시간 초과",
+                result.elapsedMillis(), result.budgetMillis(), result.parallelism());
+        for (WarmUpReport.TaskTiming task : result.tasks()) {
+            log.info("  {}: 목록 {}ms, 조회 {}개 (성공 {}, 실패 {}, 건너뜀 {}), 평균 {}ms, 최대 {}ms",
+                    task.name(), task.planMillis(), task.queries(), task.succeeded(), task.failed(),
+                    task.skipped(), String.format("%.1f", task.avgMillis()), task.maxMillis());
+        }
+    }
+
+    public Optional<WarmUpReport> report() {
+        return Optional.ofNullable(report);
+    }
+
+    private List<WarmUpTask> tasks() {
+        List<WarmUpTask> tasks = new ArrayList<>();
+        if (properties.getQueries().contains(WarmUpProperties.Query.GROUP_ROSTERS)) {
+            tasks.add(new WarmUpTask("group-rosters", () -> topGroupIds().stream()
+                    .<Runnable>map(groupId -> () -> cachedLookupService.findGroupRoster(groupId))
+                    .toList()));
+        }
+        if (properties.getQueries().contains(WarmUpProperties.Query.TEAM_ROSTERS)) {
+            tasks.add(new WarmUpTask("team-rosters", () -> topTeamIds().stream()
+                    .<Runnable>map(teamId -> () -> cachedLookupService.findTeamRoster(teamId))
+                    .toList()));
+        }
+        if (properties.getQueries().contains(WarmUpProperties.Query.GROUP_AVERAGES)) {
+            tasks.add(WarmUpTask.single("group-averages",
+                    () -> readOnlyTx.execute(status -> idolRepository.findGroupAverageAges(null, null, null))));
+        }
+        if (properties.getQueries().contains(WarmUpProperties.Query.MEMBER_NAMES)) {
+            tasks.add(new WarmUpTask("member-names", () -> topMemberNames().stream()
+                    .<Runnable>map(name -> () -> {
+                        cachedLookupService.findMembersByName(name);
+                        readOnlyTx.execute(status -> memberRepository.findByName(name));
+                    })
+                    .toList()));
+        }
+        return tasks;
+    }
+
+    private List<Long> topGroupIds() {
+        return readOnlyTx.execute(status -> factory.select(idol.group.id)
+                .from(idol)
+                .where(idol.group.id.isNotNull())
+                .groupBy(idol.group.id)
+                .orderBy(idol.count().desc(), idol.group.id.asc())
+                .limit(properties.getTopGroups())
+                .fetch());
+    }
+
+    private List<Long> topTeamIds() {
+        return readOnlyTx.execute(status -> factory.select(member.team.id)
+                .from(member)
+                .where(member.team.id.isNotNull())
+                .groupBy(member.team.id)
+                .orderBy(member.count().desc(), member.team.id.asc())
+                .limit(properties.getTopTeams())
+                .fetch());
+    }
+
+    private List<String> topMemberNames() {
+        return readOnlyTx.execute(status -> factory.select(member.userName)
+                .from(member)
+                .where(member.userName.isNotNull())
+                .groupBy(member.userName)
+                .orderBy(member.count().desc(), member.userName.asc())
+                .limit(properties.getTopMemberNames())
+                .fetch());
+    }
+}
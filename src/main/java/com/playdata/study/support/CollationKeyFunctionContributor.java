@@ -0,0 +1,34 @@
+package com.playdata.study.support;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+// collation_key(문자열): 컬럼 collation 의 정렬 가중치를 바이트로 돌려주는 HQL 함수
+// 두 값의 바이트를 부호 없는 사전순으로 비교하면 DB 가 문자열을 비교한 결과와 같음 (같은 키 = DB 에서 같은 문자열)
+// -> 대소문자/악센트를 무시하는 collation 이어도 애플리케이션에서 DB 와 같은 순서로 정렬/병합할 수 있음
+// MySQL: WEIGHT_STRING (PAD SPACE collation 은 끝 공백이 빠진 가중치)
+// 그 밖의 DB(테스트용 H2, collation 없음): UTF-8 바이트 = 코드 포인트 순서
+//   (H2 는 UTF-16 단위로 비교하므로 보조 평면 문자와 U+E000~U+FFFF 사이 순서만 다를 수 있음)
+public class CollationKeyFunctionContributor implements FunctionContributor {
+
+    public static final String NAME = "collation_key";
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        String pattern = contributions.getDialect() instanceof MySQLDialect
+                ? "weight_string(?1)"
+                : "cast(?1 as varbinary)";
+        contributions.getFunctionRegistry().registerPattern(NAME, pattern,
+                contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BINARY));
+    }
+
+    // QueryDSL 에서 select 할 때 사용 (비교는 Arrays.compareUnsigned)
+    public static SimpleExpression<byte[]> collationKey(StringExpression expression) {
+        return Expressions.simpleTemplate(byte[].class, NAME + "({0})", expression);
+    }
+}
@@ -0,0 +1,168 @@
+package com.playdata.study.support;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.NonUniqueResultException;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// 현재 요청의 QueryDeadline을 적용하는 JPAQuery
+// 시간 초과로 실패한 쿼리는 JPA/Hibernate 예외 대신 QueryDeadlineExceededException으로 바꿔서 던짐
+// stream()/iterate() 는 결과를 읽는 도중(next, tryAdvance)에 난 시간 초과도 같은 예외로 바꿈
+public class DeadlineJPAQuery<T> extends JPAQuery<T> {
+
+    public DeadlineJPAQuery(EntityManager em, JPQLTemplates templates) {
+        super(em, templates);
+    }
+
+    public DeadlineJPAQuery(EntityManager em, JPQLTemplates templates, QueryMetadata metadata) {
+        super(em, templates, metadata);
+    }
+
+    @Override
+    protected Query createQuery(QueryModifiers modifiers, boolean forCount) {
+        Query query = super.createQuery(modifiers, forCount);
+        QueryDeadline.current().ifPresent(deadline -> deadline.apply(query));
+        return query;
+    }
+
+    @Override
+    public List<T> fetch() {
+        try {
+            return super.fetch();
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public T fetchOne() throws NonUniqueResultException {
+        try {
+            return super.fetchOne();
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public Stream<T> stream() {
+        QueryDeadline deadline = QueryDeadline.current().orElse(null);
+        try {
+            return translating(super.stream(), deadline);
+        } catch (RuntimeException e) {
+            throw translate(e, deadline);
+        }
+    }
+
+    @Override
+    public CloseableIterator<T> iterate() {
+        QueryDeadline deadline = QueryDeadline.current().orElse(null);
+        try {
+            return translating(super.iterate(), deadline);
+        } catch (RuntimeException e) {
+            throw translate(e, deadline);
+        }
+    }
+
+    // 결과를 읽는 중에 난 예외만 바꿈 (스트림을 소비하는 쪽 action 에서 난 예외는 그대로)
+    static <T> Stream<T> translating(Stream<T> source, QueryDeadline deadline) {
+        Spliterator<T> rows = source.spliterator();
+        Spliterator<T> translated = new Spliterators.AbstractSpliterator<>(rows.estimateSize(),
+                rows.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+            private T next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                boolean advanced;
+                try {
+                    advanced = rows.tryAdvance(row -> next = row);
+                } catch (RuntimeException e) {
+                    throw translate(e, deadline);
+                }
+                if (advanced) {
+                    T row = next;
+                    next = null;
+                    action.accept(row);
+                }
+                return advanced;
+            }
+        };
+        return StreamSupport.stream(translated, false).onClose(source::close);
+    }
+
+    static <T> CloseableIterator<T> translating(CloseableIterator<T> source, QueryDeadline deadline) {
+        return new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return source.hasNext();
+                } catch (RuntimeException e) {
+                    throw translate(e, deadline);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return source.next();
+                } catch (RuntimeException e) {
+                    throw translate(e, deadline);
+                }
+            }
+
+            @Override
+            public void close() {
+                source.close();
+            }
+        };
+    }
+
+    @Override
+    public DeadlineJPAQuery<T> clone(EntityManager entityManager, JPQLTemplates templates) {
+        DeadlineJPAQuery<T> q = new DeadlineJPAQuery<>(entityManager, templates, getMetadata().clone());
+        q.clone(this);
+        return q;
+    }
+
+    @Override
+    public DeadlineJPAQuery<T> clone(EntityManager entityManager) {
+        return clone(entityManager, getTemplates());
+    }
+
+    private RuntimeException translate(RuntimeException e) {
+        return translate(e, QueryDeadline.current().orElse(null));
+    }
+
+    // 스트림은 다른 스레드에서/마감 시간 블록 밖에서 읽을 수도 있으므로 쿼리를 만들 때의 마감 시간으로 판단
+    private static RuntimeException translate(RuntimeException e, QueryDeadline deadline) {
+        if (e instanceof QueryDeadlineExceededException) {
+            return e;
+        }
+        if (deadline != null && (deadline.isExpired() || isTimeout(e))) {
+            return new QueryDeadlineExceededException(deadline.getTimeout(), e);
+        }
+        return e;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof jakarta.persistence.QueryTimeoutException
+                    || t instanceof org.hibernate.QueryTimeoutException
+                    || t instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
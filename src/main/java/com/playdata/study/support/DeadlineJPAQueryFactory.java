@@ -0,0 +1,24 @@
+package com.playdata.study.support;
+
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+// select/selectFrom/from 등 모든 조회가 DeadlineJPAQuery로 만들어지도록 하는 JPAQueryFactory
+public class DeadlineJPAQueryFactory extends JPAQueryFactory {
+
+    private final JPQLTemplates templates;
+    private final EntityManager entityManager;
+
+    public DeadlineJPAQueryFactory(JPQLTemplates templates, EntityManager entityManager) {
+        super(templates, entityManager);
+        this.templates = templates;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public JPAQuery<?> query() {
+        return new DeadlineJPAQuery<Void>(entityManager, templates);
+    }
+}
@@ -0,0 +1,52 @@
+package com.playdata.study.support;
+
+import com.querydsl.core.support.PathsExtractor;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 지연 조인(deferred join) 페이징 도우미
+// 1단계: 정렬 컬럼 인덱스(커버링)만 읽어서 offset/limit 적용 -> id 목록
+// 2단계: id IN (...) 으로 필요한 행만 전체 조회 -> IN 결과는 순서가 없으므로 1단계 순서로 되돌림
+// 깊은 페이지에서 건너뛰는 행들을 테이블(넓은 행)까지 읽지 않게 됨
+public final class DeferredJoin {
+
+    private DeferredJoin() {
+    }
+
+    public static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            // 1단계와 2단계 사이에 삭제된 행은 빠짐
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    // 조건/정렬에 조인 별칭(ex: group.groupName)이 쓰였는지
+    // 쓰이지 않았으면 1단계에서 조인을 생략해서 인덱스만 읽도록 함
+    public static boolean references(EntityPath<?> alias, Expression<?> predicate, OrderSpecifier<?>... orderBy) {
+        List<Path<?>> paths = new ArrayList<>();
+        if (predicate != null) {
+            predicate.accept(PathsExtractor.DEFAULT, paths);
+        }
+        for (OrderSpecifier<?> order : orderBy) {
+            order.getTarget().accept(PathsExtractor.DEFAULT, paths);
+        }
+        return paths.stream().anyMatch(path -> path.getRoot().equals(alias));
+    }
+}
@@ -0,0 +1,56 @@
+package com.playdata.study.support;
+
+import com.querydsl.core.types.Expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// API에서 ?fields=id,idolName 처럼 요청한 필드만 SELECT 절에 넣기 위한 클래스
+// 응답 필드명 -> QueryDSL 표현식(컬럼) 매핑을 등록해두고, 요청 문자열을 검증해서 변환합니다.
+public class FieldSelection {
+
+    private final Map<String, Expression<?>> available = new LinkedHashMap<>();
+
+    public FieldSelection add(String name, Expression<?> expression) {
+        available.put(name, expression);
+        return this;
+    }
+
+    // 응답 필드명과 SELECT 할 컬럼 한 쌍
+    public record SelectedField(String name, Expression<?> expression) {
+    }
+
+    // fields가 비어있으면 등록된 전체 필드, 아니면 요청한 순서대로
+    // 존재하지 않는 필드명이 있으면 IllegalArgumentException
+    public List<SelectedField> resolve(String fields) {
+        if (fields == null || fields.isBlank()) {
+            List<SelectedField> all = new ArrayList<>();
+            available.forEach((name, expr) -> all.add(new SelectedField(name, expr)));
+            return all;
+        }
+
+        List<SelectedField> selected = new ArrayList<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .forEach(name -> {
+                    Expression<?> expr = available.get(name);
+                    if (expr == null) {
+                        throw new IllegalArgumentException(
+                                "지원하지 않는 필드입니다: " + name + " (가능한 필드: " + available.keySet() + ")");
+                    }
+                    selected.add(new SelectedField(name, expr));
+                });
+        return selected;
+    }
+
+    public static Expression<?>[] expressions(List<SelectedField> fields) {
+        return fields.stream()
+                .map(SelectedField::expression)
+                .toArray(Expression<?>[]::new);
+    }
+}
@@ -0,0 +1,16 @@
+package com.playdata.study.support;
+
+import com.playdata.study.entity.Gender;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+// 요청 파라미터 gender=여 -> Gender.FEMALE (기본 enum 변환은 FEMALE 같은 상수 이름만 받음)
+// 스프링 부트가 Converter 빈을 MVC 바인딩에 자동 등록
+@Component
+public class GenderParamConverter implements Converter<String, Gender> {
+
+    @Override
+    public Gender convert(String source) {
+        return source.isBlank() ? null : Gender.fromLabel(source.trim());
+    }
+}
@@ -0,0 +1,88 @@
+package com.playdata.study.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.querydsl.core.Tuple;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 조회 결과(Tuple 스트림)를 List로 모으지 않고 한 행씩 바로 JSON 배열로 써주는 클래스
+// 엔터티가 아닌 컬럼 값만 쓰기 때문에 직렬화 중에 지연 로딩이 일어나지 않습니다.
+// StreamFormat 을 주면 같은 구조를 CBOR/Smile 로 씀 (스프링 ObjectMapper 설정/모듈을 그대로 복사해서 사용)
+@Component
+public class JsonStreamWriter {
+
+    // 이 행 수마다 버퍼를 비워서 클라이언트가 바로 받기 시작할 수 있게 함
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final Map<StreamFormat, ObjectMapper> mappers = new EnumMap<>(StreamFormat.class);
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        mappers.put(StreamFormat.JSON, objectMapper);
+        mappers.put(StreamFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        // 그룹명처럼 반복되는 짧은 문자열 값도 참조로 대체 (필드명은 기본으로 켜져 있음)
+        mappers.put(StreamFormat.SMILE, objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()));
+    }
+
+    // 반환값: 쓴 행의 수
+    public long writeArray(OutputStream out, StreamFormat format, Stream<Tuple> rows,
+                           List<FieldSelection.SelectedField> fields) throws IOException {
+        long count = 0;
+        try (rows; JsonGenerator gen = createGenerator(out, format)) {
+            gen.writeStartArray();
+
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Tuple tuple = iterator.next();
+                gen.writeStartObject();
+                for (int i = 0; i < fields.size(); i++) {
+                    gen.writeFieldName(fields.get(i).name());
+                    gen.writeObject(tuple.get(i, Object.class));
+                }
+                gen.writeEndObject();
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeEndArray();
+        }
+        return count;
+    }
+
+    // DTO 스트림을 배열로 (DTO 는 값만 가진 객체여야 함)
+    public long writeValues(OutputStream out, StreamFormat format, Stream<?> values) throws IOException {
+        long count = 0;
+        try (values; JsonGenerator gen = createGenerator(out, format)) {
+            gen.writeStartArray();
+            Iterator<?> iterator = values.iterator();
+            while (iterator.hasNext()) {
+                gen.writeObject(iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeEndArray();
+        }
+        return count;
+    }
+
+    private JsonGenerator createGenerator(OutputStream out, StreamFormat format) throws IOException {
+        JsonGenerator gen = mappers.get(format).createGenerator(out);
+        // 응답 스트림은 서블릿 컨테이너가 닫음
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return gen;
+    }
+}
@@ -0,0 +1,84 @@
+package com.playdata.study.support;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+// 키(FK) 컬럼만으로 집계하고, 이름 같은 설명 컬럼은 집계가 끝난 뒤에 붙이는 도우미
+// groupBy(idol.group) 는 tbl_group 을 먼저 조인하고 그룹의 모든 컬럼으로 GROUP BY 함
+// -> 조인된 행 전체를 임시 테이블/정렬로 묶어야 해서 (group_id, ...) 커버링 인덱스로 바로 집계할 수 없음
+// 1단계: 집계 대상 테이블만 키로 GROUP BY (인덱스를 키 순서대로 읽으면서 집계)
+// 2단계: 집계 결과의 키(그룹 수 만큼)로 설명 컬럼을 조회하거나 캐시된 사전에서 꺼내서 붙임
+public final class KeyedAggregate {
+
+    // 이보다 키가 많으면 IN 대신 설명 테이블 전체를 읽고 걸러냄
+    // (긴 IN 목록은 바인드/파싱 비용이 커지고, 여러 번 나눠 조회하면 DB 정렬 순서를 유지할 수 없음)
+    private static final int MAX_IN_KEYS = 1_000;
+
+    private KeyedAggregate() {
+    }
+
+    // 집계 결과의 키 목록 (NULL 키 제외)
+    public static <K> Set<K> keys(List<Tuple> aggregated, Expression<K> key) {
+        Set<K> keys = new HashSet<>(aggregated.size() * 2);
+        for (Tuple row : aggregated) {
+            K value = row.get(key);
+            if (value != null) {
+                keys.add(value);
+            }
+        }
+        return keys;
+    }
+
+    // 키 -> 설명 값 (orderBy 순서, 정렬은 DB 에서 하므로 collation 이 DB 와 같음)
+    public static <K, D> Map<K, D> lookup(JPAQueryFactory factory, EntityPath<?> from, SimpleExpression<K> key,
+                                          Expression<D> value, Set<K> keys, OrderSpecifier<?>... orderBy) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        JPAQuery<Tuple> query = factory.select(key, value).from(from).orderBy(orderBy);
+        if (keys.size() <= MAX_IN_KEYS) {
+            query.where(key.in(keys));
+        }
+        Map<K, D> dictionary = new LinkedHashMap<>(keys.size() * 2);
+        for (Tuple row : query.fetch()) {
+            K k = row.get(key);
+            if (keys.contains(k)) {
+                dictionary.put(k, row.get(value));
+            }
+        }
+        return dictionary;
+    }
+
+    // 사전 순서대로 집계 행과 합침
+    // 사전에 없는 키(NULL 키, 두 단계 사이에 삭제된 행)는 내부 조인처럼 빠짐
+    public static <K, D, R> List<R> join(List<Tuple> aggregated, Expression<K> key, Map<K, D> dictionary,
+                                         BiFunction<Tuple, D, R> mapper) {
+        Map<K, Tuple> byKey = new HashMap<>(aggregated.size() * 2);
+        for (Tuple row : aggregated) {
+            byKey.put(row.get(key), row);
+        }
+        List<R> result = new ArrayList<>(Math.min(byKey.size(), dictionary.size()));
+        for (Map.Entry<K, D> entry : dictionary.entrySet()) {
+            Tuple row = byKey.get(entry.getKey());
+            if (row != null) {
+                result.add(mapper.apply(row, entry.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.playdata.study.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// /api 요청마다 실행된 SQL 수를 세고, 같은 SQL이 query.n-plus-one-threshold 번 이상 반복되면
+// N+1(지연 로딩 반복 등)로 보고 반복된 SQL 지문과 함께 경고 로그를 남김
+@Slf4j
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Value("${query.n-plus-one-threshold:10}")
+    private int threshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (QueryCounter counter = QueryCounter.start()) {
+            filterChain.doFilter(request, response);
+
+            counter.findRepeated(threshold).ifPresent(repeated ->
+                    log.warn("N+1 의심: {} {} 요청에서 같은 SQL이 {}번 실행됨 (전체 {}건) - {}",
+                            request.getMethod(), request.getRequestURI(),
+                            repeated.getValue(), counter.getCount(), repeated.getKey()));
+            log.debug("{} {} 실행 SQL 수: {}", request.getMethod(), request.getRequestURI(), counter.getCount());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.playdata.study.support;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// p6spy가 감싼 DataSource에서 SQL이 실행될 때마다 현재 스레드의 QueryCounter에 기록
+// (p6spy 스타터가 JdbcEventListener 타입 Bean을 자동으로 등록해줌)
+// JPA뿐 아니라 JdbcTemplate 등 같은 DataSource를 쓰는 모든 JDBC 실행이 대상 (배치 실행은 1회)
+@Component
+public class QueryCountListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        QueryCounter.record(statementInformation.getSql());
+    }
+}
@@ -0,0 +1,85 @@
+package com.playdata.study.support;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+// 요청(스레드) 단위로 실행된 SQL 수와 SQL 지문(fingerprint)별 반복 횟수를 세는 카운터
+// try (QueryCounter counter = QueryCounter.start()) { ... } 안에서 실행된 JDBC 문장을
+// QueryCountListener(p6spy)가 기록합니다. 같은 지문이 여러 번 반복되면 N+1 패턴으로 봅니다.
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QueryCounter previous;
+    private final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+    private int count;
+
+    private QueryCounter(QueryCounter previous) {
+        this.previous = previous;
+    }
+
+    // 바깥 카운터가 있어도 새로 세고, 기록은 바깥 카운터에도 같이 남김
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static Optional<QueryCounter> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void record(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        for (QueryCounter c = counter; c != null; c = c.previous) {
+            c.count++;
+            c.fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    // 값만 다른 SQL을 같은 SQL로 보기 위해 리터럴을 ?로 바꾸고 IN (?, ?, ...) 목록은 하나로 합침
+    public static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // 지문 -> 실행 횟수 (많이 실행된 순)
+    public Map<String, Integer> getFingerprints() {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        fingerprints.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    // threshold 번 이상 반복된 지문 중 가장 많이 실행된 것
+    public Optional<Map.Entry<String, Integer>> findRepeated(int threshold) {
+        return fingerprints.entrySet().stream()
+                .filter(e -> e.getValue() >= threshold)
+                .max(Map.Entry.comparingByValue());
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.playdata.study.support;
+
+import jakarta.persistence.Query;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.spi.QueryImplementor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 요청(스레드) 단위의 쿼리 마감 시간
+// try (QueryDeadline deadline = QueryDeadline.start(Duration.ofSeconds(3))) { ... } 안에서
+// JPAQueryFactory로 만든 모든 쿼리는
+//  1) 남은 시간을 jakarta.persistence.query.timeout 힌트로 받고 (JDBC Statement.setQueryTimeout)
+//  2) 마감 시간이 되면 실행 중인 JDBC Statement가 cancel 되며
+//  3) 이미 마감 시간이 지났으면 실행하지 않고 QueryDeadlineExceededException 발생
+public final class QueryDeadline implements AutoCloseable {
+
+    private static final ThreadLocal<QueryDeadline> CURRENT = new ThreadLocal<>();
+
+    // 마감 시간에 Statement.cancel을 호출하는 스레드 (모든 요청이 공유)
+    private static final ScheduledExecutorService CANCELLER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "query-deadline-canceller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final QueryDeadline previous;
+    private final Set<SharedSessionContractImplementor> sessions = ConcurrentHashMap.newKeySet();
+    private volatile ScheduledFuture<?> cancelTask;
+    private volatile boolean cancelled;
+
+    private QueryDeadline(Duration timeout, QueryDeadline previous) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        this.previous = previous;
+    }
+
+    // 이미 더 빠른 마감 시간이 걸려 있으면 그 시간을 유지
+    public static QueryDeadline start(Duration timeout) {
+        QueryDeadline previous = CURRENT.get();
+        QueryDeadline deadline = new QueryDeadline(timeout, previous);
+        if (previous != null && previous.deadlineNanos < deadline.deadlineNanos) {
+            deadline = new QueryDeadline(Duration.ofNanos(Math.max(0, previous.remainingNanos())), previous);
+        }
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static Optional<QueryDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return cancelled || remainingNanos() <= 0;
+    }
+
+    // JPAQuery가 JPA Query를 만든 직후 호출
+    void apply(Query query) {
+        long remaining = remainingMillis();
+        if (cancelled || remaining <= 0) {
+            throw new QueryDeadlineExceededException(timeout);
+        }
+
+        // Hibernate는 이 힌트(ms)를 초 단위로 반올림하므로 (0.4초 -> 0초 = 제한 없음)
+        // 올림해서 넘기고, 정확한 시점의 취소는 아래 cancel 예약으로 처리
+        long seconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+        query.setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, (int) TimeUnit.SECONDS.toMillis(seconds));
+
+        register(query.unwrap(QueryImplementor.class).getSession());
+    }
+
+    private void register(SharedSessionContractImplementor session) {
+        sessions.add(session);
+        if (cancelTask == null) {
+            synchronized (this) {
+                if (cancelTask == null) {
+                    cancelTask = CANCELLER.schedule(this::cancelRunningQueries, remainingNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    // Hibernate가 마지막으로 실행한 Statement에 cancel 호출 (다른 스레드에서 호출해도 안전한 API)
+    private void cancelRunningQueries() {
+        cancelled = true;
+        for (SharedSessionContractImplementor session : sessions) {
+            try {
+                if (session.isOpen()) {
+                    session.getJdbcCoordinator().cancelLastQuery();
+                }
+            } catch (RuntimeException ignored) {
+                // 이미 끝난 쿼리/닫힌 세션은 무시
+            }
+        }
+    }
+
+    private long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+        if (cancelTask != null) {
+            cancelTask.cancel(false);
+        }
+        sessions.clear();
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.playdata.study.support;
+
+import java.time.Duration;
+
+// 요청에 설정된 쿼리 마감 시간(QueryDeadline)이 지나서 쿼리가 실행되지 않았거나 취소된 경우
+public class QueryDeadlineExceededException extends RuntimeException {
+
+    private final Duration timeout;
+
+    public QueryDeadlineExceededException(Duration timeout) {
+        super("쿼리 실행 제한 시간(" + timeout.toMillis() + "ms)을 초과했습니다.");
+        this.timeout = timeout;
+    }
+
+    public QueryDeadlineExceededException(Duration timeout, Throwable cause) {
+        super("쿼리 실행 제한 시간(" + timeout.toMillis() + "ms)을 초과했습니다.", cause);
+        this.timeout = timeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
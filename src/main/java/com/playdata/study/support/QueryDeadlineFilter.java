@@ -0,0 +1,49 @@
+package com.playdata.study.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// /api 요청마다 쿼리 마감 시간을 건다.
+// 기본값은 query.timeout, 클라이언트가 X-Query-Timeout(ms) 헤더로 더 짧게 줄 수 있음
+@Component
+public class QueryDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Query-Timeout";
+
+    @Value("${query.timeout:10s}")
+    private Duration defaultTimeout;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (QueryDeadline deadline = QueryDeadline.start(resolveTimeout(request))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null) {
+            return defaultTimeout;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+            return requested.compareTo(defaultTimeout) < 0 && !requested.isNegative() ? requested : defaultTimeout;
+        } catch (NumberFormatException e) {
+            return defaultTimeout;
+        }
+    }
+}
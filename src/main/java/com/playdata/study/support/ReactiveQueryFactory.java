@@ -0,0 +1,87 @@
+package com.playdata.study.support;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.SQLBindings;
+import com.querydsl.sql.SQLQuery;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// 리액티브(논블로킹) 조회용 쿼리 팩토리
+// JPAQueryFactory 처럼 select(...).from(...).where(...) 로 쿼리를 조립하고 (querydsl-sql)
+// fetch(query) 로 실행하면 R2DBC 드라이버가 결과를 Flux 로 흘려보냅니다.
+// 구독자가 요청(request(n))한 만큼만 행을 읽기 때문에 느린 클라이언트가 메모리를 채우지 않습니다.
+public class ReactiveQueryFactory {
+
+    private final DatabaseClient client;
+    private final Configuration configuration;
+    private final int fetchSize;
+
+    public ReactiveQueryFactory(DatabaseClient client, Configuration configuration, int fetchSize) {
+        this.client = client;
+        this.configuration = configuration;
+        this.fetchSize = fetchSize;
+    }
+
+    // 커넥션 없이 SQL 조립에만 사용하는 쿼리 (SQLQuery 자체의 fetch()는 JDBC 용이라 사용하지 않음)
+    public <T> SQLQuery<T> select(Expression<T> expr) {
+        return new SQLQuery<Void>(configuration).select(expr);
+    }
+
+    public SQLQuery<Tuple> select(Expression<?>... exprs) {
+        return new SQLQuery<Void>(configuration).select(exprs);
+    }
+
+    public <T> Flux<T> fetch(SQLQuery<T> query) {
+        @SuppressWarnings("unchecked")
+        Expression<T> projection = (Expression<T>) query.getMetadata().getProjection();
+        SQLBindings sql = query.getSQL();
+        List<Object> bindings = sql.getNullFriendlyBindings();
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(toNamedParameters(sql.getSQL()))
+                // 드라이버가 한 번에 가져올 행 수 (MySQL은 커서 기반 조회로 바뀜)
+                .filter(statement -> statement.fetchSize(fetchSize));
+        for (int i = 0; i < bindings.size(); i++) {
+            spec = spec.bind("p" + i, bindings.get(i));
+        }
+        return spec.map(row -> read(row, projection)).all();
+    }
+
+    // querydsl-sql 은 JDBC 방식의 ? 를 쓰고 R2DBC 드라이버마다 바인딩 표기($1, ? 등)가 달라서
+    // 이름 있는 파라미터(:p0, :p1 ...)로 바꿔주면 DatabaseClient가 드라이버에 맞게 변환함
+    static String toNamedParameters(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                sb.append(":p").append(index++);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // select 절 순서대로 컬럼을 읽어서 Tuple / 생성자 DTO / 단일 값으로 변환
+    private static <T> T read(Readable row, Expression<T> projection) {
+        if (projection instanceof FactoryExpression<T> factory) {
+            List<Expression<?>> args = factory.getArgs();
+            Object[] values = new Object[args.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.get(i, args.get(i).getType());
+            }
+            return factory.newInstance(values);
+        }
+        return row.get(0, projection.getType());
+    }
+}
@@ -0,0 +1,50 @@
+package com.playdata.study.support;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+import static com.playdata.study.entity.QGroup.group;
+
+// JVM 시작부터 (1) 애플리케이션 준비 완료, (2) 첫 번째 쿼리 완료까지 걸린 시간을 기록
+// AOT 환경에서는 @ConditionalOnProperty가 빌드 시점에 평가되므로 실행 시점에 프로퍼티를 직접 확인합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimeReporter {
+
+    private final JPAQueryFactory factory;
+    private final ApplicationContext context;
+
+    @Value("${startup.benchmark.enabled:false}")
+    private boolean enabled;
+
+    @Value("${startup.benchmark.exit-after-first-query:false}")
+    private boolean exitAfterFirstQuery;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (!enabled) return;
+
+        long readyAt = ManagementFactory.getRuntimeMXBean().getUptime();
+        factory.selectOne()
+                .from(group)
+                .fetchFirst();
+        long firstQueryAt = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        // gradle startupBenchmark 태스크가 이 형식을 파싱합니다.
+        log.info("startup-benchmark ready={}ms first-query={}ms", readyAt, firstQueryAt);
+
+        if (exitAfterFirstQuery) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.playdata.study.support;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// 대량 조회 응답 형식 (Accept 헤더로 선택, 없으면 JSON)
+// CBOR/Smile 은 문자열을 길이 + UTF-8 바이트 그대로 쓰고 숫자를 텍스트로 바꾸지 않아서
+// JSON 보다 인코딩 비용과 크기가 작음 (한글은 JSON 에서도 UTF-8 이라 크기 차이는 주로 따옴표/숫자/필드명)
+public enum StreamFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    // 반복되는 필드명과 짧은 문자열(그룹명 등)을 앞에서 쓴 값의 참조로 대체
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    StreamFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // 바이너리 형식은 문자 인코딩이 없음
+    public void prepare(HttpServletResponse response) {
+        response.setContentType(mediaType.toString());
+        if (this == JSON) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+    }
+
+    // q 값이 높은 순서대로 지원하는 형식을 찾음, 하나도 없으면 406
+    // 형식마다 일치하는 범위 중 가장 구체적인 것의 q 값을 적용하고 q=0 은 "받지 않음"
+    // ex) "*/*, application/json;q=0" -> JSON 은 제외하고 CBOR
+    public static StreamFormat negotiate(String accept) throws HttpMediaTypeNotAcceptableException {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> requested = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(requested);
+
+        StreamFormat best = null;
+        int bestIndex = Integer.MAX_VALUE;
+        for (StreamFormat format : values()) {
+            int index = matchIndex(requested, format.mediaType);
+            if (index >= 0 && index < bestIndex && requested.get(index).getQualityValue() > 0) {
+                best = format;
+                bestIndex = index;
+            }
+        }
+        if (best == null) {
+            throw new HttpMediaTypeNotAcceptableException(
+                    Arrays.stream(values()).map(StreamFormat::getMediaType).toList());
+        }
+        return best;
+    }
+
+    // target 에 적용되는 범위의 위치 (application/json > application/* > */*), 없으면 -1
+    private static int matchIndex(List<MediaType> requested, MediaType target) {
+        int found = -1;
+        for (int i = 0; i < requested.size(); i++) {
+            MediaType range = requested.get(i);
+            if (range.includes(target) && (found < 0 || specificity(range) > specificity(requested.get(found)))) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    private static int specificity(MediaType range) {
+        if (range.isWildcardType()) {
+            return 0;
+        }
+        return range.isWildcardSubtype() ? 1 : 2;
+    }
+}
@@ -0,0 +1,324 @@
+package com.playdata.study.support.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 이름 접두어 자동완성 (메모리 트라이)
+// - 이름 전체와 띄어쓰기 뒤 단어마다 접두어로 찾음, 초성만 입력하면 초성 트라이에서 찾음 ("ㄱㅊㅇ" -> 김채원)
+// - 각 노드에 그 아래 이름 중 인기 상위 maxResults 개를 미리 정렬해 두어서 검색은 노드를 찾는 비용만 듦
+// - 변경(추가/이름 변경/삭제/인기도)은 해당 이름의 경로만 아래에서 위로 다시 계산
+// 검색은 읽기 락, 변경은 쓰기 락 (검색이 훨씬 많고 변경은 드문 경우에 맞춤)
+public class AutocompleteIndex {
+
+    // 인기도 높은 순 -> 짧은 이름 -> 이름 -> id
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry e) -> -e.popularity)
+            .thenComparingInt(e -> e.name.length())
+            .thenComparing(e -> e.name)
+            .thenComparingLong(e -> e.id);
+
+    private static final Entry[] NONE = new Entry[0];
+
+    private final int maxResults;
+    private final Node names = new Node(null, '\0');
+    private final Node choseongs = new Node(null, '\0');
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public AutocompleteIndex(int maxResults) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("maxResults는 1 이상이어야 합니다: " + maxResults);
+        }
+        this.maxResults = maxResults;
+    }
+
+    public record Hit(long id, String name, long popularity) {
+    }
+
+    // 새 이름 추가 또는 이름 변경 (같은 이름이면 아무것도 하지 않음)
+    public void upsert(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(id);
+            if (existing != null) {
+                if (existing.name.equals(name)) {
+                    return;
+                }
+                unlink(existing);
+            }
+            Entry entry = new Entry(id, name, existing == null ? 0 : existing.popularity);
+            entries.put(id, entry);
+            link(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                unlink(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 인기도 증가 (자동완성 결과를 선택했을 때 등)
+    public void increasePopularity(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return;
+            }
+            // 정렬 기준 값이 바뀌므로 정렬된 집합에서 뺐다가 다시 넣음
+            entry.terminals.forEach(node -> node.terminals.remove(entry));
+            entry.popularity += delta;
+            for (Node node : entry.terminals) {
+                node.terminals.add(entry);
+                recomputeUpward(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        String normalized = Hangul.normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Node> matched = new ArrayList<>();
+            if (Hangul.isAllChoseong(normalized)) {
+                // 초성만 입력하면 초성 트라이에서 경로 하나만 따라감 (이름 트라이에서 분기하지 않음)
+                addIfPresent(matched, find(choseongs, normalized));
+            } else {
+                for (Hangul.CharMatcher[] pattern : Hangul.patterns(normalized)) {
+                    collect(names, pattern, 0, matched);
+                }
+            }
+            return top(matched, Math.min(limit, maxResults));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> top(List<Node> nodes, int limit) {
+        if (nodes.size() == 1) {
+            Entry[] top = nodes.get(0).top;
+            return Arrays.stream(top, 0, Math.min(limit, top.length))
+                    .map(Entry::toHit)
+                    .toList();
+        }
+        // 여러 노드(초성 분기, 단어 접두어)에서 같은 이름이 나올 수 있어서 중복 제거 후 정렬
+        Set<Entry> candidates = new LinkedHashSet<>();
+        for (Node node : nodes) {
+            candidates.addAll(Arrays.asList(node.top));
+        }
+        return candidates.stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(Entry::toHit)
+                .toList();
+    }
+
+    private void collect(Node node, Hangul.CharMatcher[] pattern, int depth, List<Node> matched) {
+        if (depth == pattern.length) {
+            matched.add(node);
+            return;
+        }
+        Hangul.CharMatcher matcher = pattern[depth];
+        if (matcher.kind() == Hangul.CharMatcher.Kind.EXACT) {
+            Node child = node.children.get(matcher.value());
+            if (child != null) {
+                collect(child, pattern, depth + 1, matched);
+            }
+            return;
+        }
+        for (Node child : node.children.values()) {
+            if (matcher.matches(child.key)) {
+                collect(child, pattern, depth + 1, matched);
+            }
+        }
+    }
+
+    private Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private void addIfPresent(List<Node> nodes, Node node) {
+        if (node != null) {
+            nodes.add(node);
+        }
+    }
+
+    private void link(Entry entry) {
+        String normalized = Hangul.normalize(entry.name);
+        for (String key : wordStarts(normalized)) {
+            addTerminal(names, key, entry);
+            addTerminal(choseongs, Hangul.choseong(key), entry);
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (Node node : entry.terminals) {
+            node.terminals.remove(entry);
+            recomputeUpward(node);
+            prune(node);
+        }
+        entry.terminals.clear();
+    }
+
+    // "블루 웨이브" -> ["블루 웨이브", "웨이브"]
+    private static List<String> wordStarts(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (Character.isWhitespace(normalized.charAt(i - 1)) && !Character.isWhitespace(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private void addTerminal(Node root, String key, Entry entry) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node parent = node;
+            char c = key.charAt(i);
+            node = parent.children.computeIfAbsent(c, k -> new Node(parent, k));
+        }
+        if (node.terminals.add(entry)) {
+            entry.terminals.add(node);
+        }
+        recomputeUpward(node);
+    }
+
+    // 노드의 상위 목록 = 여기서 끝나는 이름 + 자식들의 상위 목록 중 상위 maxResults 개
+    // 모두 이미 정렬되어 있으므로 전부 정렬하지 않고 앞에서부터 병합 (자식 수 + maxResults * log(자식 수))
+    // 동명이인, 같은 초성 이름이 한 노드에 많이 쌓이므로 끝나는 이름도 정렬된 집합으로 유지
+    private void recomputeUpward(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            PriorityQueue<Cursor> heads = new PriorityQueue<>(current.children.size() + 1);
+            Cursor.addIfNotEmpty(heads, current.terminals.iterator());
+            for (Node child : current.children.values()) {
+                Cursor.addIfNotEmpty(heads, Arrays.asList(child.top).iterator());
+            }
+
+            // "lee lee" 처럼 단어 접두어 노드가 이름 전체 노드의 조상이면 같은 이름이 끝나는 이름과 자식 목록에 모두 있음
+            // -> 같은 엔트리는 병합 순서상 연달아 나오므로 바로 앞과 같으면 건너뜀
+            List<Entry> top = new ArrayList<>(maxResults);
+            while (top.size() < maxResults && !heads.isEmpty()) {
+                Cursor head = heads.poll();
+                if (top.isEmpty() || top.get(top.size() - 1) != head.current) {
+                    top.add(head.current);
+                }
+                if (head.advance()) {
+                    heads.add(head);
+                }
+            }
+            current.top = top.toArray(NONE);
+        }
+    }
+
+    // 아무 이름도 없는 가지 제거
+    private void prune(Node node) {
+        for (Node current = node; current.parent != null
+                && current.terminals.isEmpty() && current.children.isEmpty(); current = current.parent) {
+            current.parent.children.remove(current.key);
+        }
+    }
+
+    // 정렬된 목록 하나의 현재 위치 (병합용)
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final Iterator<Entry> rest;
+        private Entry current;
+
+        private Cursor(Iterator<Entry> rest) {
+            this.rest = rest;
+            this.current = rest.next();
+        }
+
+        private static void addIfNotEmpty(PriorityQueue<Cursor> heads, Iterator<Entry> entries) {
+            if (entries.hasNext()) {
+                heads.add(new Cursor(entries));
+            }
+        }
+
+        private boolean advance() {
+            if (!rest.hasNext()) {
+                return false;
+            }
+            current = rest.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return RANKING.compare(current, other.current);
+        }
+    }
+
+    private static final class Node {
+
+        private final Node parent;
+        private final char key;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final NavigableSet<Entry> terminals = new TreeSet<>(RANKING);
+        private Entry[] top = NONE;
+
+        private Node(Node parent, char key) {
+            this.parent = parent;
+            this.key = key;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final String name;
+        private long popularity;
+        private final List<Node> terminals = new ArrayList<>(2);
+
+        private Entry(long id, String name, long popularity) {
+            this.id = id;
+            this.name = name;
+            this.popularity = popularity;
+        }
+
+        private Hit toHit() {
+            return new Hit(id, name, popularity);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.playdata.study.support.autocomplete;
+
+import com.playdata.study.dto.SuggestionType;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.service.AutocompleteService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 아이돌 이름 / 그룹명이 저장, 수정, 삭제되면 커밋 후에 이 노드의 자동완성 인덱스에 바로 반영
+// (롤백되면 반영하지 않음, 다른 노드는 변경 피드로 따라옴)
+public class AutocompleteListener {
+
+    private final ObjectProvider<AutocompleteService> autocompleteService;
+
+    public AutocompleteListener(ObjectProvider<AutocompleteService> autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Idol idol) {
+            afterCommit(SuggestionType.IDOL, idol.getId(), idol.getIdolName());
+        } else if (entity instanceof Group group) {
+            afterCommit(SuggestionType.GROUP, group.getId(), group.getGroupName());
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Idol idol) {
+            afterCommit(SuggestionType.IDOL, idol.getId(), null);
+        } else if (entity instanceof Group group) {
+            afterCommit(SuggestionType.GROUP, group.getId(), null);
+        }
+    }
+
+    // 커밋 시점의 값이 아니라 이벤트 시점의 값을 씀 (같은 트랜잭션에서 다시 바뀌면 그 이벤트가 뒤에 반영됨)
+    private void afterCommit(SuggestionType type, long id, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            autocompleteService.getObject().apply(type, id, name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                autocompleteService.getObject().apply(type, id, name);
+            }
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.playdata.study.support.autocomplete;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글 음절 분해 (유니코드 가-힣: 초성 19 x 중성 21 x 종성 28 조합)
+// 초성은 자판으로 입력되는 호환 자모(ㄱ U+3131 ...)로 돌려줌
+final class Hangul {
+
+    private static final char FIRST = '가';
+    private static final char LAST = '힣';
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 종성 인덱스 -> {남는 종성 인덱스, 다음 음절 초성 인덱스}
+    // 입력 중에는 "김채원"의 "원"을 치기 전에 "김챙"처럼 다음 초성이 앞 음절 받침으로 붙어 보임
+    private static final int[][] JONG_SPLIT = {
+            null, {0, 0}, {0, 1}, {1, 9}, {0, 2}, {4, 12}, {4, 18}, {0, 3}, {0, 5}, {8, 0},
+            {8, 6}, {8, 7}, {8, 9}, {8, 16}, {8, 17}, {8, 18}, {0, 6}, {0, 7}, {17, 9}, {0, 9},
+            {0, 10}, {0, 11}, {0, 12}, {0, 14}, {0, 15}, {0, 16}, {0, 17}, {0, 18}
+    };
+
+    private Hangul() {
+    }
+
+    // 비교용 표준 형태: NFC(자모가 분리된 입력 합치기) + 소문자 + 앞뒤 공백 제거
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= FIRST && c <= LAST;
+    }
+
+    static boolean isChoseong(char c) {
+        return choseongIndex(c) >= 0;
+    }
+
+    static int choseongIndex(char c) {
+        for (int i = 0; i < CHOSEONG.length; i++) {
+            if (CHOSEONG[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 음절이면 초성, 아니면 그대로
+    static char choseongOf(char c) {
+        return isSyllable(c) ? CHOSEONG[(c - FIRST) / 588] : c;
+    }
+
+    // "김채원" -> "ㄱㅊㅇ"
+    static String choseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseongOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    static boolean isAllChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChoseong(text.charAt(i))) {
+                return false;
+            }
+        }
+        return !text.isEmpty();
+    }
+
+    // 검색어를 글자별 조건으로 변환
+    // - 초성만 입력한 글자: 그 초성으로 시작하는 모든 음절
+    // - 마지막 음절에 받침이 없으면 받침이 붙은 음절도 ("김채" -> "김챙...")
+    // - 마지막 음절에 받침이 있으면 받침을 다음 글자 초성으로 본 경우도 추가 ("김챙" -> "김채ㅇ")
+    static List<CharMatcher[]> patterns(String query) {
+        List<CharMatcher[]> patterns = new ArrayList<>();
+        int length = query.length();
+        CharMatcher[] base = new CharMatcher[length];
+        for (int i = 0; i < length; i++) {
+            base[i] = matcherOf(query.charAt(i), i == length - 1);
+        }
+        patterns.add(base);
+
+        char last = query.charAt(length - 1);
+        if (isSyllable(last)) {
+            int index = last - FIRST;
+            int jong = index % 28;
+            if (jong != 0) {
+                int[] split = JONG_SPLIT[jong];
+                CharMatcher[] moved = new CharMatcher[length + 1];
+                System.arraycopy(base, 0, moved, 0, length - 1);
+                moved[length - 1] = CharMatcher.exact((char) (last - jong + split[0]));
+                moved[length] = CharMatcher.initial(CHOSEONG[split[1]]);
+                patterns.add(moved);
+            }
+        }
+        return patterns;
+    }
+
+    private static CharMatcher matcherOf(char c, boolean last) {
+        if (isChoseong(c)) {
+            return CharMatcher.initial(c);
+        }
+        if (last && isSyllable(c) && (c - FIRST) % 28 == 0) {
+            return CharMatcher.anyFinal(c);
+        }
+        return CharMatcher.exact(c);
+    }
+
+    // 검색어 한 글자에 대한 조건
+    record CharMatcher(char value, Kind kind) {
+
+        enum Kind { EXACT, INITIAL, ANY_FINAL }
+
+        static CharMatcher exact(char c) {
+            return new CharMatcher(c, Kind.EXACT);
+        }
+
+        static CharMatcher initial(char choseong) {
+            return new CharMatcher(choseong, Kind.INITIAL);
+        }
+
+        // 받침 없는 음절 c 와 초성/중성이 같은 음절 (받침 유무 무관)
+        static CharMatcher anyFinal(char c) {
+            return new CharMatcher(c, Kind.ANY_FINAL);
+        }
+
+        boolean matches(char c) {
+            return switch (kind) {
+                case EXACT -> c == value;
+                case INITIAL -> choseongOf(c) == value;
+                case ANY_FINAL -> isSyllable(c) && (c - FIRST) / 28 == (value - FIRST) / 28;
+            };
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.playdata.study.support.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 바이트 키 Bloom 필터 (없는 값은 확실히 없다고, 있는 값은 "있을 수도 있다"고 답함)
+// 기대 건수 n, 오탐률 p 로 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m/n ln 2
+// 해시는 64비트 해시 하나를 두 개로 섞어서 h1 + i * h2 로 k 개를 만듦 (Kirsch-Mitzenmacher)
+// put/mightContain 은 락 없이 여러 스레드에서 동시에 호출 가능 (비트 OR 는 CAS)
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder setBits = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void put(byte[] key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            if ((previous & mask) == 0) {
+                setBits.increment();
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(byte[] key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    // put 호출 횟수 (같은 값을 여러 번 넣어도 각각 셈)
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    // 1인 비트 비율, 약 0.5 를 넘으면 오탐률이 설정값보다 커지기 시작함
+    public double fillRatio() {
+        return (double) setBits.sum() / bitSize;
+    }
+
+    // 현재 채워진 비율로 계산한 오탐률 (fillRatio ^ k)
+    public double estimatedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashCount);
+    }
+
+    // FNV-1a 64
+    private static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
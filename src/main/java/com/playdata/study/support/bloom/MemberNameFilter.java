@@ -0,0 +1,246 @@
+package com.playdata.study.support.bloom;
+
+import com.playdata.study.config.MemberNameFilterProperties;
+import com.playdata.study.support.changes.ChangeLog;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QMember.member;
+
+// tbl_member.user_name 의 Bloom 필터 (노드 메모리)
+// mightExist(name) == false 이면 그 이름의 회원은 (거의) 확실히 없으므로 이름 조회 쿼리 없이 빈 결과를 돌려줄 수 있음
+// 조회할 때는 DB 에 가지 않음: 키는 애플리케이션에서 계산하고(NameKey) 필터만 확인
+// - 시작할 때 전체 이름을 스트리밍으로 읽어서 만듦 (만들기 전에는 항상 true -> 모두 DB 조회)
+// - 이 노드에서 JPA 로 저장/수정한 이름은 MemberNameFilterListener 가 쓰기 전과 커밋 후에 바로 넣음
+// - 다른 노드의 저장, change_seq 를 채운 JDBC 쓰기는 refresh-interval 마다 변경 순번(watermark)부터 따라잡음
+//   -> 그 사이(최대 refresh-interval)에는 다른 노드에서 막 저장된 이름을 없다고 볼 수 있음
+//   (change_seq 없이 쓴 행은 변경 피드처럼 여기서도 보이지 않으므로 쓴 뒤 rebuild 필요 -> ChangeTracked 참고)
+// - 삭제/이름 변경으로 빠진 이름은 지울 수 없으므로 rebuild-interval 마다 새로 만들어서 교체
+//   (예상보다 많이 들어가서 오탐률이 설정값을 넘어도 바로 새로 만듦)
+@Slf4j
+public class MemberNameFilter {
+
+    private static final int CATCH_UP_PAGE_SIZE = 1000;
+
+    private final MemberNameFilterProperties properties;
+    private final JPAQueryFactory factory;
+    private final ChangeLog changeLog;
+    private final TransactionTemplate readOnlyTx;
+    private final int fetchSize;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final AtomicLong rebuildCount = new AtomicLong();
+
+    private volatile Generation current;
+    private volatile double lastRebuildMillis;
+    private volatile long lastRebuiltAt;
+    private ScheduledExecutorService refresher;
+
+    public MemberNameFilter(MemberNameFilterProperties properties, JPAQueryFactory factory, ChangeLog changeLog,
+                            PlatformTransactionManager transactionManager, int fetchSize) {
+        this.properties = properties;
+        this.factory = factory;
+        this.changeLog = changeLog;
+        this.fetchSize = fetchSize;
+        // 변경 순번과 이름을 같은 스냅샷에서 읽어야 하므로 항상 새 트랜잭션
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 필터 + 이 필터에 반영된 마지막 변경 순번
+    private static final class Generation {
+
+        private final BloomFilter filter;
+        private long watermark;
+
+        private Generation(BloomFilter filter, long watermark) {
+            this.filter = filter;
+            this.watermark = watermark;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 필터 없이도(모두 DB 조회) 동작하므로 시작은 계속하고 다음 주기에 다시 만듦
+            log.warn("회원 이름 필터 생성 실패", e);
+        }
+
+        Duration interval = properties.getRefreshInterval();
+        if (!interval.isZero()) {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "member-name-filter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh,
+                    interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    // false 이면 없는 이름, true 이면 있을 수도 있는 이름 (DB 조회 없음)
+    // 쓰기 트랜잭션 안에서는 항상 true: 같은 트랜잭션에서 JDBC 로 쓴 이름처럼 아직 필터에 없는 이름이 있을 수 있음
+    public boolean mightExist(String userName) {
+        Generation generation = current;
+        if (generation == null || userName == null || inWriteTransaction()) {
+            return true;
+        }
+        lookups.increment();
+        if (generation.filter.mightContain(NameKey.of(userName))) {
+            return true;
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    // 저장/수정하는 이름을 현재 필터에 넣음 (롤백되면 남은 이름은 오탐이 될 뿐, 다음 rebuild 에서 빠짐)
+    public void record(String userName) {
+        Generation generation = current;
+        if (generation != null && userName != null) {
+            generation.filter.put(NameKey.of(userName));
+        }
+    }
+
+    // 전체 이름을 다시 읽어서 새 필터로 교체
+    // 변경 순번을 먼저 읽고 같은 트랜잭션에서 전체를 읽으므로 그 순번까지의 변경은 모두 들어 있음
+    // 그 뒤의 변경은 catchUp 에서 watermark 부터 따라잡음
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        Long count = readOnlyTx.execute(status -> factory.select(member.count()).from(member).fetchOne());
+        long capacity = Math.max(properties.getMinCapacity(),
+                (long) Math.ceil((count == null ? 0 : count) * properties.getHeadroom()));
+        BloomFilter next = new BloomFilter(capacity, properties.getFalsePositiveRate());
+
+        Long watermark = readOnlyTx.execute(status -> {
+            long seq = changeLog.current();
+            scan(next);
+            return seq;
+        });
+        current = new Generation(next, watermark == null ? 0 : watermark);
+
+        rebuildCount.incrementAndGet();
+        lastRebuiltAt = System.nanoTime();
+        lastRebuildMillis = (lastRebuiltAt - started) / 1_000_000.0;
+        log.info("회원 이름 필터 생성 완료 ({}건, {} 비트, 해시 {}개, {}ms)",
+                next.insertions(), next.bitSize(), next.hashCount(), String.format("%.1f", lastRebuildMillis));
+    }
+
+    // 현재 변경 순번까지 저장/수정된 이름을 넣음 (refresh-interval 마다 실행)
+    // 순번 순서 = 커밋 순서라서 같은 스냅샷에서 읽은 순번 이하의 변경은 모두 보임
+    public void catchUp() {
+        Generation generation = current;
+        if (generation == null) {
+            return;
+        }
+        synchronized (generation) {
+            readOnlyTx.executeWithoutResult(status -> {
+                long upTo = changeLog.current();
+                if (generation.watermark < upTo) {
+                    drain(generation.watermark, upTo, generation.filter);
+                    generation.watermark = upTo;
+                }
+            });
+        }
+    }
+
+    public NameFilterStats stats() {
+        Generation generation = current;
+        BloomFilter filter = generation == null ? null : generation.filter;
+        long lookupCount = lookups.sum();
+        long shortCircuitCount = shortCircuited.sum();
+        return new NameFilterStats(
+                filter != null,
+                filter == null ? 0 : filter.bitSize(),
+                filter == null ? 0 : filter.hashCount(),
+                filter == null ? 0 : filter.expectedInsertions(),
+                filter == null ? 0 : filter.insertions(),
+                filter == null ? 0 : filter.fillRatio(),
+                properties.getFalsePositiveRate(),
+                filter == null ? 0 : filter.estimatedFalsePositiveRate(),
+                lookupCount,
+                shortCircuitCount,
+                lookupCount == 0 ? 0 : (double) shortCircuitCount / lookupCount,
+                rebuildCount.get(),
+                lastRebuildMillis);
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void refresh() {
+        try {
+            Generation generation = current;
+            boolean due = System.nanoTime() - lastRebuiltAt >= properties.getRebuildInterval().toNanos();
+            if (generation == null || due
+                    || generation.filter.estimatedFalsePositiveRate() > properties.getFalsePositiveRate()) {
+                rebuild();
+            } else {
+                catchUp();
+            }
+        } catch (RuntimeException e) {
+            // DB 장애 중에도 기존 필터로 계속 판단하고 다음 주기에 다시 시도
+            log.warn("회원 이름 필터 갱신 실패", e);
+        }
+    }
+
+    // 전체 이름의 키를 넣음 (change_seq 가 없는 이전 데이터도 포함)
+    private void scan(BloomFilter filter) {
+        try (Stream<String> names = factory.select(member.userName)
+                .from(member)
+                .where(member.userName.isNotNull())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream()) {
+            names.forEach(name -> filter.put(NameKey.of(name)));
+        }
+    }
+
+    private void drain(long after, long upTo, BloomFilter filter) {
+        List<Tuple> page;
+        long from = after;
+        do {
+            long lowerBound = from;
+            page = factory.select(member.userName, member.changeSeq)
+                    .from(member)
+                    .where(member.changeSeq.gt(lowerBound), member.changeSeq.loe(upTo), member.userName.isNotNull())
+                    .orderBy(member.changeSeq.asc())
+                    .limit(CATCH_UP_PAGE_SIZE)
+                    .fetch();
+            for (Tuple row : page) {
+                filter.put(NameKey.of(row.get(member.userName)));
+                from = row.get(member.changeSeq);
+            }
+        } while (page.size() == CATCH_UP_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,39 @@
+package com.playdata.study.support.bloom;
+
+import com.playdata.study.entity.Member;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 회원 이름을 INSERT/UPDATE 전에 필터에 넣고, 커밋 후에 한 번 더 넣음
+// 쓰기 전에 넣어야 커밋 직후 다른 요청이 "없는 이름"으로 판단하지 않음
+// 커밋 전에 필터가 다시 만들어지면(rebuild) 새 필터에는 없으므로 커밋 후에 지금 필터에 다시 넣음
+public class MemberNameFilterListener {
+
+    private final ObjectProvider<MemberNameFilter> filter;
+
+    public MemberNameFilterListener(ObjectProvider<MemberNameFilter> filter) {
+        this.filter = filter;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void onSave(Object entity) {
+        if (!(entity instanceof Member member)) {
+            return;
+        }
+        MemberNameFilter nameFilter = filter.getObject();
+        String userName = member.getUserName();
+        nameFilter.record(userName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    nameFilter.record(userName);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.playdata.study.support.bloom;
+
+// MemberNameFilter 상태
+// ready=false 이면 아직 필터를 만들기 전(또는 꺼짐)이라 모든 이름을 DB에서 조회함
+// shortCircuitRate = 조회 없이 빈 결과를 돌려준 비율 (lookups 중 shortCircuited)
+public record NameFilterStats(
+        boolean ready,
+        long bitSize,
+        int hashCount,
+        long expectedNames,
+        long insertions,
+        double fillRatio,
+        double configuredFalsePositiveRate,
+        double estimatedFalsePositiveRate,
+        long lookups,
+        long shortCircuited,
+        double shortCircuitRate,
+        long rebuildCount,
+        double lastRebuildMillis) {
+}
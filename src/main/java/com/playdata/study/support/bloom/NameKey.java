@@ -0,0 +1,46 @@
+package com.playdata.study.support.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+// 회원 이름 -> 필터 키 (DB 조회 없이 애플리케이션에서 계산)
+// 컬럼 collation(utf8mb4_0900_ai_ci, utf8mb4_general_ci 등)이 같다고 보는 이름은 항상 같은 키가 되도록
+// collation 보다 넓게 묶음
+//  - 호환 분해(NFKD) 후 결합 문자(악센트, 탁점) 제거, 대소문자 접기 (ß -> ss 포함)
+//  - 분해되지 않는 라틴 문자(æ, ø ...)는 기본 글자로, 가타카나는 히라가나로, 다른 문자 체계의 숫자는 0~9 로
+//  - 글자/숫자가 아닌 문자(공백, 구두점, 제어 문자)는 버림 (PAD SPACE 의 끝 공백도 여기서 같아짐)
+// DB 는 다르다고 보는 이름이 같은 키가 되는 것은 오탐(= DB 조회)이 늘 뿐 결과는 틀리지 않음
+final class NameKey {
+
+    private static final Map<Integer, String> LATIN = Map.of(
+            (int) 'æ', "ae", (int) 'œ', "oe", (int) 'ø', "o", (int) 'đ', "d", (int) 'ð', "d",
+            (int) 'ł', "l", (int) 'ħ', "h", (int) 'ŧ', "t", (int) 'þ', "th", (int) 'ŋ', "n");
+
+    private NameKey() {
+    }
+
+    static byte[] of(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        decomposed.codePoints().forEach(codePoint -> fold(codePoint, key));
+        return key.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void fold(int codePoint, StringBuilder key) {
+        if (Character.isDigit(codePoint)) {
+            key.append(Character.digit(codePoint, 10));
+            return;
+        }
+        // 결합 문자는 isLetter 가 아니므로 여기서 빠짐
+        if (!Character.isLetter(codePoint)) {
+            return;
+        }
+        if (codePoint >= 'ァ' && codePoint <= 'ヶ') {
+            codePoint -= 'ァ' - 'ぁ';
+        }
+        String folded = Character.toString(codePoint).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        folded.codePoints().forEach(c -> key.append(LATIN.getOrDefault(c, Character.toString(c))));
+    }
+}
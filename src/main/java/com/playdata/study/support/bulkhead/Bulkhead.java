@@ -0,0 +1,124 @@
+package com.playdata.study.support.bulkhead;
+
+import com.playdata.study.support.QueryDeadline;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회 종류 하나의 동시 실행 제한 + 대기열
+// - 실행 중인 요청이 제한(GradientLimit) 미만이면 바로 실행
+// - 아니면 max-queue 개까지 max-wait (요청의 QueryDeadline 이 더 짧으면 그만큼) 동안 기다리고, 대기열이 차 있으면 바로 거절
+// - 끝난 요청의 응답 시간으로 제한을 다시 계산
+public class Bulkhead {
+
+    private final QueryClass queryClass;
+    private final GradientLimit limit;
+    private final int maxQueue;
+    private final Duration maxWait;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private int inflight;
+    private int queued;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    Bulkhead(QueryClass queryClass, GradientLimit limit, int maxQueue, Duration maxWait) {
+        this.queryClass = queryClass;
+        this.limit = limit;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait;
+    }
+
+    // 실행 자리를 얻은 요청: 끝나면 반드시 release
+    public final class Permit {
+
+        private final long startedNanos = System.nanoTime();
+        private boolean released;
+
+        // dropped: 마감 시간 초과 등 과부하로 실패한 요청 -> 제한을 줄임
+        public void release(boolean dropped) {
+            if (released) {
+                return;
+            }
+            released = true;
+            Bulkhead.this.release(System.nanoTime() - startedNanos, dropped);
+        }
+    }
+
+    public Permit acquire() {
+        long waitNanos = maxWait.toNanos();
+        QueryDeadline deadline = QueryDeadline.current().orElse(null);
+        if (deadline != null) {
+            waitNanos = Math.min(waitNanos, TimeUnit.MILLISECONDS.toNanos(deadline.remainingMillis()));
+        }
+
+        lock.lock();
+        try {
+            if (inflight < limit.current()) {
+                return admit();
+            }
+            if (queued >= maxQueue || waitNanos <= 0) {
+                throw reject();
+            }
+            queued++;
+            try {
+                while (inflight >= limit.current()) {
+                    if (waitNanos <= 0) {
+                        throw reject();
+                    }
+                    waitNanos = released.awaitNanos(waitNanos);
+                }
+                return admit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BulkheadStats stats() {
+        lock.lock();
+        try {
+            return new BulkheadStats(limit.current(), inflight, queued, accepted.sum(), rejected.sum(),
+                    limit.longRttNanos() / 1_000_000.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit admit() {
+        inflight++;
+        accepted.increment();
+        return new Permit();
+    }
+
+    private BulkheadRejectedException reject() {
+        rejected.increment();
+        return new BulkheadRejectedException(queryClass, limit.current(), queued);
+    }
+
+    private void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int before = limit.current();
+            limit.onSample(rttNanos, inflight, dropped);
+            inflight--;
+            // 제한이 늘었으면 늘어난 만큼 대기 중인 요청을 깨움
+            if (limit.current() > before) {
+                released.signalAll();
+            } else {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
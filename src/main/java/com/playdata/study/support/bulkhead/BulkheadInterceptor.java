@@ -0,0 +1,44 @@
+package com.playdata.study.support.bulkhead;
+
+import com.playdata.study.support.QueryDeadlineExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @QueryBulkhead 가 붙은 컨트롤러 메서드를 해당 종류의 bulkhead 안에서 실행
+// 서비스의 @Transactional 보다 먼저 자리를 얻으므로 대기 중인 요청은 커넥션을 잡지 않음
+// 스트리밍 응답은 핸들러 안에서 다 쓰므로 afterCompletion 에서 반환하면 스트리밍 시간까지 포함됨
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Bulkheads bulkheads;
+
+    public BulkheadInterceptor(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!bulkheads.isEnabled() || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        QueryBulkhead annotation = method.getMethodAnnotation(QueryBulkhead.class);
+        if (annotation != null) {
+            request.setAttribute(PERMIT, bulkheads.get(annotation.value()).acquire());
+        }
+        return true;
+    }
+
+    // @ExceptionHandler 로 처리된 예외는 ex 로 오지 않으므로 503(쿼리 마감 시간 초과)도 과부하로 봄
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT) instanceof Bulkhead.Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.release(ex instanceof QueryDeadlineExceededException || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+}
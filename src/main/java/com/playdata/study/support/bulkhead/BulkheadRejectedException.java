@@ -0,0 +1,17 @@
+package com.playdata.study.support.bulkhead;
+
+// 같은 종류의 조회가 동시 실행 제한과 대기열을 모두 채워서 바로 거절 (ApiExceptionHandler 에서 503 + Retry-After)
+public class BulkheadRejectedException extends RuntimeException {
+
+    private final QueryClass queryClass;
+
+    public BulkheadRejectedException(QueryClass queryClass, int limit, int queued) {
+        super(queryClass.name().toLowerCase() + " 조회 요청이 많아 처리할 수 없습니다. (동시 실행 제한 "
+                + limit + ", 대기 " + queued + ") 잠시 후 다시 시도해 주세요.");
+        this.queryClass = queryClass;
+    }
+
+    public QueryClass getQueryClass() {
+        return queryClass;
+    }
+}
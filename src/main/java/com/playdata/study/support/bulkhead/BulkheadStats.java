@@ -0,0 +1,8 @@
+package com.playdata.study.support.bulkhead;
+
+// 조회 종류별 bulkhead 상태
+// limit: 지금의 동시 실행 제한 (응답 시간에 따라 바뀜), longRttMillis: 제한 계산의 기준 응답 시간
+// accepted: 실행한 요청 수, rejected: 대기열이 차거나 기다리다 max-wait 가 지나서 거절한 요청 수
+public record BulkheadStats(int limit, int inflight, int queued, long accepted, long rejected,
+                            double longRttMillis) {
+}
@@ -0,0 +1,69 @@
+package com.playdata.study.support.bulkhead;
+
+import com.playdata.study.support.QueryDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 조회 종류별 Bulkhead 모음
+// 종류마다 제한/대기열이 따로라서 집계 조회가 몰려서 거절되는 동안에도 id 조회는 계속 실행됨
+// (aggregate + search 의 max-limit 합계가 커넥션 풀 크기보다 작아야 남은 커넥션을 id 조회가 항상 쓸 수 있음)
+public class Bulkheads {
+
+    public record Limits(int initialLimit, int minLimit, int maxLimit, int maxQueue, Duration maxWait) {
+    }
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final boolean enabled;
+    private final Map<QueryClass, Bulkhead> bulkheads = new EnumMap<>(QueryClass.class);
+
+    public Bulkheads(boolean enabled, double rttTolerance, Map<QueryClass, Limits> limits) {
+        this.enabled = enabled;
+        for (QueryClass queryClass : QueryClass.values()) {
+            Limits l = limits.get(queryClass);
+            if (l == null) {
+                throw new IllegalArgumentException("bulkhead 설정이 없습니다: " + queryClass);
+            }
+            bulkheads.put(queryClass, new Bulkhead(queryClass,
+                    new GradientLimit(l.initialLimit(), l.minLimit(), l.maxLimit(), rttTolerance),
+                    l.maxQueue(), l.maxWait()));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Bulkhead get(QueryClass queryClass) {
+        return bulkheads.get(queryClass);
+    }
+
+    // 트랜잭션/커넥션을 잡기 전에 호출해야 대기하는 동안 커넥션을 붙잡고 있지 않음
+    public <T, E extends Exception> T execute(QueryClass queryClass, Call<T, E> call) throws E {
+        if (!enabled) {
+            return call.call();
+        }
+        Bulkhead.Permit permit = get(queryClass).acquire();
+        boolean dropped = false;
+        try {
+            return call.call();
+        } catch (QueryDeadlineExceededException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            permit.release(dropped);
+        }
+    }
+
+    public Map<QueryClass, BulkheadStats> stats() {
+        Map<QueryClass, BulkheadStats> stats = new LinkedHashMap<>();
+        bulkheads.forEach((queryClass, bulkhead) -> stats.put(queryClass, bulkhead.stats()));
+        return stats;
+    }
+}
@@ -0,0 +1,66 @@
+package com.playdata.study.support.bulkhead;
+
+// 응답 시간을 보고 동시 실행 수 제한을 조절 (Netflix concurrency-limits 의 Gradient2 방식)
+// - longRtt: 오래 본 평균 응답 시간 (부하가 없을 때의 기준), 샘플: 방금 끝난 조회의 응답 시간
+// - gradient = tolerance * longRtt / 샘플 (0.5 ~ 1.0) -> 응답이 기준보다 tolerance 배 이상 느려지면 제한을 줄임
+// - 새 제한 = 현재 제한 * gradient + sqrt(현재 제한) (여유분만큼은 계속 늘려보면서 처리량을 찾음)
+// - 제한의 절반도 안 쓰고 있을 때는 늘리지 않음 (요청이 적어서 빨랐던 것을 여유로 착각하지 않도록)
+// - 마감 시간 초과로 끝난 조회(dropped)는 바로 제한을 줄임
+// 스레드 안전하지 않음 -> Bulkhead 의 lock 안에서만 호출
+class GradientLimit {
+
+    private static final double LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("min-limit 은 1 이상, max-limit 이하여야 합니다: " + minLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = clamp(initialLimit);
+    }
+
+    int current() {
+        return (int) estimatedLimit;
+    }
+
+    void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped) {
+            estimatedLimit = clamp(estimatedLimit * 0.9);
+            return;
+        }
+        samples++;
+        // 처음에는 단순 평균, 이후에는 지수 이동 평균
+        double weight = 1.0 / Math.min(samples, LONG_WINDOW);
+        longRttNanos = longRttNanos * (1 - weight) + rttNanos * weight;
+        // 과부하가 풀려서 샘플이 기준보다 훨씬 빨라졌으면 기준도 빨리 따라감 (높게 잡힌 기준 때문에 계속 과부하를 허용하지 않도록)
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    long longRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
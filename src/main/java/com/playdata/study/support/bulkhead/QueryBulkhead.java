@@ -0,0 +1,14 @@
+package com.playdata.study.support.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드의 조회 종류 -> BulkheadInterceptor 가 요청 처리 전체(트랜잭션/스트리밍 포함)를 해당 bulkhead 안에서 실행
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBulkhead {
+
+    QueryClass value();
+}
@@ -0,0 +1,9 @@
+package com.playdata.study.support.bulkhead;
+
+// 커넥션/DB 자원을 나눠 쓰는 조회 종류 (종류마다 따로 동시 실행 수를 제한)
+// AGGREGATE: 그룹/성별 집계처럼 많은 행을 읽는 조회
+// SEARCH: 조건 검색/목록 스트리밍/페이지 조회
+// POINT_LOOKUP: id(PK)/키 하나로 찾는 조회
+public enum QueryClass {
+    AGGREGATE, SEARCH, POINT_LOOKUP
+}
@@ -0,0 +1,141 @@
+package com.playdata.study.support.cache;
+
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Group / Team / Idol / Member 가 저장, 수정, 삭제되면 영향을 받는 캐시 키를 모아뒀다가
+// 트랜잭션이 커밋된 뒤에 InvalidationBus로 발행 (롤백되면 발행하지 않음)
+// 소속이 바뀐 경우 이전 그룹/팀의 명단도 바뀌므로 수정 전 값(영속성 컨텍스트의 로딩 시점 값)도 함께 무효화
+// JPQL 벌크 수정/삭제(deleteAllInBatch 등)는 엔터티 리스너를 거치지 않으므로 ttl이 지나야 반영됨
+// 스프링 부트가 Hibernate에 SpringBeanContainer를 등록해주기 때문에 엔터티 리스너에도 주입이 됨
+public class CacheInvalidationListener {
+
+    private final ObjectProvider<InvalidationBus> bus;
+    private final ObjectProvider<EntityManagerFactory> emf;
+
+    // EntityManagerFactory를 만드는 도중에 생성되므로 실제 Bean은 사용할 때 꺼냄
+    public CacheInvalidationListener(ObjectProvider<InvalidationBus> bus, ObjectProvider<EntityManagerFactory> emf) {
+        this.bus = bus;
+        this.emf = emf;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        publishAfterCommit(keysOf(entity, false));
+    }
+
+    // 삭제도 수정 전 소속이 필요함 (Group.removeIdol 처럼 소속을 null 로 바꾼 뒤 고아 삭제되는 경우)
+    // 삭제된 뒤(@PostRemove)에는 영속성 컨텍스트에서 빠져서 로딩 시점 값을 읽을 수 없으므로 삭제 전에 키를 모음
+    @PreUpdate
+    @PreRemove
+    public void onUpdateOrRemove(Object entity) {
+        publishAfterCommit(keysOf(entity, true));
+    }
+
+    // existing: 이미 저장되어 있던 엔터티 (수정/삭제) -> 로딩 시점 값의 키도 포함
+    private List<CacheKey> keysOf(Object entity, boolean existing) {
+        List<CacheKey> keys = new ArrayList<>();
+        if (entity instanceof Group group) {
+            keys.add(new CacheKey(CacheNames.GROUP_ROSTER, group.getId()));
+        } else if (entity instanceof Idol idol) {
+            addKey(keys, CacheNames.GROUP_ROSTER, idOf(idol.getGroup()));
+            if (existing) {
+                addKey(keys, CacheNames.GROUP_ROSTER, idOf(loadedValue(idol, "group")));
+            }
+        } else if (entity instanceof Team team) {
+            keys.add(new CacheKey(CacheNames.TEAM_ROSTER, team.getId()));
+            if (existing) {
+                // findByName 결과에 팀 이름이 들어있지만 어떤 회원 이름인지는 모르므로 전체 무효화
+                keys.add(CacheKey.all(CacheNames.MEMBERS_BY_NAME));
+            }
+        } else if (entity instanceof Member member) {
+            addKey(keys, CacheNames.TEAM_ROSTER, idOf(member.getTeam()));
+            addKey(keys, CacheNames.MEMBERS_BY_NAME, member.getUserName());
+            if (existing) {
+                addKey(keys, CacheNames.TEAM_ROSTER, idOf(loadedValue(member, "team")));
+                addKey(keys, CacheNames.MEMBERS_BY_NAME, loadedValue(member, "userName"));
+            }
+        }
+        return keys;
+    }
+
+    private void addKey(List<CacheKey> keys, String cache, Object key) {
+        if (key != null) {
+            keys.add(new CacheKey(cache, key));
+        }
+    }
+
+    // 프록시여도 초기화하지 않고 id만 꺼냄
+    private Object idOf(Object entity) {
+        return entity == null ? null : emf.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    // 이 엔터티를 조회(또는 마지막으로 flush)했을 때의 필드 값
+    private Object loadedValue(Object entity, String property) {
+        EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(emf.getObject());
+        if (em == null) {
+            return null;
+        }
+        EntityEntry entry = em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getEntry(entity);
+        if (entry == null || entry.getLoadedState() == null) {
+            return null;
+        }
+        Integer index = entry.getPersister().getEntityMetamodel().getPropertyIndexOrNull(property);
+        return index == null ? null : entry.getLoadedState()[index];
+    }
+
+    private void publishAfterCommit(List<CacheKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.getObject().publish(keys);
+            return;
+        }
+        // 한 트랜잭션에서 여러 엔터티가 바뀌어도 커밋 후 한 번만 발행
+        // (REQUIRES_NEW 로 중단된 바깥 트랜잭션의 동기화 객체는 여기서 보이지 않으므로 트랜잭션별로 따로 모임)
+        PendingInvalidations pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingInvalidations.class::isInstance)
+                .map(PendingInvalidations.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingInvalidations created = new PendingInvalidations(bus.getObject());
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        pending.keys.addAll(keys);
+    }
+
+    private static final class PendingInvalidations implements TransactionSynchronization {
+
+        private final InvalidationBus bus;
+        private final Set<CacheKey> keys = new LinkedHashSet<>();
+
+        private PendingInvalidations(InvalidationBus bus) {
+            this.bus = bus;
+        }
+
+        @Override
+        public void afterCommit() {
+            bus.publish(List.copyOf(keys));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.playdata.study.support.cache;
+
+// 무효화 대상: 캐시 이름 + 키 (key가 null이면 그 캐시 전체)
+public record CacheKey(String cache, Object key) {
+
+    public static CacheKey all(String cache) {
+        return new CacheKey(cache, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.playdata.study.support.cache;
+
+// NearCache 이름 (CachedLookupService에서 조회, CacheInvalidationListener에서 무효화)
+public final class CacheNames {
+
+    public static final String GROUP_ROSTER = "groupRoster";     // 그룹 id -> 그룹 + 소속 아이돌
+    public static final String TEAM_ROSTER = "teamRoster";       // 팀 id -> 팀 + 소속 회원
+    public static final String MEMBERS_BY_NAME = "membersByName"; // 회원 이름 -> findByName 결과
+
+    private CacheNames() {
+    }
+}
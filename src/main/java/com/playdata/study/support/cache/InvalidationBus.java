@@ -0,0 +1,78 @@
+package com.playdata.study.support.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// NearCache 들을 관리하고 무효화를 모든 노드에 전파
+// publish 하면 자기 노드 캐시는 바로 지우고, transport로 보낸 메시지를 받은 다른 노드들도 같은 키를 지움
+@Slf4j
+public class InvalidationBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Map<String, NearCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final List<Runnable> evictionListeners = new CopyOnWriteArrayList<>();
+
+    public InvalidationBus(InvalidationTransport transport, int maxSize, Duration ttl) {
+        this.transport = transport;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        transport.subscribe(this::receive);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> NearCache<K, V> cache(String name) {
+        return (NearCache<K, V>) caches.computeIfAbsent(name, n -> new NearCache<>(n, maxSize, ttl));
+    }
+
+    // 이 노드/다른 노드의 변경으로 캐시를 지우기 직전에 호출 (ex: QueryCoalescer::advance)
+    public void addEvictionListener(Runnable listener) {
+        evictionListeners.add(listener);
+    }
+
+    public void publish(List<CacheKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        evict(keys);
+        try {
+            transport.send(new InvalidationMessage(nodeId, keys));
+        } catch (RuntimeException e) {
+            // 전송 실패는 ttl이 지나면 다른 노드에서도 다시 읽으므로 요청을 실패시키지 않음
+            log.warn("캐시 무효화 메시지 전송 실패: {}", keys, e);
+        }
+    }
+
+    private void receive(InvalidationMessage message) {
+        if (!nodeId.equals(message.sourceNode())) {
+            evict(message.keys());
+        }
+    }
+
+    private void evict(List<CacheKey> keys) {
+        evictionListeners.forEach(Runnable::run);
+        for (CacheKey key : keys) {
+            NearCache<?, ?> cache = caches.get(key.cache());
+            if (cache == null) {
+                continue;
+            }
+            if (key.key() == null) {
+                cache.invalidateAll();
+            } else {
+                cache.invalidate(key.key());
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.playdata.study.support.cache;
+
+import java.util.List;
+
+// 노드 사이에 전달되는 무효화 메시지 (sourceNode: 보낸 노드, 자기 메시지는 무시)
+public record InvalidationMessage(String sourceNode, List<CacheKey> keys) {
+}
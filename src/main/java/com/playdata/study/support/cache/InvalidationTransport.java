@@ -0,0 +1,12 @@
+package com.playdata.study.support.cache;
+
+import java.util.function.Consumer;
+
+// 무효화 메시지를 다른 노드로 전달하는 방법 (Redis pub/sub, Kafka, UDP 멀티캐스트 등으로 교체 가능)
+// 구현체는 send 한 메시지를 모든 노드(보낸 노드 포함 가능)의 subscriber에게 전달하면 됨
+public interface InvalidationTransport {
+
+    void send(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> subscriber);
+}
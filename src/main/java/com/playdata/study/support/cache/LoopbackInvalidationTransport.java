@@ -0,0 +1,22 @@
+package com.playdata.study.support.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 노드가 하나일 때 쓰는 기본 전송 방법: 보낸 메시지를 자기 자신에게만 돌려줌
+// (다른 노드로는 전달되지 않으므로 여러 대로 실행할 때는 실제 전송 구현체를 Bean으로 등록해야 함)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(InvalidationMessage message) {
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
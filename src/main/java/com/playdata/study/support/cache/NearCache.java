@@ -0,0 +1,122 @@
+package com.playdata.study.support.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 노드(JVM) 안에만 있는 조회 결과 캐시
+// 값은 DB에서 다시 읽지 않고 InvalidationBus로 무효화 메시지를 받을 때까지 유지되고,
+// 메시지가 유실될 경우를 대비해 ttl이 지나면 다시 읽습니다.
+public class NearCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    // 무효화될 때마다 증가 -> DB에서 읽는 도중에 무효화가 일어났으면 읽은 값(이미 옛날 값일 수 있음)을 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    // 재시작 직후 비어 있을 때 loader 대신 먼저 보는 값 (여기서 읽은 값은 캐시에 넣지 않음)
+    private volatile WarmSource<K, V> warmSource;
+
+    NearCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 캐시에 없거나 만료되었으면 loader로 읽어서 저장 (loader가 null을 돌려주면 저장하지 않음)
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos() - System.nanoTime() > 0) {
+            return entry.value();
+        }
+
+        WarmSource<K, V> warm = warmSource;
+        if (warm != null) {
+            V value = warm.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        long before = generation.get();
+        V value = loader.apply(key);
+        if (value != null && generation.get() == before) {
+            if (entries.size() >= maxSize) {
+                evictOne();
+            }
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            // put 하는 사이에 무효화가 끼어들었으면 방금 넣은 값 제거
+            if (generation.get() != before) {
+                entries.remove(key);
+            }
+        }
+        return value;
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(entries.get(key))
+                .filter(entry -> entry.expiresAtNanos() - System.nanoTime() > 0)
+                .map(Entry::value);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료되지 않은 값 전체 (스냅샷 저장용)
+    public Map<K, V> values() {
+        long now = System.nanoTime();
+        Map<K, V> values = new HashMap<>(entries.size() * 2);
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAtNanos() - now > 0) {
+                values.put(key, entry.value());
+            }
+        });
+        return values;
+    }
+
+    public void warmFrom(WarmSource<K, V> source) {
+        warmSource = source;
+    }
+
+    void invalidate(Object key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+        WarmSource<K, V> warm = warmSource;
+        if (warm != null) {
+            warm.retire(key);
+        }
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        WarmSource<K, V> warm = warmSource;
+        if (warm != null) {
+            warm.retireAll();
+        }
+    }
+
+    // 가득 차면 아무 항목이나 하나 제거 (LRU까지는 필요 없는 작은 조회용 캐시)
+    private void evictOne() {
+        Iterator<K> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            entries.remove(iterator.next());
+        }
+    }
+}
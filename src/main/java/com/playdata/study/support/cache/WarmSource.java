@@ -0,0 +1,13 @@
+package com.playdata.study.support.cache;
+
+// NearCache 가 비어 있을 때 DB 대신 먼저 보는 읽기 전용 값 (재시작 직후 웜 스타트용)
+// 무효화된 키는 폐기(retire)해서 다시 돌려주지 않음
+public interface WarmSource<K, V> {
+
+    // 없거나 폐기된 키는 null
+    V get(K key);
+
+    void retire(Object key);
+
+    void retireAll();
+}
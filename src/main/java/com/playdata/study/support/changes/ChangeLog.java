@@ -0,0 +1,67 @@
+package com.playdata.study.support.changes;
+
+import com.playdata.study.entity.ChangeEntityType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 변경 순번 발급 + 삭제 기록
+// 순번 카운터 행을 UPDATE 하면 커밋할 때까지 행 잠금이 유지되므로 다른 트랜잭션은 그동안 순번을 받지 못함
+// -> 순번 순서 = 커밋 순서가 되어, 피드를 읽는 쪽이 "아직 커밋 안 된 작은 순번"을 건너뛰는 일이 없음
+// 대신 쓰기 트랜잭션들은 첫 변경부터 커밋까지 서로 직렬화됨 (짧은 트랜잭션 전제)
+// 반드시 엔터티를 쓰는 트랜잭션 안에서 호출해야 함 (JdbcTemplate 이 같은 커넥션을 사용)
+@Component
+public class ChangeLog {
+
+    private static final long SEQUENCE_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long next() {
+        return allocate(1);
+    }
+
+    // count 개의 연속된 순번을 받고 첫 번째 순번을 반환
+    public long allocate(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count는 1 이상이어야 합니다: " + count);
+        }
+        if (increment(count) == 0) {
+            // 새로 만든 DB (ddl-auto) 라서 카운터 행이 없음 -> 다른 노드가 먼저 만들었으면 무시
+            try {
+                jdbcTemplate.update("INSERT INTO tbl_change_sequence (sequence_id, seq) VALUES (?, 0)", SEQUENCE_ID);
+            } catch (DuplicateKeyException ignored) {
+            }
+            increment(count);
+        }
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT seq FROM tbl_change_sequence WHERE sequence_id = ?", Long.class, SEQUENCE_ID);
+        return last - count + 1;
+    }
+
+    // 현재 트랜잭션에서 보이는 마지막 순번 (카운터 행이 없으면 0)
+    // 커밋된 값이면 그 이하 순번을 받은 트랜잭션은 모두 커밋된 상태
+    public long current() {
+        List<Long> seq = jdbcTemplate.queryForList(
+                "SELECT seq FROM tbl_change_sequence WHERE sequence_id = ?", Long.class, SEQUENCE_ID);
+        return seq.isEmpty() ? 0 : seq.get(0);
+    }
+
+    public void recordDeletion(ChangeEntityType type, Object entityId) {
+        jdbcTemplate.update(
+                "INSERT INTO tbl_change_tombstone (entity_type, entity_id, change_seq, deleted_at) VALUES (?, ?, ?, ?)",
+                type.name(), entityId, next(), LocalDateTime.now());
+    }
+
+    private int increment(int count) {
+        return jdbcTemplate.update(
+                "UPDATE tbl_change_sequence SET seq = seq + ? WHERE sequence_id = ?", count, SEQUENCE_ID);
+    }
+}
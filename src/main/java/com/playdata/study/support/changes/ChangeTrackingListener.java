@@ -0,0 +1,43 @@
+package com.playdata.study.support.changes;
+
+import com.playdata.study.entity.ChangeEntityType;
+import com.playdata.study.entity.ChangeTracked;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+
+// ChangeTracked 엔터티의 생성/수정 시각과 변경 순번을 채우고, 삭제되면 삭제 기록을 남김
+// Group.removeIdol 처럼 orphanRemoval 로 지워지는 경우와 cascade 삭제도 @PostRemove 가 호출됨
+// (deleteAllInBatch 같은 JPQL 벌크 삭제는 호출되지 않음)
+public class ChangeTrackingListener {
+
+    private final ObjectProvider<ChangeLog> changeLog;
+    private final ObjectProvider<EntityManagerFactory> emf;
+
+    // EntityManagerFactory를 만드는 도중에 생성되므로 실제 Bean은 사용할 때 꺼냄
+    public ChangeTrackingListener(ObjectProvider<ChangeLog> changeLog, ObjectProvider<EntityManagerFactory> emf) {
+        this.changeLog = changeLog;
+        this.emf = emf;
+    }
+
+    @PrePersist
+    public void onPersist(Object entity) {
+        ((ChangeTracked) entity).markCreated(changeLog.getObject().next(), LocalDateTime.now());
+    }
+
+    // 여기서 바꾼 값은 Hibernate가 더티 체크를 다시 해서 같은 UPDATE에 포함시킴
+    @PreUpdate
+    public void onUpdate(Object entity) {
+        ((ChangeTracked) entity).markUpdated(changeLog.getObject().next(), LocalDateTime.now());
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        Object id = emf.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+        changeLog.getObject().recordDeletion(ChangeEntityType.of(entity), id);
+    }
+}
@@ -0,0 +1,79 @@
+package com.playdata.study.support.coalesce;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.TemplateExpression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// 같은 조회인지 판단하는 키: 메서드 이름 + 정규화한 인자
+// - QueryDSL 조건(Predicate 등)은 식 트리를 그대로 값으로 바꿔서 비교 (연산자 + 경로 + 상수의 타입과 값)
+//   toString 은 상수를 따옴표 없이 출력해서 name = 'a' and b 와 name = 'a and b' 처럼 다른 조건이 같은 문자열이 될 수 있음
+// - 바꿀 수 없는 식(서브쿼리, 파라미터 등)은 매번 다른 키 -> 합쳐지지 않을 뿐 결과는 맞음
+// - -0.0 과 0.0 은 같은 조건이므로 같은 값으로
+// - 컬렉션은 순서를 유지한 List 로 (IN 목록 순서가 다르면 다른 키 -> 합쳐지지 않을 뿐 결과는 맞음)
+public record CoalesceKey(String method, List<Object> args) {
+
+    private record ConstantNode(Class<?> type, Object value) {
+    }
+
+    private record OperationNode(Object operator, List<Object> args) {
+    }
+
+    private record TemplateNode(String template, List<Object> args) {
+    }
+
+    public static CoalesceKey of(String method, Object... args) {
+        List<Object> normalized = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            normalized.add(normalize(arg));
+        }
+        return new CoalesceKey(method, normalized);
+    }
+
+    private static Object normalize(Object arg) {
+        if (arg instanceof Expression<?> expression) {
+            return normalize(expression);
+        }
+        if (arg instanceof Double d && d == 0.0) {
+            return 0.0;
+        }
+        if (arg instanceof Collection<?> values) {
+            return values.stream().map(CoalesceKey::normalize).toList();
+        }
+        if (arg instanceof Object[] values) {
+            return Arrays.stream(values).map(CoalesceKey::normalize).toList();
+        }
+        return arg;
+    }
+
+    // 경로는 불변이고 equals 가 구조 비교라서 그대로 사용
+    // BooleanBuilder 는 나중에 바뀔 수 있으므로 지금 값으로 바꿔둠 (빈 조건은 조건 없음(null)과 같은 키)
+    private static Object normalize(Expression<?> expression) {
+        if (expression instanceof BooleanBuilder builder) {
+            return builder.getValue() == null ? null : normalize(builder.getValue());
+        }
+        if (expression instanceof Path<?> path) {
+            return path;
+        }
+        if (expression instanceof Constant<?> constant) {
+            Object value = constant.getConstant();
+            return new ConstantNode(value == null ? null : value.getClass(), value == null ? null : normalize(value));
+        }
+        if (expression instanceof Operation<?> operation) {
+            return new OperationNode(operation.getOperator(),
+                    operation.getArgs().stream().map(CoalesceKey::normalize).toList());
+        }
+        if (expression instanceof TemplateExpression<?> template) {
+            return new TemplateNode(template.getTemplate().toString(),
+                    template.getArgs().stream().map(CoalesceKey::normalize).toList());
+        }
+        return new Object();
+    }
+}
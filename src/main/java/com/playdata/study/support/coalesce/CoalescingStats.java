@@ -0,0 +1,7 @@
+package com.playdata.study.support.coalesce;
+
+// 메서드별 조회 합치기 상태
+// executions: DB에서 실제로 실행한 횟수, coalesced: 다른 요청의 실행 결과를 받은 횟수
+// bypassed: 쓰기 트랜잭션 안이라 합치지 않고 바로 실행한 횟수, timeouts: 기다리다 호출한 쪽 마감 시간이 지난 횟수
+public record CoalescingStats(long executions, long coalesced, long bypassed, long timeouts) {
+}
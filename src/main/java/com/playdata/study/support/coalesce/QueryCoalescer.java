@@ -0,0 +1,142 @@
+package com.playdata.study.support.coalesce;
+
+import com.playdata.study.support.QueryDeadline;
+import com.playdata.study.support.QueryDeadlineExceededException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// 동시에 들어온 같은 조회(CoalesceKey)를 DB에서 한 번만 실행하고 결과를 나눠줌 (single-flight)
+// - 처음 온 요청(leader)이 자기 스레드/트랜잭션/QueryDeadline 으로 실행하고, 실행 중에 온 요청은 그 결과를 기다림
+// - 기다리는 시간은 요청마다 자기 QueryDeadline 의 남은 시간 (없으면 max-wait), 지나면 QueryDeadlineExceededException
+// - leader 가 실패하면 기다리던 요청도 같은 예외로 실패
+//   (leader 자신의 마감 시간 초과로 실패한 경우만 남은 시간이 있는 요청이 다시 실행)
+// - 결과는 여러 스레드가 같이 쓰므로 copy 로 요청마다 복사본을 줌 (불변 결과면 UnaryOperator.identity())
+// 이미 실행 중인 조회는 그 뒤에 커밋된 변경을 못 볼 수 있으므로 advance() 가 호출된 뒤에 온 요청은 그 이전 실행에 합치지 않음
+// (InvalidationBus 가 캐시를 지우기 전에 호출 -> 변경 커밋/무효화 메시지 이후의 요청은 새로 실행)
+// 쓰기 트랜잭션 안의 요청은 아직 커밋 안 된 자기 변경을 봐야 하므로 합치지 않고 바로 실행
+public class QueryCoalescer {
+
+    private record Flight(long epoch, CompletableFuture<Object> result) {
+    }
+
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder bypassed = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+    }
+
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Map<CoalesceKey, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public QueryCoalescer(boolean enabled, Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+    }
+
+    public <V> V execute(CoalesceKey key, Supplier<V> query) {
+        return execute(key, query, UnaryOperator.identity());
+    }
+
+    public <V> V execute(CoalesceKey key, Supplier<V> query, UnaryOperator<V> copy) {
+        Counters counter = counters.computeIfAbsent(key.method(), m -> new Counters());
+        if (!enabled || inWriteTransaction()) {
+            counter.bypassed.increment();
+            return query.get();
+        }
+
+        Duration timeout = QueryDeadline.current().map(QueryDeadline::getTimeout).orElse(maxWait);
+        long deadlineNanos = QueryDeadline.current()
+                .map(deadline -> System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline.remainingMillis()))
+                .orElseGet(() -> System.nanoTime() + maxWait.toNanos());
+        while (true) {
+            long current = epoch.get();
+            Flight mine = new Flight(current, new CompletableFuture<>());
+            Flight flight = flights.compute(key,
+                    (k, running) -> running != null && running.epoch() == current ? running : mine);
+            if (flight == mine) {
+                counter.executions.increment();
+                return copy.apply(lead(key, mine, query));
+            }
+
+            counter.coalesced.increment();
+            try {
+                return copy.apply(await(flight, deadlineNanos, timeout, counter));
+            } catch (QueryDeadlineExceededException e) {
+                // leader 의 마감 시간이 더 짧았으면 남은 시간 안에서 다시 실행
+                if (System.nanoTime() >= deadlineNanos) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 이후의 요청은 지금 실행 중인 조회에 합치지 않음
+    public void advance() {
+        epoch.incrementAndGet();
+    }
+
+    public Map<String, CoalescingStats> stats() {
+        Map<String, CoalescingStats> stats = new LinkedHashMap<>();
+        new TreeMap<>(counters).forEach((method, c) -> stats.put(method, new CoalescingStats(
+                c.executions.sum(), c.coalesced.sum(), c.bypassed.sum(), c.timeouts.sum())));
+        return stats;
+    }
+
+    // 기다리던 요청이 다시 실행할 때 끝난 실행에 합치지 않도록 결과를 알리기 전에 목록에서 뺌
+    private <V> V lead(CoalesceKey key, Flight flight, Supplier<V> query) {
+        V result;
+        try {
+            result = query.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result().completeExceptionally(e);
+            throw e;
+        }
+        flights.remove(key, flight);
+        flight.result().complete(result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V await(Flight flight, long deadlineNanos, Duration timeout, Counters counter) {
+        try {
+            return (V) flight.result().get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            counter.timeouts.increment();
+            throw new QueryDeadlineExceededException(timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 조회의 결과를 기다리는 중에 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,14 @@
+package com.playdata.study.support.counter;
+
+// StripedCounters 상태
+// pendingKeys: 메모리에 카운터가 있는 키 수 (증가분이 0 이어도 지워지기 전이면 포함)
+// flushedKeys: 지금까지 반영한 (키, 주기) 수 = UPDATE 로 갱신한 행 수의 합
+public record CounterStats(
+        int pendingKeys,
+        long increments,
+        long flushedKeys,
+        long flushCount,
+        long failedFlushCount,
+        int lastFlushKeys,
+        double lastFlushMillis) {
+}
@@ -0,0 +1,19 @@
+package com.playdata.study.support.counter;
+
+import java.util.Map;
+
+// writer 가 증가분 일부를 커밋한 뒤 실패했을 때, 반영하지 못한 증가분만 담아서 던짐
+// (StripedCounters 는 전체가 아니라 이 증가분만 다시 더해둠 -> 커밋된 증가분이 두 번 반영되지 않음)
+public class PartialFlushException extends RuntimeException {
+
+    private final Map<Long, long[]> unwritten;
+
+    public PartialFlushException(Map<Long, long[]> unwritten, Throwable cause) {
+        super("증가분 일부를 반영하지 못했습니다. (" + unwritten.size() + "개 키)", cause);
+        this.unwritten = unwritten;
+    }
+
+    public Map<Long, long[]> getUnwritten() {
+        return unwritten;
+    }
+}
@@ -0,0 +1,245 @@
+package com.playdata.study.support.counter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 키(ex: 앨범 id)마다 slots 개의 카운터를 메모리에서 더해두고 flushInterval 마다 증가분만 writer 로 넘김
+// - 카운터는 LongAdder (스레드마다 다른 셀에 더함) -> 같은 키에 동시에 몰려도 CAS 경합이 적음
+// - writer 가 실패하면 꺼낸 증가분을 다시 더해두고 다음 주기에 함께 씀 (PartialFlushException 이면 반영하지 못한 것만)
+// - close 하면 마지막으로 한 번 더 반영 (그 뒤의 add 는 IllegalStateException)
+// - 증가분을 꺼내서 반영하는 동안은 쓰기 락 -> read 가 "DB 값 + 남은 증가분"을 이중/누락 없이 계산
+@Slf4j
+public class StripedCounters implements AutoCloseable {
+
+    private static final class Entry {
+        private final LongAdder[] counters;
+        // 지난 flush 때 증가분이 없었음 (flusher 스레드에서만 사용)
+        private boolean idle;
+
+        private Entry(int slots) {
+            counters = new LongAdder[slots];
+            for (int i = 0; i < slots; i++) {
+                counters[i] = new LongAdder();
+            }
+        }
+    }
+
+    private final String name;
+    private final int slots;
+    private final Consumer<Map<Long, long[]>> writer;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final StampedLock flushLock = new StampedLock();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean running = true;
+
+    private final LongAdder increments = new LongAdder();
+    private final AtomicLong flushedKeys = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile int lastFlushKeys;
+
+    public StripedCounters(String name, int slots, Duration flushInterval, Consumer<Map<Long, long[]>> writer) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("slots는 1 이상이어야 합니다: " + slots);
+        }
+        this.name = name;
+        this.slots = slots;
+        this.writer = writer;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name + "-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!flushInterval.isZero()) {
+            flusher.scheduleWithFixedDelay(this::scheduledFlush,
+                    flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void add(long key, int slot, long delta) {
+        if (!running) {
+            throw new IllegalStateException(name + " 카운터가 종료되었습니다.");
+        }
+        addPending(key, slot, delta);
+        increments.increment();
+    }
+
+    private void addPending(long key, int slot, long delta) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, k -> new Entry(slots));
+        }
+        entry.counters[slot].add(delta);
+        // 그사이 flush 가 증가분 없는 항목으로 보고 지웠으면, 지운 뒤에 더한 값은 아무도 꺼내가지 않으므로 옮겨 담음
+        // (지운 직후 flush 가 한 번 더 꺼내가므로, 꺼내기 전에 더한 값은 그쪽에서 반영됨)
+        if (entries.get(key) != entry) {
+            long stray = entry.counters[slot].sumThenReset();
+            if (stray != 0) {
+                addPending(key, slot, stray);
+            }
+        }
+    }
+
+    // 아직 반영되지 않은 증가분 (없으면 0)
+    public long[] pending(long key) {
+        long[] sums = new long[slots];
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            for (int i = 0; i < slots; i++) {
+                sums[i] += entry.counters[i].sum();
+            }
+        }
+        return sums;
+    }
+
+    // persisted 로 읽은 DB 값에 남은 증가분을 더함 (persisted 가 null 이면 null)
+    // 읽는 도중 flush 가 반영했으면 다시 읽음 -> 같은 증가분이 DB 값과 남은 증가분에 두 번 들어가지 않음
+    public long[] read(long key, Supplier<long[]> persisted) {
+        long stamp = flushLock.tryOptimisticRead();
+        if (stamp != 0) {
+            long[] result = combine(key, persisted.get());
+            if (flushLock.validate(stamp)) {
+                return result;
+            }
+        }
+        stamp = flushLock.readLock();
+        try {
+            return combine(key, persisted.get());
+        } finally {
+            flushLock.unlockRead(stamp);
+        }
+    }
+
+    private long[] combine(long key, long[] persisted) {
+        if (persisted == null) {
+            return null;
+        }
+        long[] pending = pending(key);
+        long[] result = persisted.clone();
+        for (int i = 0; i < slots; i++) {
+            result[i] += pending[i];
+        }
+        return result;
+    }
+
+    // 남은 증가분을 모두 writer 로 반영, 실패하면 예외를 그대로 던짐 (증가분은 다시 더해둠)
+    public void flush() {
+        long stamp = flushLock.writeLock();
+        try {
+            Map<Long, long[]> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                writer.accept(deltas);
+            } catch (RuntimeException e) {
+                failedFlushCount.incrementAndGet();
+                Map<Long, long[]> unwritten = e instanceof PartialFlushException partial
+                        ? partial.getUnwritten()
+                        : deltas;
+                unwritten.forEach((key, values) -> {
+                    for (int i = 0; i < slots; i++) {
+                        if (values[i] != 0) {
+                            addPending(key, i, values[i]);
+                        }
+                    }
+                });
+                throw e;
+            }
+            lastFlushNanos = System.nanoTime() - start;
+            lastFlushKeys = deltas.size();
+            flushedKeys.addAndGet(deltas.size());
+            flushCount.incrementAndGet();
+        } finally {
+            flushLock.unlockWrite(stamp);
+        }
+    }
+
+    // 키 순서대로 (여러 노드가 같은 행들을 갱신해도 잠금 순서가 같도록)
+    // 두 번 연속 증가분이 없는 키는 지워서 한 번 쓰이고 마는 키가 쌓이지 않게 함
+    private Map<Long, long[]> drain() {
+        Map<Long, long[]> deltas = new TreeMap<>();
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Entry> mapping = iterator.next();
+            Entry entry = mapping.getValue();
+            long[] values = sumThenReset(entry);
+            if (values != null) {
+                entry.idle = false;
+                deltas.put(mapping.getKey(), values);
+            } else if (entry.idle) {
+                if (entries.remove(mapping.getKey(), entry)) {
+                    values = sumThenReset(entry);
+                    if (values != null) {
+                        deltas.put(mapping.getKey(), values);
+                    }
+                }
+            } else {
+                entry.idle = true;
+            }
+        }
+        return deltas;
+    }
+
+    // 모두 0이면 null
+    private long[] sumThenReset(Entry entry) {
+        long[] values = new long[slots];
+        boolean any = false;
+        for (int i = 0; i < slots; i++) {
+            values[i] = entry.counters[i].sumThenReset();
+            any |= values[i] != 0;
+        }
+        return any ? values : null;
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("{} 카운터 반영 실패, 다음 주기에 다시 시도합니다.", name, e);
+        }
+    }
+
+    public CounterStats stats() {
+        return new CounterStats(
+                entries.size(),
+                increments.sum(),
+                flushedKeys.get(),
+                flushCount.get(),
+                failedFlushCount.get(),
+                lastFlushKeys,
+                lastFlushNanos / 1_000_000.0);
+    }
+
+    // 새 증가는 받지 않고 남은 증가분을 반영한 뒤 종료
+    @Override
+    public void close() {
+        running = false;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("{} 종료 중 반영 실패, {}개 키의 증가분을 반영하지 못했습니다.", name, entries.size(), e);
+        }
+    }
+}
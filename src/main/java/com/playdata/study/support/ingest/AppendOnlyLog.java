@@ -0,0 +1,115 @@
+package com.playdata.study.support.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 한 줄에 "순번 \t 내용" 을 덧붙이기만 하는 로그 + 어디까지 DB에 반영됐는지 남기는 체크포인트 파일(<로그>.checkpoint)
+// 열 때 체크포인트 이후 항목을 pending() 으로 돌려주고, 체크포인트가 마지막 순번까지 오면 로그를 비워서 계속 커지지 않게 함
+// encoder 결과에는 줄바꿈이 없어야 함
+public class AppendOnlyLog<T> implements Closeable {
+
+    public record Record<T>(long sequence, T item) {
+    }
+
+    private final Path checkpointFile;
+    private final Function<T, String> encoder;
+    private final boolean fsync;
+    private final FileChannel channel;
+    private final List<Record<T>> pending = new ArrayList<>();
+    private long lastSequence;
+
+    public AppendOnlyLog(Path file, Function<T, String> encoder, Function<String, T> decoder, boolean fsync) {
+        this.checkpointFile = file.resolveSibling(file.getFileName() + ".checkpoint");
+        this.encoder = encoder;
+        this.fsync = fsync;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            long checkpoint = Files.exists(checkpointFile)
+                    ? Long.parseLong(Files.readString(checkpointFile).trim())
+                    : 0;
+            lastSequence = checkpoint;
+
+            long validLength = 0;
+            if (Files.exists(file)) {
+                byte[] bytes = Files.readAllBytes(file);
+                int lineStart = 0;
+                for (int i = 0; i < bytes.length; i++) {
+                    if (bytes[i] != '\n') {
+                        continue;
+                    }
+                    String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                    int tab = line.indexOf('\t');
+                    long sequence = Long.parseLong(line.substring(0, tab));
+                    if (sequence > checkpoint) {
+                        pending.add(new Record<>(sequence, decoder.apply(line.substring(tab + 1))));
+                    }
+                    lastSequence = Math.max(lastSequence, sequence);
+                    lineStart = i + 1;
+                    validLength = lineStart;
+                }
+            }
+
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // 쓰는 도중 종료되어 줄바꿈 없이 끝난 마지막 줄은 버림 (submit 이 완료되지 않은 항목)
+            channel.truncate(validLength);
+            channel.position(validLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 열 때 읽은, 아직 반영되지 않은 항목 (순번 순)
+    public List<Record<T>> pending() {
+        return List.copyOf(pending);
+    }
+
+    public synchronized long append(T item) {
+        long sequence = lastSequence + 1;
+        ByteBuffer line = StandardCharsets.UTF_8.encode(sequence + "\t" + encoder.apply(item) + "\n");
+        try {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    // sequence 까지(포함) 모두 반영되었음을 기록
+    public synchronized void checkpoint(long sequence) {
+        try {
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(temp, Long.toString(sequence));
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (sequence == lastSequence) {
+                channel.truncate(0);
+                channel.position(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,9 @@
+package com.playdata.study.support.ingest;
+
+// write-behind 큐가 가득 차서 기다려도 자리가 나지 않은 경우 (호출한 쪽에서 잠시 후 다시 보내야 함)
+public class IngestQueueFullException extends RuntimeException {
+
+    public IngestQueueFullException(String name, int capacity) {
+        super(name + " 큐가 가득 찼습니다. (최대 " + capacity + "건) 잠시 후 다시 시도해주세요.");
+    }
+}
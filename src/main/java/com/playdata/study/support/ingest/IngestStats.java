@@ -0,0 +1,16 @@
+package com.playdata.study.support.ingest;
+
+// WriteBehindBuffer 상태 (큐 깊이, 반영 건수, 배치 반영 시간)
+// queueDepth 에는 쓰는 중이거나 실패 후 재시도를 기다리는 항목도 포함
+public record IngestStats(
+        int queueDepth,
+        int capacity,
+        long accepted,
+        long rejected,
+        long written,
+        long flushCount,
+        long failedFlushCount,
+        double lastFlushMillis,
+        double maxFlushMillis,
+        double averageFlushMillis) {
+}
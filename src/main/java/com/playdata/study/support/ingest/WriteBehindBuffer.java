@@ -0,0 +1,251 @@
+package com.playdata.study.support.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// 쓰기 지연(write-behind) 버퍼
+// submit 은 큐에 넣고 바로 반환하고, flusher 스레드 하나가 batchSize 개가 모이거나
+// 가장 오래된 항목이 maxDelay 를 넘기면 모아서 writer 에 넘김 (writer 호출 한 번 = 트랜잭션 한 번)
+// - 큐는 락 없는 ConcurrentLinkedQueue + CAS 로 관리하는 용량 카운터
+// - 큐가 가득 차면 offerTimeout 동안 기다리고, 그래도 자리가 없으면 IngestQueueFullException
+// - writer 가 실패하면 같은 배치를 retryBackoff 후 다시 씀 (재시도 중인 배치도 용량에 포함)
+// - journal 이 있으면 큐에 넣기 전에 먼저 기록하고, 반영된 순번을 체크포인트로 남겨서
+//   재시작 시 반영되지 않은 항목을 다시 큐에 넣음 (반영 직후 체크포인트 전에 죽으면 중복 저장될 수 있음)
+@Slf4j
+public class WriteBehindBuffer<T> implements AutoCloseable {
+
+    public record Options(int capacity, int batchSize, Duration maxDelay,
+                          Duration offerTimeout, Duration retryBackoff) {
+    }
+
+    private record Entry<T>(long sequence, T item, long enqueuedAt) {
+    }
+
+    private static final long RESERVE_SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutNanos;
+    private final long retryBackoffNanos;
+    private final Consumer<List<T>> writer;
+    private final AppendOnlyLog<T> journal;
+
+    private final ConcurrentLinkedQueue<Entry<T>> queue = new ConcurrentLinkedQueue<>();
+    // 큐에 있는 항목 + 쓰고 있는(재시도 대기 포함) 항목 수
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Thread flusher;
+    private volatile boolean running = true;
+    // flusher 스레드에서만 사용
+    private List<Entry<T>> inFlight = new ArrayList<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+
+    public WriteBehindBuffer(String name, Options options, Consumer<List<T>> writer, AppendOnlyLog<T> journal) {
+        if (options.capacity() < options.batchSize() || options.batchSize() < 1) {
+            throw new IllegalArgumentException("capacity >= batchSize >= 1 이어야 합니다.");
+        }
+        this.name = name;
+        this.capacity = options.capacity();
+        this.batchSize = options.batchSize();
+        this.maxDelayNanos = options.maxDelay().toNanos();
+        this.offerTimeoutNanos = options.offerTimeout().toNanos();
+        this.retryBackoffNanos = options.retryBackoff().toNanos();
+        this.writer = writer;
+        this.journal = journal;
+
+        if (journal != null) {
+            // 재시작 전에 받았던 항목은 용량과 관계없이 모두 다시 넣음
+            List<AppendOnlyLog.Record<T>> pending = journal.pending();
+            for (AppendOnlyLog.Record<T> record : pending) {
+                queue.offer(new Entry<>(record.sequence(), record.item(), System.nanoTime()));
+            }
+            depth.addAndGet(pending.size());
+            if (!pending.isEmpty()) {
+                log.info("{} 로그에서 반영되지 않은 {}건을 다시 큐에 넣었습니다.", name, pending.size());
+            }
+        }
+
+        this.flusher = new Thread(this::run, name + "-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void submit(T item) {
+        if (!running) {
+            throw new IllegalStateException(name + " 버퍼가 종료되었습니다.");
+        }
+        if (!reserve()) {
+            rejected.increment();
+            throw new IngestQueueFullException(name, capacity);
+        }
+        try {
+            if (journal == null) {
+                queue.offer(new Entry<>(0, item, System.nanoTime()));
+            } else {
+                // 로그 순서와 큐 순서가 같아야 체크포인트 이전 항목이 모두 반영되었다고 볼 수 있음
+                synchronized (journal) {
+                    long sequence = journal.append(item);
+                    queue.offer(new Entry<>(sequence, item, System.nanoTime()));
+                }
+            }
+        } catch (RuntimeException e) {
+            depth.decrementAndGet();
+            throw e;
+        }
+        accepted.increment();
+        if (depth.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    // 용량 안에서 자리 하나 확보, 가득 찼으면 flusher 를 깨우고 offerTimeout 까지 기다림
+    private boolean reserve() {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (true) {
+            int current = depth.get();
+            if (current < capacity) {
+                if (depth.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(Math.min(remaining, RESERVE_SPIN_NANOS));
+        }
+    }
+
+    private void run() {
+        while (running || depth.get() > 0) {
+            if (inFlight.isEmpty()) {
+                Entry<T> head = queue.peek();
+                if (head == null) {
+                    if (!running) {
+                        break;
+                    }
+                    LockSupport.parkNanos(maxDelayNanos);
+                    continue;
+                }
+                long age = System.nanoTime() - head.enqueuedAt();
+                if (running && depth.get() < batchSize && age < maxDelayNanos) {
+                    LockSupport.parkNanos(maxDelayNanos - age);
+                    continue;
+                }
+                Entry<T> entry;
+                while (inFlight.size() < batchSize && (entry = queue.poll()) != null) {
+                    inFlight.add(entry);
+                }
+            }
+            if (!flush()) {
+                if (!running) {
+                    // 종료 중 실패한 항목은 로그에 남아 있으면 다음 시작 때 다시 반영
+                    log.error("{} 종료 중 반영 실패, {}건을 반영하지 못했습니다.", name, depth.get());
+                    break;
+                }
+                LockSupport.parkNanos(retryBackoffNanos);
+            }
+        }
+    }
+
+    private boolean flush() {
+        List<T> items = inFlight.stream().map(Entry::item).toList();
+        long start = System.nanoTime();
+        try {
+            writer.accept(items);
+        } catch (RuntimeException e) {
+            failedFlushCount.incrementAndGet();
+            log.error("{} 배치 반영 실패 ({}건), {}ms 후 다시 시도합니다.",
+                    name, items.size(), TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), e);
+            return false;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (journal != null) {
+            try {
+                journal.checkpoint(inFlight.get(inFlight.size() - 1).sequence());
+            } catch (RuntimeException e) {
+                // 이미 커밋되었으므로 다시 쓰지 않음 (재시작하면 이 배치가 한 번 더 반영될 수 있음)
+                log.warn("{} 체크포인트 기록 실패", name, e);
+            }
+        }
+        inFlight = new ArrayList<>();
+        depth.addAndGet(-items.size());
+
+        written.addAndGet(items.size());
+        flushCount.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        lastFlushNanos = elapsed;
+        return true;
+    }
+
+    // 큐가 빌 때까지(모두 반영될 때까지) 기다림
+    public boolean awaitDrained(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (depth.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(RESERVE_SPIN_NANOS);
+        }
+        return true;
+    }
+
+    public IngestStats stats() {
+        long flushes = flushCount.get();
+        return new IngestStats(
+                depth.get(),
+                capacity,
+                accepted.sum(),
+                rejected.sum(),
+                written.get(),
+                flushes,
+                failedFlushCount.get(),
+                toMillis(lastFlushNanos),
+                toMillis(maxFlushNanos.get()),
+                flushes == 0 ? 0 : toMillis(totalFlushNanos.get()) / flushes);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // 새 항목은 받지 않고 남은 항목을 모두 반영한 뒤 종료
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.playdata.study.support.inmemory;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// QueryDSL 조건/정렬을 스냅샷 행(T)에 바로 적용할 수 있는 함수로 한 번만 변환
+// 행마다 식 트리를 해석하거나 리플렉션으로 필드를 읽지 않고, 변환된 람다만 실행
+// SQL 과 같은 결과를 내도록
+// - 비교 대상에 NULL 이 있으면 알 수 없음(UNKNOWN), AND/OR/NOT 은 3값 논리, WHERE 는 TRUE 인 행만
+// - 정렬에서 NULL 은 가장 작은 값 (MySQL / H2 기본: ASC 맨 앞, DESC 맨 뒤)
+// - 문자열 비교/정렬/LIKE 는 컬럼 collation 이 바이너리일 때만 (대소문자/악센트 무시 collation 은 똑같이 흉내낼 수 없음)
+//   단, 정렬은 PathBindings.sortKey 로 DB 가 계산한 정렬 가중치가 있으면 그 순서로
+// 그 밖의 식은 UnsupportedExpressionException
+public final class ExpressionCompiler<T> {
+
+    private enum Kind {
+        NUMBER, STRING, BOOLEAN
+    }
+
+    // 행 하나에 대한 조건 결과: TRUE / FALSE / null(UNKNOWN)
+    @FunctionalInterface
+    private interface Condition<T> {
+        Boolean test(T row);
+    }
+
+    private record Operand<T>(Function<T, ?> value, Kind kind, Function<Object, ?> toColumn, boolean constant) {
+    }
+
+    private final PathBindings<T> bindings;
+    private final boolean binaryStrings;
+
+    public ExpressionCompiler(PathBindings<T> bindings, boolean binaryStrings) {
+        this.bindings = bindings;
+        this.binaryStrings = binaryStrings;
+    }
+
+    public java.util.function.Predicate<T> where(com.querydsl.core.types.Predicate predicate) {
+        Expression<?> expression = predicate instanceof BooleanBuilder builder ? builder.getValue() : predicate;
+        if (expression == null) {
+            return row -> true;
+        }
+        Condition<T> condition = condition(expression);
+        return row -> condition.test(row) == Boolean.TRUE;
+    }
+
+    public Comparator<T> orderBy(List<OrderSpecifier<?>> orders) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (OrderSpecifier<?> order : orders) {
+            comparator = comparator.thenComparing(comparator(order));
+        }
+        return comparator;
+    }
+
+    private Comparator<T> comparator(OrderSpecifier<?> order) {
+        Function<T, byte[]> sortKey = !binaryStrings && order.getTarget() instanceof Path<?> path
+                ? bindings.sortKey(path)
+                : null;
+        Function<T, ?> value;
+        BinaryComparison compare;
+        if (sortKey != null) {
+            value = sortKey;
+            compare = (x, y) -> Arrays.compareUnsigned((byte[]) x, (byte[]) y);
+        } else {
+            Operand<T> operand = operand(order.getTarget());
+            if (operand.constant()) {
+                throw unsupported("상수 정렬", order);
+            }
+            Kind kind = operand.kind();
+            value = operand.value();
+            compare = (x, y) -> compare(kind, x, y);
+        }
+        boolean ascending = order.isAscending();
+        boolean nullsFirst = switch (order.getNullHandling()) {
+            case NullsFirst -> true;
+            case NullsLast -> false;
+            case Default -> ascending;
+        };
+        return (a, b) -> {
+            Object x = value.apply(a);
+            Object y = value.apply(b);
+            if (x == null || y == null) {
+                if (x == y) {
+                    return 0;
+                }
+                return (x == null) == nullsFirst ? -1 : 1;
+            }
+            int result = compare.compare(x, y);
+            return ascending ? result : -result;
+        };
+    }
+
+    @FunctionalInterface
+    private interface BinaryComparison {
+        int compare(Object x, Object y);
+    }
+
+    private Condition<T> condition(Expression<?> expression) {
+        if (!(expression instanceof Operation<?> operation) || operation.getType() != Boolean.class) {
+            throw unsupported("조건이 아닌 식", expression);
+        }
+        Operator operator = operation.getOperator();
+        List<Expression<?>> args = operation.getArgs();
+
+        if (operator == Ops.AND) {
+            Condition<T> left = condition(args.get(0));
+            Condition<T> right = condition(args.get(1));
+            return row -> {
+                Boolean l = left.test(row);
+                if (l == Boolean.FALSE) {
+                    return false;
+                }
+                Boolean r = right.test(row);
+                if (r == Boolean.FALSE) {
+                    return false;
+                }
+                return l == null || r == null ? null : true;
+            };
+        }
+        if (operator == Ops.OR) {
+            Condition<T> left = condition(args.get(0));
+            Condition<T> right = condition(args.get(1));
+            return row -> {
+                Boolean l = left.test(row);
+                if (l == Boolean.TRUE) {
+                    return true;
+                }
+                Boolean r = right.test(row);
+                if (r == Boolean.TRUE) {
+                    return true;
+                }
+                return l == null || r == null ? null : false;
+            };
+        }
+        if (operator == Ops.NOT) {
+            Condition<T> inner = condition(args.get(0));
+            return row -> {
+                Boolean value = inner.test(row);
+                return value == null ? null : !value;
+            };
+        }
+        if (operator == Ops.IS_NULL || operator == Ops.IS_NOT_NULL) {
+            Operand<T> operand = operand(args.get(0));
+            boolean wantNull = operator == Ops.IS_NULL;
+            return row -> (operand.value().apply(row) == null) == wantNull;
+        }
+        if (operator == Ops.EQ || operator == Ops.NE) {
+            Operand<T>[] pair = comparable(args.get(0), args.get(1));
+            boolean equal = operator == Ops.EQ;
+            Kind kind = pair[0].kind();
+            return binary(pair[0], pair[1], (x, y) -> (compare(kind, x, y) == 0) == equal);
+        }
+        if (operator == Ops.LT || operator == Ops.LOE || operator == Ops.GT || operator == Ops.GOE) {
+            Operand<T>[] pair = comparable(args.get(0), args.get(1));
+            Kind kind = pair[0].kind();
+            return binary(pair[0], pair[1], (x, y) -> {
+                int result = compare(kind, x, y);
+                if (operator == Ops.LT) return result < 0;
+                if (operator == Ops.LOE) return result <= 0;
+                if (operator == Ops.GT) return result > 0;
+                return result >= 0;
+            });
+        }
+        if (operator == Ops.BETWEEN) {
+            Operand<T>[] low = comparable(args.get(0), args.get(1));
+            Operand<T>[] high = comparable(args.get(0), args.get(2));
+            Kind kind = low[0].kind();
+            return row -> {
+                Object value = low[0].value().apply(row);
+                Object from = low[1].value().apply(row);
+                Object to = high[1].value().apply(row);
+                if (value == null || from == null || to == null) {
+                    return null;
+                }
+                return compare(kind, value, from) >= 0 && compare(kind, value, to) <= 0;
+            };
+        }
+        if (operator == Ops.IN || operator == Ops.NOT_IN) {
+            return in(args.get(0), args.get(1), operator == Ops.IN);
+        }
+        if (operator == Ops.STRING_CONTAINS || operator == Ops.STRING_CONTAINS_IC) {
+            return strings(args, operator == Ops.STRING_CONTAINS_IC, String::contains);
+        }
+        if (operator == Ops.STARTS_WITH || operator == Ops.STARTS_WITH_IC) {
+            return strings(args, operator == Ops.STARTS_WITH_IC, String::startsWith);
+        }
+        if (operator == Ops.ENDS_WITH || operator == Ops.ENDS_WITH_IC) {
+            return strings(args, operator == Ops.ENDS_WITH_IC, String::endsWith);
+        }
+        if (operator == Ops.EQ_IGNORE_CASE) {
+            return strings(args, true, String::equals);
+        }
+        if (operator == Ops.LIKE) {
+            return like(args.get(0), args.get(1));
+        }
+        throw unsupported("연산자 " + operator, expression);
+    }
+
+    private Condition<T> binary(Operand<T> left, Operand<T> right, BinaryTest test) {
+        Function<T, ?> l = left.value();
+        Function<T, ?> r = right.value();
+        return row -> {
+            Object x = l.apply(row);
+            Object y = r.apply(row);
+            return x == null || y == null ? null : test.test(x, y);
+        };
+    }
+
+    @FunctionalInterface
+    private interface BinaryTest {
+        boolean test(Object x, Object y);
+    }
+
+    // x IN (a, b, ...): 같은 값이 있으면 TRUE, 없는데 목록에 NULL 이 있으면 UNKNOWN, 아니면 FALSE
+    private Condition<T> in(Expression<?> left, Expression<?> right, boolean in) {
+        Operand<T> operand = operand(left);
+        if (!(right instanceof Constant<?> constant) || !(constant.getConstant() instanceof Collection<?> values)) {
+            throw unsupported("IN 목록이 상수가 아님", right);
+        }
+        List<Object> converted = new ArrayList<>(values.size());
+        boolean hasNull = false;
+        for (Object value : values) {
+            Object column = operand.toColumn().apply(value);
+            if (column == null) {
+                hasNull = true;
+            } else {
+                requireKind(operand.kind(), column.getClass(), right);
+                converted.add(column);
+            }
+        }
+        Kind kind = operand.kind();
+        boolean listHasNull = hasNull;
+        return row -> {
+            Object value = operand.value().apply(row);
+            if (value == null) {
+                return null;
+            }
+            for (Object candidate : converted) {
+                if (compare(kind, value, candidate) == 0) {
+                    return in;
+                }
+            }
+            return listHasNull ? null : !in;
+        };
+    }
+
+    private Condition<T> strings(List<Expression<?>> args, boolean ignoreCase, BinaryStringTest test) {
+        Operand<T>[] pair = comparable(args.get(0), args.get(1));
+        if (pair[0].kind() != Kind.STRING) {
+            throw unsupported("문자열이 아닌 값", args.get(0));
+        }
+        return binary(pair[0], pair[1], (x, y) -> ignoreCase
+                ? test.test(((String) x).toLowerCase(Locale.ROOT), ((String) y).toLowerCase(Locale.ROOT))
+                : test.test((String) x, (String) y));
+    }
+
+    @FunctionalInterface
+    private interface BinaryStringTest {
+        boolean test(String value, String argument);
+    }
+
+    // % 와 _ 만 지원 (이스케이프 문자 '\' 는 DB마다 기본값이 달라서 제외)
+    private Condition<T> like(Expression<?> left, Expression<?> right) {
+        Operand<T>[] pair = comparable(left, right);
+        if (!pair[1].constant() || pair[0].kind() != Kind.STRING) {
+            throw unsupported("LIKE 패턴이 상수 문자열이 아님", right);
+        }
+        String like = (String) pair[1].value().apply(null);
+        if (like == null) {
+            return row -> null;
+        }
+        if (like.indexOf('\\') >= 0) {
+            throw unsupported("LIKE 이스케이프", right);
+        }
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : like.toCharArray()) {
+            if (c == '%' || c == '_') {
+                regex.append(Pattern.quote(literal.toString())).append(c == '%' ? ".*" : ".");
+                literal.setLength(0);
+            } else {
+                literal.append(c);
+            }
+        }
+        regex.append(Pattern.quote(literal.toString()));
+        Pattern pattern = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        Function<T, ?> value = pair[0].value();
+        return row -> {
+            Object x = value.apply(row);
+            return x == null ? null : pattern.matcher((String) x).matches();
+        };
+    }
+
+    // 비교할 두 값: 상수는 반대쪽 경로의 컬럼 값으로 변환해서 한 번만 계산, 종류(숫자/문자열/불리언)가 같아야 함
+    @SuppressWarnings("unchecked")
+    private Operand<T>[] comparable(Expression<?> leftExpression, Expression<?> rightExpression) {
+        Operand<T> left = operand(leftExpression);
+        Operand<T> right = operand(rightExpression);
+        if (left.constant() && !right.constant()) {
+            left = convert(left, right, leftExpression);
+        } else if (right.constant() && !left.constant()) {
+            right = convert(right, left, rightExpression);
+        }
+        if (left.kind() == null || right.kind() == null || left.kind() != right.kind()) {
+            throw unsupported("비교할 수 없는 타입", rightExpression);
+        }
+        return new Operand[]{left, right};
+    }
+
+    private Operand<T> convert(Operand<T> constant, Operand<T> path, Expression<?> expression) {
+        Object value = path.toColumn().apply(constant.value().apply(null));
+        if (value != null) {
+            requireKind(path.kind(), value.getClass(), expression);
+        }
+        return new Operand<>(row -> value, path.kind(), path.toColumn(), true);
+    }
+
+    private Operand<T> operand(Expression<?> expression) {
+        if (expression instanceof Path<?> path) {
+            PathBindings.Binding<T> binding = bindings.get(path);
+            if (binding == null) {
+                throw unsupported("스냅샷에 없는 경로", expression);
+            }
+            return new Operand<>(binding.getter(), kindOf(binding.columnType(), expression),
+                    binding.toColumn(), false);
+        }
+        if (expression instanceof Constant<?> constant) {
+            Object value = constant.getConstant();
+            Kind kind = value == null || value instanceof Collection<?> || value instanceof Enum<?>
+                    ? null
+                    : kindOf(value.getClass(), expression);
+            return new Operand<>(row -> value, kind, Function.identity(), true);
+        }
+        throw unsupported("경로/상수가 아닌 값", expression);
+    }
+
+    private void requireKind(Kind expected, Class<?> type, Expression<?> expression) {
+        if (kindOf(type, expression) != expected) {
+            throw unsupported("비교할 수 없는 타입", expression);
+        }
+    }
+
+    private Kind kindOf(Class<?> type, Expression<?> expression) {
+        if (Number.class.isAssignableFrom(type)) {
+            return Kind.NUMBER;
+        }
+        if (type == String.class) {
+            if (!binaryStrings) {
+                throw unsupported("바이너리가 아닌 문자열 collation", expression);
+            }
+            return Kind.STRING;
+        }
+        if (type == Boolean.class) {
+            return Kind.BOOLEAN;
+        }
+        throw unsupported("지원하지 않는 타입 " + type.getSimpleName(), expression);
+    }
+
+    private static int compare(Kind kind, Object x, Object y) {
+        return switch (kind) {
+            case NUMBER -> compareNumbers((Number) x, (Number) y);
+            case STRING -> ((String) x).compareTo((String) y);
+            case BOOLEAN -> Boolean.compare((Boolean) x, (Boolean) y);
+        };
+    }
+
+    private static int compareNumbers(Number x, Number y) {
+        if (isIntegral(x) && isIntegral(y)) {
+            return Long.compare(x.longValue(), y.longValue());
+        }
+        return new BigDecimal(x.toString()).compareTo(new BigDecimal(y.toString()));
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static UnsupportedExpressionException unsupported(String reason, Object expression) {
+        return new UnsupportedExpressionException(reason + ": " + expression);
+    }
+}
@@ -0,0 +1,53 @@
+package com.playdata.study.support.inmemory;
+
+import com.playdata.study.service.IdolSnapshotService;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 아이돌/그룹을 쓰는 트랜잭션이 시작되면 끝날 때(커밋/롤백)까지 스냅샷 조회를 멈추고 DB로 조회
+// 쓰기 SQL 보다 먼저 표시해야 커밋 직후 다른 요청이 스냅샷의 이전 값을 보지 않음
+public class IdolSnapshotListener {
+
+    private final ObjectProvider<IdolSnapshotService> snapshotService;
+
+    public IdolSnapshotListener(ObjectProvider<IdolSnapshotService> snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void onWrite(Object entity) {
+        IdolSnapshotService service = snapshotService.getObject();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            service.writeStarted();
+            service.writeFinished();
+            return;
+        }
+        // 한 트랜잭션에서 여러 번 써도 한 번만 표시
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(WriteInFlight.class::isInstance);
+        if (!registered) {
+            service.writeStarted();
+            TransactionSynchronizationManager.registerSynchronization(new WriteInFlight(service));
+        }
+    }
+
+    private static final class WriteInFlight implements TransactionSynchronization {
+
+        private final IdolSnapshotService service;
+
+        private WriteInFlight(IdolSnapshotService service) {
+            this.service = service;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            service.writeFinished();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.playdata.study.support.inmemory;
+
+import com.querydsl.core.types.Path;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// QueryDSL 경로 -> 스냅샷 행(T)에서 값을 꺼내는 함수
+// 값은 DB 컬럼에 저장되는 형태로 비교/정렬함 (ex: Gender 는 TINYINT 코드) -> DB 의 비교/정렬 결과와 같아짐
+// 조인 별칭(QGroup.group.groupName)과 연관 경로(QIdol.idol.group.groupName)는 서로 다른 경로
+// (연관 경로는 JPQL 에서 내부 조인이 되어 결과가 다를 수 있으므로 같은 getter 로 함께 등록하면 안 됨)
+// sortKey: 바이너리가 아닌 collation 의 문자열 정렬에 쓸 DB 정렬 가중치 (collation_key, 부호 없는 바이트 비교)
+public final class PathBindings<T> {
+
+    record Binding<T>(Function<T, ?> getter, Function<Object, ?> toColumn, Class<?> columnType) {
+    }
+
+    private final Map<Path<?>, Binding<T>> bindings = new HashMap<>();
+    private final Map<Path<?>, Function<T, byte[]>> sortKeys = new HashMap<>();
+
+    public <V> PathBindings<T> bind(Path<V> path, Function<T, V> getter) {
+        bindings.put(path, new Binding<>(getter, Function.identity(), path.getType()));
+        return this;
+    }
+
+    // toColumn: 엔터티 값 -> DB 컬럼 값 (AttributeConverter 와 같은 변환)
+    @SuppressWarnings("unchecked")
+    public <V, C> PathBindings<T> bind(Path<V> path, Function<T, V> getter, Function<V, C> toColumn,
+                                       Class<C> columnType) {
+        Function<Object, ?> converter = value -> value == null ? null : toColumn.apply((V) value);
+        bindings.put(path, new Binding<>(getter.andThen(converter), converter, columnType));
+        return this;
+    }
+
+    // 값이 NULL 인 행의 키는 null, 값이 있는데 키가 null 인 행은 없어야 함
+    public PathBindings<T> sortKey(Path<String> path, Function<T, byte[]> key) {
+        sortKeys.put(path, key);
+        return this;
+    }
+
+    // 같은 경로를 더 붙여서 새로 만듦 (원래 바인딩은 그대로)
+    public PathBindings<T> copy() {
+        PathBindings<T> copy = new PathBindings<>();
+        copy.bindings.putAll(bindings);
+        copy.sortKeys.putAll(sortKeys);
+        return copy;
+    }
+
+    Binding<T> get(Path<?> path) {
+        return bindings.get(path);
+    }
+
+    Function<T, byte[]> sortKey(Path<?> path) {
+        return sortKeys.get(path);
+    }
+}
@@ -0,0 +1,55 @@
+package com.playdata.study.support.inmemory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+// 스냅샷 행에 조건/정렬/offset/limit 적용
+// 앞쪽 페이지는 전체를 정렬하지 않고 offset + limit 개만 남기는 힙으로 고름 (O(n log k))
+public final class SnapshotPager {
+
+    private static final int HEAP_LIMIT = 10_000;
+
+    private SnapshotPager() {
+    }
+
+    // order 는 모든 행의 순서가 정해져야 함 (마지막에 id 등)
+    public static <T> List<T> page(List<T> rows, Predicate<T> filter, Comparator<T> order, long offset, int limit) {
+        long wanted = offset + limit;
+        if (wanted <= HEAP_LIMIT) {
+            // 가장 큰 값이 머리에 오는 힙 -> 더 작은 행이 오면 머리를 버림
+            PriorityQueue<T> heap = new PriorityQueue<>((int) wanted + 1, order.reversed());
+            for (T row : rows) {
+                if (!filter.test(row)) {
+                    continue;
+                }
+                if (heap.size() < wanted) {
+                    heap.add(row);
+                } else if (order.compare(row, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(row);
+                }
+            }
+            List<T> sorted = new ArrayList<>(heap);
+            sorted.sort(order);
+            return slice(sorted, offset, limit);
+        }
+        List<T> matched = new ArrayList<>();
+        for (T row : rows) {
+            if (filter.test(row)) {
+                matched.add(row);
+            }
+        }
+        matched.sort(order);
+        return slice(matched, offset, limit);
+    }
+
+    private static <T> List<T> slice(List<T> sorted, long offset, int limit) {
+        if (offset >= sorted.size()) {
+            return List.of();
+        }
+        return List.copyOf(sorted.subList((int) offset, (int) Math.min(sorted.size(), offset + limit)));
+    }
+}
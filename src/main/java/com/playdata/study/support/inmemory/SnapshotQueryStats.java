@@ -0,0 +1,15 @@
+package com.playdata.study.support.inmemory;
+
+// 스냅샷 조회 상태
+// ready=false 이면 스냅샷이 없거나 DB와 개수가 달라서(change_seq 없는 행 등) 모두 DB로 조회
+// fallback*: DB로 대신 조회한 이유별 횟수 (오래됨/로컬 쓰기 직후, 지원하지 않는 식, 트랜잭션 안에서 호출)
+public record SnapshotQueryStats(
+        boolean ready,
+        int rows,
+        double ageMillis,
+        boolean binaryStrings,
+        long inMemory,
+        long fallbackStale,
+        long fallbackUnsupported,
+        long fallbackInTransaction) {
+}
@@ -0,0 +1,10 @@
+package com.playdata.study.support.inmemory;
+
+// 메모리에서 DB와 같은 결과로 계산할 수 없는 조건/정렬 (바인딩 없는 경로, 함수, 서브쿼리 등)
+// -> 호출하는 쪽에서 DB 조회로 대신함
+public class UnsupportedExpressionException extends RuntimeException {
+
+    public UnsupportedExpressionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.playdata.study.support.sharding;
+
+// 샤드 하나에서 계산한 COUNT / SUM 중간 결과
+// 샤드별 AVG를 평균내면 틀리기 때문에(샤드마다 행 수가 다름) COUNT와 SUM을 합친 뒤 마지막에 나눔
+public record PartialAggregate(long count, double sum) {
+
+    public static final PartialAggregate EMPTY = new PartialAggregate(0, 0);
+
+    public PartialAggregate combine(PartialAggregate other) {
+        return new PartialAggregate(count + other.count, sum + other.sum);
+    }
+
+    // 행이 없으면 SQL의 AVG와 같이 null
+    public Double average() {
+        return count == 0 ? null : sum / count;
+    }
+}
@@ -0,0 +1,33 @@
+package com.playdata.study.support.sharding;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 현재 스레드가 사용할 샤드 번호
+// ShardRoutingDataSource가 커넥션을 꺼낼 때 이 값을 보고 샤드를 고릅니다. (없으면 기본 샤드 = 0번)
+// 트랜잭션이 시작될 때 커넥션을 잡으므로 반드시 트랜잭션 바깥에서 지정해야 함 -> ShardTemplate 사용
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Optional<Integer> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.playdata.study.support.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// 샤드마다 IDENTITY 가 따로 증가하면 서로 다른 아이돌/앨범이 같은 id를 갖게 됨
+// -> 샤드 번호를 id 상위 비트로 쓰도록 샤드별 AUTO_INCREMENT 시작값을 shard << 40 으로 맞춤 (샤드당 약 1조 개)
+// 병합 정렬의 마지막 비교(id), 변경 피드, 캐시 키처럼 id 하나로 행을 구분하는 곳은 그대로 두어도 됨
+// 0번 샤드는 1부터라서 샤딩 전 데이터는 그대로 0번 샤드의 범위 안에 있음
+@Slf4j
+public class ShardIdRanges {
+
+    static final int SHARD_SHIFT = 40;
+
+    private record IdentityColumn(String table, String column) {
+    }
+
+    private static final List<IdentityColumn> SHARDED_TABLES = List.of(
+            new IdentityColumn("tbl_idol", "idol_id"),
+            new IdentityColumn("tbl_album", "album_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTemplate shardTemplate;
+
+    public ShardIdRanges(JdbcTemplate jdbcTemplate, ShardTemplate shardTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardTemplate = shardTemplate;
+    }
+
+    public static long firstId(int shard) {
+        return shard == 0 ? 1 : (long) shard << SHARD_SHIFT;
+    }
+
+    public static int shardOfId(long id) {
+        return (int) (id >>> SHARD_SHIFT);
+    }
+
+    // ShardSchemaInitializer 가 테이블을 만든 다음, 다른 리스너가 데이터를 쓰기 전에 실행
+    // ALTER TABLE ... AUTO_INCREMENT 는 MySQL 과 H2(MODE=MySQL) 모두 지원
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ContextRefreshedEvent.class)
+    public void apply() {
+        for (int shard = 0; shard < shardTemplate.shardCount(); shard++) {
+            int target = shard;
+            ShardContext.call(shard, () -> {
+                SHARDED_TABLES.forEach(identity -> apply(target, identity));
+                return null;
+            });
+        }
+    }
+
+    private void apply(int shard, IdentityColumn identity) {
+        long first = firstId(shard);
+        long end = firstId(shard + 1);
+        Long outside = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + identity.table()
+                        + " WHERE " + identity.column() + " < ? OR " + identity.column() + " >= ?",
+                Long.class, first, end);
+        if (outside != null && outside > 0) {
+            // 샤딩 전에 다른 샤드에서 발급된 id가 섞여 있으면 이미 겹쳤을 수 있으므로 id를 옮기기 전에는 시작하지 않음
+            throw new IllegalStateException("샤드 %d의 %s 에 범위 [%d, %d) 밖의 id가 %d건 있습니다."
+                    .formatted(shard, identity.table(), first, end, outside));
+        }
+        if (shard == 0) {
+            return;
+        }
+        Long max = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + identity.column() + ") FROM " + identity.table(), Long.class);
+        if (max == null) {
+            // 범위 안의 행이 하나라도 있으면 AUTO_INCREMENT 는 이미 범위 안에서 증가 중
+            jdbcTemplate.execute("ALTER TABLE " + identity.table() + " AUTO_INCREMENT = " + first);
+            log.info("샤드 {} {} id 시작값: {}", shard, identity.table(), first);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.playdata.study.support.sharding;
+
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// 샤드별로 나눠서 조회한 결과를 하나로 합치는 유틸
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    // 샤드마다 같은 ORDER BY 로 정렬된 결과를 k-way 병합
+    // 각 샤드의 맨 앞 행만 우선순위 큐에 두고 하나씩 꺼내므로 전체를 다시 정렬하지 않고,
+    // skip(offset).limit(n) 으로 필요한 만큼만 꺼내면 나머지는 비교하지 않습니다.
+    public static <T> Stream<T> mergeSorted(List<? extends Iterable<T>> sortedRuns, Comparator<? super T> comparator) {
+        Iterator<T> iterator = new KWayMergeIterator<>(sortedRuns, comparator);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // 샤드별 GROUP BY 결과를 키 기준으로 합침 (ex: 성별별 PartialAggregate::combine)
+    public static <K, V> Map<K, V> combineGrouped(List<Map<K, V>> shardResults, BinaryOperator<V> combiner) {
+        Map<K, V> merged = new LinkedHashMap<>();
+        shardResults.forEach(result -> result.forEach((key, value) -> merged.merge(key, value, combiner)));
+        return merged;
+    }
+
+    private static final class KWayMergeIterator<T> implements Iterator<T> {
+
+        // 값이 같으면 샤드 번호 순으로 -> 같은 입력이면 항상 같은 순서
+        private record Head<T>(T value, int run, Iterator<T> rest) {
+        }
+
+        private final PriorityQueue<Head<T>> heads;
+
+        KWayMergeIterator(List<? extends Iterable<T>> runs, Comparator<? super T> comparator) {
+            Comparator<Head<T>> byValue = (a, b) -> comparator.compare(a.value(), b.value());
+            this.heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                    byValue.thenComparingInt(Head::run));
+            for (int i = 0; i < runs.size(); i++) {
+                advance(i, runs.get(i).iterator());
+            }
+        }
+
+        private void advance(int run, Iterator<T> rest) {
+            if (rest.hasNext()) {
+                heads.add(new Head<>(rest.next(), run, rest));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            advance(head.run(), head.rest());
+            return head.value();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.playdata.study.support.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 샤드별 DataSource 중 ShardContext에 지정된 샤드의 커넥션을 돌려주는 DataSource
+// JPA(EntityManagerFactory)는 이 DataSource 하나만 알고, 샤드 선택은 커넥션을 얻는 시점에 결정됨
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        // 샤드 지정 없이 실행되는 쿼리(그룹, 회원, 팀 등 샤딩하지 않는 테이블)는 0번 샤드로
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+    }
+
+    public List<DataSource> getShards() {
+        return shards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current().orElse(null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.playdata.study.support.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// Hibernate ddl-auto는 EntityManagerFactory를 만들 때 기본 샤드(0번)에만 적용되므로
+// 나머지 샤드에도 같은 매핑으로 테이블을 만들어줌 (sharding.initialize-schema=true 일 때, 주로 테스트/로컬용)
+@Slf4j
+public class ShardSchemaInitializer {
+
+    private final EntityManagerFactory emf;
+    private final ShardTemplate shardTemplate;
+
+    public ShardSchemaInitializer(EntityManagerFactory emf, ShardTemplate shardTemplate) {
+        this.emf = emf;
+        this.shardTemplate = shardTemplate;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ContextRefreshedEvent.class)
+    public void initialize() {
+        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
+        for (int shard = 1; shard < shardTemplate.shardCount(); shard++) {
+            ShardContext.call(shard, () -> {
+                sessionFactory.getSchemaManager().exportMappedObjects(true);
+                return null;
+            });
+            log.info("샤드 {} 스키마 생성 완료", shard);
+        }
+    }
+}
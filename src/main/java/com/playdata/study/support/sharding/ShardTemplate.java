@@ -0,0 +1,115 @@
+package com.playdata.study.support.sharding;
+
+import com.playdata.study.support.QueryDeadline;
+import com.playdata.study.support.QueryDeadlineExceededException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+// group_id 기준 샤드 선택 + 샤드 단위 트랜잭션 실행 + 전체 샤드 병렬 조회(scatter)
+// tbl_idol, tbl_album 은 group_id 해시로 샤드가 정해지고, 같은 그룹의 아이돌/앨범은 항상 같은 샤드에 있음
+public class ShardTemplate {
+
+    private final int shardCount;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService executor;
+
+    public ShardTemplate(int shardCount, PlatformTransactionManager transactionManager) {
+        this.shardCount = shardCount;
+        this.transactionManager = transactionManager;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shardCount, r -> {
+            Thread thread = new Thread(r, "shard-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // 그룹이 없는 아이돌(솔로)은 0번 샤드
+    // 연속된 id가 한 샤드에 몰리지 않도록 섞은(murmur3 fmix64) 값으로 나눔
+    // 샤드 수를 바꾸면 대부분의 그룹이 다른 샤드로 옮겨지므로 재배치(마이그레이션)가 필요함
+    public int shardOf(Long groupId) {
+        if (groupId == null) {
+            return 0;
+        }
+        long h = groupId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) shardCount);
+    }
+
+    // 지정한 샤드의 커넥션으로 새 트랜잭션을 열어서 실행
+    // (이미 다른 샤드의 트랜잭션 안이어도 별도 트랜잭션으로 실행됨)
+    public <T> T execute(int shard, boolean readOnly, Supplier<T> action) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shard);
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(readOnly);
+        return ShardContext.call(shard, () -> tx.execute(status -> action.get()));
+    }
+
+    public <T> T executeOnGroup(Long groupId, boolean readOnly, Supplier<T> action) {
+        return execute(shardOf(groupId), readOnly, action);
+    }
+
+    // 모든 샤드에 같은 조회를 병렬로 실행하고 샤드 번호 순서대로 결과를 돌려줌
+    // 호출한 스레드의 쿼리 마감 시간(QueryDeadline)은 남은 시간만큼 각 샤드 조회에도 적용
+    public <T> List<T> scatter(IntFunction<T> perShard) {
+        QueryDeadline deadline = QueryDeadline.current().orElse(null);
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> withDeadline(deadline, () -> execute(target, true, () -> perShard.apply(target))),
+                    executor));
+        }
+
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            // 하나라도 실패하면 나머지는 기다리지 않고 원래 예외를 그대로 던짐
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T withDeadline(QueryDeadline deadline, Supplier<T> action) {
+        if (deadline == null) {
+            return action.get();
+        }
+        if (deadline.isExpired()) {
+            throw new QueryDeadlineExceededException(deadline.getTimeout());
+        }
+        try (QueryDeadline ignored = QueryDeadline.start(Duration.ofMillis(deadline.remainingMillis()))) {
+            return action.get();
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
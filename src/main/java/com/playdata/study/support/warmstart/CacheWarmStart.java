@@ -0,0 +1,226 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.support.cache.NearCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+// 재시작 직후 비어 있는 NearCache 대신 마지막으로 저장한 캐시 스냅샷 파일에서 바로 응답
+// - 실행 중에는 write-interval 마다, 종료할 때 한 번 캐시 값을 파일로 저장
+// - 시작할 때 파일을 메모리 매핑해서 캐시의 WarmSource 로 연결 (레코드는 조회될 때만 읽음)
+// - 준비가 끝나고 reconcile-delay 뒤에 백그라운드에서 파일의 키를 하나씩 DB에서 다시 읽어 캐시에 넣고, 끝나면 파일 연결을 끊음
+// 파일에는 변경 순번(change_seq)을 함께 저장하고, 연결할 때 그 이후의 변경 피드를 읽어서(Replay) 영향받은 키는 바로 폐기
+// -> 꺼져 있던 동안 다른 노드에서 바뀐 값은 파일에서 응답하지 않음 (변경 피드에 남지 않는 JPQL 벌크 수정만 reconcile 까지 보일 수 있음)
+// 시작 후 무효화된 키는 파일에서 폐기되므로 다시 보이지 않음, max-age 보다 오래된 파일은 쓰지 않음
+@Slf4j
+public class CacheWarmStart {
+
+    // 스냅샷에 넣을 캐시: reload 는 캐시를 거쳐 DB에서 다시 읽는 조회 (ex: CachedLookupService::findGroupRoster)
+    // replay 는 파일의 순번 이후 변경으로 값이 달라졌을 수 있는 키를 폐기 (RosterReplays)
+    public record Cache<V>(String name, NearCache<Long, V> cache, RecordCodec<V> codec, Consumer<Long> reload,
+                           Replay<V> replay) {
+    }
+
+    @FunctionalInterface
+    public interface Replay<V> {
+        void apply(long afterSeq, MappedSection<V> section);
+    }
+
+    private final Path file;
+    private final Duration maxAge;
+    private final Duration writeInterval;
+    private final Duration reconcileDelay;
+    private final List<Cache<?>> caches;
+    private final LongSupplier changeSeq;
+
+    private final Map<String, MappedSection<?>> sections = new LinkedHashMap<>();
+    private volatile long loadedCreatedAt = -1;
+    private volatile boolean reconciling;
+    private final LongAdder writes = new LongAdder();
+    private volatile long lastWriteBytes;
+    // 파일에 쓸 순번: 지난 저장(처음에는 시작할 때) 때 읽은 값
+    // 저장 직전에 읽은 값을 쓰면, 그 전에 커밋됐지만 무효화 메시지가 아직 도착하지 않은 변경이 파일의 옛 값과 함께 "반영됨"으로 남음
+    // 한 주기 전 순번부터 다시 읽으면 폐기되는 키가 조금 늘 뿐 빠지는 변경은 없음
+    private volatile long pendingChangeSeq = -1;
+    private ScheduledExecutorService executor;
+
+    public CacheWarmStart(Path file, Duration maxAge, Duration writeInterval, Duration reconcileDelay,
+                          LongSupplier changeSeq, List<Cache<?>> caches) {
+        this.file = file;
+        this.maxAge = maxAge;
+        this.writeInterval = writeInterval;
+        this.reconcileDelay = reconcileDelay;
+        this.changeSeq = changeSeq;
+        this.caches = List.copyOf(caches);
+    }
+
+    // 요청을 받기 전에 실행 (빈 생성 시)
+    public void load() {
+        if (!Files.exists(file)) {
+            log.info("캐시 스냅샷 파일이 없습니다: {}", file);
+            return;
+        }
+        WarmStartFile snapshot;
+        try {
+            snapshot = WarmStartFile.open(file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 파일을 읽을 수 없어서 사용하지 않습니다: {}", file, e);
+            return;
+        }
+        long age = System.currentTimeMillis() - snapshot.createdAtMillis();
+        if (age > maxAge.toMillis()) {
+            log.info("캐시 스냅샷이 {}초 전 것이라 사용하지 않습니다.", age / 1000);
+            return;
+        }
+        try {
+            for (Cache<?> cache : caches) {
+                attach(snapshot, cache);
+            }
+        } catch (RuntimeException e) {
+            // 어떤 키가 바뀌었는지 모르면 파일 값을 쓸 수 없음
+            log.warn("캐시 스냅샷 이후 변경을 읽지 못해서 사용하지 않습니다: {}", file, e);
+            sections.clear();
+            return;
+        }
+        for (Cache<?> cache : caches) {
+            connect(cache);
+        }
+        loadedCreatedAt = snapshot.createdAtMillis();
+        reconciling = true;
+        log.info("캐시 스냅샷 연결 ({}초 전 저장, 순번 {} 이후 변경 반영, {})",
+                age / 1000, snapshot.changeSeq(), remaining());
+    }
+
+    private <V> void attach(WarmStartFile snapshot, Cache<V> cache) {
+        MappedSection<V> section = snapshot.section(cache.name(), cache.codec());
+        cache.replay().apply(snapshot.changeSeq(), section);
+        sections.put(cache.name(), section);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void connect(Cache<V> cache) {
+        cache.cache().warmFrom((MappedSection<V>) sections.get(cache.name()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        captureChangeSeq();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-warm-start");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (reconciling) {
+            executor.schedule(this::reconcile, reconcileDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (!writeInterval.isZero()) {
+            executor.scheduleWithFixedDelay(this::writeQuietly,
+                    writeInterval.toMillis(), writeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        writeQuietly();
+    }
+
+    // 파일의 키를 DB에서 다시 읽어서 캐시에 넣음 (폐기 먼저 -> 다시 읽는 동안 들어온 요청은 DB로 감)
+    public void reconcile() {
+        long started = System.nanoTime();
+        try {
+            for (Cache<?> cache : caches) {
+                MappedSection<?> section = sections.get(cache.name());
+                for (int i = 0; i < section.size(); i++) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (!section.isRetired(i)) {
+                        section.retire(i);
+                        cache.reload().accept(section.keyAt(i));
+                    }
+                }
+                cache.cache().warmFrom(null);
+            }
+            log.info("캐시 스냅샷 확인 완료 ({}ms)", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 남은 키는 max-age 와 상관없이 파일 값으로 남지 않도록 모두 폐기 (이후 DB에서 읽음)
+            log.warn("캐시 스냅샷 확인 실패, 남은 키는 DB에서 다시 읽습니다.", e);
+            for (Cache<?> cache : caches) {
+                sections.get(cache.name()).retireAll();
+                cache.cache().warmFrom(null);
+            }
+        } finally {
+            reconciling = false;
+        }
+    }
+
+    // 확인 중에는 캐시에 일부만 있으므로 저장하지 않음 (이전 파일 유지)
+    // 순번을 아직 못 읽었으면 이번에는 읽기만 하고 저장하지 않음
+    public void write() throws IOException {
+        if (reconciling) {
+            return;
+        }
+        long seq = pendingChangeSeq;
+        captureChangeSeq();
+        if (seq < 0) {
+            return;
+        }
+        List<WarmStartFile.Section<?>> snapshot = new ArrayList<>(caches.size());
+        for (Cache<?> cache : caches) {
+            snapshot.add(section(cache));
+        }
+        WarmStartFile.write(file, System.currentTimeMillis(), seq, snapshot);
+        writes.increment();
+        lastWriteBytes = Files.size(file);
+    }
+
+    private void captureChangeSeq() {
+        try {
+            pendingChangeSeq = changeSeq.getAsLong();
+        } catch (RuntimeException e) {
+            log.warn("변경 순번을 읽지 못했습니다. 캐시 스냅샷은 다음 저장 때 다시 시도합니다.", e);
+        }
+    }
+
+    private static <V> WarmStartFile.Section<V> section(Cache<V> cache) {
+        return new WarmStartFile.Section<>(cache.name(), cache.codec(), cache.cache().values());
+    }
+
+    public WarmStartStats stats() {
+        long hits = sections.values().stream().mapToLong(MappedSection::hits).sum();
+        return new WarmStartStats(
+                loadedCreatedAt < 0 ? -1 : System.currentTimeMillis() - loadedCreatedAt,
+                reconciling, remaining(), hits, writes.sum(), lastWriteBytes);
+    }
+
+    private Map<String, Integer> remaining() {
+        Map<String, Integer> remaining = new LinkedHashMap<>();
+        sections.forEach((name, section) -> remaining.put(name, section.remaining()));
+        return remaining;
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 저장 실패: {}", file, e);
+        }
+    }
+}
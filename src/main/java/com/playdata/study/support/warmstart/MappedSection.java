@@ -0,0 +1,119 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.support.cache.WarmSource;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스냅샷 파일의 캐시 하나 (정렬된 키 배열 + 레코드 위치 배열 + 레코드)
+// 조회할 때 키를 이진 탐색해서 그 레코드만 읽음, 폐기된 키는 비트로 표시
+public final class MappedSection<V> implements WarmSource<Long, V> {
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int keysAt;
+    private final int offsetsAt;
+    private final int dataAt;
+    private final RecordCodec<V> codec;
+    private final AtomicLongArray retired;
+    private volatile boolean allRetired;
+    private final LongAdder hits = new LongAdder();
+
+    MappedSection(ByteBuffer buffer, int count, int keysAt, int offsetsAt, int dataAt, RecordCodec<V> codec) {
+        this.buffer = buffer;
+        this.count = count;
+        this.keysAt = keysAt;
+        this.offsetsAt = offsetsAt;
+        this.dataAt = dataAt;
+        this.codec = codec;
+        this.retired = new AtomicLongArray(Math.max(1, (count + 63) >>> 6));
+    }
+
+    static <V> MappedSection<V> empty(RecordCodec<V> codec) {
+        return new MappedSection<>(ByteBuffer.allocate(0), 0, 0, 0, 0, codec);
+    }
+
+    @Override
+    public V get(Long key) {
+        if (key == null || allRetired) {
+            return null;
+        }
+        int index = indexOf(key);
+        if (index < 0 || isRetired(index)) {
+            return null;
+        }
+        hits.increment();
+        return valueAt(index);
+    }
+
+    @Override
+    public void retire(Object key) {
+        if (key instanceof Long id) {
+            int index = indexOf(id);
+            if (index >= 0) {
+                retire(index);
+            }
+        }
+    }
+
+    @Override
+    public void retireAll() {
+        allRetired = true;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long keyAt(int index) {
+        return buffer.getLong(keysAt + index * Long.BYTES);
+    }
+
+    // 조회 수에 넣지 않고 레코드를 읽음 (시작할 때 파일 내용을 확인하는 용도)
+    public V valueAt(int index) {
+        return codec.read(new RecordReader(buffer, dataAt + buffer.getInt(offsetsAt + index * Integer.BYTES)));
+    }
+
+    public boolean isRetired(int index) {
+        return allRetired || (retired.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public void retire(int index) {
+        long bit = 1L << index;
+        retired.getAndUpdate(index >>> 6, word -> word | bit);
+    }
+
+    // 아직 폐기되지 않은 키 수
+    public int remaining() {
+        if (allRetired) {
+            return 0;
+        }
+        int retiredCount = 0;
+        for (int i = 0; i < retired.length(); i++) {
+            retiredCount += Long.bitCount(retired.get(i));
+        }
+        return count - retiredCount;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    private int indexOf(long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = keyAt(mid);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
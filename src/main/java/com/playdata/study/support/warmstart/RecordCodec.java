@@ -0,0 +1,10 @@
+package com.playdata.study.support.warmstart;
+
+// 스냅샷 파일의 값 형식
+// read 는 조회된 키의 레코드 하나만 읽음 (파일을 열 때 전체를 읽어서 객체로 만들지 않음)
+public interface RecordCodec<V> {
+
+    void write(RecordWriter out, V value);
+
+    V read(RecordReader in);
+}
@@ -0,0 +1,49 @@
+package com.playdata.study.support.warmstart;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 매핑된 파일의 한 레코드를 위치를 직접 지정해서 읽음 (버퍼의 position 을 바꾸지 않으므로 여러 스레드가 같은 버퍼를 읽어도 됨)
+public final class RecordReader {
+
+    private final ByteBuffer buffer;
+    private int position;
+
+    RecordReader(ByteBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public byte readByte() {
+        return buffer.get(position++);
+    }
+
+    public int readInt() {
+        int value = buffer.getInt(position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    public long readLong() {
+        long value = buffer.getLong(position);
+        position += Long.BYTES;
+        return value;
+    }
+
+    // RecordWriter.writeNullableLong 와 짝
+    public Long readNullableLong() {
+        return readByte() == 0 ? null : readLong();
+    }
+
+    // 길이(-1 이면 null) + UTF-8
+    public String readString() {
+        int length = readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        position += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+package com.playdata.study.support.warmstart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// RecordReader 와 같은 형식으로 레코드를 씀 (빅 엔디언, ByteBuffer 기본값과 같음)
+public final class RecordWriter {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    public RecordWriter writeByte(int value) {
+        return write(() -> out.writeByte(value));
+    }
+
+    public RecordWriter writeInt(int value) {
+        return write(() -> out.writeInt(value));
+    }
+
+    public RecordWriter writeLong(long value) {
+        return write(() -> out.writeLong(value));
+    }
+
+    public RecordWriter writeNullableLong(Long value) {
+        writeByte(value == null ? 0 : 1);
+        return value == null ? this : writeLong(value);
+    }
+
+    public RecordWriter writeString(String value) {
+        if (value == null) {
+            return writeInt(-1);
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(encoded.length);
+        return write(() -> out.write(encoded));
+    }
+
+    byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    void reset() {
+        bytes.reset();
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    // ByteArrayOutputStream 에 쓰므로 실제로는 IOException 이 나지 않음
+    private RecordWriter write(Write write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+}
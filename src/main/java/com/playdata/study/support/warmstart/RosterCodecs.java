@@ -0,0 +1,73 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.entity.Gender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 그룹/팀 명단 캐시 값의 스냅샷 형식 (성별은 DB와 같은 코드, 없으면 0)
+public final class RosterCodecs {
+
+    public static final RecordCodec<GroupRoster> GROUP_ROSTER = new RecordCodec<>() {
+        @Override
+        public void write(RecordWriter out, GroupRoster roster) {
+            out.writeLong(roster.id()).writeString(roster.groupName()).writeInt(roster.idols().size());
+            for (IdolSummary idol : roster.idols()) {
+                out.writeLong(idol.id())
+                        .writeString(idol.idolName())
+                        .writeInt(idol.age())
+                        .writeByte(idol.gender() == null ? 0 : idol.gender().getCode());
+            }
+        }
+
+        @Override
+        public GroupRoster read(RecordReader in) {
+            long id = in.readLong();
+            String groupName = in.readString();
+            int size = in.readInt();
+            List<IdolSummary> idols = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                long idolId = in.readLong();
+                String idolName = in.readString();
+                int age = in.readInt();
+                byte gender = in.readByte();
+                idols.add(new IdolSummary(idolId, idolName, age, gender == 0 ? null : Gender.fromCode(gender)));
+            }
+            return new GroupRoster(id, groupName, List.copyOf(idols));
+        }
+    };
+
+    public static final RecordCodec<TeamRoster> TEAM_ROSTER = new RecordCodec<>() {
+        @Override
+        public void write(RecordWriter out, TeamRoster roster) {
+            out.writeLong(roster.id()).writeString(roster.name()).writeInt(roster.members().size());
+            for (MemberSummary member : roster.members()) {
+                out.writeLong(member.id())
+                        .writeString(member.userName())
+                        .writeInt(member.age())
+                        .writeNullableLong(member.teamId())
+                        .writeString(member.teamName());
+            }
+        }
+
+        @Override
+        public TeamRoster read(RecordReader in) {
+            long id = in.readLong();
+            String name = in.readString();
+            int size = in.readInt();
+            List<MemberSummary> members = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                members.add(new MemberSummary(in.readLong(), in.readString(), in.readInt(),
+                        in.readNullableLong(), in.readString()));
+            }
+            return new TeamRoster(id, name, List.copyOf(members));
+        }
+    };
+
+    private RosterCodecs() {
+    }
+}
@@ -0,0 +1,114 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.service.ChangeFeedService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 파일 저장 이후(after 다음 순번부터)의 변경 피드로 그룹/팀 명단 중 값이 달라졌을 수 있는 키를 폐기
+// 변경 피드에는 현재 소속만 있으므로, 바뀌거나 삭제된 아이돌/회원이 파일의 어느 명단에 있었는지는 파일 레코드를 읽어서 찾음
+// (그런 변경이 있을 때만 섹션 전체를 한 번 읽음)
+public final class RosterReplays {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @FunctionalInterface
+    private interface Feed<T> {
+        ChangeFeedPage<T> read(long after, int limit);
+    }
+
+    private RosterReplays() {
+    }
+
+    public static CacheWarmStart.Replay<GroupRoster> groupRosters(ChangeFeedService changeFeedService) {
+        return (after, section) -> {
+            drain(after, changeFeedService::groupChanges, change -> section.retire(change.id()), section::retire);
+            Set<Long> idols = new HashSet<>();
+            drain(after, changeFeedService::idolChanges, change -> {
+                idols.add(change.id());
+                if (change.groupId() != null) {
+                    section.retire(change.groupId());
+                }
+            }, idols::add);
+            retireContaining(section, idols, roster -> roster.idols().stream().map(IdolSummary::id).toList());
+        };
+    }
+
+    // 팀은 변경 피드 대상이 아니므로 파일에 남은 팀의 이름을 DB 값과 한 번에 비교 (없어진 팀도 폐기)
+    public static CacheWarmStart.Replay<TeamRoster> teamRosters(ChangeFeedService changeFeedService,
+                                                                JdbcTemplate jdbcTemplate) {
+        return (after, section) -> {
+            Set<Long> members = new HashSet<>();
+            drain(after, changeFeedService::memberChanges, change -> {
+                members.add(change.id());
+                if (change.teamId() != null) {
+                    section.retire(change.teamId());
+                }
+            }, members::add);
+            retireContaining(section, members, roster -> roster.members().stream().map(MemberSummary::id).toList());
+            retireRenamedTeams(section, jdbcTemplate);
+        };
+    }
+
+    private static <T> void drain(long after, Feed<T> feed, Consumer<T> changed, Consumer<Long> deleted) {
+        ChangeFeedPage<T> page;
+        long seq = after;
+        do {
+            page = feed.read(seq, PAGE_SIZE);
+            page.changed().forEach(changed);
+            page.deleted().forEach(deleted);
+            seq = page.nextSeq();
+        } while (page.hasMore());
+    }
+
+    private static <V> void retireContaining(MappedSection<V> section, Set<Long> ids, Function<V, List<Long>> idsOf) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < section.size(); i++) {
+            if (!section.isRetired(i) && !Collections.disjoint(idsOf.apply(section.valueAt(i)), ids)) {
+                section.retire(i);
+            }
+        }
+    }
+
+    private static void retireRenamedTeams(MappedSection<TeamRoster> section, JdbcTemplate jdbcTemplate) {
+        for (int from = 0; from < section.size(); from += PAGE_SIZE) {
+            Map<Long, Integer> indexes = new HashMap<>();
+            for (int i = from; i < Math.min(from + PAGE_SIZE, section.size()); i++) {
+                if (!section.isRetired(i)) {
+                    indexes.put(section.keyAt(i), i);
+                }
+            }
+            if (indexes.isEmpty()) {
+                continue;
+            }
+            Map<Long, String> names = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT team_id, name FROM tbl_team WHERE team_id IN ("
+                            + String.join(", ", Collections.nCopies(indexes.size(), "?")) + ")",
+                    rs -> {
+                        names.put(rs.getLong(1), rs.getString(2));
+                    },
+                    indexes.keySet().toArray());
+            indexes.forEach((teamId, index) -> {
+                if (!names.containsKey(teamId) || !Objects.equals(names.get(teamId), section.valueAt(index).name())) {
+                    section.retire(index.intValue());
+                }
+            });
+        }
+    }
+}
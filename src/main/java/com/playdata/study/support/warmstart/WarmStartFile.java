@@ -0,0 +1,180 @@
+package com.playdata.study.support.warmstart;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+// 캐시 스냅샷 파일 (웜 스타트용)
+// [헤더] magic, version, 저장 시각(ms), 변경 순번(change_seq, 이 순번 이후 변경은 반영되지 않았을 수 있음), 섹션 수, 본문 CRC32C
+// [섹션] 이름, 항목 수, 정렬된 키(long[]), 레코드 위치(int[항목 수 + 1]), 레코드들
+// 열 때는 파일을 메모리 매핑하고 헤더/섹션 위치만 읽음 -> 레코드는 조회된 것만 읽어서 객체로 만듦
+public final class WarmStartFile {
+
+    private static final int MAGIC = 0x57524D31; // "WRM1"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES * 3;
+
+    // 저장할 캐시 하나
+    public record Section<V>(String name, RecordCodec<V> codec, Map<Long, V> values) {
+    }
+
+    private record SectionPosition(int count, int keysAt, int offsetsAt, int dataAt) {
+    }
+
+    private final ByteBuffer buffer;
+    private final long createdAtMillis;
+    private final long changeSeq;
+    private final Map<String, SectionPosition> sections;
+
+    private WarmStartFile(ByteBuffer buffer, long createdAtMillis, long changeSeq,
+                          Map<String, SectionPosition> sections) {
+        this.buffer = buffer;
+        this.createdAtMillis = createdAtMillis;
+        this.changeSeq = changeSeq;
+        this.sections = sections;
+    }
+
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long changeSeq() {
+        return changeSeq;
+    }
+
+    // 파일에 없는 섹션은 빈 섹션
+    public <V> MappedSection<V> section(String name, RecordCodec<V> codec) {
+        SectionPosition position = sections.get(name);
+        if (position == null) {
+            return MappedSection.empty(codec);
+        }
+        return new MappedSection<>(buffer, position.count(), position.keysAt(), position.offsetsAt(),
+                position.dataAt(), codec);
+    }
+
+    // 형식이 다르거나 내용이 깨졌으면 IOException
+    public static WarmStartFile open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 파일 크기가 올바르지 않습니다: " + channel.size());
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("스냅샷 파일 형식이 다릅니다: " + path);
+        }
+        long createdAt = buffer.getLong(8);
+        long changeSeq = buffer.getLong(16);
+        int sectionCount = buffer.getInt(24);
+        long crc = buffer.getLong(28);
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        if (checksum.getValue() != crc) {
+            throw new IOException("스냅샷 파일 CRC 가 맞지 않습니다: " + path);
+        }
+
+        Map<String, SectionPosition> sections = new HashMap<>();
+        int position = HEADER_SIZE;
+        for (int s = 0; s < sectionCount; s++) {
+            int nameLength = buffer.getInt(position);
+            byte[] name = new byte[nameLength];
+            buffer.get(position + Integer.BYTES, name);
+            position += Integer.BYTES + nameLength;
+
+            int count = buffer.getInt(position);
+            int keysAt = position + Integer.BYTES;
+            int offsetsAt = keysAt + count * Long.BYTES;
+            int dataAt = offsetsAt + (count + 1) * Integer.BYTES;
+            sections.put(new String(name, StandardCharsets.UTF_8), new SectionPosition(count, keysAt, offsetsAt, dataAt));
+            position = dataAt + buffer.getInt(offsetsAt + count * Integer.BYTES);
+        }
+        return new WarmStartFile(buffer, createdAt, changeSeq, sections);
+    }
+
+    // 임시 파일에 쓴 뒤 이름을 바꿔서 교체 -> 읽는 쪽은 이전 파일 또는 새 파일 전체만 봄
+    // (이미 매핑된 이전 파일은 이름이 바뀌어도 그대로 읽을 수 있음)
+    public static void write(Path path, long createdAtMillis, long changeSeq, List<Section<?>> sections)
+            throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_SIZE);
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024), new CRC32C());
+                DataOutputStream out = new DataOutputStream(checked);
+                for (Section<?> section : sections) {
+                    writeSection(out, section);
+                }
+                out.flush();
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("스냅샷 파일이 너무 큽니다: " + channel.size());
+                }
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(createdAtMillis)
+                        .putLong(changeSeq)
+                        .putInt(sections.size())
+                        .putLong(checked.getChecksum().getValue())
+                        .flip();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static <V> void writeSection(DataOutputStream out, Section<V> section) throws IOException {
+        byte[] name = section.name().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+
+        // 키 순서로 레코드를 만들어서 위치를 먼저 씀
+        TreeMap<Long, V> sorted = new TreeMap<>(section.values());
+        List<byte[]> records = new ArrayList<>(sorted.size());
+        RecordWriter writer = new RecordWriter();
+        for (V value : sorted.values()) {
+            writer.reset();
+            section.codec().write(writer, value);
+            records.add(writer.toByteArray());
+        }
+
+        out.writeInt(sorted.size());
+        for (Long key : sorted.keySet()) {
+            out.writeLong(key);
+        }
+        int offset = 0;
+        out.writeInt(offset);
+        for (byte[] record : records) {
+            offset += record.length;
+            out.writeInt(offset);
+        }
+        for (byte[] record : records) {
+            out.write(record);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.playdata.study.support.warmstart;
+
+import java.util.Map;
+
+// 웜 스타트 상태
+// loadedFileAgeMillis: 시작할 때 읽은 파일이 저장된 지 얼마나 지났는지 (-1 이면 읽은 파일 없음)
+// remaining: 캐시별로 아직 DB와 맞춰보지 않은(파일 값을 그대로 쓰는) 키 수, hits: 파일에서 바로 응답한 횟수
+public record WarmStartStats(long loadedFileAgeMillis, boolean reconciling, Map<String, Integer> remaining,
+                             long hits, long writes, long lastWriteBytes) {
+}
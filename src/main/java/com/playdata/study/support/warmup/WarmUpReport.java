@@ -0,0 +1,15 @@
+package com.playdata.study.support.warmup;
+
+import java.util.List;
+
+// 워밍업 결과
+// completed: 모든 조회가 budget 안에 끝났는지 (false 면 남은 조회는 건너뛰고 준비 완료로 넘어감)
+// 작업별 planMillis: 조회 목록을 만드는 데 걸린 시간, queries: 실행할 조회 수
+//       succeeded / failed / skipped(budget 초과로 실행 못 했거나 끝나지 않은 조회), avg/maxMillis: 끝난 조회의 시간
+public record WarmUpReport(boolean completed, int parallelism, long budgetMillis, long elapsedMillis,
+                           List<TaskTiming> tasks) {
+
+    public record TaskTiming(String name, long planMillis, int queries, long succeeded, long failed, long skipped,
+                             double avgMillis, long maxMillis) {
+    }
+}
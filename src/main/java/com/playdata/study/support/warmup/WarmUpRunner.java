@@ -0,0 +1,142 @@
+package com.playdata.study.support.warmup;
+
+import com.playdata.study.support.QueryDeadline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 워밍업 작업들을 parallelism 개 스레드에서 나눠 실행하고 budget 안에서 기다림
+// - 작업마다 plan 으로 조회 목록을 만든 뒤, 목록의 조회도 같은 스레드 풀에 넣어서 작업끼리 섞여 실행됨
+// - 모든 쿼리에 남은 budget 만큼의 QueryDeadline 을 걸어서 budget 이 지나면 실행 중인 쿼리도 취소됨
+// - budget 이 지나면 아직 시작하지 않은 조회는 버리고 결과를 돌려줌 (워밍업 실패로 시작을 막지는 않음)
+// 조회 하나가 커넥션 하나를 쓰므로 parallelism 은 커넥션 풀 크기 안에서 정해야 함
+@Slf4j
+public class WarmUpRunner {
+
+    private final int parallelism;
+    private final Duration budget;
+
+    public WarmUpRunner(int parallelism, Duration budget) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism은 1 이상이어야 합니다: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.budget = budget;
+    }
+
+    public WarmUpReport run(List<WarmUpTask> tasks) {
+        long started = System.nanoTime();
+        long deadline = started + budget.toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "warm-up-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Timing> timings = new ArrayList<>(tasks.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(tasks.size());
+        for (WarmUpTask task : tasks) {
+            Timing timing = new Timing(task.name());
+            timings.add(timing);
+            futures.add(CompletableFuture.supplyAsync(() -> plan(task, timing, deadline), executor)
+                    .thenCompose(queries -> CompletableFuture.allOf(queries.stream()
+                            .map(query -> CompletableFuture.runAsync(() -> execute(query, timing, deadline), executor))
+                            .toArray(CompletableFuture[]::new))));
+        }
+
+        boolean completed = false;
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            completed = true;
+        } catch (TimeoutException e) {
+            log.warn("워밍업이 {}ms 안에 끝나지 않아 남은 조회를 건너뜁니다.", budget.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 조회 실패는 execute 에서 모두 잡으므로 여기로 오지 않음
+            log.warn("워밍업 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new WarmUpReport(completed, parallelism, budget.toMillis(),
+                (System.nanoTime() - started) / 1_000_000,
+                timings.stream().map(Timing::toTaskTiming).toList());
+    }
+
+    private List<Runnable> plan(WarmUpTask task, Timing timing, long deadline) {
+        long started = System.nanoTime();
+        try (QueryDeadline ignored = QueryDeadline.start(Duration.ofNanos(Math.max(0, deadline - started)))) {
+            List<Runnable> queries = task.plan().get();
+            timing.planned(queries.size(), System.nanoTime() - started);
+            return queries;
+        } catch (RuntimeException e) {
+            log.warn("워밍업 조회 목록을 만들지 못했습니다: {}", task.name(), e);
+            timing.planned(0, System.nanoTime() - started);
+            timing.failed.increment();
+            return List.of();
+        }
+    }
+
+    private void execute(Runnable query, Timing timing, long deadline) {
+        long started = System.nanoTime();
+        if (started >= deadline) {
+            return;
+        }
+        try (QueryDeadline ignored = QueryDeadline.start(Duration.ofNanos(deadline - started))) {
+            query.run();
+            timing.succeeded(System.nanoTime() - started);
+        } catch (RuntimeException e) {
+            log.debug("워밍업 조회 실패: {}", timing.name, e);
+            timing.failed.increment();
+        }
+    }
+
+    private static final class Timing {
+
+        private final String name;
+        private volatile long planNanos;
+        private volatile int queries;
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private Timing(String name) {
+            this.name = name;
+        }
+
+        private void planned(int queries, long nanos) {
+            this.queries = queries;
+            this.planNanos = nanos;
+        }
+
+        private void succeeded(long nanos) {
+            succeeded.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private WarmUpReport.TaskTiming toTaskTiming() {
+            long ok = succeeded.sum();
+            long failures = failed.sum();
+            return new WarmUpReport.TaskTiming(name, planNanos / 1_000_000, queries, ok, failures,
+                    Math.max(0, queries - ok - failures),
+                    ok == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / ok,
+                    maxNanos.get() / 1_000_000);
+        }
+    }
+}
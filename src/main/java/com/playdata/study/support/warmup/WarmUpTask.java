@@ -0,0 +1,14 @@
+package com.playdata.study.support.warmup;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// 워밍업 작업 하나 (ex: 상위 그룹 명단 조회)
+// plan 은 실행할 조회 목록을 만드는 조회 (ex: 아이돌 수 상위 그룹 id 조회 -> id 별 명단 조회)
+public record WarmUpTask(String name, Supplier<List<Runnable>> plan) {
+
+    // 미리 정해진 조회 하나만 실행하는 작업
+    public static WarmUpTask single(String name, Runnable query) {
+        return new WarmUpTask(name, () -> List.of(query));
+    }
+}
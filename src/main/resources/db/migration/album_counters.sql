@@ -0,0 +1,7 @@
+-- 앨범 재생/조회 수 (AlbumCounterService)
+-- MySQL 기준, ddl-auto 를 쓰지 않는 환경에서 한 번 실행
+-- 기본값이 있어야 앨범을 INSERT 할 때 (엔터티/JDBC 모두) 두 컬럼을 지정하지 않아도 됨
+
+ALTER TABLE tbl_album
+    ADD COLUMN plays BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN views BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,20 @@
+-- 변경 피드(/api/changes)용 순번 채우기
+-- MySQL 기준, ddl-auto(update)로 created_at / updated_at / change_seq 컬럼과 인덱스,
+-- tbl_change_sequence / tbl_change_tombstone 테이블이 만들어진 뒤, 쓰기 요청을 받기 전에 한 번 실행
+-- 기존 행에 순번이 없으면 after=0 으로 처음 동기화할 때 빠지므로 모든 행에 순번을 매김
+
+SET @seq := 0;
+
+UPDATE tbl_group SET change_seq = (@seq := @seq + 1), created_at = NOW(), updated_at = NOW()
+WHERE change_seq IS NULL ORDER BY group_id;
+
+UPDATE tbl_idol SET change_seq = (@seq := @seq + 1), created_at = NOW(), updated_at = NOW()
+WHERE change_seq IS NULL ORDER BY idol_id;
+
+UPDATE tbl_album SET change_seq = (@seq := @seq + 1), created_at = NOW(), updated_at = NOW()
+WHERE change_seq IS NULL ORDER BY album_id;
+
+UPDATE tbl_member SET change_seq = (@seq := @seq + 1), created_at = NOW(), updated_at = NOW()
+WHERE change_seq IS NULL ORDER BY member_id;
+
+INSERT INTO tbl_change_sequence (sequence_id, seq) VALUES (1, @seq);
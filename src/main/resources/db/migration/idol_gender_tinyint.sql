@@ -0,0 +1,17 @@
+-- tbl_idol.gender VARCHAR("여"/"남") -> TINYINT 코드 (Gender: 1=여, 2=남)
+-- MySQL 기준, 애플리케이션을 새 버전으로 올리기 전에 한 번 실행
+-- 알 수 없는 값이 있으면 NULL 이 되므로 먼저 확인: SELECT DISTINCT gender FROM tbl_idol;
+
+ALTER TABLE tbl_idol ADD COLUMN gender_code TINYINT NULL AFTER gender;
+
+UPDATE tbl_idol
+SET gender_code = CASE gender
+                      WHEN '여' THEN 1
+                      WHEN '남' THEN 2
+                  END;
+
+ALTER TABLE tbl_idol DROP COLUMN gender;
+ALTER TABLE tbl_idol RENAME COLUMN gender_code TO gender;
+
+-- 그룹/성별별 COUNT, AVG(age) 를 인덱스만으로 처리 (Idol 엔터티의 @Index 와 같은 정의)
+CREATE INDEX idx_idol_group_gender_age ON tbl_idol (group_id, gender, age);
@@ -0,0 +1,96 @@
+package com.playdata.study;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// "목록을 전부 조회한 뒤 비어있는지만 확인"하는 코드를 잡아내는 린트 테스트
+// ex) List<Idol> idols = factory.selectFrom(idol).where(...).fetch();  assertFalse(idols.isEmpty());
+// 이런 경우에는 리포지토리의 exists(Predicate)를 사용해야 합니다.
+class FetchEmptinessLintTest {
+
+    // 목록을 반환하는 조회 호출
+    private static final String LIST_CALL = "\\.(?:fetch|findAll|findBy\\w*)\\([^;]*?\\)";
+
+    // factory...fetch().isEmpty() 처럼 바로 이어서 확인하는 경우
+    private static final Pattern CHAINED = Pattern.compile(
+            LIST_CALL + "\\s*\\.(?:isEmpty\\(\\)|size\\(\\)\\s*(?:[><!=]=?)\\s*0)", Pattern.DOTALL);
+
+    // List<X> 변수에 담은 경우
+    private static final Pattern ASSIGNED = Pattern.compile(
+            "List<[^>]+>\\s+(\\w+)\\s*=\\s*[^;]*?" + LIST_CALL + "\\s*;", Pattern.DOTALL);
+
+    @Test
+    @DisplayName("main 소스에 목록 조회 후 비어있는지만 확인하는 코드가 없어야 한다.")
+    void noFetchToCheckEmptiness() throws IOException {
+        List<String> violations = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(Path.of("src/main/java"))) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".java")).toList()) {
+                findViolations(Files.readString(file))
+                        .forEach(v -> violations.add(file + ": " + v));
+            }
+        }
+        assertTrue(violations.isEmpty(),
+                "exists(Predicate)를 사용하세요.\n" + String.join("\n", violations));
+    }
+
+    @Test
+    @DisplayName("린트 규칙이 실제 잘못된 패턴을 잡아내는지 확인")
+    void detectsPattern() {
+        String bad = """
+                List<Idol> idols = factory.selectFrom(idol)
+                        .where(idol.age.goe(age))
+                        .fetch();
+                assertFalse(idols.isEmpty());
+                """;
+        String chained = "if (memberRepository.findByName(name).size() > 0) { }";
+        String good = """
+                List<Idol> idols = factory.selectFrom(idol).fetch();
+                if (idols.isEmpty()) return;
+                idols.forEach(System.out::println);
+                """;
+
+        assertEquals(1, findViolations(bad).size());
+        assertEquals(1, findViolations(chained).size());
+        assertTrue(findViolations(good).isEmpty());
+    }
+
+    // 변수를 isEmpty()/size() 확인에만 사용하면 위반으로 판단
+    static List<String> findViolations(String source) {
+        List<String> violations = new ArrayList<>();
+
+        Matcher chained = CHAINED.matcher(source);
+        while (chained.find()) {
+            violations.add(chained.group().replaceAll("\\s+", " "));
+        }
+
+        Matcher assigned = ASSIGNED.matcher(source);
+        while (assigned.find()) {
+            String variable = assigned.group(1);
+            String rest = source.substring(assigned.end());
+            int uses = count(rest, "\\b" + variable + "\\b");
+            int emptinessChecks = count(rest, "\\b" + variable + "\\.(?:isEmpty|size)\\(\\)");
+            if (uses > 0 && uses == emptinessChecks) {
+                violations.add(variable + " = ..." + " (isEmpty()/size() 확인에만 사용)");
+            }
+        }
+        return violations;
+    }
+
+    private static int count(String text, String regex) {
+        Matcher m = Pattern.compile(regex).matcher(text);
+        int count = 0;
+        while (m.find()) count++;
+        return count;
+    }
+}
@@ -0,0 +1,118 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.service.AlbumCounterService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import static com.playdata.study.entity.QAlbum.album;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 앨범 재생 수 증가 처리량: 이벤트마다 UPDATE 하는 방식과 메모리 카운터 + 주기 반영 비교
+// 재생의 80%가 인기 앨범 10개에 몰리는 분포 (같은 행 잠금 경합)
+// ./gradlew benchTest --tests '*AlbumCounterBenchmarkTest' -Dbench.threads=16
+@Tag("bench")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:album-counter-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "album-counters.flush-interval=200ms"
+})
+@ActiveProfiles("embedded")
+class AlbumCounterBenchmarkTest {
+
+    @Autowired
+    AlbumCounterService albumCounterService;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이벤트마다 UPDATE vs 메모리 카운터")
+    void throughput() throws InterruptedException {
+        // given
+        int albums = Integer.getInteger("bench.albums", 1_000);
+        int threads = Integer.getInteger("bench.threads", 8);
+        long millis = Long.getLong("bench.millis", 3_000L);
+
+        jdbcTemplate.update("INSERT INTO tbl_group (group_name) VALUES ('bench')");
+        Long groupId = jdbcTemplate.queryForObject("SELECT MAX(group_id) FROM tbl_group", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < albums; i++) {
+            rows.add(new Object[]{"album" + i, 2024, groupId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tbl_album (album_name, release_year, group_id) VALUES (?, ?, ?)", rows);
+        long minId = jdbcTemplate.queryForObject("SELECT MIN(album_id) FROM tbl_album", Long.class);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // when
+        long direct = run(threads, millis, minId, albums, albumId -> tx.executeWithoutResult(status ->
+                factory.update(album)
+                        .set(album.plays, album.plays.add(1L))
+                        .where(album.id.eq(albumId))
+                        .execute()));
+        long before = totalPlays();
+
+        long buffered = run(threads, millis, minId, albums,
+                albumId -> albumCounterService.increment(albumId, AlbumCounter.PLAYS, 1));
+        long flushStart = System.nanoTime();
+        albumCounterService.flush();
+        double flushMillis = (System.nanoTime() - flushStart) / 1_000_000.0;
+
+        // then
+        assertEquals(direct, before);
+        assertEquals(direct + buffered, totalPlays());
+
+        System.out.printf("%n===== 앨범 재생 수 증가 (%d 스레드, 앨범 %d개, %dms) =====%n", threads, albums, millis);
+        System.out.printf("%-22s %12s%n", "방식", "건/초");
+        System.out.printf("%-22s %12.0f%n", "이벤트마다 UPDATE", direct * 1000.0 / millis);
+        System.out.printf("%-22s %12.0f%n", "메모리 카운터", buffered * 1000.0 / millis);
+        System.out.printf("마지막 반영 %.1fms, %s%n", flushMillis, albumCounterService.stats());
+    }
+
+    private long run(int threads, long millis, long minId, int albums, LongConsumer increment)
+            throws InterruptedException {
+        LongAdder done = new LongAdder();
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long offset = random.nextInt(10) < 8 ? random.nextInt(10) : random.nextInt(albums);
+                    increment.accept(minId + offset);
+                    done.increment();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return done.sum();
+    }
+
+    private long totalPlays() {
+        return jdbcTemplate.queryForObject("SELECT SUM(plays) FROM tbl_album", Long.class);
+    }
+}
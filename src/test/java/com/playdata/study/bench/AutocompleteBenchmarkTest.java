@@ -0,0 +1,67 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.support.autocomplete.AutocompleteIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 자동완성 인덱스 검색/변경 지연 시간 (DB 없이 DataGenerator 이름 분포 사용)
+// ./gradlew benchTest --tests '*AutocompleteBenchmarkTest' -Dbench.idols=1000000
+@Tag("bench")
+class AutocompleteBenchmarkTest {
+
+    @Test
+    @DisplayName("검색어 종류별 검색 시간과 인기도 변경 시간")
+    void latency() {
+        int idols = Integer.getInteger("bench.idols", 200_000);
+        int rounds = Integer.getInteger("bench.rounds", 20_000);
+        Random random = new Random(42L);
+
+        AutocompleteIndex index = new AutocompleteIndex(10);
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < idols; i++) {
+            index.upsert(i, DataGenerator.personName(random));
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        System.out.printf("%n===== 자동완성 (이름 %d건, 인덱스 생성 %dms) =====%n", idols, buildMillis);
+        System.out.printf("%-10s %10s %10s %10s%n", "검색어", "p50", "p99", "max");
+
+        // 가장 흔한 성씨 한 글자 / 초성 / 섞어 쓰기 / 입력 중인 음절 / 거의 완성된 이름
+        for (String query : List.of("김", "ㄱ", "ㄱㅊ", "ㄱㅊㅇ", "김ㅊ", "김채", "김챙", "김채원")) {
+            assertFalse(index.search(query, 10).isEmpty(), query);
+            long[] nanos = new long[rounds];
+            for (int r = 0; r < rounds; r++) {
+                long start = System.nanoTime();
+                index.search(query, 10);
+                nanos[r] = System.nanoTime() - start;
+            }
+            print(query, nanos);
+        }
+
+        // 선택 횟수 증가 = 이름 경로 전체의 상위 목록 재계산
+        long[] nanos = new long[rounds];
+        for (int r = 0; r < rounds; r++) {
+            long id = random.nextInt(idols);
+            long start = System.nanoTime();
+            index.increasePopularity(id, 1);
+            nanos[r] = System.nanoTime() - start;
+        }
+        print("인기도+1", nanos);
+    }
+
+    private void print(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-10s %8.1fus %8.1fus %8.1fus%n", label,
+                sorted[sorted.length / 2] / 1_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000.0,
+                sorted[sorted.length - 1] / 1_000.0);
+    }
+}
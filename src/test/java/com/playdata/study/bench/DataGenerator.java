@@ -0,0 +1,200 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.entity.Gender;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 부하 테스트용 대용량 데이터 생성기
+// 같은 seed를 주면 항상 같은 데이터가 만들어지도록 Random 하나로만 값을 뽑습니다.
+// JPA save()는 IDENTITY 전략 때문에 배치가 안 되므로 JdbcTemplate.batchUpdate로 직접 INSERT 합니다.
+// (MySQL이라면 url에 rewriteBatchedStatements=true를 붙여야 실제로 multi-row INSERT가 됩니다.)
+public class DataGenerator {
+
+    // 실제 인구 분포처럼 '김', '이', '박'에 몰리도록 가중치를 준 성씨
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "신"};
+    private static final int[] SURNAME_WEIGHTS = {21, 15, 8, 5, 4, 2, 2, 2, 2, 2, 1, 1};
+
+    // 이름 음절 수를 일부러 적게 잡아서 동명이인이 자연스럽게 생기도록 함
+    private static final String[] SYLLABLES = {
+            "민", "서", "지", "유", "하", "채", "원", "윤", "수", "예",
+            "은", "진", "현", "영", "나", "연", "아", "주", "소", "희"
+    };
+
+    private static final String[] GROUP_WORDS = {
+            "스타", "드림", "블루", "레드", "문", "선", "나인", "세븐", "크루", "라이트", "웨이브", "플라워"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final Random random;
+    private final int batchSize;
+
+    public DataGenerator(JdbcTemplate jdbc, long seed, int batchSize) {
+        this.jdbc = jdbc;
+        this.random = new Random(seed);
+        this.batchSize = batchSize;
+    }
+
+    // 생성 규모 설정값
+    // -Dbench.groups=, -Dbench.idols= 처럼 시스템 프로퍼티로 덮어쓸 수 있음
+    public record Scale(int groups, long idols, double nullGroupRatio, double groupSkew,
+                        int albumsPerGroup, int teams, long members) {
+
+        public static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("bench.groups", 1_000),
+                    Long.getLong("bench.idols", 100_000L),
+                    Double.parseDouble(System.getProperty("bench.nullGroupRatio", "0.02")),
+                    Double.parseDouble(System.getProperty("bench.groupSkew", "1.1")),
+                    Integer.getInteger("bench.albumsPerGroup", 5),
+                    Integer.getInteger("bench.teams", 100),
+                    Long.getLong("bench.members", 100_000L)
+            );
+        }
+    }
+
+    public void generate(Scale scale) {
+        long groupStart = nextId("tbl_group", "group_id");
+        insertGroups(groupStart, scale.groups());
+
+        // 그룹 크기는 Zipf 분포 (소수의 대형 그룹 + 다수의 소형 그룹)
+        double[] cumulative = zipfCumulative(scale.groups(), scale.groupSkew());
+        insertIdols(groupStart, cumulative, scale);
+        insertAlbums(groupStart, scale.groups(), scale.albumsPerGroup());
+
+        long teamStart = nextId("tbl_team", "team_id");
+        insertTeams(teamStart, scale.teams());
+        insertMembers(teamStart, scale.teams(), scale.members());
+    }
+
+    // 성씨 + 두 글자 이름 (ex: 김채원). 동명이인이 많이 나오는 것이 정상
+    public static String personName(Random random) {
+        int total = 0;
+        for (int w : SURNAME_WEIGHTS) total += w;
+        int pick = random.nextInt(total);
+        int idx = 0;
+        while (pick >= SURNAME_WEIGHTS[idx]) {
+            pick -= SURNAME_WEIGHTS[idx++];
+        }
+        return SURNAMES[idx]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+
+    // 단어 두 개 + 번호 (ex: 스타드림-12)
+    public static String groupName(Random random, int index) {
+        return GROUP_WORDS[random.nextInt(GROUP_WORDS.length)]
+                + GROUP_WORDS[random.nextInt(GROUP_WORDS.length)] + "-" + index;
+    }
+
+    // 아이돌 나이: 대부분 16 ~ 30세, 5% 정도는 솔로 가수처럼 50세까지 긴 꼬리
+    private int idolAge() {
+        if (random.nextDouble() < 0.05) {
+            return 30 + random.nextInt(21);
+        }
+        int age = (int) Math.round(22 + random.nextGaussian() * 3.5);
+        return Math.max(15, Math.min(30, age));
+    }
+
+    private void insertGroups(long start, int count) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{start + i, groupName(random, i)});
+            flushIfFull("INSERT INTO tbl_group (group_id, group_name) VALUES (?, ?)", batch);
+        }
+        flush("INSERT INTO tbl_group (group_id, group_name) VALUES (?, ?)", batch);
+    }
+
+    private void insertIdols(long groupStart, double[] cumulative, Scale scale) {
+        String sql = "INSERT INTO tbl_idol (idol_name, age, gender, group_id) VALUES (?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 0; i < scale.idols(); i++) {
+            // 김종국, 아이유처럼 그룹이 없는 솔로 가수
+            Long groupId = random.nextDouble() < scale.nullGroupRatio()
+                    ? null
+                    : groupStart + pickIndex(cumulative);
+            byte gender = (random.nextDouble() < 0.7 ? Gender.FEMALE : Gender.MALE).getCode();
+            batch.add(new Object[]{personName(random), idolAge(), gender, groupId});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertAlbums(long groupStart, int groups, int albumsPerGroup) {
+        String sql = "INSERT INTO tbl_album (album_name, release_year, group_id) VALUES (?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int g = 0; g < groups; g++) {
+            // 앨범 수도 그룹마다 다르게 (0 ~ 2배)
+            int count = random.nextInt(albumsPerGroup * 2 + 1);
+            for (int a = 0; a < count; a++) {
+                batch.add(new Object[]{"ALBUM-" + g + "-" + a, 2010 + random.nextInt(16), groupStart + g});
+                flushIfFull(sql, batch);
+            }
+        }
+        flush(sql, batch);
+    }
+
+    private void insertTeams(long start, int count) {
+        String sql = "INSERT INTO tbl_team (team_id, name) VALUES (?, ?)";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{start + i, "team" + i});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertMembers(long teamStart, int teams, long count) {
+        String sql = "INSERT INTO tbl_member (user_name, age, team_id) VALUES (?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 0; i < count; i++) {
+            Long teamId = teams == 0 ? null : teamStart + random.nextInt(teams);
+            batch.add(new Object[]{personName(random), 10 + random.nextInt(50), teamId});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private double[] zipfCumulative(int n, double skew) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private int pickIndex(double[] cumulative) {
+        double r = random.nextDouble();
+        int lo = 0, hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] < r) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbc.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() >= batchSize) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbc.batchUpdate(sql, batch);
+        batch.clear();
+    }
+}
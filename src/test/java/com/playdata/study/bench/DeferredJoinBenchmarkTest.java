@@ -0,0 +1,85 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 페이지 깊이별 offset 페이징 vs 지연 조인 페이징 (나이 내림차순, 이름 오름차순 20건)
+// ./gradlew benchTest --tests '*DeferredJoinBenchmarkTest' -Dbench.idols=500000
+// 내장 H2(메모리)는 행을 읽는 비용이 거의 없어서 차이가 잘 드러나지 않음
+// 실제 비교는 @ActiveProfiles 를 빼고 MySQL 에서 실행 (EXPLAIN 으로 1단계가 Using index 인지 확인)
+@Tag("bench")
+@SpringBootTest
+@ActiveProfiles("embedded")
+class DeferredJoinBenchmarkTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("페이지 깊이별 offset 페이징과 지연 조인 페이징 시간 비교")
+    void pageDepths() {
+        // given
+        long idols = Long.getLong("bench.idols", 200_000L);
+        int size = 20;
+        int rounds = Integer.getInteger("bench.rounds", 20);
+        int warmup = 5;
+
+        new DataGenerator(jdbcTemplate, 42L, 1_000)
+                .generate(new DataGenerator.Scale(500, idols, 0.02, 1.1, 0, 0, 0));
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        System.out.printf("%n===== 페이지 깊이별 조회 (아이돌 %d건, %d건씩, median) =====%n", idols, size);
+        System.out.printf("%10s %14s %14s %14s%n", "offset", "offset 페이징", "지연 조인", "지연 조인(DTO)");
+
+        for (long offset : new long[]{0, 1_000, 10_000, idols / 4, idols / 2, idols - size}) {
+            // 같은 결과인지 먼저 확인
+            List<Long> expected = tx.execute(s -> idolRepository.findPage(null, offset, size, idol.age.desc(), idol.idolName.asc())
+                    .stream().map(Idol::getId).toList());
+            List<Long> deferred = tx.execute(s -> idolRepository.findPageDeferred(null, offset, size, idol.age.desc(), idol.idolName.asc())
+                    .stream().map(Idol::getId).toList());
+            assertEquals(expected, deferred, "offset " + offset);
+
+            double plain = measure(tx, rounds, warmup, o -> idolRepository.findPage(null, o, size, idol.age.desc(), idol.idolName.asc()), offset);
+            double entity = measure(tx, rounds, warmup, o -> idolRepository.findPageDeferred(null, o, size, idol.age.desc(), idol.idolName.asc()), offset);
+            double dto = measure(tx, rounds, warmup, o -> idolRepository.findRowPageDeferred(null, o, size, idol.age.desc(), idol.idolName.asc()), offset);
+            System.out.printf("%10d %12.2fms %12.2fms %12.2fms%n", offset, plain, entity, dto);
+        }
+    }
+
+    private double measure(TransactionTemplate tx, int rounds, int warmup, LongFunction<List<?>> page, long offset) {
+        long[] nanos = new long[rounds];
+        for (int r = 0; r < warmup + rounds; r++) {
+            long start = System.nanoTime();
+            tx.execute(s -> page.apply(offset));
+            if (r >= warmup) {
+                nanos[r - warmup] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000_000.0;
+    }
+}
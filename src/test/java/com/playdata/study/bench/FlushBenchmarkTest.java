@@ -0,0 +1,99 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.entity.Idol;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 영속성 컨텍스트에 엔터티가 많을 때 flush 비용 측정 (바이트코드 향상 전/후 비교용)
+// ./gradlew benchTest --tests '*FlushBenchmarkTest'                            : 향상 적용
+// ./gradlew benchTest --tests '*FlushBenchmarkTest' -PhibernateEnhance=false   : 향상 미적용 (스냅샷 비교)
+@Tag("bench")
+@SpringBootTest
+@ActiveProfiles("embedded")
+class FlushBenchmarkTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("관리 중인 아이돌 5만 건에서 flush 시간 측정")
+    void flushWithManagedIdols() {
+        // given
+        int managed = Integer.getInteger("bench.managedIdols", 50_000);
+        int dirtyPerRound = Integer.getInteger("bench.dirtyPerRound", 500);
+        int rounds = Integer.getInteger("bench.rounds", 30);
+        int warmup = 5;
+
+        new DataGenerator(jdbcTemplate, 42L, 1_000)
+                .generate(new DataGenerator.Scale(100, managed, 0.02, 1.1, 0, 0, 0));
+
+        boolean enhanced = SelfDirtinessTracker.class.isAssignableFrom(Idol.class);
+        long[] dirtyFlush = new long[rounds];
+        long[] cleanFlush = new long[rounds];
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Idol> idols = factory.selectFrom(idol).fetch();
+            assertEquals(managed, idols.size());
+
+            for (int r = 0; r < warmup + rounds; r++) {
+                // 일부만 변경한 뒤 flush
+                for (int i = 0; i < dirtyPerRound; i++) {
+                    Idol target = idols.get((r * dirtyPerRound + i) % idols.size());
+                    target.setAge(target.getAge() + 1);
+                }
+                long start = System.nanoTime();
+                em.flush();
+                long dirty = System.nanoTime() - start;
+
+                // 아무것도 변경하지 않고 flush
+                start = System.nanoTime();
+                em.flush();
+                long clean = System.nanoTime() - start;
+
+                if (r >= warmup) {
+                    dirtyFlush[r - warmup] = dirty;
+                    cleanFlush[r - warmup] = clean;
+                }
+            }
+            status.setRollbackOnly();
+        });
+
+        // then
+        System.out.printf("%n===== flush 측정 (관리 엔터티 %d건, 바이트코드 향상 %s) =====%n",
+                managed, enhanced ? "ON" : "OFF");
+        System.out.printf("변경 %d건 flush  : median %.2fms%n", dirtyPerRound, medianMillis(dirtyFlush));
+        System.out.printf("변경 없는 flush : median %.2fms%n", medianMillis(cleanFlush));
+    }
+
+    private double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1_000_000.0;
+    }
+}
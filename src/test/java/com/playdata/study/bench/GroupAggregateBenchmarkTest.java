@@ -0,0 +1,101 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.repository.IdolRepository;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 그룹별 평균 나이: groupBy(idol.group) (조인 후 그룹 전체 컬럼으로 GROUP BY) vs group_id 로만 집계 후 그룹명 붙이기
+// ./gradlew benchTest --tests '*GroupAggregateBenchmarkTest' -Dbench.idols=1000000 -Dbench.groups=5000
+// 실제 비교는 @ActiveProfiles 를 빼고 MySQL 에서 실행 (EXPLAIN 으로 집계 쿼리가 Using index 인지 확인)
+@Tag("bench")
+@SpringBootTest
+@ActiveProfiles("embedded")
+class GroupAggregateBenchmarkTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("아이돌 100만 건에서 그룹 엔터티 GROUP BY 와 키 집계 시간 비교")
+    void groupAverages() {
+        // given
+        long idols = Long.getLong("bench.idols", 1_000_000L);
+        int groups = Integer.getInteger("bench.groups", 5_000);
+        int rounds = Integer.getInteger("bench.rounds", 10);
+        int warmup = 3;
+
+        new DataGenerator(jdbcTemplate, 46L, 1_000)
+                .generate(new DataGenerator.Scale(groups, idols, 0.02, 1.1, 0, 0, 0));
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        Supplier<List<GroupAverageResponse>> byEntity = () -> factory
+                .select(Projections.constructor(GroupAverageResponse.class, idol.group.groupName, idol.age.avg()))
+                .from(idol)
+                .groupBy(idol.group)
+                .having(idol.age.avg().between(20, 25))
+                .orderBy(idol.group.groupName.asc(), idol.group.id.asc())
+                .fetch();
+        Supplier<List<GroupAverageResponse>> byKey = () -> idolRepository.findGroupAverageAges(null, 20.0, 25.0);
+        Supplier<List<?>> aggregateOnly = () -> factory.select(idol.group.id, idol.age.avg())
+                .from(idol)
+                .where(idol.group.id.isNotNull())
+                .groupBy(idol.group.id)
+                .having(idol.age.avg().between(20, 25))
+                .fetch();
+
+        // 같은 결과인지 먼저 확인
+        List<GroupAverageResponse> expected = tx.execute(s -> byEntity.get());
+        assertEquals(expected.toString(), tx.execute(s -> byKey.get()).toString());
+
+        double entity = measure(tx, rounds, warmup, byEntity);
+        double key = measure(tx, rounds, warmup, byKey);
+        double aggregate = measure(tx, rounds, warmup, aggregateOnly);
+
+        System.out.printf("%n===== 그룹별 평균 나이 (아이돌 %d건, 그룹 %d개, 결과 %d행, median) =====%n",
+                idols, groups, expected.size());
+        System.out.printf("groupBy(idol.group)      : %10.2fms%n", entity);
+        System.out.printf("group_id 집계 + 그룹명   : %10.2fms%n", key);
+        System.out.printf("  (group_id 집계만)      : %10.2fms%n", aggregate);
+    }
+
+    private double measure(TransactionTemplate tx, int rounds, int warmup, Supplier<? extends List<?>> query) {
+        long[] nanos = new long[rounds];
+        for (int r = 0; r < warmup + rounds; r++) {
+            long start = System.nanoTime();
+            tx.execute(s -> query.get());
+            if (r >= warmup) {
+                nanos[r - warmup] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.playdata.study.bench;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 여러 쿼리를 가중치 비율대로 섞어서 고정된 동시성(스레드 수)으로 반복 실행하고
+// 처리량(ops/s)과 지연시간 백분위(p50, p90, p99, p99.9)를 측정하는 부하 테스트 도구
+public class LoadTestDriver {
+
+    // name: 리포트에 표시할 이름, weight: 호출 비율
+    public record Operation(String name, int weight, Runnable action) {
+    }
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long seed;
+
+    public LoadTestDriver(int concurrency, Duration warmup, Duration duration, long seed) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.seed = seed;
+    }
+
+    public Report run(List<Operation> operations) throws InterruptedException {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+
+        // 스레드별로 따로 기록한 뒤 마지막에 합쳐서 측정 중 락 경합이 없도록 함
+        List<Map<String, Recorder>> perThread = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        long startAt = System.nanoTime();
+        long measureFrom = startAt + warmup.toNanos();
+        long endAt = measureFrom + duration.toNanos();
+
+        for (int t = 0; t < concurrency; t++) {
+            Map<String, Recorder> recorders = new HashMap<>();
+            operations.forEach(op -> recorders.put(op.name(), new Recorder()));
+            perThread.add(recorders);
+            Random random = new Random(seed + t);
+
+            executor.execute(() -> {
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < endAt) {
+                        Operation op = pick(operations, totalWeight, random);
+                        boolean failed = false;
+                        try {
+                            op.action().run();
+                        } catch (RuntimeException e) {
+                            failed = true;
+                        }
+                        long elapsed = System.nanoTime() - now;
+                        if (now >= measureFrom) {
+                            recorders.get(op.name()).record(elapsed, failed);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Map<String, Recorder> merged = new LinkedHashMap<>();
+        operations.forEach(op -> merged.put(op.name(), new Recorder()));
+        perThread.forEach(map -> map.forEach((name, r) -> merged.get(name).merge(r)));
+
+        return new Report(concurrency, duration, merged);
+    }
+
+    private Operation pick(List<Operation> operations, int totalWeight, Random random) {
+        int r = random.nextInt(totalWeight);
+        for (Operation op : operations) {
+            r -= op.weight();
+            if (r < 0) return op;
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    // 지연시간(ns)을 그대로 모아두는 단순 기록기
+    static class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean failed) {
+            if (failed) {
+                errors++;
+                return;
+            }
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.samples[i], false);
+            }
+            errors += other.errors;
+        }
+
+        long percentile(double p) {
+            if (size == 0) return 0;
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int idx = (int) Math.ceil(p / 100.0 * size) - 1;
+            return sorted[Math.max(0, Math.min(size - 1, idx))];
+        }
+    }
+
+    public record Report(int concurrency, Duration duration, Map<String, Recorder> results) {
+
+        public long totalCount() {
+            return results.values().stream().mapToLong(r -> r.size).sum();
+        }
+
+        public double throughput() {
+            return totalCount() / (duration.toMillis() / 1000.0);
+        }
+
+        public long percentileMicros(String name, double p) {
+            return TimeUnit.NANOSECONDS.toMicros(results.get(name).percentile(p));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%n===== 부하 테스트 결과 (동시성 %d, %d초) =====%n",
+                    concurrency, duration.toSeconds()));
+            sb.append(String.format("%-22s %9s %9s %10s %10s %10s %10s %7s%n",
+                    "query", "count", "ops/s", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "errors"));
+            results.forEach((name, r) -> sb.append(String.format("%-22s %9d %9.1f %10d %10d %10d %10d %7d%n",
+                    name, r.size, r.size / (duration.toMillis() / 1000.0),
+                    percentileMicros(name, 50), percentileMicros(name, 90),
+                    percentileMicros(name, 99), percentileMicros(name, 99.9), r.errors)));
+            sb.append(String.format("total throughput = %.1f ops/s%n", throughput()));
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.playdata.study.bench;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.support.bloom.MemberNameFilter;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 대용량 데이터에서 리포지토리 쿼리들이 어떻게 동작하는지 확인하는 부하 테스트
+// 일반 test 태스크에서는 제외되고, ./gradlew benchTest 로만 실행됩니다.
+// ex) ./gradlew benchTest -Dbench.generate=true -Dbench.idols=10000000 -Dbench.concurrency=32
+@Tag("bench")
+@SpringBootTest
+class QueryLoadTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MemberNameFilter memberNameFilter;
+
+    @Test
+    @DisplayName("리포지토리 쿼리 혼합 부하 테스트")
+    void queryMixLoadTest() throws InterruptedException {
+        // given
+        if (Boolean.getBoolean("bench.generate")) {
+            DataGenerator generator = new DataGenerator(
+                    jdbcTemplate,
+                    Long.getLong("bench.seed", 42L),
+                    Integer.getInteger("bench.batchSize", 1_000)
+            );
+            generator.generate(DataGenerator.Scale.fromSystemProperties());
+            // change_seq 없이 JDBC로 넣은 회원 이름은 변경 순번으로 따라잡을 수 없으므로 다시 만듦
+            memberNameFilter.rebuild();
+        }
+
+        Long minGroupId = jdbcTemplate.queryForObject("SELECT MIN(group_id) FROM tbl_group", Long.class);
+        Long maxGroupId = jdbcTemplate.queryForObject("SELECT MAX(group_id) FROM tbl_group", Long.class);
+        assertNotNull(minGroupId, "그룹 데이터가 없습니다. -Dbench.generate=true 로 먼저 생성하세요.");
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        List<LoadTestDriver.Operation> mix = List.of(
+                new LoadTestDriver.Operation("findByName", 40, () -> tx.executeWithoutResult(s ->
+                        memberRepository.findByName(DataGenerator.personName(ThreadLocalRandom.current())))),
+
+                new LoadTestDriver.Operation("groupRoster", 30, () -> tx.executeWithoutResult(s ->
+                        factory.selectFrom(idol)
+                                .where(idol.group.id.eq(
+                                        ThreadLocalRandom.current().nextLong(minGroupId, maxGroupId + 1)))
+                                .fetch())),
+
+                new LoadTestDriver.Operation("sortPaging", 15, () -> tx.executeWithoutResult(s ->
+                        factory.selectFrom(idol)
+                                .orderBy(idol.age.desc(), idol.idolName.asc())
+                                .offset(ThreadLocalRandom.current().nextInt(100) * 20L)
+                                .limit(20)
+                                .fetch())),
+
+                new LoadTestDriver.Operation("groupAverage", 10, () -> tx.executeWithoutResult(s ->
+                        factory.select(Projections.constructor(
+                                        GroupAverageResponse.class,
+                                        idol.group.groupName,
+                                        idol.age.avg()))
+                                .from(idol)
+                                .groupBy(idol.group)
+                                .having(idol.age.avg().between(20, 25))
+                                .fetch())),
+
+                new LoadTestDriver.Operation("groupByGender", 5, () -> tx.executeWithoutResult(s ->
+                        factory.select(idol.gender, idol.count())
+                                .from(idol)
+                                .groupBy(idol.gender)
+                                .fetch()))
+        );
+
+        LoadTestDriver driver = new LoadTestDriver(
+                Integer.getInteger("bench.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("bench.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("bench.durationSeconds", 60L)),
+                Long.getLong("bench.seed", 42L)
+        );
+
+        // when
+        LoadTestDriver.Report report = driver.run(mix);
+
+        // then
+        System.out.println(report);
+        assertTrue(report.totalCount() > 0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.playdata.study.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.support.JsonStreamWriter;
+import com.playdata.study.support.StreamFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 대량 조회 응답을 JSON / CBOR / Smile 로 썼을 때 크기와 직렬화/역직렬화 시간 비교 (DB 없이 DTO 목록만 사용)
+// ./gradlew benchTest --tests '*SerializationBenchmarkTest' -Dbench.rows=200000
+@Tag("bench")
+class SerializationBenchmarkTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JsonStreamWriter writer = new JsonStreamWriter(objectMapper);
+
+    // 응답을 받는 쪽 (클라이언트) 매퍼
+    private final Map<StreamFormat, ObjectMapper> readers = Map.of(
+            StreamFormat.JSON, objectMapper,
+            StreamFormat.CBOR, objectMapper.copyWith(new CBORFactory()),
+            StreamFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+
+    @Test
+    @DisplayName("아이돌 페이지 DTO 목록: 형식별 크기와 시간 비교")
+    void idolRows() {
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        Random random = new Random(42L);
+
+        List<String> groupNames = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            groupNames.add(DataGenerator.groupName(random, i));
+        }
+        List<IdolWithGroup> idols = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // 2%는 그룹 없는 솔로
+            boolean solo = random.nextDouble() < 0.02;
+            int groupIndex = random.nextInt(groupNames.size());
+            idols.add(new IdolWithGroup((long) i + 1, DataGenerator.personName(random), 16 + random.nextInt(20),
+                    random.nextDouble() < 0.7 ? Gender.FEMALE : Gender.MALE,
+                    solo ? null : (long) groupIndex + 1, solo ? null : groupNames.get(groupIndex)));
+        }
+
+        compare("IdolWithGroup x " + rows, idols, IdolWithGroup[].class);
+    }
+
+    @Test
+    @DisplayName("그룹 평균 나이 DTO 목록: 형식별 크기와 시간 비교")
+    void groupAverages() {
+        int groups = Integer.getInteger("bench.groups", 20_000);
+        Random random = new Random(42L);
+
+        List<GroupAverageResponse> averages = new ArrayList<>(groups);
+        for (int i = 0; i < groups; i++) {
+            averages.add(new GroupAverageResponse(DataGenerator.groupName(random, i), 18 + random.nextDouble() * 10));
+        }
+
+        compare("GroupAverageResponse x " + groups, averages, GroupAverageResponse[].class);
+    }
+
+    private <T> void compare(String title, List<T> values, Class<T[]> arrayType) {
+        int rounds = Integer.getInteger("bench.rounds", 15);
+        int warmup = 5;
+
+        System.out.printf("%n===== %s (median) =====%n", title);
+        System.out.printf("%-6s %12s %8s %12s %12s%n", "형식", "bytes", "JSON 대비", "직렬화", "역직렬화");
+
+        long jsonBytes = 0;
+        for (StreamFormat format : StreamFormat.values()) {
+            byte[] encoded = write(format, values);
+            // 형식을 바꿔도 같은 값으로 돌아오는지 먼저 확인 (GroupAverageResponse 는 equals 가 없어서 toString 비교)
+            assertEquals(values.toString(), Arrays.asList(read(format, encoded, arrayType)).toString(), format.name());
+            if (format == StreamFormat.JSON) {
+                jsonBytes = encoded.length;
+            }
+
+            long[] writeNanos = new long[rounds];
+            long[] readNanos = new long[rounds];
+            for (int r = 0; r < warmup + rounds; r++) {
+                long start = System.nanoTime();
+                byte[] bytes = write(format, values);
+                long written = System.nanoTime();
+                read(format, bytes, arrayType);
+                long end = System.nanoTime();
+                if (r >= warmup) {
+                    writeNanos[r - warmup] = written - start;
+                    readNanos[r - warmup] = end - written;
+                }
+            }
+            System.out.printf("%-6s %12d %7.0f%% %10.2fms %10.2fms%n", format, encoded.length,
+                    100.0 * encoded.length / jsonBytes, median(writeNanos), median(readNanos));
+        }
+    }
+
+    private byte[] write(StreamFormat format, List<?> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+        try {
+            writer.writeValues(out, format, values.stream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private <T> T[] read(StreamFormat format, byte[] bytes, Class<T[]> arrayType) {
+        try {
+            return readers.get(format).readValue(bytes, arrayType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.playdata.study.config;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.entity.QIdol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeRuntimeHintsTest {
+
+    RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("Projections.constructor에서 사용하는 DTO 생성자가 등록된다.")
+    void dtoConstructor() throws NoSuchMethodException {
+        // when
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(GroupAverageResponse.class.getConstructor(String.class, double.class))
+                .invoke()
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Q클래스의 static 경로 필드와 엔터티의 기본 생성자가 등록된다.")
+    void qClassAndEntity() throws NoSuchFieldException, NoSuchMethodException {
+        // when
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onField(QIdol.class.getField("idol"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(Idol.class.getDeclaredConstructor())
+                .invoke()
+                .test(hints));
+    }
+}
@@ -0,0 +1,137 @@
+package com.playdata.study.controller;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.QueryCounter;
+import com.playdata.study.support.bulkhead.Bulkhead;
+import com.playdata.study.support.bulkhead.Bulkheads;
+import com.playdata.study.support.bulkhead.QueryClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:group-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@Transactional
+class GroupControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    Bulkheads bulkheads;
+
+    Long iveId;
+
+    @Test
+    @DisplayName("그룹별 평균 나이를 JSON으로 응답한다.")
+    void averageAgesAsJson() throws Exception {
+        mockMvc.perform(get("/api/groups/average-ages")
+                        .param("minAverage", "22")
+                        .param("maxAverage", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.groupName == '르세라핌')].averageAge", contains(25.0)))
+                .andExpect(jsonPath("$[?(@.groupName == '아이브')]", empty()));
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 이면 같은 DTO를 CBOR로 응답한다.")
+    void averageAgesAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/groups/average-ages")
+                        .header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        GroupAverageResponse[] averages = new CBORMapper().readValue(body, GroupAverageResponse[].class);
+        assertThat(averages)
+                .filteredOn(average -> average.getGroupName().equals("아이브"))
+                .singleElement()
+                .extracting(GroupAverageResponse::getAverageAge)
+                .isEqualTo(21.0);
+    }
+
+    @Test
+    @DisplayName("집계 조회가 동시 실행 제한을 채우면 집계 요청은 503 + Retry-After, 검색 요청은 그대로 처리한다.")
+    void aggregateBulkheadFull() throws Exception {
+        Bulkhead aggregate = bulkheads.get(QueryClass.AGGREGATE);
+        List<Bulkhead.Permit> running = new ArrayList<>();
+        try {
+            for (int i = aggregate.stats().limit(); i > 0; i--) {
+                running.add(aggregate.acquire());
+            }
+
+            mockMvc.perform(get("/api/groups/average-ages"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.queryClass").value("AGGREGATE"));
+            mockMvc.perform(get("/api/groups").param("groupName", "르세"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].groupName", contains("르세라핌")));
+        } finally {
+            running.forEach(permit -> permit.release(false));
+        }
+    }
+
+    @Test
+    @DisplayName("그룹 명단은 두 번째 요청부터 쿼리 없이 노드 캐시에서 응답하고, 없는 그룹이면 404")
+    void rosterFromCache() throws Exception {
+        mockMvc.perform(get("/api/groups/{groupId}/roster", iveId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupName").value("아이브"))
+                .andExpect(jsonPath("$.idols[*].idolName", contains("가을", "리즈", "안유진")));
+
+        try (QueryCounter counter = QueryCounter.start()) {
+            mockMvc.perform(get("/api/groups/{groupId}/roster", iveId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.idols", hasSize(3)));
+            assertThat(counter.getCount()).isZero();
+        }
+
+        mockMvc.perform(get("/api/groups/{groupId}/roster", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+
+        groupRepository.save(leSserafim);
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+        iveId = ive.getId();
+    }
+}
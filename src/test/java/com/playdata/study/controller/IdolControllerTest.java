@@ -0,0 +1,159 @@
+package com.playdata.study.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idol-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@Transactional
+class IdolControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Test
+    @DisplayName("요청한 필드만 JSON으로 응답한다.")
+    void searchWithFields() throws Exception {
+        mockMvc.perform(get("/api/idols")
+                        .param("groupName", "아이브")
+                        .param("minAge", "21")
+                        .param("fields", "idolName,groupName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].idolName", containsInAnyOrder("가을", "안유진")))
+                .andExpect(jsonPath("$[0].groupName").value("아이브"))
+                .andExpect(jsonPath("$[0].age").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("그룹이 없는 아이돌도 groupName이 null로 조회된다.")
+    void searchSoloIdol() throws Exception {
+        mockMvc.perform(get("/api/idols")
+                        .param("idolName", "아이유"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].groupName").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 필드를 요청하면 400")
+    void searchWithUnknownField() throws Exception {
+        mockMvc.perform(get("/api/idols").param("fields", "idolName,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("성별은 \"여\"/\"남\" 으로 검색하고 같은 값으로 응답한다.")
+    void searchByGender() throws Exception {
+        mockMvc.perform(get("/api/idols")
+                        .param("gender", "남")
+                        .param("fields", "idolName,gender"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].idolName").value("정국"))
+                .andExpect(jsonPath("$[0].gender").value("남"));
+
+        mockMvc.perform(get("/api/idols").param("gender", "M"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 이면 같은 내용을 CBOR로 응답한다.")
+    void searchAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/idols")
+                        .param("groupName", "아이브")
+                        .param("fields", "idolName,age,gender,groupName")
+                        .header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Map<String, Object>> rows = new CBORMapper().readValue(body, new TypeReference<>() {});
+        assertThat(rows).extracting(row -> row.get("idolName"))
+                .containsExactly("가을", "리즈", "안유진");
+        assertThat(rows.get(0))
+                .containsEntry("age", 22)
+                .containsEntry("gender", "여")
+                .containsEntry("groupName", "아이브");
+    }
+
+    @Test
+    @DisplayName("q 값이 높은 형식을 고르고, 지원하지 않는 형식만 요청하면 406")
+    void negotiateFormat() throws Exception {
+        mockMvc.perform(get("/api/idols")
+                        .param("idolName", "아이유")
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"));
+
+        mockMvc.perform(get("/api/idols").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML_VALUE))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    @DisplayName("페이지 API도 Accept에 따라 Smile로 응답한다.")
+    void pageAsSmile() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/idols/page")
+                        .param("gender", "여")
+                        .param("size", "2")
+                        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<IdolWithGroup> page = new SmileMapper().readValue(body, new TypeReference<>() {});
+        assertThat(page).extracting(IdolWithGroup::idolName).containsExactly("아이유", "사쿠라");
+        assertThat(page.get(1).groupName()).isEqualTo("르세라핌");
+        assertThat(page.get(1).gender()).isEqualTo(Gender.FEMALE);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+
+        groupRepository.save(leSserafim);
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("아이유", 31, null, Gender.FEMALE));
+        idolRepository.save(new Idol("정국", 26, null, Gender.MALE));
+    }
+}
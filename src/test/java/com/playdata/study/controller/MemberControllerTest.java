@@ -0,0 +1,104 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.repository.TeamRepository;
+import com.playdata.study.support.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 커밋되어야 캐시가 무효화되므로 테스트 트랜잭션(롤백) 없이 실행하고 직접 정리
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:member-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class MemberControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이름만으로 찾으면 두 번째 요청부터 쿼리 없이 캐시에서 응답하고, 이름이 바뀌면 새로 조회한다.")
+    void searchByNameFromCache() throws Exception {
+        // given
+        mockMvc.perform(get("/api/members").param("userName", "member1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].teamName", contains("teamA")));
+
+        try (QueryCounter counter = QueryCounter.start()) {
+            mockMvc.perform(get("/api/members")
+                            .param("userName", "member1")
+                            .param("fields", "userName,age"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].userName").value("member1"))
+                    .andExpect(jsonPath("$[0].age").value(10))
+                    .andExpect(jsonPath("$[0].teamName").doesNotExist());
+            assertThat(counter.getCount()).isZero();
+        }
+
+        // when
+        tx().executeWithoutResult(status -> memberRepository.findByName("member1").get(0).setUserName("member9"));
+
+        // then
+        mockMvc.perform(get("/api/members").param("userName", "member1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", empty()));
+        mockMvc.perform(get("/api/members").param("userName", "member9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].userName", contains("member9")));
+    }
+
+    @Test
+    @DisplayName("이름 외의 조건이 있으면 캐시를 쓰지 않고 DB에서 조회한다.")
+    void searchWithOtherConditions() throws Exception {
+        try (QueryCounter counter = QueryCounter.start()) {
+            mockMvc.perform(get("/api/members")
+                            .param("userName", "member1")
+                            .param("minAge", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", empty()));
+            assertThat(counter.getCount()).isPositive();
+        }
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        tx().executeWithoutResult(status -> {
+            Team teamA = teamRepository.save(Team.builder().name("teamA").build());
+            memberRepository.save(Member.builder().userName("member1").age(10).team(teamA).build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+    }
+}
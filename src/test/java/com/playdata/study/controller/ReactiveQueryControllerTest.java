@@ -0,0 +1,85 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-api?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class ReactiveQueryControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Test
+    @DisplayName("조회 결과를 한 줄에 하나씩 NDJSON으로 응답한다.")
+    void streamIdols() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/idols")
+                        .param("groupName", "아이브")
+                        .param("fields", "idolName,age")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        assertEquals("{\"idolName\":\"가을\",\"age\":22}\n{\"idolName\":\"리즈\",\"age\":20}\n",
+                result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 필드를 요청하면 400")
+    void unknownField() throws Exception {
+        mockMvc.perform(get("/api/reactive/idols")
+                        .param("fields", "idolName,password")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group ive = new Group("아이브");
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idolRepository.deleteAllInBatch();
+        groupRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,88 @@
+package com.playdata.study.controller;
+
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.repository.TeamRepository;
+import com.playdata.study.support.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 커밋되어야 캐시가 무효화되므로 테스트 트랜잭션(롤백) 없이 실행하고 직접 정리
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:team-api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class TeamControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Long teamAId;
+
+    @Test
+    @DisplayName("팀 명단은 두 번째 요청부터 쿼리 없이 캐시에서 응답하고, 회원이 팀에 들어오면 새로 조회한다.")
+    void teamRosterFromCache() throws Exception {
+        // given
+        mockMvc.perform(get("/api/teams/{teamId}/roster", teamAId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members[*].userName", contains("member1")));
+        try (QueryCounter counter = QueryCounter.start()) {
+            mockMvc.perform(get("/api/teams/{teamId}/roster", teamAId))
+                    .andExpect(status().isOk());
+            assertThat(counter.getCount()).isZero();
+        }
+
+        // when
+        tx().executeWithoutResult(status -> memberRepository.save(Member.builder()
+                .userName("member2").age(20).team(teamRepository.getReferenceById(teamAId)).build()));
+
+        // then
+        mockMvc.perform(get("/api/teams/{teamId}/roster", teamAId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members[*].userName", contains("member1", "member2")));
+        mockMvc.perform(get("/api/teams/{teamId}/roster", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        tx().executeWithoutResult(status -> {
+            Team teamA = teamRepository.save(Team.builder().name("teamA").build());
+            memberRepository.save(Member.builder().userName("member1").age(10).team(teamA).build());
+            teamAId = teamA.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,60 @@
+package com.playdata.study.entity;
+
+import com.playdata.study.entity.Gender;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 빌드 시 바이트코드 향상이 적용된 엔터티의 동작 확인 (-PhibernateEnhance=false 로 빌드하면 실패)
+class EntityEnhancementTest {
+
+    @Test
+    @DisplayName("엔터티가 스스로 변경된 필드를 기록한다.")
+    void dirtyTracking() {
+        // given
+        Idol idol = new Idol("김채원", 24, null, Gender.FEMALE);
+        SelfDirtinessTracker tracker = (SelfDirtinessTracker) idol;
+        tracker.$$_hibernate_clearDirtyAttributes();
+
+        // when
+        idol.setAge(25);
+
+        // then
+        assertArrayEquals(new String[]{"age"}, tracker.$$_hibernate_getDirtyAttributes());
+    }
+
+    @Test
+    @DisplayName("아이돌의 그룹을 바꾸면 양쪽 그룹의 컬렉션이 자동으로 맞춰지고 중복 추가되지 않는다.")
+    void associationManagement() {
+        // given
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+        Idol idol1 = new Idol("김채원", 24, leSserafim, Gender.FEMALE);
+        Idol idol2 = new Idol("사쿠라", 26, leSserafim, Gender.FEMALE);
+
+        // when
+        idol2.setGroup(ive);
+
+        // then
+        assertEquals(1, leSserafim.getIdols().size());
+        assertSame(idol1, leSserafim.getIdols().get(0));
+        assertEquals(1, ive.getIdols().size());
+        assertSame(idol2, ive.getIdols().get(0));
+    }
+
+    @Test
+    @DisplayName("저장 전(id 없는) 그룹/팀은 서로 다른 객체로 취급된다.")
+    void unsavedEntitiesAreDistinct() {
+        Set<Object> entities = new HashSet<>(Set.of(
+                new Group("르세라핌"), new Group("아이브"),
+                Team.builder().name("teamA").build(), Team.builder().name("teamB").build()));
+
+        assertEquals(4, entities.size());
+        assertNotEquals(new Group("아이브"), new Group("아이브"));
+    }
+}
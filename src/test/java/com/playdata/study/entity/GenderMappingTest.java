@@ -0,0 +1,84 @@
+package com.playdata.study.entity;
+
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class GenderMappingTest {
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    Group bts;
+
+    @Test
+    @DisplayName("성별은 TINYINT 코드로 저장된다. (1=여, 2=남)")
+    void storedAsCode() {
+        List<Integer> codes = jdbcTemplate.queryForList(
+                "SELECT gender FROM tbl_idol WHERE group_id = ? ORDER BY idol_id", Integer.class, bts.getId());
+
+        assertEquals(List.of(2, 2), codes);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT gender FROM tbl_idol WHERE idol_name = '아이유'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("성별 조건과 그룹핑 결과가 Gender 타입이다.")
+    void typedFilterAndGroupBy() {
+        // when
+        List<Idol> male = factory.selectFrom(idol)
+                .where(idol.gender.eq(Gender.MALE))
+                .fetch();
+        Map<Gender, Long> counts = factory.select(idol.gender, idol.count())
+                .from(idol)
+                .where(idol.group.eq(bts).or(idol.idolName.eq("아이유")))
+                .groupBy(idol.gender)
+                .fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(idol.gender), t -> t.get(idol.count())));
+
+        // then
+        assertTrue(male.stream().allMatch(i -> i.getGender() == Gender.MALE));
+        assertEquals(Map.of(Gender.MALE, 2L, Gender.FEMALE, 1L), counts);
+    }
+
+    @BeforeEach
+    void setUp() {
+        bts = groupRepository.save(new Group("방탄소년단"));
+        idolRepository.save(new Idol("RM", 29, bts, Gender.MALE));
+        idolRepository.save(new Idol("정국", 26, bts, Gender.MALE));
+        idolRepository.save(new Idol("아이유", 31, null, Gender.FEMALE));
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,109 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.support.QueryBudget;
+import com.playdata.study.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class DeferredJoinPagingTest {
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("지연 조인 페이지는 모든 위치에서 offset 페이징과 같은 순서의 결과를 돌려준다.")
+    void sameAsOffsetPaging() {
+        for (long offset = 0; offset <= 40; offset += 7) {
+            List<Long> expected = ids(idolRepository.findPage(null, offset, 7, idol.age.desc(), idol.idolName.asc()));
+
+            assertEquals(expected, ids(idolRepository.findPageDeferred(null, offset, 7, idol.age.desc(), idol.idolName.asc())),
+                    "offset " + offset);
+            assertEquals(expected, idolRepository.findRowPageDeferred(null, offset, 7, idol.age.desc(), idol.idolName.asc())
+                    .stream().map(IdolWithGroup::id).toList(), "offset " + offset);
+        }
+    }
+
+    @Test
+    @DisplayName("그룹 조건/정렬도 지원하고, DTO에는 그룹명이 채워진다.")
+    void groupAlias() {
+        // when
+        List<IdolWithGroup> page = idolRepository.findRowPageDeferred(
+                group.groupName.eq("아이브").and(idol.gender.eq(Gender.FEMALE)), 2, 3, group.groupName.asc(), idol.age.asc());
+
+        // then
+        List<Long> expected = ids(idolRepository.findPage(
+                group.groupName.eq("아이브").and(idol.gender.eq(Gender.FEMALE)), 2, 3, group.groupName.asc(), idol.age.asc()));
+        assertEquals(expected, page.stream().map(IdolWithGroup::id).toList());
+        assertEquals(3, page.size());
+        assertTrue(page.stream().allMatch(row -> row.groupName().equals("아이브")));
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    @DisplayName("id 페이지 + IN 조회 2번으로 끝나고, 그룹 조건이 없으면 1단계는 조인하지 않는다.")
+    void twoQueries() {
+        // when
+        List<String> sql;
+        try (QueryCounter counter = QueryCounter.start()) {
+            List<Idol> page = idolRepository.findPageDeferred(idol.age.goe(20), 10, 5, idol.age.desc());
+            page.stream().filter(i -> i.getGroup() != null)
+                    .forEach(i -> i.getGroup().getGroupName()); // fetch join -> 추가 쿼리 없음
+            sql = List.copyOf(counter.getFingerprints().keySet());
+        }
+
+        // then
+        assertEquals(2, sql.size());
+        assertEquals(1, sql.stream().filter(s -> !s.contains("join")).count(), sql.toString());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지를 넘으면 2단계 조회 없이 빈 목록을 돌려준다.")
+    void beyondLastPage() {
+        assertTrue(idolRepository.findPageDeferred(null, 1_000, 10, idol.age.desc()).isEmpty());
+        assertTrue(idolRepository.findRowPageDeferred(null, 1_000, 10, idol.age.desc()).isEmpty());
+    }
+
+    private static List<Long> ids(List<Idol> idols) {
+        return idols.stream().map(Idol::getId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Group> groups = List.of(new Group("아이브"), new Group("뉴진스"), new Group("르세라핌"));
+        groups.forEach(groupRepository::save);
+
+        // 같은 나이/이름이 많아야 정렬 값이 같은 행의 순서(id)까지 비교됨
+        String[] names = {"가을", "나은", "다현", "라희"};
+        for (int i = 0; i < 45; i++) {
+            Group target = i % 7 == 0 ? null : groups.get(i % groups.size());
+            idolRepository.save(new Idol(names[i % names.length], 18 + i % 6, target, i % 5 == 0 ? Gender.MALE : Gender.FEMALE));
+        }
+        em.flush();
+        em.clear();
+    }
+}
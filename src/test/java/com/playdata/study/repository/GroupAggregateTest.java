@@ -0,0 +1,112 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.support.QueryCounter;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class GroupAggregateTest {
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("group_id 로 집계한 뒤 그룹명을 붙인 결과는 groupBy(idol.group) 결과와 같다.")
+    void sameAsGroupByEntity() {
+        // groupAvgAgeDtoTestV2 와 같은 조회
+        List<GroupAverageResponse> expected = factory
+                .select(Projections.constructor(GroupAverageResponse.class, idol.group.groupName, idol.age.avg()))
+                .from(idol)
+                .groupBy(idol.group)
+                .having(idol.age.avg().between(20, 25))
+                .orderBy(idol.group.groupName.asc())
+                .fetch();
+
+        List<GroupAverageResponse> actual = idolRepository.findGroupAverageAges(null, 20.0, 25.0);
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(List.of("뉴진스", "르세라핌", "아이브"), actual.stream().map(GroupAverageResponse::getGroupName).toList());
+    }
+
+    @Test
+    @DisplayName("조건은 집계 전에 적용하고, 그룹 없는 아이돌과 아이돌 없는 그룹은 결과에 없다.")
+    void filtersBeforeAggregation() {
+        List<GroupAverageResponse> female = idolRepository.findGroupAverageAges(idol.gender.eq(Gender.FEMALE), null, null);
+        assertEquals(List.of("뉴진스", "르세라핌", "아이브"), female.stream().map(GroupAverageResponse::getGroupName).toList());
+        assertEquals(25.0, female.get(1).getAverageAge(), 1e-9);
+
+        List<GroupAverageResponse> byName = idolRepository.findGroupAverageAges(group.groupName.startsWith("방탄"), null, null);
+        assertEquals(1, byName.size());
+        assertEquals(29.0, byName.get(0).getAverageAge(), 1e-9);
+
+        assertTrue(idolRepository.findGroupAverageAges(idol.age.gt(100), null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("집계 쿼리는 tbl_group 을 조인하지 않고, 그룹명은 집계된 group_id 로만 조회한다.")
+    void aggregatesWithoutJoin() {
+        List<String> sql;
+        try (QueryCounter counter = QueryCounter.start()) {
+            idolRepository.findGroupAverageAges(null, null, null);
+            sql = List.copyOf(counter.getFingerprints().keySet());
+        }
+
+        assertEquals(2, sql.size(), sql.toString());
+        String aggregate = sql.stream().filter(s -> s.contains("group by")).findFirst().orElseThrow();
+        assertFalse(aggregate.contains("join"), aggregate);
+        assertFalse(aggregate.contains("tbl_group"), aggregate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = groupRepository.save(new Group("르세라핌"));
+        Group ive = groupRepository.save(new Group("아이브"));
+        Group bts = groupRepository.save(new Group("방탄소년단"));
+        Group newjeans = groupRepository.save(new Group("뉴진스"));
+        groupRepository.save(new Group("빈그룹"));
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("장원영", 20, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("정국", 26, bts, Gender.MALE));
+        idolRepository.save(new Idol("지민", 28, bts, Gender.MALE));
+        idolRepository.save(new Idol("RM", 33, bts, Gender.MALE));
+        idolRepository.save(new Idol("해린", 18, newjeans, Gender.FEMALE));
+        idolRepository.save(new Idol("민지", 22, newjeans, Gender.FEMALE));
+        idolRepository.save(new Idol("아이유", 31, null, Gender.FEMALE));
+        em.flush();
+        em.clear();
+    }
+}
@@ -3,6 +3,7 @@ package com.playdata.study.repository;
 import com.playdata.study.entity.Member;
 import com.playdata.study.entity.QMember;
 import com.playdata.study.entity.Team;
+import com.playdata.study.support.QueryBudget;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -155,11 +156,14 @@ class MemberRepositoryTest {
 
 
     @Test
+    @QueryBudget(max = 2) // 회원 조회 1 + 팀 지연 로딩 1
     @DisplayName("custom 객체 메소드 확인")
     void queryDSLCustom() {
         // given
 
         String name = "member4";
+        em.flush();
+        em.clear();
 
         // when
         List<Member> foundMembers = memberRepository.findByName(name);
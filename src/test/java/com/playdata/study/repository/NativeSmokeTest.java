@@ -0,0 +1,110 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// native-image에서도 그룹화 / 조인 쿼리가 동작하는지 확인하는 스모크 테스트
+// 내장 H2(embedded 프로필)를 사용하므로 JVM(test), native(nativeSmokeTest) 모두에서 실행 가능
+@Tag("native-smoke")
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class NativeSmokeTest {
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Test
+    @DisplayName("그룹별 평균나이를 DTO 생성자로 조회")
+    void groupAverage() {
+        // when
+        List<GroupAverageResponse> dtoList = factory
+                .select(Projections.constructor(
+                        GroupAverageResponse.class,
+                        idol.group.groupName,
+                        idol.age.avg()
+                ))
+                .from(idol)
+                .groupBy(idol.group)
+                .having(idol.age.avg().between(20, 25))
+                .orderBy(idol.group.groupName.asc())
+                .fetch();
+
+        // then
+        assertEquals(List.of("르세라핌", "아이브"),
+                dtoList.stream().map(GroupAverageResponse::getGroupName).toList());
+        assertEquals(25.0, dtoList.get(0).getAverageAge(), 0.001);
+    }
+
+    @Test
+    @DisplayName("성별별 인원수 그룹화")
+    void groupByGender() {
+        // when
+        List<Tuple> list = factory.select(idol.gender, idol.count())
+                .from(idol)
+                .groupBy(idol.gender)
+                .orderBy(idol.gender.asc())
+                .fetch();
+
+        // then
+        // 정렬은 저장된 코드 순서 (FEMALE=1, MALE=2)
+        assertEquals(2, list.size());
+        assertEquals(Gender.FEMALE, list.get(0).get(idol.gender));
+        assertEquals(4L, list.get(0).get(idol.count()));
+        assertEquals(Gender.MALE, list.get(1).get(idol.gender));
+        assertEquals(1L, list.get(1).get(idol.count()));
+    }
+
+    @Test
+    @DisplayName("inner join 시 그룹이 없는 아이돌은 제외되고 지연 로딩도 동작한다.")
+    void innerJoin() {
+        // when
+        List<Idol> idolList = factory.selectFrom(idol)
+                .innerJoin(idol.group, group)
+                .fetch();
+
+        // then
+        assertEquals(4, idolList.size());
+        idolList.forEach(i -> assertNotNull(i.getGroup().getGroupName()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+
+        groupRepository.save(leSserafim);
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("RM", 29, null, Gender.MALE)); // 그룹 없음 (조인 제외 대상)
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+    }
+}
@@ -1,5 +1,6 @@
 package com.playdata.study.repository;
 
+import com.playdata.study.entity.Gender;
 import com.playdata.study.dto.GroupAverageResponse;
 import com.playdata.study.entity.Group;
 import com.playdata.study.entity.Idol;
@@ -183,7 +184,7 @@ class QueryDslGroupingTest {
 
         // then
         for (Tuple tuple : list) {
-            String s = tuple.get(idol.gender);
+            Gender s = tuple.get(idol.gender);
             Long l = tuple.get(idol.count());
             System.out.printf("성별 = %s, 인원수 = %d\n", s, l);
         }
@@ -272,17 +273,17 @@ class QueryDslGroupingTest {
         groupRepository.save(bts);
         groupRepository.save(newjeans);
 
-        Idol idol1 = new Idol("김채원", 24, leSserafim, "여");
-        Idol idol2 = new Idol("사쿠라", 26, leSserafim, "여");
-        Idol idol3 = new Idol("가을", 22, ive, "여");
-        Idol idol4 = new Idol("리즈", 20, ive, "여");
-        Idol idol5 = new Idol("장원영", 20, ive, "여");
-        Idol idol6 = new Idol("안유진", 21, ive, "여");
-        Idol idol7 = new Idol("카즈하", 21, leSserafim, "여");
-        Idol idol8 = new Idol("RM", 29, bts,"남");
-        Idol idol9 = new Idol("정국", 26, bts,"남");
-        Idol idol10 = new Idol("해린", 18, newjeans, "여");
-        Idol idol11 = new Idol("혜인", 16, newjeans, "여");
+        Idol idol1 = new Idol("김채원", 24, leSserafim, Gender.FEMALE);
+        Idol idol2 = new Idol("사쿠라", 26, leSserafim, Gender.FEMALE);
+        Idol idol3 = new Idol("가을", 22, ive, Gender.FEMALE);
+        Idol idol4 = new Idol("리즈", 20, ive, Gender.FEMALE);
+        Idol idol5 = new Idol("장원영", 20, ive, Gender.FEMALE);
+        Idol idol6 = new Idol("안유진", 21, ive, Gender.FEMALE);
+        Idol idol7 = new Idol("카즈하", 21, leSserafim, Gender.FEMALE);
+        Idol idol8 = new Idol("RM", 29, bts,Gender.MALE);
+        Idol idol9 = new Idol("정국", 26, bts,Gender.MALE);
+        Idol idol10 = new Idol("해린", 18, newjeans, Gender.FEMALE);
+        Idol idol11 = new Idol("혜인", 16, newjeans, Gender.FEMALE);
 
         idolRepository.save(idol1);
         idolRepository.save(idol2);
@@ -1,8 +1,10 @@
 package com.playdata.study.repository;
 
 import com.playdata.study.entity.*;
+import com.playdata.study.support.QueryBudget;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,19 +35,27 @@ class QueryDslJoinTest {
     @Autowired
     JPAQueryFactory factory;
 
+    @Autowired
+    EntityManager em;
+
     
     @Test
+    @QueryBudget(max = 1) // 출력하면서 그룹을 지연 로딩하면 그룹 수만큼 추가 쿼리 -> 실패
     @DisplayName("inner join 예제")
     void innerJoinTest() {
         // given
-        
+        // 저장할 때 영속성 컨텍스트에 남은 그룹을 비워야 지연 로딩이 실제로 일어남
+        em.flush();
+        em.clear();
+
         // when
 
         List<Idol> idolList = factory.select(idol)
                 .from(idol)
                 // innerJoin의 첫번째 파라미터는 from절에 쓴 entity의 연관객체를 작성
                 // 두번째 파라미터는 실제로 조인할 대상 (Q엔터티)
-                .innerJoin(idol.group, group)
+                // fetchJoin: 조인한 그룹도 같이 읽어서 채움 (없으면 출력할 때 그룹마다 select)
+                .innerJoin(idol.group, group).fetchJoin()
                 .fetch();
 
         // then
@@ -73,19 +83,19 @@ class QueryDslJoinTest {
         groupRepository.save(bts);
         groupRepository.save(newjeans);
 
-        Idol idol1 = new Idol("김채원", 24,  leSserafim,"여");
-        Idol idol2 = new Idol("사쿠라", 26,  leSserafim,"여");
-        Idol idol3 = new Idol("가을", 22,  ive,"여");
-        Idol idol4 = new Idol("리즈", 20,  ive,"여");
-        Idol idol5 = new Idol("장원영", 20,  ive,"여");
-        Idol idol6 = new Idol("안유진", 21,  ive,"여");
-        Idol idol7 = new Idol("카즈하", 21,  leSserafim,"여");
-        Idol idol8 = new Idol("RM", 29,  bts,"남");
-        Idol idol9 = new Idol("정국", 26, bts,"남");
-        Idol idol10 = new Idol("해린", 18 , newjeans,"여");
-        Idol idol11 = new Idol("혜인", 16,  newjeans,"여");
-        Idol idol12 = new Idol("김종국", 48,  null,"남");
-        Idol idol13 = new Idol("아이유", 31, null,"여");
+        Idol idol1 = new Idol("김채원", 24,  leSserafim,Gender.FEMALE);
+        Idol idol2 = new Idol("사쿠라", 26,  leSserafim,Gender.FEMALE);
+        Idol idol3 = new Idol("가을", 22,  ive,Gender.FEMALE);
+        Idol idol4 = new Idol("리즈", 20,  ive,Gender.FEMALE);
+        Idol idol5 = new Idol("장원영", 20,  ive,Gender.FEMALE);
+        Idol idol6 = new Idol("안유진", 21,  ive,Gender.FEMALE);
+        Idol idol7 = new Idol("카즈하", 21,  leSserafim,Gender.FEMALE);
+        Idol idol8 = new Idol("RM", 29,  bts,Gender.MALE);
+        Idol idol9 = new Idol("정국", 26, bts,Gender.MALE);
+        Idol idol10 = new Idol("해린", 18 , newjeans,Gender.FEMALE);
+        Idol idol11 = new Idol("혜인", 16,  newjeans,Gender.FEMALE);
+        Idol idol12 = new Idol("김종국", 48,  null,Gender.MALE);
+        Idol idol13 = new Idol("아이유", 31, null,Gender.FEMALE);
 
 
         idolRepository.save(idol1);
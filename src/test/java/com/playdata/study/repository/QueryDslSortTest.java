@@ -1,5 +1,6 @@
 package com.playdata.study.repository;
 
+import com.playdata.study.entity.Gender;
 import com.playdata.study.entity.Idol;
 import com.playdata.study.entity.Group;
 import com.playdata.study.entity.QIdol;
@@ -86,11 +87,11 @@ class QueryDslSortTest {
         groupRepository.save(leSserafim);
         groupRepository.save(ive);
 
-        Idol idol1 = new Idol("김채원", 24, leSserafim, "여");
-        Idol idol2 = new Idol("사쿠라", 26, leSserafim, "여");
-        Idol idol3 = new Idol("가을", 22, ive, "여");
-        Idol idol4 = new Idol("리즈", 20, ive, "여");
-        Idol idol5 = new Idol("장원영", 20, ive, "여");
+        Idol idol1 = new Idol("김채원", 24, leSserafim, Gender.FEMALE);
+        Idol idol2 = new Idol("사쿠라", 26, leSserafim, Gender.FEMALE);
+        Idol idol3 = new Idol("가을", 22, ive, Gender.FEMALE);
+        Idol idol4 = new Idol("리즈", 20, ive, Gender.FEMALE);
+        Idol idol5 = new Idol("장원영", 20, ive, Gender.FEMALE);
 
         idolRepository.save(idol1);
         idolRepository.save(idol2);
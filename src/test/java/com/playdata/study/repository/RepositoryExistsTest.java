@@ -0,0 +1,80 @@
+package com.playdata.study.repository;
+
+import com.playdata.study.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.playdata.study.entity.QAlbum.album;
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static com.playdata.study.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class RepositoryExistsTest {
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    AlbumRepository albumRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Test
+    @DisplayName("나이가 24세 이상인 아이돌은 존재한다.")
+    void idolExists() {
+        assertTrue(idolRepository.exists(idol.age.goe(24)));
+        assertFalse(idolRepository.exists(idol.age.goe(40)));
+    }
+
+    @Test
+    @DisplayName("조인이 필요한 조건도 존재 여부만 확인할 수 있다.")
+    void idolExistsWithJoin() {
+        assertTrue(idolRepository.exists(idol.group.groupName.eq("르세라핌")));
+        assertFalse(idolRepository.exists(idol.group.groupName.eq("방탄소년단")));
+    }
+
+    @Test
+    @DisplayName("그룹, 앨범, 회원 존재 여부")
+    void otherExists() {
+        assertTrue(groupRepository.exists(group.groupName.eq("아이브")));
+        assertTrue(albumRepository.exists(album.releaseYear.eq(2022)));
+        assertFalse(albumRepository.exists(album.releaseYear.lt(2000)));
+        assertTrue(memberRepository.exists(member.userName.eq("member1")));
+        assertFalse(memberRepository.exists(member.userName.eq("nobody")));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+
+        groupRepository.save(leSserafim);
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+
+        albumRepository.save(new Album("FEARLESS", 2022, leSserafim));
+
+        Team teamA = Team.builder().name("teamA").build();
+        teamRepository.save(teamA);
+        memberRepository.save(Member.builder().userName("member1").age(10).team(teamA).build());
+    }
+}
@@ -0,0 +1,173 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.dto.AlbumCounts;
+import com.playdata.study.entity.Album;
+import com.playdata.study.entity.Group;
+import com.playdata.study.repository.AlbumRepository;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.support.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 반영은 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션(롤백) 없이 실행, 주기 반영은 끄고 flush()로 직접 반영
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:album-counters;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "album-counters.flush-interval=0s",
+        "album-counters.batch-size=2"
+})
+@ActiveProfiles("embedded")
+class AlbumCounterServiceTest {
+
+    @Autowired
+    AlbumCounterService albumCounterService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    AlbumRepository albumRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("반영 전에는 남은 증가분을, 반영 후에는 DB 값을 보여주고 합계는 같다.")
+    void countsIncludePending() {
+        // given
+        Long albumId = saveAlbums("아이브", 1).get(0);
+
+        // when
+        albumCounterService.increment(albumId, AlbumCounter.PLAYS, 3);
+        albumCounterService.increment(albumId, AlbumCounter.VIEWS, 1);
+        AlbumCounts beforeFlush = albumCounterService.counts(albumId).orElseThrow();
+        albumCounterService.flush();
+        albumCounterService.increment(albumId, AlbumCounter.PLAYS, 1);
+
+        // then
+        assertEquals(new AlbumCounts(albumId, 3, 1), beforeFlush);
+        Album stored = tx(() -> albumRepository.findById(albumId).orElseThrow());
+        assertEquals(3, stored.getPlays());
+        assertEquals(1, stored.getViews());
+        assertEquals(new AlbumCounts(albumId, 4, 1), albumCounterService.counts(albumId).orElseThrow());
+        assertTrue(albumCounterService.counts(-1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 앨범의 증가분을 batch-size 개씩 UPDATE 한 번으로 반영한다.")
+    void batchedUpdate() {
+        // given
+        List<Long> albumIds = saveAlbums("르세라핌", 5);
+        for (int i = 0; i < albumIds.size(); i++) {
+            albumCounterService.increment(albumIds.get(i), AlbumCounter.PLAYS, i + 1);
+        }
+        albumCounterService.increment(albumIds.get(0), AlbumCounter.VIEWS, 7);
+
+        // when
+        int statements;
+        try (QueryCounter counter = QueryCounter.start()) {
+            albumCounterService.flush();
+            statements = counter.getCount();
+        }
+
+        // then
+        assertEquals(3, statements);
+        List<Album> stored = tx(() -> albumRepository.findAllById(albumIds));
+        for (Album album : stored) {
+            assertEquals(albumIds.indexOf(album.getId()) + 1, album.getPlays());
+            assertEquals(album.getId().equals(albumIds.get(0)) ? 7 : 0, album.getViews());
+        }
+    }
+
+    @Test
+    @DisplayName("엔터티를 수정해서 저장해도 반영된 재생 수를 덮어쓰지 않는다.")
+    void entityUpdateKeepsCounters() {
+        // given
+        Long albumId = saveAlbums("에스파", 1).get(0);
+        Album loaded = tx(() -> albumRepository.findById(albumId).orElseThrow());
+
+        // when
+        albumCounterService.increment(albumId, AlbumCounter.PLAYS, 10);
+        albumCounterService.flush();
+        tx(() -> {
+            Album album = albumRepository.findById(albumId).orElseThrow();
+            album.setAlbumName("Armageddon");
+            return albumRepository.save(album);
+        });
+        loaded.setAlbumName("Drama");
+        tx(() -> albumRepository.save(loaded));
+
+        // then
+        assertEquals(10, albumCounterService.counts(albumId).orElseThrow().plays());
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 증가분도 그대로 반영한다.")
+    void largeDelta() {
+        // given
+        Long albumId = saveAlbums("뉴진스", 1).get(0);
+
+        // when
+        albumCounterService.increment(albumId, AlbumCounter.PLAYS, 3_000_000_000L);
+        albumCounterService.flush();
+
+        // then
+        assertEquals(3_000_000_000L, tx(() -> albumRepository.findById(albumId).orElseThrow()).getPlays());
+    }
+
+    @Test
+    @DisplayName("삭제된 앨범의 증가분만 버리고 나머지는 반영한다.")
+    void dropsDeletedAlbumOnly() {
+        // given
+        List<Long> albumIds = saveAlbums("아이들", 2);
+        albumCounterService.increment(albumIds.get(0), AlbumCounter.PLAYS, 2);
+        albumCounterService.increment(albumIds.get(1), AlbumCounter.PLAYS, 5);
+        tx(() -> {
+            albumRepository.deleteById(albumIds.get(0));
+            return null;
+        });
+
+        long failedBefore = albumCounterService.stats().failedFlushCount();
+
+        // when
+        albumCounterService.flush();
+
+        // then
+        assertEquals(5, tx(() -> albumRepository.findById(albumIds.get(1)).orElseThrow()).getPlays());
+        assertEquals(failedBefore, albumCounterService.stats().failedFlushCount());
+        assertEquals(0, albumCounterService.counts(albumIds.get(0)).map(c -> c.plays()).orElse(0L));
+    }
+
+    @Test
+    @DisplayName("증가분은 1 이상이어야 한다.")
+    void rejectsInvalidDelta() {
+        assertThrows(IllegalArgumentException.class,
+                () -> albumCounterService.increment(1L, AlbumCounter.PLAYS, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> albumCounterService.increment(null, AlbumCounter.PLAYS, 1));
+    }
+
+    private List<Long> saveAlbums(String groupName, int count) {
+        return tx(() -> {
+            Group group = groupRepository.save(new Group(groupName));
+            return IntStream.range(0, count)
+                    .mapToObj(i -> albumRepository.save(new Album(groupName + " " + i, 2022, group)).getId())
+                    .toList();
+        });
+    }
+
+    private <T> T tx(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
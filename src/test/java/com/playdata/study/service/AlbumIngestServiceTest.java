@@ -0,0 +1,102 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.entity.Group;
+import com.playdata.study.repository.AlbumRepository;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.support.ingest.IngestStats;
+import com.playdata.study.support.ingest.WriteBehindBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:album-ingest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "album-ingest.batch-size=100",
+        "album-ingest.max-delay=50ms"
+})
+@ActiveProfiles("embedded")
+class AlbumIngestServiceTest {
+
+    @Autowired
+    AlbumIngestService albumIngestService;
+
+    @Autowired
+    WriteBehindBuffer<AlbumWrite> albumWriteBuffer;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    AlbumRepository albumRepository;
+
+    @Test
+    @DisplayName("여러 스레드에서 등록한 앨범이 배치로 모두 저장된다.")
+    void ingestConcurrently() throws InterruptedException {
+        // given
+        Long groupId = groupRepository.save(new Group("아이브")).getId();
+        IngestStats before = albumIngestService.stats();
+
+        // when
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            producers.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    albumIngestService.submit(new AlbumWrite("album-" + thread + "-" + i, 2020 + i % 5, groupId));
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertTrue(albumWriteBuffer.awaitDrained(Duration.ofSeconds(10)));
+        assertEquals(1_000, albumRepository.count());
+
+        IngestStats after = albumIngestService.stats();
+        assertEquals(1_000, after.written() - before.written());
+        assertTrue(after.flushCount() - before.flushCount() <= 1_000 / 100 + 4, "배치로 묶이지 않음: " + after);
+        assertTrue(after.maxFlushMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 앨범(없는 그룹)은 건너뛰고 나머지는 저장한다.")
+    void skipRejectedAlbum() {
+        // given
+        Long groupId = groupRepository.save(new Group("뉴진스")).getId();
+
+        // when
+        albumIngestService.submit(new AlbumWrite("New Jeans", 2022, groupId));
+        albumIngestService.submit(new AlbumWrite("없는 그룹", 2022, -1L));
+        albumIngestService.submit(new AlbumWrite("Get Up", 2023, groupId));
+
+        // then
+        assertTrue(albumWriteBuffer.awaitDrained(Duration.ofSeconds(10)));
+        assertEquals(2, albumRepository.count());
+    }
+
+    @Test
+    @DisplayName("앨범명이 없으면 큐에 넣지 않는다.")
+    void rejectBlankName() {
+        assertThrows(IllegalArgumentException.class,
+                () -> albumIngestService.submit(new AlbumWrite(" ", 2022, null)));
+        assertEquals(0, albumIngestService.stats().queueDepth());
+    }
+
+    @AfterEach
+    void tearDown() {
+        albumRepository.deleteAllInBatch();
+        groupRepository.deleteAllInBatch();
+    }
+}
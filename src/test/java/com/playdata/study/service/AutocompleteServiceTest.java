@@ -0,0 +1,138 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AutocompleteSuggestion;
+import com.playdata.study.dto.SuggestionType;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커밋 후에 반영되므로 테스트 트랜잭션(롤백) 없이 실행, 테스트마다 다른 이름 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:autocomplete;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "autocomplete.refresh-interval=0s"
+})
+@ActiveProfiles("embedded")
+class AutocompleteServiceTest {
+
+    @Autowired
+    AutocompleteService autocompleteService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("커밋된 아이돌/그룹은 바로 자동완성되고, 롤백된 변경은 반영되지 않는다.")
+    void appliedAfterCommit() {
+        // when
+        tx(() -> {
+            Group group = groupRepository.save(new Group("르세라핌"));
+            return idolRepository.save(new Idol("김채원", 24, group, Gender.FEMALE));
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            idolRepository.save(new Idol("김채롤백", 24, null, Gender.FEMALE));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(List.of("김채원"), names("ㄱㅊ", SuggestionType.IDOL));
+        assertEquals(List.of("르세라핌"), names("르세", null));
+    }
+
+    @Test
+    @DisplayName("이름 변경과 삭제(orphanRemoval)도 반영된다.")
+    void renameAndRemove() {
+        // given
+        Long groupId = tx(() -> {
+            Group group = new Group("에스파");
+            group.addIdol(new Idol("카리나", 24, null, Gender.FEMALE));
+            group.addIdol(new Idol("윈터", 23, null, Gender.FEMALE));
+            return groupRepository.save(group).getId();
+        });
+        assertEquals(List.of("윈터"), names("ㅇㅌ", SuggestionType.IDOL));
+
+        // when
+        tx(() -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            group.setGroupName("aespa");
+            Idol winter = group.getIdols().stream()
+                    .filter(idol -> idol.getIdolName().equals("윈터"))
+                    .findFirst().orElseThrow();
+            group.removeIdol(winter);
+            return null;
+        });
+
+        // then
+        assertTrue(names("에스", null).isEmpty());
+        assertEquals(List.of("aespa"), names("AES", SuggestionType.GROUP));
+        assertTrue(names("ㅇㅌ", SuggestionType.IDOL).isEmpty());
+        assertEquals(List.of("카리나"), names("카", SuggestionType.IDOL));
+    }
+
+    @Test
+    @DisplayName("리스너를 거치지 않은 변경(JDBC)은 변경 피드로 따라잡는다.")
+    void catchUpFromChangeFeed() {
+        // given
+        Long groupId = tx(() -> groupRepository.save(new Group("아이브")).getId());
+
+        // when
+        tx(() -> jdbcTemplate.update(
+                "UPDATE tbl_group SET group_name = ?, change_seq = ? WHERE group_id = ?",
+                "IVE", groupRepository.findById(groupId).orElseThrow().getChangeSeq() + 1_000_000, groupId));
+        assertEquals(List.of("아이브"), names("아이", SuggestionType.GROUP));
+        autocompleteService.catchUp();
+
+        // then
+        assertTrue(names("아이", SuggestionType.GROUP).isEmpty());
+        assertEquals(List.of("IVE"), names("ive", SuggestionType.GROUP));
+    }
+
+    @Test
+    @DisplayName("선택한 결과는 다음부터 앞에 나온다.")
+    void selectionRaisesRank() {
+        // given
+        tx(() -> idolRepository.save(new Idol("박지원", 24, null, Gender.FEMALE)));
+        Long jihoId = tx(() -> idolRepository.save(new Idol("박지효", 27, null, Gender.FEMALE)).getId());
+        assertEquals(List.of("박지원", "박지효"), names("박지", SuggestionType.IDOL));
+
+        // when
+        autocompleteService.recordSelection(SuggestionType.IDOL, jihoId);
+
+        // then
+        List<AutocompleteSuggestion> suggestions = autocompleteService.suggest("박지", SuggestionType.IDOL, 10);
+        assertEquals("박지효", suggestions.get(0).name());
+        assertEquals(1, suggestions.get(0).popularity());
+        assertThrows(IllegalArgumentException.class, () -> autocompleteService.suggest("박지", null, 11));
+    }
+
+    private List<String> names(String query, SuggestionType type) {
+        return autocompleteService.suggest(query, type, 10).stream().map(AutocompleteSuggestion::name).toList();
+    }
+
+    private <T> T tx(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
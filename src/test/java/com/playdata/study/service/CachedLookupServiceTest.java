@@ -0,0 +1,251 @@
+package com.playdata.study.service;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.repository.TeamRepository;
+import com.playdata.study.support.cache.CacheNames;
+import com.playdata.study.support.cache.InJvmInvalidationNetwork;
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.cache.InvalidationTransport;
+import com.playdata.study.support.cache.NearCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 스프링 컨텍스트 = 노드 A, 테스트에서 직접 만든 InvalidationBus = 노드 B (같은 InJvm 네트워크에 연결)
+// 변경 내용이 커밋되어야 무효화되므로 테스트 트랜잭션(롤백) 없이 실행하고 직접 정리
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:near-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("embedded")
+class CachedLookupServiceTest {
+
+    static final InJvmInvalidationNetwork NETWORK = new InJvmInvalidationNetwork();
+
+    @TestConfiguration
+    static class NetworkConfig {
+        // NearCacheConfig의 기본(loopback) transport 대신 사용
+        @Bean
+        @Primary
+        InvalidationTransport inJvmInvalidationTransport() {
+            return NETWORK.join();
+        }
+    }
+
+    @Autowired
+    CachedLookupService cachedLookupService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    InvalidationBus otherNode = new InvalidationBus(NETWORK.join(), 100, Duration.ofMinutes(10));
+    NearCache<Long, GroupRoster> otherGroupRosters = otherNode.cache(CacheNames.GROUP_ROSTER);
+    NearCache<String, List<MemberSummary>> otherMembersByName = otherNode.cache(CacheNames.MEMBERS_BY_NAME);
+
+    Long iveId;
+    Long newjeansId;
+    Long teamAId;
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 같은 객체를 돌려준다.")
+    void cacheHit() {
+        GroupRoster first = cachedLookupService.findGroupRoster(iveId).orElseThrow();
+        GroupRoster second = cachedLookupService.findGroupRoster(iveId).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(List.of("안유진", "가을"), first.idols().stream().map(IdolSummary::idolName).toList());
+    }
+
+    @Test
+    @DisplayName("아이돌이 추가되면 커밋 후 모든 노드의 그룹 명단 캐시가 무효화된다.")
+    void invalidateOnInsert() {
+        // given
+        cachedLookupService.findGroupRoster(iveId);
+        otherGroupRosters.get(iveId, id -> new GroupRoster(id, "아이브", List.of()));
+
+        // when
+        tx().executeWithoutResult(status ->
+                idolRepository.save(newIdol("리즈", 20, groupRepository.getReferenceById(iveId))));
+
+        // then
+        assertTrue(otherGroupRosters.getIfPresent(iveId).isEmpty());
+        assertEquals(3, cachedLookupService.findGroupRoster(iveId).orElseThrow().idols().size());
+    }
+
+    @Test
+    @DisplayName("아이돌이 다른 그룹으로 옮기면 이전 그룹과 새 그룹의 명단이 모두 무효화된다.")
+    void invalidateOldAndNewGroup() {
+        // given
+        assertEquals(2, cachedLookupService.findGroupRoster(iveId).orElseThrow().idols().size());
+        assertEquals(1, cachedLookupService.findGroupRoster(newjeansId).orElseThrow().idols().size());
+
+        // when
+        tx().executeWithoutResult(status -> {
+            Idol gaeul = idolRepository.findAll().stream()
+                    .filter(i -> i.getIdolName().equals("가을")).findFirst().orElseThrow();
+            gaeul.setGroup(groupRepository.getReferenceById(newjeansId));
+        });
+
+        // then
+        assertEquals(1, cachedLookupService.findGroupRoster(iveId).orElseThrow().idols().size());
+        assertEquals(2, cachedLookupService.findGroupRoster(newjeansId).orElseThrow().idols().size());
+    }
+
+    @Test
+    @DisplayName("그룹에서 아이돌을 빼면(소속 null + 고아 삭제) 커밋 후 이전 그룹의 명단이 무효화된다.")
+    void invalidateOnRemoveIdol() {
+        // given
+        assertEquals(2, cachedLookupService.findGroupRoster(iveId).orElseThrow().idols().size());
+        otherGroupRosters.get(iveId, id -> new GroupRoster(id, "아이브", List.of()));
+
+        // when
+        tx().executeWithoutResult(status -> {
+            Group ive = groupRepository.findById(iveId).orElseThrow();
+            Idol gaeul = ive.getIdols().stream()
+                    .filter(i -> i.getIdolName().equals("가을")).findFirst().orElseThrow();
+            ive.removeIdol(gaeul);
+        });
+
+        // then
+        assertTrue(otherGroupRosters.getIfPresent(iveId).isEmpty());
+        assertEquals(List.of("안유진"), cachedLookupService.findGroupRoster(iveId).orElseThrow()
+                .idols().stream().map(IdolSummary::idolName).toList());
+    }
+
+    @Test
+    @DisplayName("팀을 비운 뒤 삭제한 회원도 이전 팀의 명단을 무효화한다.")
+    void invalidateOnRemoveMember() {
+        // given
+        assertEquals(1, cachedLookupService.findTeamRoster(teamAId).orElseThrow().members().size());
+
+        // when
+        tx().executeWithoutResult(status -> {
+            Member member1 = memberRepository.findByName("member1").get(0);
+            member1.setTeam(null);
+            memberRepository.delete(member1);
+        });
+
+        // then
+        assertTrue(cachedLookupService.findTeamRoster(teamAId).orElseThrow().members().isEmpty());
+        assertTrue(cachedLookupService.findMembersByName("member1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 무효화 메시지를 보내지 않는다.")
+    void noInvalidationOnRollback() {
+        // given
+        otherGroupRosters.get(iveId, id -> new GroupRoster(id, "아이브", List.of()));
+        int sent = NETWORK.getDelivered().size();
+
+        // when
+        tx().executeWithoutResult(status -> {
+            groupRepository.findById(iveId).orElseThrow().setGroupName("IVE");
+            groupRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(sent, NETWORK.getDelivered().size());
+        assertTrue(otherGroupRosters.getIfPresent(iveId).isPresent());
+    }
+
+    @Test
+    @DisplayName("회원 이름이 바뀌면 이전 이름과 새 이름의 findByName 결과가 무효화된다.")
+    void invalidateMemberNames() {
+        // given
+        assertEquals(1, cachedLookupService.findMembersByName("member1").size());
+        assertTrue(cachedLookupService.findMembersByName("member9").isEmpty());
+        otherMembersByName.get("member1", name -> List.of());
+
+        // when
+        tx().executeWithoutResult(status -> memberRepository.findByName("member1").get(0).setUserName("member9"));
+
+        // then
+        assertTrue(otherMembersByName.getIfPresent("member1").isEmpty());
+        assertTrue(cachedLookupService.findMembersByName("member1").isEmpty());
+        assertEquals(1, cachedLookupService.findMembersByName("member9").size());
+    }
+
+    @Test
+    @DisplayName("팀 이름이 바뀌면 팀 명단과 회원 조회 결과(팀 이름 포함)가 무효화된다.")
+    void invalidateTeamRename() {
+        // given
+        assertEquals("teamA", cachedLookupService.findTeamRoster(teamAId).orElseThrow().name());
+        assertEquals("teamA", cachedLookupService.findMembersByName("member1").get(0).teamName());
+
+        // when
+        tx().executeWithoutResult(status -> teamRepository.findById(teamAId).orElseThrow().setName("teamZ"));
+
+        // then
+        assertEquals("teamZ", cachedLookupService.findTeamRoster(teamAId).orElseThrow().name());
+        assertEquals("teamZ", cachedLookupService.findMembersByName("member1").get(0).teamName());
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private Idol newIdol(String name, int age, Group group) {
+        Idol newIdol = new Idol(name, age, null, Gender.FEMALE);
+        newIdol.setGroup(group);
+        return newIdol;
+    }
+
+    @BeforeEach
+    void setUp() {
+        tx().executeWithoutResult(status -> {
+            Group ive = groupRepository.save(new Group("아이브"));
+            Group newjeans = groupRepository.save(new Group("뉴진스"));
+            idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+            idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+            idolRepository.save(new Idol("하니", 20, newjeans, Gender.FEMALE));
+            iveId = ive.getId();
+            newjeansId = newjeans.getId();
+
+            Team teamA = teamRepository.save(Team.builder().name("teamA").build());
+            memberRepository.save(Member.builder().userName("member1").age(10).team(teamA).build());
+            teamAId = teamA.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        idolRepository.deleteAllInBatch();
+        groupRepository.deleteAllInBatch();
+    }
+}
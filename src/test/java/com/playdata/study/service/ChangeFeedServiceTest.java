@@ -0,0 +1,246 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumChange;
+import com.playdata.study.dto.AlbumWrite;
+import com.playdata.study.dto.ChangeFeedPage;
+import com.playdata.study.dto.GroupChange;
+import com.playdata.study.dto.IdolChange;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.AlbumJdbcWriter;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 피드는 커밋된 변경만 보여주므로 테스트 트랜잭션(롤백) 없이 실행
+// 테스트마다 시작 시점의 순번(after)을 기준으로 그 이후 변경만 확인
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:change-feed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("embedded")
+class ChangeFeedServiceTest {
+
+    @Autowired
+    ChangeFeedService changeFeedService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    AlbumJdbcWriter albumJdbcWriter;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    long start;
+
+    @BeforeEach
+    void setUp() {
+        start = latestSeq();
+    }
+
+    @Test
+    @DisplayName("저장/수정된 행만 순번 순서로 돌려주고, 수정하면 더 큰 순번으로 다시 나온다.")
+    void changedRows() {
+        // given
+        Long iveId = tx(() -> groupRepository.save(new Group("아이브")).getId());
+        Long yujinId = tx(() -> idolRepository.save(
+                new Idol("안유진", 21, groupRepository.getReferenceById(iveId), Gender.FEMALE)).getId());
+        Long gaeulId = tx(() -> idolRepository.save(
+                new Idol("가을", 22, groupRepository.getReferenceById(iveId), Gender.FEMALE)).getId());
+
+        ChangeFeedPage<IdolChange> first = changeFeedService.idolChanges(start, 100);
+        assertEquals(List.of(yujinId, gaeulId), first.changed().stream().map(IdolChange::id).toList());
+        assertFalse(first.hasMore());
+        IdolChange yujin = first.changed().get(0);
+        assertEquals(iveId, yujin.groupId());
+        assertNotNull(yujin.updatedAt());
+
+        // when
+        tx(() -> {
+            idolRepository.findById(yujinId).orElseThrow().setAge(22);
+            return null;
+        });
+
+        // then
+        ChangeFeedPage<IdolChange> next = changeFeedService.idolChanges(first.nextSeq(), 100);
+        assertEquals(1, next.changed().size());
+        IdolChange updated = next.changed().get(0);
+        assertEquals(yujinId, updated.id());
+        assertEquals(22, updated.age());
+        assertTrue(updated.changeSeq() > yujin.changeSeq());
+
+        Idol entity = idolRepository.findById(yujinId).orElseThrow();
+        assertEquals(yujin.updatedAt(), entity.getCreatedAt());
+        assertFalse(entity.getUpdatedAt().isBefore(entity.getCreatedAt()));
+    }
+
+    @Test
+    @DisplayName("Group.removeIdol (orphanRemoval) 로 지워진 아이돌은 삭제 기록으로 나온다.")
+    void tombstoneOnOrphanRemoval() {
+        // given
+        Long groupId = tx(() -> {
+            Group group = new Group("르세라핌");
+            group.addIdol(new Idol("김채원", 24, null, Gender.FEMALE));
+            group.addIdol(new Idol("사쿠라", 26, null, Gender.FEMALE));
+            return groupRepository.save(group).getId();
+        });
+        long afterInsert = changeFeedService.idolChanges(start, 100).nextSeq();
+
+        // when
+        Long removedId = tx(() -> {
+            Group group = groupRepository.findById(groupId).orElseThrow();
+            Idol sakura = group.getIdols().stream()
+                    .filter(idol -> idol.getIdolName().equals("사쿠라"))
+                    .findFirst().orElseThrow();
+            group.removeIdol(sakura);
+            return sakura.getId();
+        });
+
+        // then
+        ChangeFeedPage<IdolChange> page = changeFeedService.idolChanges(afterInsert, 100);
+        assertEquals(List.of(removedId), page.deleted());
+        assertTrue(page.changed().isEmpty());
+        assertTrue(idolRepository.findById(removedId).isEmpty());
+
+        // 그룹을 지우면 cascade 로 남은 아이돌과 그룹 모두 삭제 기록
+        tx(() -> {
+            groupRepository.delete(groupRepository.findById(groupId).orElseThrow());
+            return null;
+        });
+        assertEquals(1, changeFeedService.idolChanges(page.nextSeq(), 100).deleted().size());
+        ChangeFeedPage<GroupChange> groups = changeFeedService.groupChanges(page.nextSeq(), 100);
+        assertEquals(List.of(groupId), groups.deleted());
+    }
+
+    @Test
+    @DisplayName("limit 보다 변경이 많으면 nextSeq 로 이어서 받아도 빠지거나 겹치는 행이 없다.")
+    void paging() {
+        // given
+        Long groupId = tx(() -> groupRepository.save(new Group("뉴진스")).getId());
+        List<Long> ids = new ArrayList<>();
+        for (String name : List.of("민지", "하니", "다니엘", "해린", "혜인")) {
+            ids.add(tx(() -> idolRepository.save(
+                    new Idol(name, 20, groupRepository.getReferenceById(groupId), Gender.FEMALE)).getId()));
+        }
+        Long deletedId = ids.get(1);
+        tx(() -> {
+            idolRepository.deleteById(deletedId);
+            return null;
+        });
+
+        // when
+        List<Long> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long after = start;
+        int pages = 0;
+        ChangeFeedPage<IdolChange> page;
+        do {
+            page = changeFeedService.idolChanges(after, 2);
+            page.changed().forEach(change -> changed.add(change.id()));
+            deleted.addAll(page.deleted());
+            after = page.nextSeq();
+            pages++;
+        } while (page.hasMore());
+
+        // then
+        assertEquals(List.of(ids.get(0), ids.get(2), ids.get(3), ids.get(4)), changed);
+        assertEquals(List.of(deletedId), deleted);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @DisplayName("동시에 저장해도 순번이 겹치지 않고, 피드로 모두 받을 수 있다.")
+    void concurrentWriters() throws InterruptedException {
+        // given
+        Long groupId = tx(() -> groupRepository.save(new Group("에스파")).getId());
+        Set<Long> saved = ConcurrentHashMap.newKeySet();
+
+        // when
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            writers.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    String name = "idol-" + thread + "-" + i;
+                    saved.add(tx(() -> idolRepository.save(
+                            new Idol(name, 20, groupRepository.getReferenceById(groupId), Gender.FEMALE)).getId()));
+                }
+            });
+        }
+        writers.shutdown();
+        assertTrue(writers.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        Set<Long> received = new HashSet<>();
+        Set<Long> seqs = new HashSet<>();
+        long after = start;
+        ChangeFeedPage<IdolChange> page;
+        do {
+            page = changeFeedService.idolChanges(after, 30);
+            for (IdolChange change : page.changed()) {
+                received.add(change.id());
+                assertTrue(seqs.add(change.changeSeq()), "순번 중복: " + change);
+            }
+            after = page.nextSeq();
+        } while (page.hasMore());
+        assertEquals(100, saved.size());
+        assertEquals(saved, received);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 저장한 앨범도 변경 순번을 받는다.")
+    void batchInsertedAlbums() {
+        // given
+        Long groupId = tx(() -> groupRepository.save(new Group("아이들")).getId());
+
+        // when
+        albumJdbcWriter.write(List.of(
+                new AlbumWrite("I feel", 2023, groupId),
+                new AlbumWrite("2", 2024, groupId)));
+
+        // then
+        ChangeFeedPage<AlbumChange> page = changeFeedService.albumChanges(start, 100);
+        assertEquals(List.of("I feel", "2"), page.changed().stream().map(AlbumChange::albumName).toList());
+        assertEquals(page.changed().get(0).changeSeq() + 1, page.changed().get(1).changeSeq());
+        assertNotNull(page.changed().get(0).updatedAt());
+    }
+
+    @Test
+    @DisplayName("after 가 음수이거나 limit 범위를 벗어나면 예외")
+    void invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.idolChanges(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.groupChanges(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.albumChanges(0, 1001));
+    }
+
+    // 지금까지 발급된 마지막 순번 (아무 엔터티나 하나 저장해서 확인)
+    private long latestSeq() {
+        return tx(() -> groupRepository.save(new Group("seq-probe")).getChangeSeq());
+    }
+
+    private <T> T tx(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
@@ -0,0 +1,165 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.inmemory.SnapshotQueryStats;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커밋된 데이터를 변경 피드로 읽으므로 테스트 트랜잭션(롤백) 없이 실행
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idolsnapshot;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "idol-snapshot.refresh-interval=0s",
+        "idol-snapshot.max-staleness=1h",
+        "idol-snapshot.full-reload-interval=0s"
+})
+@ActiveProfiles("embedded")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IdolSnapshotServiceTest {
+
+    @Autowired
+    IdolSnapshotService idolSnapshotService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    // 대소문자, 끝 공백, 같은 나이, 그룹 없는 아이돌, 이름 없는 그룹이 섞인 데이터
+    @BeforeAll
+    void setUp() {
+        Random random = new Random(45);
+        String[] names = {"카리나", "karina", "Karina", "karina ", "윈터", "안유진", "a_b", "a%b", "A", "zz"};
+        tx(() -> {
+            List<Group> groups = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                groups.add(groupRepository.save(new Group(i == 7 ? null : names[i] + "그룹" + (i % 3))));
+            }
+            for (int i = 0; i < 400; i++) {
+                Group target = random.nextInt(5) == 0 ? null : groups.get(random.nextInt(groups.size()));
+                Gender gender = random.nextInt(7) == 0 ? null : Gender.values()[random.nextInt(2)];
+                idolRepository.save(new Idol(names[random.nextInt(names.length)] + (random.nextInt(3) == 0 ? "" : i % 13),
+                        15 + random.nextInt(20), target, gender));
+            }
+            return null;
+        });
+        idolSnapshotService.reload();
+    }
+
+    @Test
+    @DisplayName("지원하는 조건/정렬은 메모리에서 실행하고 결과는 DB 조회와 같다.")
+    void matchesDatabase() {
+        idolSnapshotService.refresh();
+        List<Predicate> predicates = Arrays.asList(
+                null,
+                idol.age.goe(20).and(idol.age.loe(27)),
+                idol.gender.eq(Gender.FEMALE),
+                idol.gender.isNull().or(idol.gender.ne(Gender.MALE)),
+                group.groupName.eq("카리나그룹0"),
+                group.groupName.isNull(),
+                group.groupName.ne("윈터그룹1").not(),
+                group.id.notIn(Arrays.asList(1L, null)),
+                idol.group.id.in(1L, 2L, 3L).or(idol.age.lt(18)),
+                idol.idolName.contains("arin"),
+                idol.idolName.containsIgnoreCase("KARINA"),
+                idol.idolName.startsWith("a_").or(idol.idolName.endsWith("%b")),
+                idol.idolName.like("a_b%"),
+                idol.idolName.eq("karina "),
+                idol.idolName.goe("a").and(idol.idolName.lt("z")),
+                idol.age.between(18, 22).and(group.groupName.startsWith("karina")));
+        List<OrderSpecifier<?>[]> orders = List.of(
+                new OrderSpecifier<?>[]{idol.age.desc(), idol.idolName.asc()},
+                new OrderSpecifier<?>[]{group.groupName.asc(), idol.age.asc()},
+                new OrderSpecifier<?>[]{group.groupName.desc(), idol.gender.desc()},
+                new OrderSpecifier<?>[]{idol.gender.asc().nullsLast(), idol.idolName.desc()},
+                new OrderSpecifier<?>[]{});
+
+        long before = idolSnapshotService.stats().inMemory();
+        int queries = 0;
+        for (Predicate predicate : predicates) {
+            for (OrderSpecifier<?>[] order : orders) {
+                for (long offset : new long[]{0, 13, 150}) {
+                    List<IdolWithGroup> expected = tx(() -> idolRepository.findRowPageDeferred(predicate, offset, 20, order));
+                    assertEquals(expected, idolSnapshotService.findRows(predicate, offset, 20, order),
+                            () -> predicate + " / " + Arrays.toString(order) + " / " + offset);
+                    queries++;
+                }
+            }
+        }
+        assertEquals(queries, idolSnapshotService.stats().inMemory() - before);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 경로나 함수는 DB로 조회한다.")
+    void unsupportedFallsBack() {
+        long before = idolSnapshotService.stats().fallbackUnsupported();
+        Predicate predicate = idol.group.groupName.isNull();
+
+        List<IdolWithGroup> expected = tx(() -> idolRepository.findRowPageDeferred(predicate, 0, 50, idol.age.desc()));
+        assertEquals(expected, idolSnapshotService.findRows(predicate, 0, 50, idol.age.desc()));
+        assertEquals(expected, tx(() -> idolRepository.findRowPageDeferred(predicate, 0, 50, idol.age.desc())));
+        idolSnapshotService.findRows(idol.age.add(1).gt(20), 0, 10);
+
+        assertEquals(before + 2, idolSnapshotService.stats().fallbackUnsupported());
+    }
+
+    @Test
+    @DisplayName("이 노드의 쓰기가 커밋되면 다시 갱신할 때까지 DB로 조회하고, 트랜잭션 안에서도 DB로 조회한다.")
+    void localWriteMakesSnapshotStale() {
+        idolSnapshotService.refresh();
+        Predicate renamed = idol.idolName.eq("새이름");
+        assertTrue(idolSnapshotService.findRows(renamed, 0, 10).isEmpty());
+
+        Long idolId = tx(() -> {
+            Idol target = idolRepository.findAll().get(0);
+            target.setIdolName("새이름");
+            return target.getId();
+        });
+
+        SnapshotQueryStats before = idolSnapshotService.stats();
+        assertEquals(List.of(idolId), ids(idolSnapshotService.findRows(renamed, 0, 10)));
+        assertEquals(before.fallbackStale() + 1, idolSnapshotService.stats().fallbackStale());
+
+        idolSnapshotService.refresh();
+        assertEquals(List.of(idolId), ids(idolSnapshotService.findRows(renamed, 0, 10)));
+        assertEquals(before.inMemory() + 1, idolSnapshotService.stats().inMemory());
+
+        assertEquals(List.of(idolId), ids(tx(() -> idolSnapshotService.findRows(renamed, 0, 10))));
+        assertEquals(before.fallbackInTransaction() + 1, idolSnapshotService.stats().fallbackInTransaction());
+    }
+
+    private static List<Long> ids(List<IdolWithGroup> rows) {
+        return rows.stream().map(IdolWithGroup::id).toList();
+    }
+
+    private <T> T tx(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
@@ -0,0 +1,138 @@
+package com.playdata.study.service;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.dto.AlbumSearchCondition;
+import com.playdata.study.dto.GroupSearchCondition;
+import com.playdata.study.dto.IdolSearchCondition;
+import com.playdata.study.entity.Album;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.AlbumRepository;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// JPA로 저장(커밋)한 데이터를 R2DBC 조회로 읽는 테스트
+// 조회 커넥션이 달라서 롤백(@Transactional) 대신 커밋 후 직접 정리하고, 다른 테스트와 섞이지 않게 DB를 따로 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("embedded")
+class ReactiveQueryServiceTest {
+
+    @Autowired
+    ReactiveQueryService reactiveQueryService;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    AlbumRepository albumRepository;
+
+    @Test
+    @DisplayName("조건과 요청 필드대로 아이돌을 조회한다.")
+    void findIdols() {
+        IdolSearchCondition condition = new IdolSearchCondition();
+        condition.setGroupName("아이브");
+        condition.setMinAge(21);
+
+        StepVerifier.create(reactiveQueryService.findIdols(condition,
+                        ReactiveQueryService.IDOL_FIELDS.resolve("idolName,groupName")))
+                .expectNext(Map.of("idolName", "가을", "groupName", "아이브"))
+                .expectNext(Map.of("idolName", "안유진", "groupName", "아이브"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("그룹이 없는 아이돌도 groupName이 null로 조회된다.")
+    void findSoloIdol() {
+        IdolSearchCondition condition = new IdolSearchCondition();
+        condition.setIdolName("아이유");
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("idolName", "아이유");
+        expected.put("groupName", null);
+
+        StepVerifier.create(reactiveQueryService.findIdols(condition,
+                        ReactiveQueryService.IDOL_FIELDS.resolve("idolName,groupName")))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("그룹과 앨범을 조회한다.")
+    void findGroupsAndAlbums() {
+        StepVerifier.create(reactiveQueryService.findGroups(new GroupSearchCondition(),
+                        ReactiveQueryService.GROUP_FIELDS.resolve("groupName")))
+                .expectNext(Map.of("groupName", "르세라핌"), Map.of("groupName", "아이브"))
+                .verifyComplete();
+
+        AlbumSearchCondition condition = new AlbumSearchCondition();
+        condition.setReleaseYear(2022);
+
+        StepVerifier.create(reactiveQueryService.findAlbums(condition,
+                        ReactiveQueryService.ALBUM_FIELDS.resolve("albumName,groupName")))
+                .expectNext(Map.of("albumName", "FEARLESS", "groupName", "르세라핌"))
+                .expectNext(Map.of("albumName", "LOVE DIVE", "groupName", "아이브"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("구독자가 요청한 만큼만 결과를 내보낸다.")
+    void backpressure() {
+        StepVerifier.create(reactiveQueryService.findIdols(new IdolSearchCondition(),
+                        ReactiveQueryService.IDOL_FIELDS.resolve("id,age")), 1)
+                .assertNext(row -> assertEquals(24, row.get("age")))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group leSserafim = new Group("르세라핌");
+        Group ive = new Group("아이브");
+
+        groupRepository.save(leSserafim);
+        groupRepository.save(ive);
+
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("사쿠라", 26, leSserafim, Gender.FEMALE));
+        idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("리즈", 20, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("아이유", 31, null, Gender.FEMALE));
+
+        albumRepository.save(new Album("FEARLESS", 2022, leSserafim));
+        albumRepository.save(new Album("ELEVEN", 2021, ive));
+        albumRepository.save(new Album("LOVE DIVE", 2022, ive));
+    }
+
+    @AfterEach
+    void tearDown() {
+        albumRepository.deleteAllInBatch();
+        idolRepository.deleteAllInBatch();
+        groupRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,259 @@
+package com.playdata.study.service;
+
+import com.playdata.study.dto.AlbumCounter;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.dto.GroupAverageResponse;
+import com.playdata.study.entity.Album;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.AlbumRepository;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.support.sharding.PartialAggregate;
+import com.playdata.study.support.sharding.ShardIdRanges;
+import com.playdata.study.support.sharding.ShardTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 내장 H2 3개를 샤드로 사용
+// 병합 중 keyset 으로 이어서 읽는 경로도 타도록 샤드별 fetch 크기를 작게
+@SpringBootTest(properties = {
+        "sharding.enabled=true",
+        "sharding.initialize-schema=true",
+        "sharding.merge-fetch-size=2",
+        "sharding.shards[0].url=jdbc:h2:mem:shard0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.shards[0].username=sa",
+        "sharding.shards[1].url=jdbc:h2:mem:shard1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.shards[1].username=sa",
+        "sharding.shards[2].url=jdbc:h2:mem:shard2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "sharding.shards[2].username=sa"
+})
+@ActiveProfiles("embedded")
+class ShardedIdolServiceTest {
+
+    @Autowired
+    ShardedIdolService shardedIdolService;
+
+    @Autowired
+    ShardTemplate shardTemplate;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    AlbumRepository albumRepository;
+
+    @Autowired
+    AlbumCounterService albumCounterService;
+
+    Map<String, Long> groupIds = new LinkedHashMap<>();
+
+    @Test
+    @DisplayName("앨범 재생 수는 앨범이 저장된 샤드에 반영되고 그 샤드에서 읽는다.")
+    void albumCountersFollowShard() {
+        // given
+        List<Album> albums = shardTemplate.scatter(shard -> albumRepository.findAll()).stream()
+                .flatMap(List::stream)
+                .toList();
+        assertTrue(albums.stream().map(a -> ShardIdRanges.shardOfId(a.getId())).distinct().count() > 1,
+                "앨범이 한 샤드에 몰림");
+
+        // when
+        for (Album album : albums) {
+            albumCounterService.increment(album.getId(), AlbumCounter.PLAYS, album.getReleaseYear());
+        }
+        albumCounterService.flush();
+
+        // then
+        for (Album album : albums) {
+            int shard = ShardIdRanges.shardOfId(album.getId());
+            Album stored = shardTemplate.execute(shard, true,
+                    () -> albumRepository.findById(album.getId()).orElseThrow());
+            assertEquals(album.getReleaseYear(), stored.getPlays(), album.getAlbumName());
+            assertEquals(album.getReleaseYear(),
+                    albumCounterService.counts(album.getId()).orElseThrow().plays(), album.getAlbumName());
+        }
+    }
+
+    @Test
+    @DisplayName("아이돌과 앨범은 group_id로 정해진 샤드에만 저장된다.")
+    void routeByGroup() {
+        // when
+        List<Long> perShard = shardTemplate.scatter(shard -> idolRepository.count());
+
+        // then
+        assertEquals(13, perShard.stream().mapToLong(Long::longValue).sum());
+        assertTrue(perShard.stream().filter(count -> count > 0).count() > 1, "샤드가 하나에 몰림: " + perShard);
+
+        Long ive = groupIds.get("아이브");
+        int home = shardTemplate.shardOf(ive);
+        for (int shard = 0; shard < shardTemplate.shardCount(); shard++) {
+            List<Idol> found = shardTemplate.execute(shard, true,
+                    () -> idolRepository.findAll().stream().filter(i -> i.getIdolName().equals("안유진")).toList());
+            assertEquals(shard == home ? 1 : 0, found.size(), "shard " + shard);
+        }
+
+        assertEquals(List.of("안유진", "가을", "레이", "리즈"),
+                shardedIdolService.findIdolsByGroup(ive).stream().map(Idol::getIdolName).toList());
+        assertEquals(2, shardedIdolService.findAlbumsByGroup(ive).size());
+    }
+
+    @Test
+    @DisplayName("아이돌/앨범 id는 샤드마다 다른 범위에서 발급되어 샤드가 달라도 겹치지 않는다.")
+    void idsAreUniqueAcrossShards() {
+        // when
+        List<List<Long>> idolIds = shardTemplate.scatter(shard ->
+                idolRepository.findAll().stream().map(Idol::getId).toList());
+        List<List<Long>> albumIds = shardTemplate.scatter(shard ->
+                albumRepository.findAll().stream().map(Album::getId).toList());
+
+        // then
+        for (int shard = 0; shard < shardTemplate.shardCount(); shard++) {
+            for (Long id : idolIds.get(shard)) {
+                assertEquals(shard, ShardIdRanges.shardOfId(id), "idol " + id);
+            }
+            for (Long id : albumIds.get(shard)) {
+                assertEquals(shard, ShardIdRanges.shardOfId(id), "album " + id);
+            }
+        }
+        assertEquals(13, idolIds.stream().flatMap(List::stream).distinct().count());
+        assertEquals(3, albumIds.stream().flatMap(List::stream).distinct().count());
+    }
+
+    @Test
+    @DisplayName("전체 정렬 + 페이징은 샤드 결과를 병합해서 한 DB에서 조회한 것과 같은 순서가 된다.")
+    void orderByAcrossShards() {
+        // given
+        List<Idol> all = shardTemplate.scatter(shard -> idolRepository.findAll()).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt(Idol::getAge).reversed()
+                        .thenComparing(Idol::getIdolName)
+                        .thenComparing(Idol::getId))
+                .toList();
+
+        // when
+        List<Idol> first = shardedIdolService.findIdolsOrderByAge(0, 3);
+        List<Idol> second = shardedIdolService.findIdolsOrderByAge(3, 4);
+
+        // then
+        assertEquals("아이유", first.get(0).getIdolName());
+        assertEquals(names(all.subList(0, 3)), names(first));
+        assertEquals(names(all.subList(3, 7)), names(second));
+        assertEquals(names(all), names(shardedIdolService.findIdolsOrderByAge(0, 20)));
+        assertEquals(names(all.subList(10, 13)), names(shardedIdolService.findIdolsOrderByAge(10, 5)));
+    }
+
+    @Test
+    @DisplayName("성별별 인원수와 평균 나이는 샤드별 COUNT/SUM을 합쳐서 계산한다.")
+    void statsByGender() {
+        // when
+        Map<Gender, PartialAggregate> stats = shardedIdolService.statsByGender();
+
+        // then
+        assertEquals(10, stats.get(Gender.FEMALE).count());
+        assertEquals(3, stats.get(Gender.MALE).count());
+        assertEquals((24 + 26 + 21 + 22 + 20 + 21 + 20 + 19 + 22 + 31) / 10.0, stats.get(Gender.FEMALE).average(), 1e-9);
+        assertEquals((30 + 29 + 27) / 3.0, stats.get(Gender.MALE).average(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("그룹별 평균 나이는 샤드 안에서 계산한 값을 그대로 합친다.")
+    void groupAverageAges() {
+        // when
+        List<GroupAverageResponse> result = shardedIdolService.groupAverageAges(20, 25);
+
+        // then
+        assertEquals(List.of("뉴진스", "르세라핌", "아이브"),
+                result.stream().map(GroupAverageResponse::getGroupName).toList());
+        assertEquals(21.0, result.get(2).getAverageAge(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("그룹 이름 변경은 모든 샤드의 복제본에 반영되고, 같은 그룹을 다시 복제해도 중복되지 않는다.")
+    void renameGroupOnAllShards() {
+        // given
+        Long ive = groupIds.get("아이브");
+
+        // when
+        shardedIdolService.renameGroup(ive, "IVE");
+        shardedIdolService.renameGroup(ive, "IVE");
+
+        // then
+        List<String> names = shardTemplate.scatter(shard ->
+                groupRepository.findById(ive).orElseThrow().getGroupName());
+        assertEquals(Collections.nCopies(shardTemplate.shardCount(), "IVE"), names);
+        assertEquals(List.of(6L, 6L, 6L), shardTemplate.scatter(shard -> groupRepository.count()));
+        assertEquals(List.of("IVE", "뉴진스", "르세라핌"),
+                shardedIdolService.groupAverageAges(20, 25).stream().map(GroupAverageResponse::getGroupName).toList());
+    }
+
+    @Test
+    @DisplayName("그룹을 삭제하면 소속 아이돌/앨범과 모든 샤드의 복제본이 지워진다.")
+    void deleteGroupOnAllShards() {
+        // given
+        Long ive = groupIds.get("아이브");
+
+        // when
+        shardedIdolService.deleteGroup(ive);
+        shardedIdolService.deleteGroup(ive);
+
+        // then
+        assertEquals(List.of(false, false, false),
+                shardTemplate.scatter(shard -> groupRepository.existsById(ive)));
+        assertTrue(shardedIdolService.findIdolsByGroup(ive).isEmpty());
+        assertTrue(shardedIdolService.findAlbumsByGroup(ive).isEmpty());
+        assertEquals(9, shardTemplate.scatter(shard -> idolRepository.count()).stream().mapToLong(Long::longValue).sum());
+    }
+
+    private List<String> names(List<Idol> idols) {
+        return idols.stream().map(Idol::getIdolName).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (String name : List.of("르세라핌", "아이브", "뉴진스", "방탄소년단", "세븐틴", "에스파")) {
+            groupIds.put(name, shardedIdolService.saveGroup(name));
+        }
+
+        shardedIdolService.saveIdol("김채원", 24, Gender.FEMALE, groupIds.get("르세라핌"));
+        shardedIdolService.saveIdol("사쿠라", 26, Gender.FEMALE, groupIds.get("르세라핌"));
+        shardedIdolService.saveIdol("안유진", 21, Gender.FEMALE, groupIds.get("아이브"));
+        shardedIdolService.saveIdol("가을", 22, Gender.FEMALE, groupIds.get("아이브"));
+        shardedIdolService.saveIdol("레이", 20, Gender.FEMALE, groupIds.get("아이브"));
+        shardedIdolService.saveIdol("리즈", 21, Gender.FEMALE, groupIds.get("아이브"));
+        shardedIdolService.saveIdol("하니", 20, Gender.FEMALE, groupIds.get("뉴진스"));
+        shardedIdolService.saveIdol("해린", 19, Gender.FEMALE, groupIds.get("뉴진스"));
+        shardedIdolService.saveIdol("민지", 22, Gender.FEMALE, groupIds.get("뉴진스"));
+        shardedIdolService.saveIdol("정국", 27, Gender.MALE, groupIds.get("방탄소년단"));
+        shardedIdolService.saveIdol("RM", 30, Gender.MALE, groupIds.get("방탄소년단"));
+        shardedIdolService.saveIdol("호시", 29, Gender.MALE, groupIds.get("세븐틴"));
+        shardedIdolService.saveIdol("아이유", 31, Gender.FEMALE, null);
+
+        shardedIdolService.saveAlbum("ELEVEN", 2021, groupIds.get("아이브"));
+        shardedIdolService.saveAlbum("LOVE DIVE", 2022, groupIds.get("아이브"));
+        shardedIdolService.saveAlbum("OMG", 2023, groupIds.get("뉴진스"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardTemplate.shardCount(); shard++) {
+            shardTemplate.execute(shard, false, () -> {
+                albumRepository.deleteAllInBatch();
+                idolRepository.deleteAllInBatch();
+                groupRepository.deleteAllInBatch();
+                return null;
+            });
+        }
+    }
+}
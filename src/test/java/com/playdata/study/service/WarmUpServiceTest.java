@@ -0,0 +1,114 @@
+package com.playdata.study.service;
+
+import com.playdata.study.controller.HealthController;
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.ReadinessResponse;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.entity.Member;
+import com.playdata.study.entity.Team;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.repository.TeamRepository;
+import com.playdata.study.support.cache.CacheNames;
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.cache.NearCache;
+import com.playdata.study.support.warmup.WarmUpReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 시작할 때는 데이터가 없으므로 데이터를 넣은 뒤 warmUp() 을 다시 실행해서 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warm-up;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "warm-up.top-groups=2",
+        "warm-up.top-teams=1",
+        "warm-up.top-member-names=1"})
+@ActiveProfiles("embedded")
+class WarmUpServiceTest {
+
+    @Autowired
+    WarmUpService warmUpService;
+
+    @Autowired
+    HealthController healthController;
+
+    @Autowired
+    InvalidationBus invalidationBus;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("아이돌이 많은 그룹, 회원이 많은 팀의 명단과 가장 많은 이름의 회원 조회를 미리 캐시에 넣고 결과를 readiness 에 보여준다.")
+    void warmUp() {
+        // given
+        Long[] ids = new TransactionTemplate(transactionManager).execute(status -> {
+            Group ive = groupRepository.save(new Group("아이브"));
+            Group newjeans = groupRepository.save(new Group("뉴진스"));
+            Group aespa = groupRepository.save(new Group("에스파"));
+            idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+            idolRepository.save(new Idol("가을", 22, ive, Gender.FEMALE));
+            idolRepository.save(new Idol("하니", 20, newjeans, Gender.FEMALE));
+            idolRepository.save(new Idol("민지", 20, newjeans, Gender.FEMALE));
+            idolRepository.save(new Idol("카리나", 24, aespa, Gender.FEMALE));
+            Team teamA = teamRepository.save(Team.builder().name("teamA").build());
+            Team teamB = teamRepository.save(Team.builder().name("teamB").build());
+            memberRepository.save(Member.builder().userName("member1").age(10).team(teamA).build());
+            memberRepository.save(Member.builder().userName("member2").age(20).team(teamA).build());
+            memberRepository.save(Member.builder().userName("member2").age(30).team(teamB).build());
+            return new Long[]{ive.getId(), newjeans.getId(), aespa.getId(), teamA.getId()};
+        });
+        NearCache<Long, GroupRoster> rosters = invalidationBus.cache(CacheNames.GROUP_ROSTER);
+        NearCache<Long, ?> teamRosters = invalidationBus.cache(CacheNames.TEAM_ROSTER);
+        NearCache<String, ?> membersByName = invalidationBus.cache(CacheNames.MEMBERS_BY_NAME);
+
+        // when
+        warmUpService.warmUp();
+
+        // then
+        assertEquals(List.of(ids[0], ids[1]), rosters.values().keySet().stream().sorted().toList());
+        assertEquals(List.of(ids[3]), List.copyOf(teamRosters.values().keySet()));
+        assertEquals(List.of("member2"), List.copyOf(membersByName.values().keySet()));
+
+        WarmUpReport report = warmUpService.report().orElseThrow();
+        assertTrue(report.completed());
+        Map<String, WarmUpReport.TaskTiming> tasks = report.tasks().stream()
+                .collect(Collectors.toMap(WarmUpReport.TaskTiming::name, task -> task));
+        assertEquals(2, tasks.get("group-rosters").succeeded());
+        assertEquals(1, tasks.get("team-rosters").succeeded());
+        assertEquals(1, tasks.get("group-averages").succeeded());
+        assertEquals(1, tasks.get("member-names").succeeded());
+
+        ResponseEntity<ReadinessResponse> readiness = healthController.readiness();
+        assertEquals(HttpStatus.OK, readiness.getStatusCode());
+        assertEquals("UP", readiness.getBody().status());
+        assertSame(report, readiness.getBody().warmUp());
+    }
+}
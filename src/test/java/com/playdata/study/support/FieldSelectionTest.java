@@ -0,0 +1,46 @@
+package com.playdata.study.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    FieldSelection selection = new FieldSelection()
+            .add("id", idol.id)
+            .add("idolName", idol.idolName)
+            .add("age", idol.age);
+
+    @Test
+    @DisplayName("fields를 지정하지 않으면 등록된 전체 필드를 조회한다.")
+    void resolveAll() {
+        // when
+        List<FieldSelection.SelectedField> fields = selection.resolve(null);
+
+        // then
+        assertEquals(List.of("id", "idolName", "age"),
+                fields.stream().map(FieldSelection.SelectedField::name).toList());
+    }
+
+    @Test
+    @DisplayName("요청한 필드만 요청한 순서대로 SELECT 대상이 된다.")
+    void resolveRequested() {
+        // when
+        List<FieldSelection.SelectedField> fields = selection.resolve("age, idolName,age");
+
+        // then
+        assertEquals(2, fields.size());
+        assertEquals(idol.age, fields.get(0).expression());
+        assertEquals(idol.idolName, fields.get(1).expression());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 필드를 요청하면 예외가 발생한다.")
+    void resolveUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> selection.resolve("id,password"));
+    }
+}
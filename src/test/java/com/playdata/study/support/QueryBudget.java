@@ -0,0 +1,19 @@
+package com.playdata.study.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 테스트 메서드 본문에서 실행될 수 있는 SQL 수의 상한
+// ex) @QueryBudget(max = 2) -> 3번 이상 실행되면 실행된 SQL 지문 목록과 함께 테스트 실패
+// (@BeforeEach 데이터 준비 쿼리는 세지 않음, 클래스에 붙이면 모든 테스트 메서드에 적용)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int max();
+}
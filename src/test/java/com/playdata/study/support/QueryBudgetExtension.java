@@ -0,0 +1,44 @@
+package com.playdata.study.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// @QueryBudget 이 붙은 테스트 메서드 본문만 QueryCounter로 감싸서 실행된 SQL 수를 검사
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter counter = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.class);
+        counter.close();
+
+        int max = budget(context);
+        if (counter.getCount() > max) {
+            String executed = counter.getFingerprints().entrySet().stream()
+                    .map(e -> String.format("  %d회: %s", e.getValue(), e.getKey()))
+                    .collect(Collectors.joining("\n"));
+            fail(String.format("SQL 실행 수가 허용치를 넘었습니다. (허용 %d, 실행 %d)%n%s",
+                    max, counter.getCount(), executed));
+        }
+    }
+
+    // 메서드에 붙은 값이 클래스에 붙은 값보다 우선
+    private int budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .map(QueryBudget::max)
+                .orElseThrow();
+    }
+}
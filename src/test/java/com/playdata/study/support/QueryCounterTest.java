@@ -0,0 +1,90 @@
+package com.playdata.study.support;
+
+import com.playdata.study.entity.Gender;
+import com.playdata.study.entity.Group;
+import com.playdata.study.entity.Idol;
+import com.playdata.study.repository.GroupRepository;
+import com.playdata.study.repository.IdolRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+@Transactional
+class QueryCounterTest {
+
+    @Autowired
+    IdolRepository idolRepository;
+
+    @Autowired
+    GroupRepository groupRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("지연 로딩이 반복되면 같은 SQL 지문이 아이돌 그룹 수만큼 기록된다.")
+    void detectNPlusOne() {
+        // given
+        em.clear();
+
+        // when
+        try (QueryCounter counter = QueryCounter.start()) {
+            List<Idol> idols = idolRepository.findAll();
+            idols.forEach(i -> i.getGroup().getGroupName()); // 그룹마다 select
+
+            // then
+            assertEquals(4, counter.getCount());
+            Map.Entry<String, Integer> repeated = counter.findRepeated(3).orElseThrow();
+            assertEquals(3, repeated.getValue());
+            assertTrue(repeated.getKey().contains("from tbl_group"), repeated.getKey());
+        }
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    @DisplayName("fetch join으로 한 번에 조회하면 예산(1건) 안에서 끝난다.")
+    void fetchJoinWithinBudget() {
+        em.clear();
+
+        List<Idol> idols = em.createQuery("select i from Idol i join fetch i.group", Idol.class)
+                .getResultList();
+        idols.forEach(i -> i.getGroup().getGroupName());
+
+        assertEquals(3, idols.size());
+    }
+
+    @Test
+    @DisplayName("값만 다른 SQL은 같은 지문이 된다.")
+    void fingerprint() {
+        assertEquals(
+                QueryCounter.fingerprint("select * from tbl_idol i1_0 where i1_0.age > ? and i1_0.idol_id in (?, ?, ?)"),
+                QueryCounter.fingerprint("SELECT *   FROM tbl_idol i1_0\n WHERE i1_0.age > 20 AND i1_0.idol_id IN ('a', 2)"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Group ive = new Group("아이브");
+        Group newjeans = new Group("뉴진스");
+        Group leSserafim = new Group("르세라핌");
+        groupRepository.save(ive);
+        groupRepository.save(newjeans);
+        groupRepository.save(leSserafim);
+
+        idolRepository.save(new Idol("안유진", 21, ive, Gender.FEMALE));
+        idolRepository.save(new Idol("하니", 20, newjeans, Gender.FEMALE));
+        idolRepository.save(new Idol("김채원", 24, leSserafim, Gender.FEMALE));
+        em.flush();
+    }
+}
@@ -0,0 +1,150 @@
+package com.playdata.study.support;
+
+import com.playdata.study.bench.DataGenerator;
+import com.playdata.study.entity.QIdol;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mysema.commons.lang.CloseableIterator;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 취소 테스트의 데이터가 다른 테스트에 보이지 않도록 별도의 내장 DB 사용
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:deadline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("embedded")
+@Transactional
+class QueryDeadlineTest {
+
+    @Autowired
+    JPAQueryFactory factory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("마감 시간이 없으면 timeout 힌트도 없다.")
+    void noDeadline() {
+        Query query = factory.selectFrom(idol).createQuery();
+
+        assertNull(query.unwrap(org.hibernate.query.Query.class).getTimeout());
+    }
+
+    @Test
+    @DisplayName("남은 시간은 초 단위로 올림해서 적용된다. (1.5초 -> 2초, 반올림하면 0.4초는 0 = 제한 없음이 됨)")
+    void timeoutHint() {
+        factory.selectFrom(idol).createQuery(); // 최초 JPQL 파싱 시간이 남은 시간에 섞이지 않도록
+
+        try (QueryDeadline deadline = QueryDeadline.start(Duration.ofMillis(1_500))) {
+            Query query = factory.selectFrom(idol).createQuery();
+
+            assertEquals(2, query.unwrap(org.hibernate.query.Query.class).getTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("이미 마감 시간이 지났으면 쿼리를 실행하지 않고 예외가 발생한다.")
+    void expiredDeadline() {
+        try (QueryDeadline deadline = QueryDeadline.start(Duration.ZERO)) {
+            assertThrows(QueryDeadlineExceededException.class,
+                    () -> factory.selectFrom(idol).fetch());
+            assertThrows(QueryDeadlineExceededException.class,
+                    () -> factory.selectOne().from(idol).fetchFirst());
+        }
+        // 블록을 벗어나면 마감 시간 해제
+        assertTrue(QueryDeadline.current().isEmpty());
+        assertDoesNotThrow(() -> factory.selectFrom(idol).fetch());
+    }
+
+    // 취소된 커넥션은 커넥션 풀에서 폐기되므로 테스트 트랜잭션 밖에서 실행
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("실행 중인 쿼리가 마감 시간을 넘기면 취소되고 타입이 있는 예외로 바뀐다.")
+    void cancelRunningQuery() {
+        // given - 1000명 x 1000명 x 1000명 cross join -> 수십 초 걸리는 쿼리
+        new DataGenerator(jdbcTemplate, 42L, 1_000)
+                .generate(new DataGenerator.Scale(10, 1_000, 0.0, 1.0, 0, 0, 0));
+        QIdol a = new QIdol("a");
+        QIdol b = new QIdol("b");
+        QIdol c = new QIdol("c");
+
+        // when
+        long start = System.nanoTime();
+        try (QueryDeadline deadline = QueryDeadline.start(Duration.ofMillis(500))) {
+            assertThrows(QueryDeadlineExceededException.class, () -> factory.select(a.count())
+                    .from(a, b, c)
+                    .where(a.age.add(b.age).gt(c.age.multiply(2)))
+                    .fetchOne());
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        System.out.println("elapsed = " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 3_000);
+    }
+
+    @Test
+    @DisplayName("스트림/이터레이터를 읽는 도중에 난 시간 초과도 타입이 있는 예외로 바뀌고, 소비하는 쪽 예외는 그대로 전달된다.")
+    void translateWhileConsuming() {
+        jakarta.persistence.QueryTimeoutException timeout = new jakarta.persistence.QueryTimeoutException("cancelled");
+        AtomicBoolean closed = new AtomicBoolean();
+
+        try (QueryDeadline deadline = QueryDeadline.start(Duration.ofSeconds(10))) {
+            Stream<Integer> rows = DeadlineJPAQuery.translating(Stream.of(1, 2, 3).map(row -> {
+                if (row == 3) {
+                    throw timeout;
+                }
+                return row;
+            }).onClose(() -> closed.set(true)), deadline);
+            Iterator<Integer> iterator = rows.iterator();
+            assertEquals(1, iterator.next());
+            assertEquals(2, iterator.next());
+            QueryDeadlineExceededException e = assertThrows(QueryDeadlineExceededException.class, iterator::hasNext);
+            assertSame(timeout, e.getCause());
+            rows.close();
+            assertTrue(closed.get());
+
+            IllegalStateException consumer = new IllegalStateException("write failed");
+            assertSame(consumer, assertThrows(IllegalStateException.class,
+                    () -> DeadlineJPAQuery.translating(Stream.of(1), deadline).forEach(row -> {
+                        throw consumer;
+                    })));
+
+            Iterator<Integer> source = List.of(1).iterator();
+            CloseableIterator<Integer> translated = DeadlineJPAQuery.translating(new CloseableIterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Integer next() {
+                    if (source.hasNext()) {
+                        return source.next();
+                    }
+                    throw timeout;
+                }
+
+                @Override
+                public void close() {
+                }
+            }, deadline);
+            assertEquals(1, translated.next());
+            assertThrows(QueryDeadlineExceededException.class, translated::next);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.playdata.study.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamFormatTest {
+
+    @Test
+    @DisplayName("Accept 헤더가 없으면 JSON, q 값이 높은 형식이 우선이다.")
+    void preferHigherQuality() throws Exception {
+        assertEquals(StreamFormat.JSON, StreamFormat.negotiate(null));
+        assertEquals(StreamFormat.CBOR, StreamFormat.negotiate("application/json;q=0.5, application/cbor"));
+        assertEquals(StreamFormat.SMILE, StreamFormat.negotiate("text/html, application/x-jackson-smile;q=0.8"));
+    }
+
+    @Test
+    @DisplayName("q=0 인 형식은 와일드카드에 포함되어도 고르지 않는다.")
+    void excludeZeroQuality() throws Exception {
+        assertEquals(StreamFormat.CBOR, StreamFormat.negotiate("*/*, application/json;q=0"));
+        assertEquals(StreamFormat.SMILE, StreamFormat.negotiate("application/*, application/json;q=0, application/cbor;q=0"));
+        assertThrows(HttpMediaTypeNotAcceptableException.class,
+                () -> StreamFormat.negotiate("application/json;q=0"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.playdata.study.support.autocomplete;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    AutocompleteIndex index = new AutocompleteIndex(5);
+
+    @BeforeEach
+    void setUp() {
+        index.upsert(1, "김채원");
+        index.upsert(2, "김채현");
+        index.upsert(3, "강채원");
+        index.upsert(4, "카리나");
+        index.upsert(5, "안유진");
+        index.upsert(6, "Blue Wave");
+    }
+
+    @Test
+    @DisplayName("완성된 음절 접두어로 찾는다.")
+    void syllablePrefix() {
+        assertEquals(List.of("김채원", "김채현"), names("김채"));
+        assertEquals(List.of("김채원"), names("김채원"));
+        assertTrue(names("채원").isEmpty());
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 찾는다. (ㄱㅊㅇ -> 김채원, 강채원)")
+    void choseong() {
+        assertEquals(List.of("강채원", "김채원"), names("ㄱㅊㅇ"));
+        assertEquals(List.of("강채원", "김채원", "김채현"), names("ㄱㅊ"));
+    }
+
+    @Test
+    @DisplayName("음절과 초성을 섞어서 입력해도 찾는다.")
+    void mixed() {
+        assertEquals(List.of("김채원", "김채현"), names("김ㅊ"));
+        assertEquals(List.of("김채원"), names("김ㅊㅇ"));
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 음절은 받침이 붙거나 다음 글자 초성으로 넘어간 경우도 찾는다.")
+    void incompleteSyllable() {
+        // "김챙" = "김채" + ㅇ (원을 입력하는 중)
+        assertEquals(List.of("김채원"), names("김챙"));
+        // "아" 다음에 "안"
+        assertEquals(List.of("안유진"), names("아"));
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않고 띄어쓰기 뒤 단어로도 찾는다.")
+    void wordsAndCase() {
+        assertEquals(List.of("Blue Wave"), names("blue"));
+        assertEquals(List.of("Blue Wave"), names("WAV"));
+    }
+
+    @Test
+    @DisplayName("인기도가 높은 이름이 먼저 나오고 limit 개만 돌려준다.")
+    void ranking() {
+        index.increasePopularity(2, 3);
+        index.increasePopularity(3, 1);
+
+        assertEquals(List.of("김채현", "강채원", "김채원"), names("ㄱㅊ"));
+        assertEquals(List.of("김채현"), index.search("ㄱ", 1).stream().map(AutocompleteIndex.Hit::name).toList());
+        assertEquals(3, index.search("김채", 5).get(0).popularity());
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌거나 삭제되면 이전 이름으로는 찾을 수 없다.")
+    void renameAndRemove() {
+        index.increasePopularity(4, 2);
+        index.upsert(4, "유지민");
+
+        assertTrue(names("카리").isEmpty());
+        assertEquals(List.of("유지민"), names("ㅇㅈ"));
+        // 인기도는 유지
+        assertEquals(2, index.search("유지", 5).get(0).popularity());
+
+        index.remove(1);
+        assertEquals(List.of("김채현"), names("김채"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("상위 목록에서 빠진 이름이 있으면 나머지 중에서 다시 채운다.")
+    void refillTopAfterRemove() {
+        AutocompleteIndex small = new AutocompleteIndex(2);
+        small.upsert(1, "가나");
+        small.upsert(2, "가다");
+        small.upsert(3, "가라");
+
+        small.remove(1);
+
+        assertEquals(List.of("가다", "가라"),
+                small.search("가", 2).stream().map(AutocompleteIndex.Hit::name).toList());
+    }
+
+    @Test
+    @DisplayName("같은 단어가 반복되는 이름도 한 번만 나오고 남은 자리는 다른 이름으로 채운다.")
+    void repeatedWord() {
+        AutocompleteIndex small = new AutocompleteIndex(2);
+        small.upsert(1, "lee lee");
+        small.upsert(2, "leeds");
+        small.increasePopularity(1, 1);
+        small.increasePopularity(1, 1);
+
+        assertEquals(List.of("lee lee", "leeds"),
+                small.search("lee", 2).stream().map(AutocompleteIndex.Hit::name).toList());
+        assertEquals(List.of("lee lee"),
+                small.search("lee l", 2).stream().map(AutocompleteIndex.Hit::name).toList());
+    }
+
+    private List<String> names(String query) {
+        return index.search(query, 5).stream().map(AutocompleteIndex.Hit::name).toList();
+    }
+}
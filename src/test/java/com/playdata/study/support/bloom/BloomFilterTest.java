@@ -0,0 +1,71 @@
+package com.playdata.study.support.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있다고 판단한다.")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(key("member" + i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(key("member" + i)));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 넣으면 오탐률은 설정값 근처이고 채움 비율은 약 절반이다.")
+    void falsePositiveRateNearConfigured() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(key("member" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(key("absent" + i))) {
+                falsePositives++;
+            }
+        }
+        double measured = falsePositives / 100_000.0;
+
+        assertTrue(measured < 0.015, "오탐률: " + measured);
+        assertEquals(0.5, filter.fillRatio(), 0.05);
+        assertEquals(0.01, filter.estimatedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    @DisplayName("같은 값을 다시 넣어도 채움 비율은 그대로다.")
+    void fillRatioCountsBitsOnce() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertEquals(0.0, filter.fillRatio());
+
+        filter.put(key("카리나"));
+        double once = filter.fillRatio();
+        filter.put(key("카리나"));
+
+        assertEquals(once, filter.fillRatio());
+        assertEquals((double) filter.hashCount() / filter.bitSize(), once, 1e-9);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기나 오탐률은 거부한다.")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+
+    private static byte[] key(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,167 @@
+package com.playdata.study.support.bloom;
+
+import com.playdata.study.entity.Member;
+import com.playdata.study.repository.MemberRepository;
+import com.playdata.study.service.CachedLookupService;
+import com.playdata.study.support.QueryCounter;
+import com.playdata.study.support.changes.ChangeLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 저장 직후 필터에 반영되는지 보기 위해 테스트 트랜잭션(롤백) 없이 실행, 테스트마다 다른 이름 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-name-filter;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "member-name-filter.refresh-interval=0s"
+})
+@ActiveProfiles("embedded")
+class MemberNameFilterTest {
+
+    @Autowired
+    MemberNameFilter memberNameFilter;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    CachedLookupService cachedLookupService;
+
+    @Autowired
+    ChangeLog changeLog;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void rebuild() {
+        memberNameFilter.rebuild();
+    }
+
+    @Test
+    @DisplayName("없는 이름은 DB에 가지 않고 빈 결과를 돌려준다.")
+    void absentNameShortCircuits() {
+        tx(() -> memberRepository.save(Member.builder().userName("bloom-present").age(20).build()));
+
+        try (QueryCounter counter = QueryCounter.start()) {
+            assertTrue(readOnly(() -> memberRepository.findByName("bloom-absent")).isEmpty());
+            assertTrue(cachedLookupService.findMembersByName("bloom-absent").isEmpty());
+            assertEquals(0, counter.getCount(), counter.getFingerprints().toString());
+        }
+        assertEquals(1, readOnly(() -> memberRepository.findByName("bloom-present")).size());
+    }
+
+    @Test
+    @DisplayName("저장한 회원은 다시 만들기 전에도 바로 찾을 수 있고, 롤백된 이름은 다시 만들 때 빠진다.")
+    void insertedNameVisibleImmediately() {
+        tx(() -> memberRepository.save(Member.builder().userName("bloom-new").age(21).build()));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.save(Member.builder().userName("bloom-rolled-back").age(21).build());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, readOnly(() -> memberRepository.findByName("bloom-new")).size());
+        assertTrue(readOnly(() -> memberRepository.findByName("bloom-rolled-back")).isEmpty());
+
+        memberNameFilter.rebuild();
+
+        assertFalse(memberNameFilter.mightExist("bloom-rolled-back"));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서는 필터로 판단하지 않는다. (같은 트랜잭션에서 JDBC 로 쓴 이름)")
+    void writeTransactionBypassesFilter() {
+        assertTrue(tx(() -> memberNameFilter.mightExist("bloom-in-write-tx")));
+        assertFalse(readOnly(() -> memberNameFilter.mightExist("bloom-in-write-tx")));
+    }
+
+    @Test
+    @DisplayName("이름 변경은 새 이름을 바로 넣고, 삭제된 이름은 다시 만들 때 빠진다.")
+    void renameAndDeleteAfterRebuild() {
+        Long id = tx(() -> memberRepository.save(Member.builder().userName("bloom-before").age(22).build()).getId());
+        tx(() -> {
+            memberRepository.findById(id).orElseThrow().setUserName("bloom-after");
+            return null;
+        });
+        assertTrue(memberNameFilter.mightExist("bloom-after"));
+
+        tx(() -> {
+            memberRepository.deleteById(id);
+            return null;
+        });
+        assertTrue(memberNameFilter.mightExist("bloom-after"));
+
+        memberNameFilter.rebuild();
+
+        assertFalse(memberNameFilter.mightExist("bloom-before"));
+        assertFalse(memberNameFilter.mightExist("bloom-after"));
+    }
+
+    @Test
+    @DisplayName("대소문자, 악센트, 공백만 다른 이름은 같은 키로 본다. (DB collation 보다 넓게 묶음)")
+    void keyFoldsCollationEquivalents() {
+        tx(() -> memberRepository.save(Member.builder().userName("Bloom Chaewon").age(24).build()));
+
+        for (String variant : List.of("Bloom Chaewon", "bloom chaewon", "BLOOM CHAEWON  ", "Bloom Chaewón", "Ｂｌｏｏｍ Chaewon")) {
+            assertTrue(memberNameFilter.mightExist(variant), variant);
+        }
+        assertArrayEquals(NameKey.of("Straße"), NameKey.of("STRASSE"));
+        assertArrayEquals(NameKey.of("カナ"), NameKey.of("かな"));
+        assertFalse(memberNameFilter.mightExist("Bloom Chaewon2"));
+    }
+
+    @Test
+    @DisplayName("다른 노드나 JDBC 로 저장된 이름은 변경 순번을 따라잡은 뒤(refresh-interval 주기)부터 찾는다.")
+    void catchUpFromChangeSequence() {
+        tx(() -> jdbcTemplate.update(
+                "INSERT INTO tbl_member (user_name, age, change_seq) VALUES (?, ?, ?)",
+                "bloom-jdbc", 30, changeLog.next()));
+        assertFalse(memberNameFilter.mightExist("bloom-jdbc"));
+
+        memberNameFilter.catchUp();
+
+        assertTrue(memberNameFilter.mightExist("bloom-jdbc"));
+        assertEquals(1, readOnly(() -> memberRepository.findByName("bloom-jdbc")).size());
+    }
+
+    @Test
+    @DisplayName("조회 수와 조회 없이 끝난 비율, 채움 비율을 통계로 보여준다.")
+    void stats() {
+        NameFilterStats before = memberNameFilter.stats();
+
+        memberNameFilter.mightExist("bloom-stats-absent-1");
+        memberNameFilter.mightExist("bloom-stats-absent-2");
+
+        NameFilterStats after = memberNameFilter.stats();
+        assertTrue(after.ready());
+        assertEquals(before.lookups() + 2, after.lookups());
+        assertEquals(before.shortCircuited() + 2, after.shortCircuited());
+        assertTrue(after.shortCircuitRate() > 0);
+        assertTrue(after.fillRatio() >= 0 && after.fillRatio() < 0.5);
+        assertEquals(0.01, after.configuredFalsePositiveRate());
+        assertTrue(after.hashCount() > 0);
+    }
+
+    private <T> T tx(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,123 @@
+package com.playdata.study.support.bulkhead;
+
+import com.playdata.study.support.QueryDeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    Bulkheads bulkheads = new Bulkheads(true, 2.0, Map.of(
+            QueryClass.AGGREGATE, new Bulkheads.Limits(2, 1, 4, 1, Duration.ofMillis(100)),
+            QueryClass.SEARCH, new Bulkheads.Limits(2, 1, 4, 10, Duration.ofSeconds(1)),
+            QueryClass.POINT_LOOKUP, new Bulkheads.Limits(4, 1, 8, 10, Duration.ofSeconds(1))));
+
+    @Test
+    @DisplayName("제한과 대기열이 모두 차면 기다리지 않고 바로 거절하고, 다른 종류의 조회는 계속 실행된다.")
+    void shedOverloadedClassOnly() {
+        Bulkhead aggregate = bulkheads.get(QueryClass.AGGREGATE);
+        List<Bulkhead.Permit> running = List.of(aggregate.acquire(), aggregate.acquire());
+        // 대기열(1)을 채움
+        CompletableFuture<Bulkhead.Permit> queued = CompletableFuture.supplyAsync(aggregate::acquire);
+        waitUntil(() -> aggregate.stats().queued() == 1);
+
+        long started = System.nanoTime();
+        BulkheadRejectedException rejected = assertThrows(BulkheadRejectedException.class, aggregate::acquire);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 50);
+        assertEquals(QueryClass.AGGREGATE, rejected.getQueryClass());
+
+        assertEquals("ok", bulkheads.execute(QueryClass.POINT_LOOKUP, () -> "ok"));
+
+        // 기다리던 요청은 max-wait 안에 자리가 나면 실행
+        running.get(0).release(false);
+        queued.join().release(false);
+        running.get(1).release(false);
+        assertEquals(0, aggregate.stats().inflight());
+        assertEquals(1, aggregate.stats().rejected());
+    }
+
+    @Test
+    @DisplayName("대기 중 max-wait 가 지나면 거절한다.")
+    void rejectAfterMaxWait() {
+        Bulkhead aggregate = bulkheads.get(QueryClass.AGGREGATE);
+        List<Bulkhead.Permit> running = List.of(aggregate.acquire(), aggregate.acquire());
+
+        long started = System.nanoTime();
+        assertThrows(BulkheadRejectedException.class, aggregate::acquire);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= 90);
+
+        running.forEach(permit -> permit.release(false));
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 tolerance 배 이상 느려지면 제한을 줄이고, 다시 빨라지면 늘린다.")
+    void adaptiveLimit() {
+        GradientLimit limit = new GradientLimit(20, 2, 50, 2.0);
+        long fast = TimeUnit.MILLISECONDS.toNanos(5);
+        long slow = TimeUnit.MILLISECONDS.toNanos(50);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(fast, limit.current(), false);
+        }
+        int afterFast = limit.current();
+        assertEquals(50, afterFast);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(slow, limit.current(), false);
+        }
+        int afterSlow = limit.current();
+        assertTrue(afterSlow < afterFast / 2, "느려진 뒤 제한: " + afterSlow);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(fast, limit.current(), false);
+        }
+        assertTrue(limit.current() > afterSlow);
+    }
+
+    @Test
+    @DisplayName("제한의 절반도 쓰지 않을 때는 빠르더라도 제한을 늘리지 않고, 마감 시간 초과는 제한을 줄인다.")
+    void appLimitedAndDropped() {
+        GradientLimit limit = new GradientLimit(10, 2, 50, 2.0);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(5), 1, false);
+        }
+        assertEquals(10, limit.current());
+
+        limit.onSample(0, 10, true);
+        assertEquals(9, limit.current());
+    }
+
+    @Test
+    @DisplayName("execute 는 마감 시간 초과를 과부하로 기록하고 예외를 그대로 던진다.")
+    void executeReleasesOnFailure() {
+        int before = bulkheads.get(QueryClass.SEARCH).stats().limit();
+
+        assertThrows(QueryDeadlineExceededException.class, () -> bulkheads.execute(QueryClass.SEARCH, () -> {
+            throw new QueryDeadlineExceededException(Duration.ofMillis(10));
+        }));
+        assertThrows(IllegalStateException.class, () -> bulkheads.execute(QueryClass.SEARCH, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        BulkheadStats stats = bulkheads.get(QueryClass.SEARCH).stats();
+        assertEquals(0, stats.inflight());
+        assertEquals(2, stats.accepted());
+        assertTrue(stats.limit() <= before);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "시간 초과");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.playdata.study.support.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 한 JVM 안에서 여러 노드를 흉내내는 테스트용 네트워크
+// join() 으로 만든 transport 끼리 메시지를 주고받음 (보낸 노드에도 전달되지만 InvalidationBus가 무시)
+public class InJvmInvalidationNetwork {
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<InvalidationMessage> delivered = new CopyOnWriteArrayList<>();
+
+    public InvalidationTransport join() {
+        return new InvalidationTransport() {
+            @Override
+            public void send(InvalidationMessage message) {
+                delivered.add(message);
+                subscribers.forEach(subscriber -> subscriber.accept(message));
+            }
+
+            @Override
+            public void subscribe(Consumer<InvalidationMessage> subscriber) {
+                subscribers.add(subscriber);
+            }
+        };
+    }
+
+    public List<InvalidationMessage> getDelivered() {
+        return delivered;
+    }
+}
@@ -0,0 +1,180 @@
+package com.playdata.study.support.coalesce;
+
+import com.playdata.study.entity.QIdol;
+import com.playdata.study.support.QueryDeadline;
+import com.playdata.study.support.QueryDeadlineExceededException;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCoalescerTest {
+
+    static final CoalesceKey KEY = CoalesceKey.of("findByName", "member1");
+
+    QueryCoalescer coalescer = new QueryCoalescer(true, Duration.ofSeconds(5));
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 같은 조회에 들어온 요청은 DB 실행 없이 같은 결과의 복사본을 받는다.")
+    void coalesce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> coalescer.execute(KEY, () -> {
+                executions.incrementAndGet();
+                await(release);
+                return new ArrayList<>(List.of("member1"));
+            }, ArrayList::new)));
+        }
+        waitUntil(() -> stats().coalesced() == 7);
+        release.countDown();
+
+        List<List<String>> values = new ArrayList<>();
+        for (Future<List<String>> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertTrue(values.stream().allMatch(List.of("member1")::equals));
+        assertEquals(8, values.stream().map(System::identityHashCode).distinct().count());
+        assertEquals(new CoalescingStats(1, 7, 0, 0), stats());
+    }
+
+    @Test
+    @DisplayName("CoalesceKey 는 조건식과 -0.0 을 정규화한다.")
+    void normalizedKey() {
+        assertEquals(CoalesceKey.of("avg", 0.0, List.of(1L, 2L)), CoalesceKey.of("avg", -0.0, List.of(1L, 2L)));
+        assertEquals(
+                CoalesceKey.of("avg", QIdol.idol.age.gt(20)),
+                CoalesceKey.of("avg", QIdol.idol.age.gt(20)));
+        assertNotEquals(CoalesceKey.of("avg", 1.0), CoalesceKey.of("avg", 2.0));
+    }
+
+    @Test
+    @DisplayName("문자열로 출력하면 같아지는 다른 조건은 다른 키이고, 키를 만든 뒤 BooleanBuilder 를 바꿔도 키는 그대로다.")
+    void keyFromExpressionTree() {
+        Predicate split = QIdol.idol.idolName.eq("a").and(QIdol.idol.age.gt(1));
+        Predicate literal = QIdol.idol.idolName.eq("a && idol.age > 1");
+        assertEquals(split.toString(), literal.toString());
+        assertNotEquals(CoalesceKey.of("avg", split), CoalesceKey.of("avg", literal));
+
+        BooleanBuilder builder = new BooleanBuilder(QIdol.idol.age.gt(20));
+        CoalesceKey key = CoalesceKey.of("avg", builder);
+        builder.and(QIdol.idol.age.lt(30));
+        assertEquals(CoalesceKey.of("avg", QIdol.idol.age.gt(20)), key);
+        assertNotEquals(CoalesceKey.of("avg", builder), key);
+        assertEquals(CoalesceKey.of("avg", (Object) null), CoalesceKey.of("avg", new BooleanBuilder()));
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 기다리던 요청도 모두 같은 예외로 실패하고, 다음 요청은 새로 실행한다.")
+    void errorFanOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        Future<Object> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+            await(release);
+            throw failure;
+        }));
+        waitUntil(() -> stats().executions() == 1);
+        Future<Object> follower = executor.submit(() -> coalescer.execute(KEY, () -> "unused"));
+        waitUntil(() -> stats().coalesced() == 1);
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals("ok", coalescer.execute(KEY, () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("기다리는 요청은 자기 쿼리 마감 시간이 지나면 먼저 실패한다.")
+    void perCallerTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+            await(release);
+            return "slow";
+        }));
+        waitUntil(() -> stats().executions() == 1);
+
+        try (QueryDeadline ignored = QueryDeadline.start(Duration.ofMillis(100))) {
+            assertThrows(QueryDeadlineExceededException.class, () -> coalescer.execute(KEY, () -> "unused"));
+        }
+        release.countDown();
+
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, stats().timeouts());
+    }
+
+    @Test
+    @DisplayName("advance 뒤에 온 요청은 이전에 시작된 조회에 합치지 않고 새로 실행한다.")
+    void advance() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> before = executor.submit(() -> coalescer.execute(KEY, () -> {
+            await(release);
+            return "old";
+        }));
+        waitUntil(() -> stats().executions() == 1);
+
+        coalescer.advance();
+
+        assertEquals("new", coalescer.execute(KEY, () -> "new"));
+        release.countDown();
+        assertEquals("old", before.get(5, TimeUnit.SECONDS));
+        assertEquals(2, stats().executions());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 요청은 합치지 않고 바로 실행한다.")
+    void bypassInWriteTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals("mine", coalescer.execute(KEY, () -> "mine"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertEquals(new CoalescingStats(0, 0, 1, 0), stats());
+    }
+
+    private CoalescingStats stats() {
+        return coalescer.stats().getOrDefault("findByName", new CoalescingStats(0, 0, 0, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "시간 초과");
+            Thread.sleep(5);
+        }
+    }
+}
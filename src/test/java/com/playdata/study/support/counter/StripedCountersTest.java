@@ -0,0 +1,200 @@
+package com.playdata.study.support.counter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedCountersTest {
+
+    // 반영된 값 (DB 역할)
+    Map<Long, long[]> persisted = new ConcurrentHashMap<>();
+    List<StripedCounters> opened = new ArrayList<>();
+
+    @Test
+    @DisplayName("여러 스레드가 더하는 동안 계속 반영해도 증가분이 사라지거나 중복되지 않는다.")
+    void noLostIncrementsUnderConcurrentFlush() throws InterruptedException {
+        // given
+        StripedCounters counters = open(Duration.ZERO, this::persist);
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            start(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    // 키 0 은 계속, 나머지 키는 가끔씩만 -> 비어서 지워지는 키에도 더해짐
+                    counters.add(0, 0, 1);
+                    counters.add(1 + i % 64, 1, 2);
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = start(() -> {
+            while (running.get()) {
+                counters.flush();
+            }
+        });
+        done.await();
+        running.set(false);
+        flusher.join();
+        counters.flush();
+
+        // then
+        assertEquals((long) threads * perThread, persisted.get(0L)[0]);
+        long views = persisted.entrySet().stream()
+                .filter(e -> e.getKey() != 0)
+                .mapToLong(e -> e.getValue()[1])
+                .sum();
+        assertEquals(2L * threads * perThread, views);
+    }
+
+    @Test
+    @DisplayName("조회하면 반영된 값과 남은 증가분을 합해서 보여준다.")
+    void readAddsPending() {
+        // given
+        StripedCounters counters = open(Duration.ZERO, this::persist);
+        persisted.put(7L, new long[]{100, 10});
+
+        // when
+        counters.add(7, 0, 5);
+        counters.add(7, 1, 1);
+
+        // then
+        assertArrayEquals(new long[]{105, 11}, counters.read(7, () -> copy(7L)));
+        counters.flush();
+        assertArrayEquals(new long[]{105, 11}, counters.read(7, () -> copy(7L)));
+        assertArrayEquals(new long[]{0, 0}, counters.pending(7));
+        assertNull(counters.read(8, () -> copy(8L)));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 다시 더해두고 다음 반영 때 함께 쓴다.")
+    void failedFlushKeepsDeltas() {
+        // given
+        AtomicBoolean fail = new AtomicBoolean(true);
+        StripedCounters counters = open(Duration.ZERO, deltas -> {
+            if (fail.get()) {
+                throw new IllegalStateException("DB 장애");
+            }
+            persist(deltas);
+        });
+        counters.add(1, 0, 3);
+
+        // when
+        assertThrows(IllegalStateException.class, counters::flush);
+        counters.add(1, 0, 2);
+        fail.set(false);
+        counters.flush();
+
+        // then
+        assertEquals(5, persisted.get(1L)[0]);
+        assertEquals(1, counters.stats().failedFlushCount());
+        assertEquals(1, counters.stats().flushCount());
+    }
+
+    @Test
+    @DisplayName("일부만 반영하고 실패하면 반영하지 못한 증가분만 다시 더해둔다.")
+    void partialFlushKeepsOnlyUnwritten() {
+        // given
+        AtomicBoolean fail = new AtomicBoolean(true);
+        StripedCounters counters = open(Duration.ZERO, deltas -> {
+            if (fail.get()) {
+                persist(Map.of(1L, deltas.get(1L)));
+                throw new PartialFlushException(Map.of(2L, deltas.get(2L)), new IllegalStateException("샤드 장애"));
+            }
+            persist(deltas);
+        });
+        counters.add(1, 0, 3);
+        counters.add(2, 0, 4);
+
+        // when
+        assertThrows(PartialFlushException.class, counters::flush);
+        fail.set(false);
+        counters.flush();
+
+        // then
+        assertEquals(3, persisted.get(1L)[0]);
+        assertEquals(4, persisted.get(2L)[0]);
+    }
+
+    @Test
+    @DisplayName("종료하면 남은 증가분을 반영하고 이후 증가는 거부한다.")
+    void closeFlushesRemaining() {
+        // given
+        StripedCounters counters = open(Duration.ofMinutes(1), this::persist);
+        counters.add(1, 0, 1);
+        counters.add(2, 1, 4);
+
+        // when
+        counters.close();
+
+        // then
+        assertEquals(1, persisted.get(1L)[0]);
+        assertEquals(4, persisted.get(2L)[1]);
+        assertThrows(IllegalStateException.class, () -> counters.add(1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("주기마다 자동으로 반영하고, 두 번 연속 증가가 없는 키는 메모리에서 지운다.")
+    void scheduledFlushAndIdleEviction() throws InterruptedException {
+        // given
+        StripedCounters counters = open(Duration.ofMillis(20), this::persist);
+
+        // when
+        counters.add(1, 0, 1);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (counters.stats().pendingKeys() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertEquals(1, persisted.get(1L)[0]);
+        assertEquals(0, counters.stats().pendingKeys());
+        assertEquals(1, counters.stats().increments());
+    }
+
+    private static Thread start(Runnable action) {
+        Thread thread = new Thread(action);
+        thread.start();
+        return thread;
+    }
+
+    private StripedCounters open(Duration flushInterval, Consumer<Map<Long, long[]>> writer) {
+        StripedCounters counters = new StripedCounters("test-counters", 2, flushInterval, writer);
+        opened.add(counters);
+        return counters;
+    }
+
+    private void persist(Map<Long, long[]> deltas) {
+        deltas.forEach((key, values) -> persisted.merge(key, values.clone(), (a, b) -> {
+            long[] sum = a.clone();
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += b[i];
+            }
+            return sum;
+        }));
+    }
+
+    private long[] copy(Long key) {
+        long[] values = persisted.get(key);
+        return values == null ? null : values.clone();
+    }
+
+    @AfterEach
+    void close() {
+        opened.forEach(StripedCounters::close);
+    }
+}
@@ -0,0 +1,184 @@
+package com.playdata.study.support.ingest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindBufferTest {
+
+    static final Duration LONG = Duration.ofMinutes(1);
+
+    List<List<String>> batches = new CopyOnWriteArrayList<>();
+    List<WriteBehindBuffer<String>> opened = new ArrayList<>();
+
+    @Test
+    @DisplayName("batchSize 만큼 모이면 기다리지 않고 바로 저장한다.")
+    void flushBySize() {
+        // given
+        WriteBehindBuffer<String> buffer = open(new WriteBehindBuffer.Options(100, 5, LONG, LONG, LONG), batches::add, null);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            buffer.submit("album" + i);
+        }
+
+        // then
+        assertTrue(buffer.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(List.of(5, 5), batches.stream().map(List::size).toList());
+        assertEquals("album0", batches.get(0).get(0));
+        assertEquals(10, buffer.stats().written());
+        assertEquals(2, buffer.stats().flushCount());
+    }
+
+    @Test
+    @DisplayName("batchSize 보다 적어도 maxDelay 가 지나면 저장한다.")
+    void flushByAge() throws InterruptedException {
+        // given
+        WriteBehindBuffer<String> buffer = open(
+                new WriteBehindBuffer.Options(100, 50, Duration.ofMillis(100), LONG, LONG), batches::add, null);
+
+        // when
+        buffer.submit("a");
+        buffer.submit("b");
+        buffer.submit("c");
+
+        // then
+        assertTrue(batches.isEmpty());
+        assertEquals(3, buffer.stats().queueDepth());
+        TimeUnit.MILLISECONDS.sleep(1_000);
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+        assertEquals(0, buffer.stats().queueDepth());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 offerTimeout 만큼 기다린 뒤 IngestQueueFullException 이 발생한다.")
+    void backpressure() throws InterruptedException {
+        // given - 첫 배치 저장이 끝나지 않는 상황
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindBuffer<String> buffer = open(
+                new WriteBehindBuffer.Options(4, 2, Duration.ofMillis(10), Duration.ofMillis(100), LONG),
+                batch -> {
+                    await(release);
+                    batches.add(batch);
+                }, null);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            buffer.submit("album" + i);
+        }
+        long start = System.nanoTime();
+        assertThrows(IngestQueueFullException.class, () -> buffer.submit("album4"));
+
+        // then
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(4, buffer.stats().queueDepth());
+        assertEquals(1, buffer.stats().rejected());
+
+        release.countDown();
+        assertTrue(buffer.awaitDrained(Duration.ofSeconds(5)));
+        buffer.submit("album5");
+        assertTrue(buffer.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(5, buffer.stats().written());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 버리지 않고 다시 시도한다.")
+    void retryFailedBatch() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        WriteBehindBuffer<String> buffer = open(
+                new WriteBehindBuffer.Options(100, 3, LONG, LONG, Duration.ofMillis(10)),
+                batch -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("DB 연결 실패");
+                    }
+                    batches.add(batch);
+                }, null);
+
+        // when
+        buffer.submit("a");
+        buffer.submit("b");
+        buffer.submit("c");
+
+        // then
+        assertTrue(buffer.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+        assertEquals(1, buffer.stats().failedFlushCount());
+        assertEquals(1, buffer.stats().flushCount());
+    }
+
+    @Test
+    @DisplayName("로그를 사용하면 저장 전에 종료된 항목을 재시작할 때 다시 저장한다.")
+    void replayFromLog(@TempDir Path dir) throws Exception {
+        // given - 저장이 계속 실패하는 상태에서 종료
+        Path file = dir.resolve("ingest.log");
+        WriteBehindBuffer<String> failing = new WriteBehindBuffer<>("test",
+                new WriteBehindBuffer.Options(100, 2, LONG, LONG, Duration.ofMillis(10)),
+                batch -> {
+                    throw new IllegalStateException("DB 연결 실패");
+                }, journal(file));
+        failing.submit("a");
+        failing.submit("b\t탭\n줄바꿈");
+        failing.submit("c");
+        failing.close();
+
+        // when
+        WriteBehindBuffer<String> restarted = open(
+                new WriteBehindBuffer.Options(100, 10, Duration.ofMillis(10), LONG, LONG), batches::add, journal(file));
+
+        // then
+        assertTrue(restarted.awaitDrained(Duration.ofSeconds(5)));
+        assertEquals(List.of("a", "b\t탭\n줄바꿈", "c"), batches.stream().flatMap(List::stream).toList());
+        assertEquals(0, Files.size(file));
+
+        restarted.submit("d");
+        assertTrue(restarted.awaitDrained(Duration.ofSeconds(5)));
+        restarted.close();
+
+        // 모두 반영된 뒤에는 다시 열어도 재반영하지 않음
+        assertTrue(journal(file).pending().isEmpty());
+    }
+
+    private WriteBehindBuffer<String> open(WriteBehindBuffer.Options options, Consumer<List<String>> writer,
+                                           AppendOnlyLog<String> journal) {
+        WriteBehindBuffer<String> buffer = new WriteBehindBuffer<>("test", options, writer, journal);
+        opened.add(buffer);
+        return buffer;
+    }
+
+    private AppendOnlyLog<String> journal(Path file) {
+        Function<String, String> escape = s -> s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+        Function<String, String> unescape = s -> s.replace("\\n", "\n").replace("\\t", "\t").replace("\\\\", "\\");
+        return new AppendOnlyLog<>(file, escape, unescape, true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (WriteBehindBuffer<String> buffer : opened) {
+            buffer.close();
+        }
+    }
+}
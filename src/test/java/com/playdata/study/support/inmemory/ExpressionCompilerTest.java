@@ -0,0 +1,143 @@
+package com.playdata.study.support.inmemory;
+
+import com.playdata.study.dto.IdolWithGroup;
+import com.playdata.study.entity.Gender;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static com.playdata.study.entity.QGroup.group;
+import static com.playdata.study.entity.QIdol.idol;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpressionCompilerTest {
+
+    private static final PathBindings<IdolWithGroup> BINDINGS = new PathBindings<IdolWithGroup>()
+            .bind(idol.id, IdolWithGroup::id)
+            .bind(idol.idolName, IdolWithGroup::idolName)
+            .bind(idol.age, IdolWithGroup::age)
+            .bind(idol.gender, IdolWithGroup::gender, Gender::getCode, Byte.class)
+            .bind(group.id, IdolWithGroup::groupId)
+            .bind(group.groupName, IdolWithGroup::groupName);
+
+    private static final List<IdolWithGroup> ROWS = List.of(
+            new IdolWithGroup(1L, "안유진", 21, Gender.FEMALE, 10L, "아이브"),
+            new IdolWithGroup(2L, "장원영", 20, Gender.FEMALE, 10L, "아이브"),
+            new IdolWithGroup(3L, "카리나", 24, Gender.FEMALE, 20L, "에스파"),
+            new IdolWithGroup(4L, "아이유", 31, Gender.FEMALE, null, null),
+            new IdolWithGroup(5L, "지드래곤", 36, null, null, null));
+
+    private final ExpressionCompiler<IdolWithGroup> compiler = new ExpressionCompiler<>(BINDINGS, true);
+
+    @Test
+    @DisplayName("NULL 과의 비교는 UNKNOWN 이라서 NOT 을 붙여도 결과에 포함되지 않는다.")
+    void threeValuedLogic() {
+        assertEquals(List.of(3L), ids(group.id.ne(10L)));
+        assertEquals(List.of(1L, 2L), ids(group.id.ne(10L).not()));
+        assertEquals(List.of(3L, 4L, 5L), ids(group.id.isNull().or(group.id.ne(10L))));
+        // NOT IN 목록에 NULL 이 있으면 어떤 행도 TRUE 가 될 수 없음
+        assertEquals(List.of(), ids(group.id.notIn(Arrays.asList(20L, null))));
+        assertEquals(List.of(3L), ids(group.id.in(Arrays.asList(20L, null))));
+    }
+
+    @Test
+    @DisplayName("enum 은 DB 컬럼 값(코드)으로 비교하고, 빈 조건은 모든 행이다.")
+    void enumAndEmptyPredicate() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(idol.gender.eq(Gender.FEMALE)));
+        assertEquals(List.of(), ids(idol.gender.in(Gender.MALE)));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(new BooleanBuilder()));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(null));
+    }
+
+    @Test
+    @DisplayName("문자열 포함/LIKE/범위 조건")
+    void strings() {
+        assertEquals(List.of(1L, 4L), ids(idol.idolName.contains("유")));
+        assertEquals(List.of(1L, 2L), ids(group.groupName.like("아_브")));
+        assertEquals(List.of(3L, 4L), ids(idol.idolName.startsWith("카").or(idol.idolName.endsWith("유"))));
+        assertEquals(List.of(1L, 2L, 3L), ids(idol.age.between(20, 24)));
+    }
+
+    @Test
+    @DisplayName("정렬에서 NULL 은 가장 작은 값이고, 명시한 NULLS FIRST/LAST 를 따른다.")
+    void nullOrdering() {
+        assertEquals(List.of(4L, 5L, 1L, 2L, 3L), ids(null, group.groupName.asc()));
+        assertEquals(List.of(3L, 1L, 2L, 4L, 5L), ids(null, group.groupName.desc()));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(null, group.groupName.asc().nullsLast()));
+        assertEquals(List.of(5L, 4L, 3L, 1L, 2L), ids(null, idol.age.desc()));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 경로, 함수, 바이너리가 아닌 문자열 비교는 지원하지 않는다.")
+    void unsupported() {
+        assertThrows(UnsupportedExpressionException.class, () -> compiler.where(idol.group.groupName.eq("아이브")));
+        assertThrows(UnsupportedExpressionException.class, () -> compiler.where(idol.age.add(1).gt(20)));
+        assertThrows(UnsupportedExpressionException.class, () -> compiler.where(idol.idolName.length().gt(2)));
+
+        ExpressionCompiler<IdolWithGroup> collated = new ExpressionCompiler<>(BINDINGS, false);
+        assertThrows(UnsupportedExpressionException.class, () -> collated.where(idol.idolName.eq("카리나")));
+        assertThrows(UnsupportedExpressionException.class, () -> collated.orderBy(List.of(idol.idolName.asc())));
+        assertDoesNotThrow(() -> collated.where(idol.age.gt(20).and(group.id.isNotNull())));
+    }
+
+    @Test
+    @DisplayName("바이너리가 아닌 collation 의 이름 정렬은 DB 정렬 가중치 순서를 따르고, 이름 조건은 여전히 지원하지 않는다.")
+    void sortKeyOrdering() {
+        // 대소문자를 무시하는 collation 처럼 소문자로 바꾼 바이트를 가중치로 사용
+        List<IdolWithGroup> rows = List.of(
+                new IdolWithGroup(1L, "karina", 24, Gender.FEMALE, 20L, "aespa"),
+                new IdolWithGroup(2L, "Winter", 23, Gender.FEMALE, 20L, "aespa"),
+                new IdolWithGroup(3L, "KARINA", 25, Gender.FEMALE, 30L, "Other"),
+                new IdolWithGroup(4L, "giselle", 23, Gender.FEMALE, null, null));
+        ExpressionCompiler<IdolWithGroup> collated = new ExpressionCompiler<>(BINDINGS.copy()
+                .sortKey(idol.idolName, row -> foldedKey(row.idolName()))
+                .sortKey(group.groupName, row -> foldedKey(row.groupName())), false);
+
+        assertEquals(List.of(4L, 1L, 3L, 2L), pageIds(collated, rows, idol.idolName.asc(), idol.id.asc()));
+        assertEquals(List.of(2L, 1L, 3L, 4L), pageIds(collated, rows, idol.idolName.desc(), idol.id.asc()));
+        assertEquals(List.of(4L, 1L, 2L, 3L), pageIds(collated, rows, group.groupName.asc(), idol.id.asc()));
+        assertThrows(UnsupportedExpressionException.class, () -> collated.where(idol.idolName.eq("karina")));
+    }
+
+    @Test
+    @DisplayName("페이지는 정렬 후 offset/limit 을 적용한 결과와 같다.")
+    void pagingMatchesFullSort() {
+        List<IdolWithGroup> rows = Stream.iterate(1L, id -> id + 1).limit(500)
+                .map(id -> new IdolWithGroup(id, "idol" + id, (int) (id % 17), Gender.FEMALE, id % 5, "g" + id % 5))
+                .toList();
+        var filter = compiler.where(idol.age.gt(3));
+        var order = compiler.orderBy(List.of(idol.age.desc(), idol.id.asc()));
+        List<IdolWithGroup> sorted = rows.stream().filter(filter).sorted(order).toList();
+
+        for (long offset : new long[]{0, 7, 380, 460}) {
+            List<IdolWithGroup> expected = sorted.stream().skip(offset).limit(20).toList();
+            assertEquals(expected, SnapshotPager.page(rows, filter, order, offset, 20));
+        }
+    }
+
+    private static byte[] foldedKey(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> pageIds(ExpressionCompiler<IdolWithGroup> compiler, List<IdolWithGroup> rows,
+                                      OrderSpecifier<?>... orderBy) {
+        return SnapshotPager.page(rows, compiler.where(null), compiler.orderBy(List.of(orderBy)), 0, 100).stream()
+                .map(IdolWithGroup::id)
+                .toList();
+    }
+
+    private List<Long> ids(Predicate predicate, OrderSpecifier<?>... orderBy) {
+        List<OrderSpecifier<?>> orders = Stream.concat(Arrays.stream(orderBy), Stream.of(idol.id.asc())).toList();
+        return SnapshotPager.page(ROWS, compiler.where(predicate), compiler.orderBy(orders), 0, 100).stream()
+                .map(IdolWithGroup::id)
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.playdata.study.support.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardMergeTest {
+
+    @Test
+    @DisplayName("정렬된 샤드 결과들을 하나의 정렬된 결과로 병합한다.")
+    void mergeSorted() {
+        // given
+        List<List<Integer>> runs = List.of(
+                List.of(9, 5, 1),
+                List.of(),
+                List.of(8, 7, 2),
+                List.of(6, 5));
+
+        // when
+        List<Integer> merged = ShardMerge.mergeSorted(runs, Comparator.<Integer>reverseOrder()).toList();
+
+        // then
+        assertEquals(List.of(9, 8, 7, 6, 5, 5, 2, 1), merged);
+    }
+
+    @Test
+    @DisplayName("LIMIT 만큼만 꺼내면 나머지 행은 읽지 않는다.")
+    void mergeSortedLazily() {
+        // given
+        AtomicInteger read = new AtomicInteger();
+        Iterable<Integer> counting = () -> new Iterator<>() {
+            final Iterator<Integer> it = List.of(1, 2, 3, 4, 5, 6).iterator();
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                read.incrementAndGet();
+                return it.next();
+            }
+        };
+
+        // when
+        List<Integer> page = ShardMerge.mergeSorted(List.of(counting, List.of(10)), Comparator.<Integer>naturalOrder())
+                .skip(1)
+                .limit(2)
+                .toList();
+
+        // then
+        assertEquals(List.of(2, 3), page);
+        assertEquals(4, read.get()); // 꺼낸 3개 + 큐에 올라간 다음 후보 1개
+    }
+
+    @Test
+    @DisplayName("샤드별 COUNT/SUM을 합친 뒤 평균을 계산한다.")
+    void combinePartialAggregates() {
+        // given (샤드0: 20, 30세 / 샤드1: 40세)
+        List<Map<String, PartialAggregate>> partials = List.of(
+                Map.of("여", new PartialAggregate(2, 50)),
+                Map.of("여", new PartialAggregate(1, 40), "남", new PartialAggregate(1, 27)));
+
+        // when
+        Map<String, PartialAggregate> merged = ShardMerge.combineGrouped(partials, PartialAggregate::combine);
+
+        // then
+        assertEquals(3, merged.get("여").count());
+        assertEquals(30.0, merged.get("여").average()); // 샤드별 평균의 평균(32.5)이 아님
+        assertEquals(27.0, merged.get("남").average());
+        assertNull(PartialAggregate.EMPTY.average());
+    }
+}
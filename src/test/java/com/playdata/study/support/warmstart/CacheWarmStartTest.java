@@ -0,0 +1,184 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.entity.Gender;
+import com.playdata.study.service.CachedLookupService;
+import com.playdata.study.service.ChangeFeedService;
+import com.playdata.study.support.QueryCounter;
+import com.playdata.study.support.cache.CacheKey;
+import com.playdata.study.support.cache.CacheNames;
+import com.playdata.study.support.cache.InvalidationBus;
+import com.playdata.study.support.changes.ChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 컨텍스트가 뜨기 전에 "이전 실행에서 저장한" 파일을 만들어 둠
+// 그룹 1 은 그 사이 이름이 바뀐 상태, 그룹 99 는 삭제된 상태
+// 확인(reconcile)은 테스트에서 직접 실행
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warm-start;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "warm-start.enabled=true",
+        "warm-start.write-interval=0s",
+        "warm-start.reconcile-delay=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class CacheWarmStartTest {
+
+    static final Path FILE;
+
+    static {
+        try {
+            FILE = Files.createTempDirectory("warm-start").resolve("near-cache.bin");
+            WarmStartFile.write(FILE, System.currentTimeMillis(), 0L, List.of(new WarmStartFile.Section<>(
+                    CacheNames.GROUP_ROSTER, RosterCodecs.GROUP_ROSTER, Map.of(
+                            1L, new GroupRoster(1L, "옛이름", List.of(new IdolSummary(10L, "카리나", 24, Gender.FEMALE))),
+                            2L, new GroupRoster(2L, "무효화될그룹", List.of()),
+                            99L, new GroupRoster(99L, "삭제된그룹", List.of())))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void file(DynamicPropertyRegistry registry) {
+        registry.add("warm-start.file", FILE::toString);
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    CacheWarmStart cacheWarmStart;
+
+    @Autowired
+    CachedLookupService cachedLookupService;
+
+    @Autowired
+    InvalidationBus invalidationBus;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ChangeFeedService changeFeedService;
+
+    @Autowired
+    ChangeLog changeLog;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("시작 직후에는 명단 API도 파일에서 쿼리 없이 응답하고, 확인 후에는 DB 값으로 바뀌며, 새로 저장한 파일에 반영된다.")
+    void servesFromFileUntilReconciled() throws Exception {
+        // 꺼져 있던 동안 다른 노드가 바꾼 값 (이 노드의 무효화 없이 DB만 바뀜)
+        jdbcTemplate.update("INSERT INTO tbl_group (group_id, group_name) VALUES (1, '새이름')");
+        assertTrue(cacheWarmStart.stats().reconciling());
+
+        // 파일에서 바로 응답
+        try (QueryCounter counter = QueryCounter.start()) {
+            mockMvc.perform(get("/api/groups/{groupId}/roster", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.groupName").value("옛이름"))
+                    .andExpect(jsonPath("$.idols[0].idolName").value("카리나"));
+            assertEquals("삭제된그룹", cachedLookupService.findGroupRoster(99L).orElseThrow().groupName());
+            assertEquals(0, counter.getCount());
+        }
+        // 무효화된 키는 파일에서 폐기 -> DB 조회
+        invalidationBus.publish(List.of(new CacheKey(CacheNames.GROUP_ROSTER, 2L)));
+        assertTrue(cachedLookupService.findGroupRoster(2L).isEmpty());
+        assertEquals(2, cacheWarmStart.stats().remaining().get(CacheNames.GROUP_ROSTER));
+
+        // 확인 중에는 저장하지 않음
+        cacheWarmStart.write();
+        assertEquals(0, cacheWarmStart.stats().writes());
+
+        // when
+        cacheWarmStart.reconcile();
+
+        // then
+        assertFalse(cacheWarmStart.stats().reconciling());
+        assertEquals(0, cacheWarmStart.stats().remaining().get(CacheNames.GROUP_ROSTER));
+        assertEquals("새이름", cachedLookupService.findGroupRoster(1L).orElseThrow().groupName());
+        assertTrue(cachedLookupService.findGroupRoster(99L).isEmpty());
+
+        cacheWarmStart.write();
+        MappedSection<GroupRoster> written = WarmStartFile.open(FILE).section(CacheNames.GROUP_ROSTER, RosterCodecs.GROUP_ROSTER);
+        assertEquals(1, written.size());
+        assertEquals(new GroupRoster(1L, "새이름", List.of()), written.get(1L));
+        assertEquals(1, cacheWarmStart.stats().writes());
+    }
+
+    @Test
+    @DisplayName("파일의 변경 순번 이후 바뀐 그룹, 다른 그룹으로 옮긴 아이돌이 있던 명단, 이름이 바뀌거나 없어진 팀은 연결할 때 폐기한다.")
+    void replayChangesAfterFileSeq() throws IOException {
+        // given: 다른 테스트와 겹치지 않는 id
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO tbl_group (group_id, group_name, change_seq) VALUES (502, '그룹502', ?)", changeLog.next());
+            jdbcTemplate.update("INSERT INTO tbl_group (group_id, group_name, change_seq) VALUES (503, '그룹503', ?)", changeLog.next());
+            jdbcTemplate.update("INSERT INTO tbl_team (team_id, name) VALUES (701, '새팀이름'), (702, '그대로')");
+        });
+        long fileSeq = changeLog.current();
+        Path file = dir.resolve("replay.bin");
+        WarmStartFile.write(file, System.currentTimeMillis(), fileSeq, List.of(
+                new WarmStartFile.Section<>("g", RosterCodecs.GROUP_ROSTER, Map.of(
+                        501L, new GroupRoster(501L, "옛그룹501", List.of()),
+                        502L, new GroupRoster(502L, "그룹502", List.of(new IdolSummary(620L, "윈터", 23, Gender.FEMALE))),
+                        504L, new GroupRoster(504L, "그룹504", List.of(new IdolSummary(640L, "닝닝", 21, Gender.FEMALE))))),
+                new WarmStartFile.Section<>("t", RosterCodecs.TEAM_ROSTER, Map.of(
+                        701L, new TeamRoster(701L, "옛팀이름", List.of()),
+                        702L, new TeamRoster(702L, "그대로", List.of()),
+                        703L, new TeamRoster(703L, "없어진팀", List.of())))));
+
+        // 파일 저장 이후: 그룹 501 생성/이름 변경, 아이돌 620 이 502 -> 503 으로 이동
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO tbl_group (group_id, group_name, change_seq) VALUES (501, '새그룹501', ?)", changeLog.next());
+            jdbcTemplate.update("INSERT INTO tbl_idol (idol_id, idol_name, age, gender, group_id, change_seq) VALUES (620, '윈터', 23, ?, 503, ?)",
+                    Gender.FEMALE.getCode(), changeLog.next());
+        });
+
+        // when
+        WarmStartFile snapshot = WarmStartFile.open(file);
+        MappedSection<GroupRoster> groups = snapshot.section("g", RosterCodecs.GROUP_ROSTER);
+        MappedSection<TeamRoster> teams = snapshot.section("t", RosterCodecs.TEAM_ROSTER);
+        RosterReplays.groupRosters(changeFeedService).apply(snapshot.changeSeq(), groups);
+        RosterReplays.teamRosters(changeFeedService, jdbcTemplate).apply(snapshot.changeSeq(), teams);
+
+        // then
+        assertNull(groups.get(501L));
+        assertNull(groups.get(502L));
+        assertEquals("그룹504", groups.get(504L).groupName());
+        assertNull(teams.get(701L));
+        assertEquals("그대로", teams.get(702L).name());
+        assertNull(teams.get(703L));
+    }
+}
@@ -0,0 +1,120 @@
+package com.playdata.study.support.warmstart;
+
+import com.playdata.study.dto.GroupRoster;
+import com.playdata.study.dto.IdolSummary;
+import com.playdata.study.dto.MemberSummary;
+import com.playdata.study.dto.TeamRoster;
+import com.playdata.study.entity.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmStartFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 명단을 키로 바로 읽고, 없는 키와 없는 섹션은 비어 있다.")
+    void roundTrip() throws IOException {
+        // given
+        Map<Long, GroupRoster> groups = new HashMap<>();
+        for (long id = 1; id <= 2_000; id += 3) {
+            groups.put(id, new GroupRoster(id, "그룹" + id, List.of(
+                    new IdolSummary(id * 10, "아이돌" + id, 20, Gender.FEMALE),
+                    new IdolSummary(id * 10 + 1, null, 31, null))));
+        }
+        groups.put(5_000L, new GroupRoster(5_000L, null, List.of()));
+        Map<Long, TeamRoster> teams = Map.of(7L, new TeamRoster(7L, "teamA", List.of(
+                new MemberSummary(1L, "회원😀", 30, 7L, "teamA"),
+                new MemberSummary(2L, "solo", 25, null, null))));
+        Path file = dir.resolve("cache.bin");
+
+        // when
+        WarmStartFile.write(file, 1234L, 56L, List.of(
+                new WarmStartFile.Section<>("groupRoster", RosterCodecs.GROUP_ROSTER, groups),
+                new WarmStartFile.Section<>("teamRoster", RosterCodecs.TEAM_ROSTER, teams)));
+        WarmStartFile snapshot = WarmStartFile.open(file);
+
+        // then
+        assertEquals(1234L, snapshot.createdAtMillis());
+        assertEquals(56L, snapshot.changeSeq());
+        MappedSection<GroupRoster> groupSection = snapshot.section("groupRoster", RosterCodecs.GROUP_ROSTER);
+        assertEquals(groups.size(), groupSection.size());
+        groups.forEach((id, roster) -> assertEquals(roster, groupSection.get(id)));
+        assertNull(groupSection.get(2L));
+        assertNull(groupSection.get(null));
+        assertEquals(teams.get(7L), snapshot.section("teamRoster", RosterCodecs.TEAM_ROSTER).get(7L));
+        assertEquals(0, snapshot.section("없는섹션", RosterCodecs.TEAM_ROSTER).size());
+        assertEquals(groups.size(), groupSection.hits());
+    }
+
+    @Test
+    @DisplayName("폐기한 키는 더 이상 돌려주지 않는다.")
+    void retire() throws IOException {
+        Path file = dir.resolve("cache.bin");
+        Map<Long, GroupRoster> groups = new HashMap<>();
+        for (long id = 1; id <= 100; id++) {
+            groups.put(id, new GroupRoster(id, "그룹" + id, List.of()));
+        }
+        WarmStartFile.write(file, 1L, 0L, List.of(new WarmStartFile.Section<>("g", RosterCodecs.GROUP_ROSTER, groups)));
+        MappedSection<GroupRoster> section = WarmStartFile.open(file).section("g", RosterCodecs.GROUP_ROSTER);
+
+        section.retire(Long.valueOf(70));
+        section.retire(0);
+        section.retire("키 타입이 다름");
+
+        assertNull(section.get(70L));
+        assertNull(section.get(1L));
+        assertNotNull(section.get(2L));
+        assertEquals(98, section.remaining());
+
+        section.retireAll();
+        assertNull(section.get(2L));
+        assertEquals(0, section.remaining());
+    }
+
+    @Test
+    @DisplayName("내용이 깨졌거나 형식이 다른 파일은 열지 않는다.")
+    void rejectsCorruptFile() throws IOException {
+        Path file = dir.resolve("cache.bin");
+        WarmStartFile.write(file, 1L, 0L, List.of(new WarmStartFile.Section<>("g", RosterCodecs.GROUP_ROSTER,
+                Map.of(1L, new GroupRoster(1L, "아이브", List.of())))));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write(raf.read() ^ 0xFF);
+        }
+        assertThrows(IOException.class, () -> WarmStartFile.open(file));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> WarmStartFile.open(file));
+    }
+
+    @Test
+    @DisplayName("새 파일로 교체되어도 이미 연 파일은 그대로 읽을 수 있다.")
+    void replacedWhileOpen() throws IOException {
+        Path file = dir.resolve("cache.bin");
+        WarmStartFile.write(file, 1L, 0L, List.of(new WarmStartFile.Section<>("g", RosterCodecs.GROUP_ROSTER,
+                Map.of(1L, new GroupRoster(1L, "옛이름", List.of())))));
+        MappedSection<GroupRoster> opened = WarmStartFile.open(file).section("g", RosterCodecs.GROUP_ROSTER);
+
+        WarmStartFile.write(file, 2L, 0L, List.of(new WarmStartFile.Section<>("g", RosterCodecs.GROUP_ROSTER,
+                Map.of(1L, new GroupRoster(1L, "새이름", List.of())))));
+
+        assertEquals("옛이름", opened.get(1L).groupName());
+        assertEquals("새이름", WarmStartFile.open(file).section("g", RosterCodecs.GROUP_ROSTER).get(1L).groupName());
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count(), "임시 파일이 남지 않음");
+        }
+    }
+}
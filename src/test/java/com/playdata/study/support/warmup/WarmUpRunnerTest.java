@@ -0,0 +1,82 @@
+package com.playdata.study.support.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmUpRunnerTest {
+
+    @Test
+    @DisplayName("조회는 parallelism 개까지만 동시에 실행되고 작업별 시간이 기록된다.")
+    void boundedParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable query = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+        };
+
+        WarmUpReport report = new WarmUpRunner(3, Duration.ofSeconds(10)).run(List.of(
+                new WarmUpTask("a", () -> IntStream.range(0, 10).<Runnable>mapToObj(i -> query).toList()),
+                WarmUpTask.single("b", query)));
+
+        assertTrue(report.completed());
+        assertEquals(3, maxRunning.get());
+        assertEquals(List.of("a", "b"), report.tasks().stream().map(WarmUpReport.TaskTiming::name).toList());
+        WarmUpReport.TaskTiming a = report.tasks().get(0);
+        assertEquals(10, a.queries());
+        assertEquals(10, a.succeeded());
+        assertEquals(0, a.skipped());
+        assertTrue(a.maxMillis() >= 20);
+    }
+
+    @Test
+    @DisplayName("budget 이 지나면 기다리지 않고 남은 조회는 건너뛴 것으로 기록한다.")
+    void budgetExceeded() {
+        long started = System.nanoTime();
+
+        WarmUpReport report = new WarmUpRunner(1, Duration.ofMillis(200)).run(List.of(
+                new WarmUpTask("slow", () -> IntStream.range(0, 20).<Runnable>mapToObj(i -> () -> sleep(50)).toList())));
+
+        assertFalse(report.completed());
+        assertTrue((System.nanoTime() - started) / 1_000_000 < 1000);
+        WarmUpReport.TaskTiming slow = report.tasks().get(0);
+        assertEquals(20, slow.queries());
+        assertTrue(slow.succeeded() < 20);
+        assertEquals(20, slow.succeeded() + slow.failed() + slow.skipped());
+    }
+
+    @Test
+    @DisplayName("조회 목록을 만들다 실패하거나 조회가 실패해도 다른 작업은 계속 실행된다.")
+    void failuresAreIsolated() {
+        WarmUpReport report = new WarmUpRunner(2, Duration.ofSeconds(10)).run(List.of(
+                new WarmUpTask("plan-fails", () -> {
+                    throw new IllegalStateException("boom");
+                }),
+                new WarmUpTask("one-fails", () -> List.of(() -> {
+                    throw new IllegalStateException("boom");
+                }, () -> {
+                }))));
+
+        assertTrue(report.completed());
+        assertEquals(0, report.tasks().get(0).queries());
+        assertEquals(1, report.tasks().get(0).failed());
+        assertEquals(1, report.tasks().get(1).succeeded());
+        assertEquals(1, report.tasks().get(1).failed());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}